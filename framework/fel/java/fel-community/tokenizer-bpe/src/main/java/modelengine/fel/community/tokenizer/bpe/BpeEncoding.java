@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 表示字节级 BPE 的编码方案，包括预分词的正则表达式和特殊分词。
+ * <p>编码方案与 tiktoken 中的同名方案一致，合并优先级需要从对应的 tiktoken 格式文件中加载。{@link #CL100K_BASE} 的预分词使用
+ * 与正则表达式等价的手写实现，其他方案直接使用正则表达式。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public enum BpeEncoding {
+    /** 表示 {@code cl100k_base} 编码方案。 */
+    CL100K_BASE("cl100k_base",
+            "'(?i:[sdmt]|ll|ve|re)|[^\\r\\n\\p{L}\\p{N}]?+\\p{L}+|\\p{N}{1,3}| ?[^\\s\\p{L}\\p{N}]++[\\r\\n]*"
+                    + "|\\s*[\\r\\n]|\\s+(?!\\S)|\\s+",
+            specialTokens("<|endoftext|>", 100257, "<|fim_prefix|>", 100258, "<|fim_middle|>", 100259,
+                    "<|fim_suffix|>", 100260, "<|endofprompt|>", 100276)),
+
+    /** 表示 {@code o200k_base} 编码方案。 */
+    O200K_BASE("o200k_base",
+            String.join("|",
+                    "[^\\r\\n\\p{L}\\p{N}]?[\\p{Lu}\\p{Lt}\\p{Lm}\\p{Lo}\\p{M}]*[\\p{Ll}\\p{Lm}\\p{Lo}\\p{M}]+"
+                            + "(?i:'s|'t|'re|'ve|'m|'ll|'d)?",
+                    "[^\\r\\n\\p{L}\\p{N}]?[\\p{Lu}\\p{Lt}\\p{Lm}\\p{Lo}\\p{M}]+[\\p{Ll}\\p{Lm}\\p{Lo}\\p{M}]*"
+                            + "(?i:'s|'t|'re|'ve|'m|'ll|'d)?",
+                    "\\p{N}{1,3}",
+                    " ?[^\\s\\p{L}\\p{N}]+[\\r\\n/]*",
+                    "\\s*[\\r\\n]+",
+                    "\\s+(?!\\S)",
+                    "\\s+"),
+            specialTokens("<|endoftext|>", 199999, "<|endofprompt|>", 200018));
+
+    private final String encodingName;
+    private final Pattern pattern;
+    private final Map<String, Integer> specialTokens;
+
+    BpeEncoding(String encodingName, String regex, Map<String, Integer> specialTokens) {
+        this.encodingName = encodingName;
+        this.pattern = Pattern.compile(regex, Pattern.UNICODE_CHARACTER_CLASS);
+        this.specialTokens = specialTokens;
+    }
+
+    /**
+     * 获取编码方案的名字。
+     *
+     * @return 表示编码方案名字的 {@link String}。
+     */
+    public String encodingName() {
+        return this.encodingName;
+    }
+
+    /**
+     * 获取预分词的正则表达式。
+     *
+     * @return 表示预分词正则表达式的 {@link Pattern}。
+     */
+    public Pattern pattern() {
+        return this.pattern;
+    }
+
+    /**
+     * 获取特殊分词及其编号。
+     *
+     * @return 表示特殊分词及其编号的 {@link Map}{@code <}{@link String}{@code , }{@link Integer}{@code >}。
+     */
+    public Map<String, Integer> specialTokens() {
+        return this.specialTokens;
+    }
+
+    /**
+     * 创建预分词的游标。
+     *
+     * @return 表示预分词游标的 {@link PieceCursor}。
+     */
+    PieceCursor cursor() {
+        return this == CL100K_BASE ? new Cl100kPieceCursor() : PieceCursor.regex(this.pattern);
+    }
+
+    /**
+     * 根据名字获取编码方案。
+     *
+     * @param encodingName 表示编码方案名字的 {@link String}。
+     * @return 表示编码方案的 {@link BpeEncoding}。
+     * @throws IllegalArgumentException 当不存在指定名字的编码方案时。
+     */
+    public static BpeEncoding from(String encodingName) {
+        return Arrays.stream(values())
+                .filter(encoding -> StringUtils.equalsIgnoreCase(encoding.encodingName, encodingName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(StringUtils.format(
+                        "Unsupported bpe encoding. [encoding={0}]",
+                        encodingName)));
+    }
+
+    private static Map<String, Integer> specialTokens(Object... pairs) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            tokens.put((String) pairs[i], (Integer) pairs[i + 1]);
+        }
+        return Collections.unmodifiableMap(tokens);
+    }
+}
@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.community.tokenizer.bpe.config.BpeConfig;
+import modelengine.fel.core.tokenizer.Tokenizer;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表示 {@link Tokenizer} 的字节级 BPE 实现。
+ * <p>合并优先级从配置的 tiktoken 格式文件中加载，未配置文件路径时从类路径的 {@code tiktoken/<encoding>.tiktoken} 中加载。
+ * 插件不内置合并优先级文件，因此文件在首次分词时才加载，未提供文件时分词失败，而不影响插件的启动。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component
+public class BpeTokenizer implements Tokenizer {
+    private static final String RANK_RESOURCE_DIRECTORY = "tiktoken/";
+    private static final String RANK_RESOURCE_SUFFIX = ".tiktoken";
+
+    private final LazyLoader<BytePairEncoder> encoder;
+
+    /**
+     * 创建 {@link BpeTokenizer} 的实例。
+     * <p>合并优先级文件在首次分词时加载。</p>
+     *
+     * @param config 表示分词器配置的 {@link BpeConfig}。
+     * @throws IllegalArgumentException 当配置不合法时。
+     */
+    public BpeTokenizer(BpeConfig config) {
+        notNull(config, "The bpe config cannot be null.");
+        BpeEncoding encoding = BpeEncoding.from(config.getEncoding());
+        String rankFile = config.getRankFile();
+        int cacheSize = greaterThanOrEquals(config.getCacheSize(),
+                0,
+                "The cache size cannot be negative. [cacheSize={0}]",
+                config.getCacheSize());
+        this.encoder = new LazyLoader<>(() -> load(encoding, rankFile, cacheSize));
+    }
+
+    private static BytePairEncoder load(BpeEncoding encoding, String rankFile, int cacheSize) {
+        if (StringUtils.isNotBlank(rankFile)) {
+            return BytePairEncoder.load(encoding, Paths.get(rankFile), cacheSize);
+        }
+        String resource = RANK_RESOURCE_DIRECTORY + encoding.encodingName() + RANK_RESOURCE_SUFFIX;
+        try (InputStream in = BpeTokenizer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException(StringUtils.format(
+                        "The rank file is not found, configure 'fel.tokenizer.bpe.rank-file' or add it to the "
+                                + "classpath. [resource={0}]",
+                        resource));
+            }
+            return BytePairEncoder.load(encoding, in, cacheSize);
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    @Override
+    public List<Integer> encode(String text) {
+        int[] tokens = this.encoder().encode(text);
+        List<Integer> result = new ArrayList<>(tokens.length);
+        for (int token : tokens) {
+            result.add(token);
+        }
+        return result;
+    }
+
+    @Override
+    public String decode(List<Integer> tokens) {
+        notNull(tokens, "The tokens cannot be null.");
+        int[] actual = new int[tokens.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = tokens.get(i);
+        }
+        return this.encoder().decode(actual, 0, actual.length);
+    }
+
+    @Override
+    public int countToken(String text) {
+        return this.encoder().count(text);
+    }
+
+    @Override
+    public int[] boundaries(String text) {
+        return this.encoder().boundaries(text);
+    }
+
+    /**
+     * 获取分词器使用的编码器，首次调用时加载合并优先级文件。
+     *
+     * @return 表示编码器的 {@link BytePairEncoder}。
+     * @throws IllegalStateException 当未配置合并优先级文件且类路径中不存在合并优先级文件时。
+     * @throws FitException 当读取合并优先级文件失败时。
+     */
+    public BytePairEncoder encoder() {
+        return this.encoder.get();
+    }
+}
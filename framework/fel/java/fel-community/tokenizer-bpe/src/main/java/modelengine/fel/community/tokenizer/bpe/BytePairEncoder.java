@@ -0,0 +1,446 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 表示字节级 BPE 编码器，兼容 tiktoken 格式的合并优先级文件。
+ * <p>文本先按照编码方案预分词，每个片段编码为 UTF-8 字节后，在基本类型数组上按照优先级反复合并相邻的字节区间。
+ * 合并过程使用的缓冲区按线程复用，因此 {@link #count(CharSequence)} 不会为每个片段创建对象；
+ * {@link #encode(CharSequence)} 额外使用 LRU 缓存保存需要多次合并的片段的结果，重复出现的单词不需要再次合并。</p>
+ * <p>编码时特殊分词按照普通文本处理，解码时可以识别特殊分词的编号。该类是线程安全的。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public final class BytePairEncoder {
+    private static final int MAX_CACHED_PIECE_LENGTH = 64;
+    private static final int INITIAL_BUFFER_SIZE = 64;
+    private static final int MAX_RETAINED_TOKENS = 1 << 16;
+
+    private final BpeEncoding encoding;
+    private final RankTable ranks;
+    private final Map<Integer, byte[]> specialTokens = new HashMap<>();
+    private final PieceCache cache;
+    private final ThreadLocal<Scratch> scratch;
+
+    private BytePairEncoder(BpeEncoding encoding, RankTable ranks, int cacheSize) {
+        this.encoding = notNull(encoding, "The bpe encoding cannot be null.");
+        this.ranks = ranks;
+        byte[] single = new byte[1];
+        for (int value = 0; value < 256; value++) {
+            single[0] = (byte) value;
+            isTrue(ranks.rank(single, 0, 1) != RankTable.ABSENT,
+                    "The rank file must contain all single bytes. [missing={0}]",
+                    value);
+        }
+        encoding.specialTokens()
+                .forEach((text, token) -> this.specialTokens.put(token, text.getBytes(StandardCharsets.UTF_8)));
+        greaterThanOrEquals(cacheSize, 0, "The cache size cannot be negative. [cacheSize={0}]", cacheSize);
+        this.cache = cacheSize == 0 ? null : new PieceCache(cacheSize);
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(encoding.cursor()));
+    }
+
+    /**
+     * 从 tiktoken 格式的输入中加载编码器。
+     *
+     * @param encoding 表示编码方案的 {@link BpeEncoding}。
+     * @param ranks 表示合并优先级输入的 {@link InputStream}。
+     * @param cacheSize 表示片段缓存容量的 {@code int}，为 {@code 0} 时不缓存。
+     * @return 表示加载成功的编码器的 {@link BytePairEncoder}。
+     * @throws IllegalArgumentException 当参数不合法或合并优先级中缺少单字节的分词时。
+     * @throws FitException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    public static BytePairEncoder load(BpeEncoding encoding, InputStream ranks, int cacheSize) {
+        try {
+            return new BytePairEncoder(encoding, RankTable.read(ranks), cacheSize);
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    /**
+     * 从 tiktoken 格式的本地文件中加载编码器。
+     *
+     * @param encoding 表示编码方案的 {@link BpeEncoding}。
+     * @param file 表示合并优先级文件的 {@link Path}。
+     * @param cacheSize 表示片段缓存容量的 {@code int}，为 {@code 0} 时不缓存。
+     * @return 表示加载成功的编码器的 {@link BytePairEncoder}。
+     * @throws IllegalArgumentException 当参数不合法或合并优先级中缺少单字节的分词时。
+     * @throws FitException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    public static BytePairEncoder load(BpeEncoding encoding, Path file, int cacheSize) {
+        notNull(file, "The rank file cannot be null.");
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(encoding, in, cacheSize);
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    /**
+     * 获取编码方案。
+     *
+     * @return 表示编码方案的 {@link BpeEncoding}。
+     */
+    public BpeEncoding encoding() {
+        return this.encoding;
+    }
+
+    /**
+     * 对文本进行编码。
+     *
+     * @param text 表示待编码文本的 {@link CharSequence}。
+     * @return 表示编码结果的 {@code int[]}。
+     */
+    public int[] encode(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return new int[0];
+        }
+        Scratch buffer = this.scratch.get();
+        PieceCursor cursor = buffer.cursor;
+        cursor.reset(text);
+        try {
+            buffer.tokenCount = 0;
+            while (cursor.next()) {
+                this.encodePiece(text, cursor.start(), cursor.end(), buffer);
+            }
+            return Arrays.copyOf(buffer.tokens, buffer.tokenCount);
+        } finally {
+            cursor.reset(StringUtils.EMPTY);
+            if (buffer.tokens.length > MAX_RETAINED_TOKENS) {
+                buffer.tokens = new int[INITIAL_BUFFER_SIZE];
+            }
+        }
+    }
+
+    /**
+     * 对文本进行编码，并返回每个分词在文本中的结束位置。
+     * <p>分词的边界位于某个字符的 UTF-8 编码中间时，该字符归属于前一个分词，因此结束位置单调不减，但可能相等。</p>
+     *
+     * @param text 表示待编码文本的 {@link CharSequence}。
+     * @return 表示每个分词结束位置（不包含）的 {@code int[]}。
+     */
+    public int[] boundaries(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return new int[0];
+        }
+        Scratch buffer = this.scratch.get();
+        PieceCursor cursor = buffer.cursor;
+        cursor.reset(text);
+        try {
+            buffer.tokenCount = 0;
+            while (cursor.next()) {
+                int from = buffer.tokenCount;
+                this.encodePiece(text, cursor.start(), cursor.end(), buffer);
+                this.toBoundaries(text, cursor.start(), cursor.end(), buffer, from);
+            }
+            return Arrays.copyOf(buffer.tokens, buffer.tokenCount);
+        } finally {
+            cursor.reset(StringUtils.EMPTY);
+            if (buffer.tokens.length > MAX_RETAINED_TOKENS) {
+                buffer.tokens = new int[INITIAL_BUFFER_SIZE];
+            }
+        }
+    }
+
+    /**
+     * 计算文本编码后的分词数量，计算过程不创建中间对象。
+     *
+     * @param text 表示待编码文本的 {@link CharSequence}。
+     * @return 表示分词数量的 {@code int}。
+     */
+    public int count(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return 0;
+        }
+        Scratch buffer = this.scratch.get();
+        PieceCursor cursor = buffer.cursor;
+        cursor.reset(text);
+        try {
+            int count = 0;
+            while (cursor.next()) {
+                int length = buffer.utf8(text, cursor.start(), cursor.end());
+                boolean single = this.ranks.rank(buffer.bytes, 0, length) != RankTable.ABSENT;
+                count += single ? 1 : this.merge(buffer, length);
+            }
+            return count;
+        } finally {
+            cursor.reset(StringUtils.EMPTY);
+        }
+    }
+
+    /**
+     * 对编码结果的指定区间进行解码。
+     *
+     * @param tokens 表示编码结果的 {@code int[]}。
+     * @param from 表示区间起始位置（包含）的 {@code int}。
+     * @param to 表示区间结束位置（不包含）的 {@code int}。
+     * @return 表示解码后文本的 {@link String}。
+     * @throws IllegalArgumentException 当编码结果中存在未知的编号时。
+     */
+    public String decode(int[] tokens, int from, int to) {
+        notNull(tokens, "The tokens cannot be null.");
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            length += this.byteLength(tokens[i]);
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (int i = from; i < to; i++) {
+            int token = tokens[i];
+            if (this.ranks.contains(token)) {
+                offset += this.ranks.copy(token, bytes, offset);
+            } else {
+                byte[] special = this.specialTokens.get(token);
+                System.arraycopy(special, 0, bytes, offset, special.length);
+                offset += special.length;
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 获取词表中普通分词的数量。
+     *
+     * @return 表示普通分词数量的 {@code int}。
+     */
+    public int vocabularySize() {
+        return this.ranks.size();
+    }
+
+    private int byteLength(int token) {
+        if (this.ranks.contains(token)) {
+            return this.ranks.length(token);
+        }
+        byte[] special = this.specialTokens.get(token);
+        isTrue(special != null, "Unknown token. [token={0}]", token);
+        return special.length;
+    }
+
+    private void encodePiece(CharSequence text, int start, int end, Scratch buffer) {
+        int length = buffer.utf8(text, start, end);
+        int rank = this.ranks.rank(buffer.bytes, 0, length);
+        if (rank != RankTable.ABSENT) {
+            buffer.append(rank);
+            return;
+        }
+        if (this.cache == null || end - start > MAX_CACHED_PIECE_LENGTH) {
+            this.appendMerged(buffer, length);
+            return;
+        }
+        String key = text.subSequence(start, end).toString();
+        int[] cached = this.cache.lookup(key);
+        if (cached == null) {
+            int from = buffer.tokenCount;
+            this.appendMerged(buffer, length);
+            this.cache.store(key, Arrays.copyOfRange(buffer.tokens, from, buffer.tokenCount));
+            return;
+        }
+        for (int token : cached) {
+            buffer.append(token);
+        }
+    }
+
+    /**
+     * 将片段的编码结果原地替换为各分词在文本中的结束位置。
+     *
+     * @param text 表示文本的 {@link CharSequence}。
+     * @param start 表示片段起始位置的 {@code int}。
+     * @param end 表示片段结束位置的 {@code int}。
+     * @param buffer 表示缓冲区的 {@link Scratch}。
+     * @param from 表示片段第一个分词在缓冲区中位置的 {@code int}。
+     */
+    private void toBoundaries(CharSequence text, int start, int end, Scratch buffer, int from) {
+        int position = start;
+        int encoded = 0;
+        int boundary = 0;
+        for (int i = from; i < buffer.tokenCount; i++) {
+            boundary += this.ranks.length(buffer.tokens[i]);
+            while (encoded < boundary) {
+                char ch = text.charAt(position++);
+                if (ch < 0x80 || (Character.isSurrogate(ch) && !isSurrogatePair(text, position - 1, end))) {
+                    encoded++;
+                } else if (ch < 0x800) {
+                    encoded += 2;
+                } else if (Character.isHighSurrogate(ch)) {
+                    encoded += 4;
+                    position++;
+                } else {
+                    encoded += 3;
+                }
+            }
+            buffer.tokens[i] = position;
+        }
+    }
+
+    private static boolean isSurrogatePair(CharSequence text, int index, int end) {
+        return Character.isHighSurrogate(text.charAt(index)) && index + 1 < end
+                && Character.isLowSurrogate(text.charAt(index + 1));
+    }
+
+    private void appendMerged(Scratch buffer, int length) {
+        int count = this.merge(buffer, length);
+        int[] starts = buffer.starts;
+        for (int i = 0; i < count; i++) {
+            buffer.append(this.ranks.rank(buffer.bytes, starts[i], starts[i + 1]));
+        }
+    }
+
+    /**
+     * 按照优先级反复合并字节区间，合并结束后 {@code buffer.starts} 的前 {@code count + 1} 项为各分词的边界。
+     *
+     * @param buffer 表示缓冲区的 {@link Scratch}。
+     * @param length 表示片段字节数的 {@code int}。
+     * @return 表示合并后分词数量的 {@code int}。
+     */
+    private int merge(Scratch buffer, int length) {
+        buffer.ensureParts(length + 1);
+        byte[] bytes = buffer.bytes;
+        int[] starts = buffer.starts;
+        int[] pairRanks = buffer.ranks;
+        for (int i = 0; i <= length; i++) {
+            starts[i] = i;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            pairRanks[i] = this.ranks.rank(bytes, i, i + 2);
+        }
+        pairRanks[length - 1] = RankTable.ABSENT;
+        pairRanks[length] = RankTable.ABSENT;
+        int parts = length + 1;
+        while (true) {
+            int min = RankTable.ABSENT;
+            int index = -1;
+            for (int i = 0; i < parts - 1; i++) {
+                if (pairRanks[i] < min) {
+                    min = pairRanks[i];
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                return parts - 1;
+            }
+            if (index > 0) {
+                pairRanks[index - 1] = this.pairRank(bytes, starts, parts, index - 1);
+            }
+            pairRanks[index] = this.pairRank(bytes, starts, parts, index);
+            System.arraycopy(starts, index + 2, starts, index + 1, parts - index - 2);
+            System.arraycopy(pairRanks, index + 2, pairRanks, index + 1, parts - index - 2);
+            parts--;
+        }
+    }
+
+    private int pairRank(byte[] bytes, int[] starts, int parts, int index) {
+        return index + 3 < parts ? this.ranks.rank(bytes, starts[index], starts[index + 3]) : RankTable.ABSENT;
+    }
+
+    /**
+     * 表示按线程复用的编码缓冲区。
+     */
+    private static final class Scratch {
+        private final PieceCursor cursor;
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int[] starts = new int[INITIAL_BUFFER_SIZE + 1];
+        private int[] ranks = new int[INITIAL_BUFFER_SIZE + 1];
+        private int[] tokens = new int[INITIAL_BUFFER_SIZE];
+        private int tokenCount;
+
+        private Scratch(PieceCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        private int utf8(CharSequence text, int start, int end) {
+            int required = (end - start) * 3;
+            if (required > this.bytes.length) {
+                this.bytes = new byte[Math.max(required, this.bytes.length << 1)];
+            }
+            byte[] target = this.bytes;
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                char ch = text.charAt(i);
+                if (ch < 0x80) {
+                    target[length++] = (byte) ch;
+                } else if (ch < 0x800) {
+                    target[length++] = (byte) (0xC0 | (ch >> 6));
+                    target[length++] = (byte) (0x80 | (ch & 0x3F));
+                } else if (Character.isHighSurrogate(ch) && i + 1 < end
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(ch, text.charAt(++i));
+                    target[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    target[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    target[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    target[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(ch)) {
+                    target[length++] = (byte) '?';
+                } else {
+                    target[length++] = (byte) (0xE0 | (ch >> 12));
+                    target[length++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                    target[length++] = (byte) (0x80 | (ch & 0x3F));
+                }
+            }
+            return length;
+        }
+
+        private void ensureParts(int required) {
+            if (required > this.starts.length) {
+                int capacity = Math.max(required, this.starts.length << 1);
+                this.starts = new int[capacity];
+                this.ranks = new int[capacity];
+            }
+        }
+
+        private void append(int token) {
+            if (this.tokenCount == this.tokens.length) {
+                this.tokens = Arrays.copyOf(this.tokens, this.tokens.length << 1);
+            }
+            this.tokens[this.tokenCount++] = token;
+        }
+    }
+
+    /**
+     * 表示片段编码结果的 LRU 缓存。
+     */
+    private static final class PieceCache extends LinkedHashMap<String, int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private PieceCache(int capacity) {
+            super(16, 0.75F, true);
+            this.capacity = capacity;
+        }
+
+        private synchronized int[] lookup(String piece) {
+            return this.get(piece);
+        }
+
+        private synchronized void store(String piece, int[] tokens) {
+            this.put(piece, tokens);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+            return this.size() > this.capacity;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示 {@link BpeEncoding#CL100K_BASE} 预分词正则表达式的手写实现，切分结果与正则表达式完全一致。
+ * <p>正则表达式的各个分支按顺序尝试：</p>
+ * <ol>
+ *     <li>{@code '(?i:[sdmt]|ll|ve|re)}：英文缩写；</li>
+ *     <li>{@code [^\r\n\p{L}\p{N}]?+\p{L}+}：可以带一个前缀符号的单词；</li>
+ *     <li>{@code \p{N}{1,3}}：最多三位的数字；</li>
+ *     <li>{@code  ?[^\s\p{L}\p{N}]++[\r\n]*}：可以带一个前导空格的符号串及其后的换行；</li>
+ *     <li>{@code \s*[\r\n]}：以换行结尾的空白；</li>
+ *     <li>{@code \s+(?!\S)}：后面不是非空白字符的空白，即保留最后一个空白字符给下一个单词；</li>
+ *     <li>{@code \s+}：其余的空白。</li>
+ * </ol>
+ * <p>字符分类与 {@link java.util.regex.Pattern#UNICODE_CHARACTER_CLASS} 下的定义一致，按码点处理代理对。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class Cl100kPieceCursor implements PieceCursor {
+    private static final int WHITE_SPACE_TYPES = (1 << Character.SPACE_SEPARATOR) | (1 << Character.LINE_SEPARATOR)
+            | (1 << Character.PARAGRAPH_SEPARATOR);
+    private static final int NUMBER_TYPES = (1 << Character.DECIMAL_DIGIT_NUMBER) | (1 << Character.LETTER_NUMBER)
+            | (1 << Character.OTHER_NUMBER);
+    private static final byte LETTER = 1;
+    private static final byte NUMBER = 2;
+    private static final byte WHITE_SPACE = 3;
+    private static final byte SYMBOL = 4;
+    private static final byte[] ASCII_CLASSES = new byte[128];
+
+    static {
+        for (int ch = 0; ch < ASCII_CLASSES.length; ch++) {
+            ASCII_CLASSES[ch] = classify(ch);
+        }
+    }
+
+    private CharSequence text = StringUtils.EMPTY;
+    private int length;
+    private int start;
+    private int end;
+
+    @Override
+    public void reset(CharSequence text) {
+        this.text = text;
+        this.length = text.length();
+        this.start = 0;
+        this.end = 0;
+    }
+
+    @Override
+    public boolean next() {
+        if (this.end >= this.length) {
+            return false;
+        }
+        this.start = this.end;
+        this.end = this.scan(this.start);
+        return true;
+    }
+
+    @Override
+    public int start() {
+        return this.start;
+    }
+
+    @Override
+    public int end() {
+        return this.end;
+    }
+
+    private int scan(int position) {
+        int codePoint = Character.codePointAt(this.text, position);
+        int next = position + Character.charCount(codePoint);
+        if (codePoint == '\'') {
+            int contraction = this.contraction(next);
+            if (contraction > 0) {
+                return contraction;
+            }
+        }
+        if (isLetter(codePoint)) {
+            return this.skipLetters(next);
+        }
+        if (codePoint != '\r' && codePoint != '\n' && !isNumber(codePoint) && next < this.length
+                && isLetter(Character.codePointAt(this.text, next))) {
+            return this.skipLetters(next);
+        }
+        if (isNumber(codePoint)) {
+            int end = next;
+            for (int count = 1; count < 3 && end < this.length; count++) {
+                int following = Character.codePointAt(this.text, end);
+                if (!isNumber(following)) {
+                    break;
+                }
+                end += Character.charCount(following);
+            }
+            return end;
+        }
+        if (codePoint == ' ' && next < this.length && isSymbol(Character.codePointAt(this.text, next))) {
+            return this.skipSymbols(next);
+        }
+        if (isSymbol(codePoint)) {
+            return this.skipSymbols(position);
+        }
+        return this.whiteSpace(position);
+    }
+
+    private int contraction(int position) {
+        if (position >= this.length) {
+            return -1;
+        }
+        char first = this.text.charAt(position);
+        if (equalsIgnoreCase(first, 's') || equalsIgnoreCase(first, 'd') || equalsIgnoreCase(first, 'm')
+                || equalsIgnoreCase(first, 't')) {
+            return position + 1;
+        }
+        if (position + 1 >= this.length) {
+            return -1;
+        }
+        char second = this.text.charAt(position + 1);
+        if ((equalsIgnoreCase(first, 'l') && equalsIgnoreCase(second, 'l'))
+                || (equalsIgnoreCase(first, 'v') && equalsIgnoreCase(second, 'e'))
+                || (equalsIgnoreCase(first, 'r') && equalsIgnoreCase(second, 'e'))) {
+            return position + 2;
+        }
+        return -1;
+    }
+
+    private int skipLetters(int position) {
+        int end = position;
+        while (end < this.length) {
+            int codePoint = Character.codePointAt(this.text, end);
+            if (!isLetter(codePoint)) {
+                break;
+            }
+            end += Character.charCount(codePoint);
+        }
+        return end;
+    }
+
+    private int skipSymbols(int position) {
+        int end = position;
+        while (end < this.length) {
+            int codePoint = Character.codePointAt(this.text, end);
+            if (!isSymbol(codePoint)) {
+                break;
+            }
+            end += Character.charCount(codePoint);
+        }
+        while (end < this.length && isLineBreak(this.text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private int whiteSpace(int position) {
+        int end = position;
+        int lastLineBreak = -1;
+        while (end < this.length) {
+            char ch = this.text.charAt(end);
+            if (!isWhiteSpace(ch)) {
+                break;
+            }
+            if (isLineBreak(ch)) {
+                lastLineBreak = end;
+            }
+            end++;
+        }
+        if (lastLineBreak >= 0) {
+            return lastLineBreak + 1;
+        }
+        if (end == this.length || end - position < 2) {
+            return end;
+        }
+        return end - 1;
+    }
+
+    private static boolean isLetter(int codePoint) {
+        return classOf(codePoint) == LETTER;
+    }
+
+    private static boolean isNumber(int codePoint) {
+        return classOf(codePoint) == NUMBER;
+    }
+
+    private static boolean isWhiteSpace(int codePoint) {
+        return classOf(codePoint) == WHITE_SPACE;
+    }
+
+    private static boolean isSymbol(int codePoint) {
+        return classOf(codePoint) == SYMBOL;
+    }
+
+    private static byte classOf(int codePoint) {
+        return codePoint < ASCII_CLASSES.length ? ASCII_CLASSES[codePoint] : classify(codePoint);
+    }
+
+    private static byte classify(int codePoint) {
+        int type = Character.getType(codePoint);
+        if (((WHITE_SPACE_TYPES >> type) & 1) != 0 || (codePoint >= 0x9 && codePoint <= 0xD) || codePoint == 0x85) {
+            return WHITE_SPACE;
+        }
+        if (Character.isLetter(codePoint)) {
+            return LETTER;
+        }
+        return ((NUMBER_TYPES >> type) & 1) != 0 ? NUMBER : SYMBOL;
+    }
+
+    private static boolean isLineBreak(char ch) {
+        return ch == '\r' || ch == '\n';
+    }
+
+    private static boolean equalsIgnoreCase(char ch, char lower) {
+        return Character.toLowerCase(Character.toUpperCase(ch)) == lower;
+    }
+}
@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 表示预分词的游标，依次给出文本中每个片段的区间。
+ * <p>游标可以通过 {@link #reset(CharSequence)} 重复使用，不是线程安全的。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+interface PieceCursor {
+    /**
+     * 使用新的文本重置游标。
+     *
+     * @param text 表示文本的 {@link CharSequence}。
+     */
+    void reset(CharSequence text);
+
+    /**
+     * 移动到下一个片段。
+     *
+     * @return 若存在下一个片段，则返回 {@code true}，否则返回 {@code false}。
+     */
+    boolean next();
+
+    /**
+     * 获取当前片段的起始位置（包含）。
+     *
+     * @return 表示起始位置的 {@code int}。
+     */
+    int start();
+
+    /**
+     * 获取当前片段的结束位置（不包含）。
+     *
+     * @return 表示结束位置的 {@code int}。
+     */
+    int end();
+
+    /**
+     * 创建基于正则表达式的游标。
+     *
+     * @param pattern 表示预分词正则表达式的 {@link Pattern}。
+     * @return 表示游标的 {@link PieceCursor}。
+     */
+    static PieceCursor regex(Pattern pattern) {
+        Matcher matcher = pattern.matcher(StringUtils.EMPTY);
+        return new PieceCursor() {
+            @Override
+            public void reset(CharSequence text) {
+                matcher.reset(text);
+            }
+
+            @Override
+            public boolean next() {
+                return matcher.find();
+            }
+
+            @Override
+            public int start() {
+                return matcher.start();
+            }
+
+            @Override
+            public int end() {
+                return matcher.end();
+            }
+        };
+    }
+}
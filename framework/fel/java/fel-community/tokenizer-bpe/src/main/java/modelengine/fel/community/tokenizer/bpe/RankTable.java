@@ -0,0 +1,217 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 表示字节序列到合并优先级的映射表，优先级越小越先合并，同时也是分词结果的编号。
+ * <p>所有字节序列连续存放在一个 {@code byte[]} 中，使用开放寻址的哈希表按字节区间查找，查找过程不需要创建任何对象。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class RankTable {
+    /** 表示字节序列不存在时的优先级。 */
+    static final int ABSENT = Integer.MAX_VALUE;
+
+    private final byte[] pool;
+    private final int[] starts;
+    private final int[] lengths;
+    private final int[] slots;
+    private final int mask;
+    private final int size;
+
+    private RankTable(byte[] pool, int[] starts, int[] lengths, int size) {
+        this.pool = pool;
+        this.starts = starts;
+        this.lengths = lengths;
+        this.size = size;
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        for (int rank = 0; rank < lengths.length; rank++) {
+            if (lengths[rank] < 0) {
+                continue;
+            }
+            int slot = hash(pool, starts[rank], starts[rank] + lengths[rank]) & this.mask;
+            while (this.slots[slot] != 0) {
+                int existing = this.slots[slot] - 1;
+                isTrue(!this.matches(existing, pool, starts[rank], starts[rank] + lengths[rank]),
+                        "Duplicate token in rank file. [rank={0}, existing={1}]",
+                        rank,
+                        existing);
+                slot = (slot + 1) & this.mask;
+            }
+            this.slots[slot] = rank + 1;
+        }
+    }
+
+    /**
+     * 从 tiktoken 格式的输入中读取映射表，每行为 Base64 编码的字节序列与其优先级，以空格分隔。
+     *
+     * @param in 表示输入的 {@link InputStream}。
+     * @return 表示映射表的 {@link RankTable}。
+     * @throws IOException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    static RankTable read(InputStream in) throws IOException {
+        notNull(in, "The rank input cannot be null.");
+        byte[] pool = new byte[1 << 16];
+        int poolSize = 0;
+        int[] starts = new int[1 << 12];
+        int[] lengths = new int[1 << 12];
+        Arrays.fill(lengths, -1);
+        int maxRank = -1;
+        int size = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (StringUtils.isBlank(line)) {
+                continue;
+            }
+            int separator = line.indexOf(' ');
+            if (separator <= 0) {
+                throw new IOException(StringUtils.format("Illegal rank line. [line={0}]", lineNumber));
+            }
+            byte[] token;
+            int rank;
+            try {
+                token = Base64.getDecoder().decode(line.substring(0, separator));
+                rank = Integer.parseInt(line.substring(separator + 1).trim());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(StringUtils.format("Illegal rank line. [line={0}]", lineNumber), e);
+            }
+            if (rank < 0 || rank == ABSENT || token.length == 0) {
+                throw new IOException(StringUtils.format("Illegal rank line. [line={0}]", lineNumber));
+            }
+            if (rank >= lengths.length) {
+                int capacity = Math.max(lengths.length << 1, rank + 1);
+                starts = Arrays.copyOf(starts, capacity);
+                int previous = lengths.length;
+                lengths = Arrays.copyOf(lengths, capacity);
+                Arrays.fill(lengths, previous, capacity, -1);
+            }
+            if (lengths[rank] >= 0) {
+                throw new IOException(StringUtils.format("Duplicate rank. [line={0}, rank={1}]", lineNumber, rank));
+            }
+            if (poolSize + token.length > pool.length) {
+                pool = Arrays.copyOf(pool, Math.max(pool.length << 1, poolSize + token.length));
+            }
+            System.arraycopy(token, 0, pool, poolSize, token.length);
+            starts[rank] = poolSize;
+            lengths[rank] = token.length;
+            poolSize += token.length;
+            maxRank = Math.max(maxRank, rank);
+            size++;
+        }
+        try {
+            return new RankTable(Arrays.copyOf(pool, poolSize),
+                    Arrays.copyOf(starts, maxRank + 1),
+                    Arrays.copyOf(lengths, maxRank + 1),
+                    size);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 查找字节区间的优先级。
+     *
+     * @param bytes 表示字节区间所在数组的 {@code byte[]}。
+     * @param from 表示字节区间起始位置（包含）的 {@code int}。
+     * @param to 表示字节区间结束位置（不包含）的 {@code int}。
+     * @return 表示优先级的 {@code int}，若字节区间不存在，则返回 {@link #ABSENT}。
+     */
+    int rank(byte[] bytes, int from, int to) {
+        int slot = hash(bytes, from, to) & this.mask;
+        int entry;
+        while ((entry = this.slots[slot]) != 0) {
+            if (this.matches(entry - 1, bytes, from, to)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return ABSENT;
+    }
+
+    /**
+     * 判断指定的编号是否存在。
+     *
+     * @param rank 表示编号的 {@code int}。
+     * @return 若编号存在，则返回 {@code true}，否则返回 {@code false}。
+     */
+    boolean contains(int rank) {
+        return rank >= 0 && rank < this.lengths.length && this.lengths[rank] >= 0;
+    }
+
+    /**
+     * 获取指定编号的字节序列的长度。
+     *
+     * @param rank 表示编号的 {@code int}。
+     * @return 表示字节序列长度的 {@code int}。
+     */
+    int length(int rank) {
+        return this.lengths[rank];
+    }
+
+    /**
+     * 将指定编号的字节序列复制到目标数组中。
+     *
+     * @param rank 表示编号的 {@code int}。
+     * @param target 表示目标数组的 {@code byte[]}。
+     * @param offset 表示目标数组中起始位置的 {@code int}。
+     * @return 表示复制的字节数的 {@code int}。
+     */
+    int copy(int rank, byte[] target, int offset) {
+        System.arraycopy(this.pool, this.starts[rank], target, offset, this.lengths[rank]);
+        return this.lengths[rank];
+    }
+
+    /**
+     * 获取映射表中字节序列的数量。
+     *
+     * @return 表示字节序列数量的 {@code int}。
+     */
+    int size() {
+        return this.size;
+    }
+
+    private boolean matches(int rank, byte[] bytes, int from, int to) {
+        int length = this.lengths[rank];
+        if (length != to - from) {
+            return false;
+        }
+        int start = this.starts[rank];
+        for (int i = 0; i < length; i++) {
+            if (this.pool[start + i] != bytes[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 0x811C9DC5;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
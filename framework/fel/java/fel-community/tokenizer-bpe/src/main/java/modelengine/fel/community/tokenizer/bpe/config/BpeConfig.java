@@ -0,0 +1,78 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe.config;
+
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * 表示 BPE 分词器的配置。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component
+@AcceptConfigValues("fel.tokenizer.bpe")
+public class BpeConfig {
+    private String encoding = "cl100k_base";
+    private String rankFile;
+    private int cacheSize = 4096;
+
+    /**
+     * 获取编码方案的名字。
+     *
+     * @return 表示编码方案名字的 {@link String}。
+     */
+    public String getEncoding() {
+        return this.encoding;
+    }
+
+    /**
+     * 设置编码方案的名字，例如 {@code cl100k_base} 或 {@code o200k_base}。
+     *
+     * @param encoding 表示编码方案名字的 {@link String}。
+     */
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * 获取 tiktoken 格式的合并优先级文件的路径。
+     *
+     * @return 表示文件路径的 {@link String}。
+     */
+    public String getRankFile() {
+        return this.rankFile;
+    }
+
+    /**
+     * 设置 tiktoken 格式的合并优先级文件的路径，未设置时从类路径的 {@code tiktoken/<encoding>.tiktoken} 中加载。
+     *
+     * @param rankFile 表示文件路径的 {@link String}。
+     */
+    public void setRankFile(String rankFile) {
+        this.rankFile = rankFile;
+    }
+
+    /**
+     * 获取单词分词结果缓存的容量。
+     *
+     * @return 表示缓存容量的 {@code int}。
+     */
+    public int getCacheSize() {
+        return this.cacheSize;
+    }
+
+    /**
+     * 设置单词分词结果缓存的容量，为 {@code 0} 时不缓存。
+     *
+     * @param cacheSize 表示缓存容量的 {@code int}。
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+}
@@ -0,0 +1,55 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.community.tokenizer.bpe.config.BpeConfig;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 表示 {@link BpeTokenizer} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 BpeTokenizer")
+public class BpeTokenizerTest {
+    @Test
+    @DisplayName("从配置的文件加载后，编码、解码和计数成功")
+    void shouldEncodeAndDecodeWhenRankFileConfigured() throws URISyntaxException {
+        BpeConfig config = new BpeConfig();
+        config.setRankFile(Paths.get(BpeTokenizerTest.class.getClassLoader()
+                .getResource(BytePairEncoderTest.RANK_RESOURCE)
+                .toURI()).toString());
+        BpeTokenizer tokenizer = new BpeTokenizer(config);
+        List<Integer> tokens = tokenizer.encode(BytePairEncoderTest.SAMPLE);
+        assertThat(tokenizer.decode(tokens)).isEqualTo(BytePairEncoderTest.SAMPLE);
+        assertThat(tokenizer.countToken(BytePairEncoderTest.SAMPLE)).isEqualTo(tokens.size());
+        assertThat(tokenizer.countToken("")).isZero();
+    }
+
+    @Test
+    @DisplayName("类路径中不存在合并优先级文件时，创建成功但分词失败")
+    void shouldFailToEncodeWhenRankResourceAbsent() {
+        BpeConfig config = new BpeConfig();
+        BpeTokenizer tokenizer = new BpeTokenizer(config);
+        assertThatThrownBy(() -> tokenizer.countToken("hello")).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fel.tokenizer.bpe.rank-file")
+                .hasMessageContaining("tiktoken/cl100k_base.tiktoken");
+        assertThatThrownBy(() -> tokenizer.encode("hello")).isInstanceOf(IllegalStateException.class);
+        config.setEncoding("unknown");
+        assertThatThrownBy(() -> new BpeTokenizer(config)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.util.StringUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+/**
+ * 表示 {@link BytePairEncoder} 在大文档上的吞吐量测试。
+ * <p>耗时较长，默认不执行，通过 {@code mvn test -Dfel.benchmark=true -Dtest=BytePairEncoderBenchmarkTest} 执行。默认使用
+ * 测试用的小词表，可以通过 {@code -Dfel.bpe.rankFile=<path> -Dfel.bpe.encoding=cl100k_base} 指定真实的词表。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 BytePairEncoder 的吞吐量")
+@EnabledIfSystemProperty(named = "fel.benchmark", matches = "true")
+public class BytePairEncoderBenchmarkTest {
+    private static final int DOCUMENT_SIZE = 16 * 1024 * 1024;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("大文档的编码与计数吞吐量")
+    void shouldReportThroughput() {
+        String document = document();
+        double megabytes = document.getBytes(StandardCharsets.UTF_8).length / 1024.0 / 1024.0;
+        BytePairEncoder cached = load(4096);
+        BytePairEncoder uncached = load(0);
+        int tokens = cached.count(document);
+        System.out.printf("document=%.1fMB, tokens=%d%n", megabytes, tokens);
+        System.out.printf("encode (cache): %.1fMB/s%n", throughput(megabytes, text -> cached.encode(text).length,
+                document));
+        System.out.printf("encode (no cache): %.1fMB/s%n", throughput(megabytes,
+                text -> uncached.encode(text).length,
+                document));
+        System.out.printf("count: %.1fMB/s%n", throughput(megabytes, cached::count, document));
+        assertThat(cached.encode(document)).hasSize(tokens);
+    }
+
+    private static double throughput(double megabytes, ToIntFunction<String> action, String document) {
+        action.applyAsInt(document);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            action.applyAsInt(document);
+        }
+        return megabytes * ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static BytePairEncoder load(int cacheSize) {
+        String rankFile = System.getProperty("fel.bpe.rankFile");
+        if (StringUtils.isBlank(rankFile)) {
+            return BytePairEncoderTest.load(cacheSize);
+        }
+        BpeEncoding encoding = BpeEncoding.from(System.getProperty("fel.bpe.encoding", "cl100k_base"));
+        return BytePairEncoder.load(encoding, Paths.get(rankFile), cacheSize);
+    }
+
+    private static String document() {
+        String[] words = BytePairEncoderTest.SAMPLE.split("\\s+");
+        Random random = new Random(42L);
+        StringBuilder builder = new StringBuilder(DOCUMENT_SIZE + 64);
+        while (builder.length() < DOCUMENT_SIZE) {
+            builder.append(words[random.nextInt(words.length)]);
+            builder.append(random.nextInt(12) == 0 ? '\n' : ' ');
+            if (random.nextInt(50) == 0) {
+                builder.append(random.nextInt(100000));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,175 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.exception.FitException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * 表示 {@link BytePairEncoder} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 BytePairEncoder")
+public class BytePairEncoderTest {
+    static final String RANK_RESOURCE = "tiktoken/test_base.tiktoken";
+    static final String SAMPLE = "/**\n * 表示分词器的接口。\n */\npublic interface Tokenizer {\n"
+            + "    List<Integer> encode(String text);   // it's 42 tokens, isn't it?\n\n\n"
+            + "    int countToken(String text); été 😀👍 12345\r\n\t  }";
+
+    @Test
+    @DisplayName("编码结果与逐对合并的参考实现一致，且解码后还原原文")
+    void shouldMatchReferenceAndRoundTrip() throws IOException {
+        BytePairEncoder encoder = load(16);
+        Map<String, Integer> ranks = readRanks();
+        int[] tokens = encoder.encode(SAMPLE);
+        assertThat(tokens).containsExactly(referenceEncode(SAMPLE, ranks));
+        assertThat(encoder.decode(tokens, 0, tokens.length)).isEqualTo(SAMPLE);
+        assertThat(tokens.length).isLessThan(SAMPLE.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    @DisplayName("计数结果与编码结果的长度一致，且不受缓存影响")
+    void shouldCountSameAsEncode() {
+        BytePairEncoder cached = load(4);
+        BytePairEncoder uncached = load(0);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            text.append(SAMPLE).append(i);
+        }
+        int[] expected = uncached.encode(text);
+        assertThat(cached.encode(text)).containsExactly(expected);
+        assertThat(cached.encode(text)).containsExactly(expected);
+        assertThat(cached.count(text)).isEqualTo(expected.length);
+        assertThat(uncached.count(text)).isEqualTo(expected.length);
+        assertThat(cached.count("")).isZero();
+        assertThat(cached.encode("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("分词位置与各分词的字节长度对应，跨字符的分词边界归属前一个分词")
+    void shouldMapBoundariesToCharacters() throws IOException {
+        Map<Integer, Integer> lengths = new HashMap<>();
+        readRanks().forEach((key, rank) -> lengths.put(rank, Base64.getDecoder().decode(key).length));
+        BytePairEncoder encoder = load(16);
+        int[] tokens = encoder.encode(SAMPLE);
+        int[] boundaries = encoder.boundaries(SAMPLE);
+        assertThat(boundaries).hasSize(tokens.length).isSorted();
+        assertThat(boundaries[boundaries.length - 1]).isEqualTo(SAMPLE.length());
+        int bytes = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            bytes += lengths.get(tokens[i]);
+            int end = boundaries[i];
+            assertThat(SAMPLE.substring(0, end).getBytes(StandardCharsets.UTF_8).length).isGreaterThanOrEqualTo(bytes);
+            String shorter = SAMPLE.substring(0, SAMPLE.offsetByCodePoints(end, -1));
+            assertThat(shorter.getBytes(StandardCharsets.UTF_8).length).isLessThan(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("特殊分词按照普通文本编码，解码时可以识别特殊分词的编号")
+    void shouldDecodeSpecialTokens() {
+        BytePairEncoder encoder = load(16);
+        int[] tokens = encoder.encode("<|endoftext|>");
+        assertThat(tokens).doesNotContain(100257);
+        assertThat(encoder.decode(tokens, 0, tokens.length)).isEqualTo("<|endoftext|>");
+        assertThat(encoder.decode(new int[] {100257}, 0, 1)).isEqualTo("<|endoftext|>");
+        assertThatThrownBy(() -> encoder.decode(new int[] {100256}, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("合并优先级文件不合法时，加载失败")
+    void shouldFailWhenRankFileIllegal() {
+        byte[] malformed = "YQ== x\n".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> BytePairEncoder.load(BpeEncoding.CL100K_BASE, new ByteArrayInputStream(malformed), 0))
+                .isInstanceOf(FitException.class);
+        byte[] incomplete = "YQ== 0\n".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> BytePairEncoder.load(BpeEncoding.CL100K_BASE, new ByteArrayInputStream(incomplete),
+                0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static BytePairEncoder load(int cacheSize) {
+        try (InputStream in = BytePairEncoderTest.class.getClassLoader().getResourceAsStream(RANK_RESOURCE)) {
+            return BytePairEncoder.load(BpeEncoding.CL100K_BASE, in, cacheSize);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Integer> readRanks() throws IOException {
+        Map<String, Integer> ranks = new HashMap<>();
+        try (InputStream in = BytePairEncoderTest.class.getClassLoader().getResourceAsStream(RANK_RESOURCE);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                ranks.put(key(Base64.getDecoder().decode(parts[0])), Integer.parseInt(parts[1]));
+            }
+        }
+        return ranks;
+    }
+
+    private static int[] referenceEncode(String text, Map<String, Integer> ranks) {
+        List<Integer> tokens = new ArrayList<>();
+        Matcher matcher = BpeEncoding.CL100K_BASE.pattern().matcher(text);
+        while (matcher.find()) {
+            byte[] piece = matcher.group().getBytes(StandardCharsets.UTF_8);
+            List<byte[]> parts = new ArrayList<>();
+            for (byte value : piece) {
+                parts.add(new byte[] {value});
+            }
+            while (true) {
+                int best = -1;
+                int bestRank = Integer.MAX_VALUE;
+                for (int i = 0; i < parts.size() - 1; i++) {
+                    Integer rank = ranks.get(key(concat(parts.get(i), parts.get(i + 1))));
+                    if (rank != null && rank < bestRank) {
+                        bestRank = rank;
+                        best = i;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+                parts.set(best, concat(parts.get(best), parts.remove(best + 1)));
+            }
+            parts.forEach(part -> tokens.add(ranks.get(key(part))));
+        }
+        return tokens.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static byte[] concat(byte[] left, byte[] right) {
+        byte[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+
+    private static String key(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,64 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.community.tokenizer.bpe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 表示 {@link Cl100kPieceCursor} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 Cl100kPieceCursor")
+public class Cl100kPieceCursorTest {
+    private static final String[] PALETTE = {
+            "a", "Z", "s", "S", "t", "l", "L", "v", "e", "r", "ſ", "é", "表", "示", "́", "0", "7", "١",
+            "Ⅻ", "½", "'", "\"", "(", ")", ".", "/", "-", "_", "😀", "\uD83D", "\uDE00", " ", " ", " ", "\t",
+            "\n", "\r", " ", " ", "\u0085", "\u000B", "　"
+    };
+
+    @Test
+    @DisplayName("随机文本的切分结果与正则表达式完全一致")
+    void shouldSplitSameAsRegex() {
+        Random random = new Random(5L);
+        PieceCursor expected = PieceCursor.regex(BpeEncoding.CL100K_BASE.pattern());
+        PieceCursor actual = new Cl100kPieceCursor();
+        for (int round = 0; round < 20000; round++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                text.append(PALETTE[random.nextInt(PALETTE.length)]);
+            }
+            assertThat(pieces(actual, text)).as("text=%s", text).isEqualTo(pieces(expected, text));
+        }
+    }
+
+    @Test
+    @DisplayName("切分英文缩写、数字和空白")
+    void shouldSplitContractionsNumbersAndSpaces() {
+        assertThat(pieces(new Cl100kPieceCursor(), "I'LL pay 12345 dollars,  ok?\n\n  done"))
+                .containsExactly("I", "'LL", " pay", " ", "123", "45", " dollars", ",", " ", " ok", "?\n\n", " ",
+                        " done");
+    }
+
+    private static List<String> pieces(PieceCursor cursor, CharSequence text) {
+        cursor.reset(text);
+        List<String> pieces = new ArrayList<>();
+        while (cursor.next()) {
+            pieces.add(text.subSequence(cursor.start(), cursor.end()).toString());
+        }
+        return pieces;
+    }
+}
@@ -8,6 +8,7 @@ package modelengine.fel.community.tokenizer.hanlp;
 
 import com.hankcs.hanlp.HanLP;
 import com.hankcs.hanlp.seg.Segment;
+import com.hankcs.hanlp.seg.common.Term;
 
 import modelengine.fel.core.tokenizer.Tokenizer;
 import modelengine.fitframework.annotation.Component;
@@ -39,4 +40,22 @@ public class HanlpTokenizer implements Tokenizer {
     public int countToken(String text) {
         return StringUtils.isBlank(text) ? 0 : segment.seg(text).size();
     }
-}
\ No newline at end of file
+
+    @Override
+    public int[] boundaries(String text) {
+        if (StringUtils.isEmpty(text)) {
+            return new int[0];
+        }
+        List<Term> terms = segment.seg(text);
+        int[] boundaries = new int[terms.size()];
+        int offset = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            offset = Math.min(offset + terms.get(i).length(), text.length());
+            boundaries[i] = offset;
+        }
+        if (boundaries.length > 0) {
+            boundaries[boundaries.length - 1] = text.length();
+        }
+        return boundaries;
+    }
+}
@@ -28,4 +28,14 @@ public class HanlpTokenizerTest {
         assertThat(tokenizer.countToken(StringUtils.EMPTY)).isEqualTo(0);
         assertThat(tokenizer.countToken("你好")).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("测试分词位置")
+    void testBoundaries() {
+        HanlpTokenizer tokenizer = new HanlpTokenizer();
+        String text = "你好，世界";
+        int[] boundaries = tokenizer.boundaries(text);
+        assertThat(boundaries).hasSize(tokenizer.countToken(text)).isSorted();
+        assertThat(boundaries[boundaries.length - 1]).isEqualTo(text.length());
+    }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 
 /**
  * 表示 {@link Memory} 的简单内存实现，不要在生产环境中使用。
+ * <p>使用 {@link DefaultBulkStringTemplate} 时，已渲染的历史记录会被缓存，插入消息后只渲染新增的消息。</p>
  *
  * @author 刘信宏
  * @author 易文渊
@@ -32,6 +33,9 @@ public class CacheMemory implements Memory {
     private List<ChatMessage> messages = new ArrayList<>();
     private final BulkStringTemplate bulkTemplate;
     private final Function<ChatMessage, Map<String, String>> extractor;
+    private final StringBuilder rendered = new StringBuilder();
+    private int renderedCount;
+    private String text;
 
     /**
      * 设置内存中构建器的默认模板和关键词。
@@ -67,11 +71,13 @@ public class CacheMemory implements Memory {
     @Override
     public void set(List<ChatMessage> messages) {
         this.messages = new ArrayList<>(messages);
+        this.reset();
     }
 
     @Override
     public void clear() {
         this.messages.clear();
+        this.reset();
     }
 
     @Override
@@ -81,8 +87,26 @@ public class CacheMemory implements Memory {
 
     @Override
     public String text() {
-        return this.messages.stream()
-                .map(this.extractor)
-                .collect(Collectors.collectingAndThen(Collectors.toList(), this.bulkTemplate::render));
+        if (!(this.bulkTemplate instanceof DefaultBulkStringTemplate)) {
+            return this.messages.stream()
+                    .map(this.extractor)
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), this.bulkTemplate::render));
+        }
+        if (this.text != null && this.renderedCount == this.messages.size()) {
+            return this.text;
+        }
+        DefaultBulkStringTemplate template = (DefaultBulkStringTemplate) this.bulkTemplate;
+        for (int i = this.renderedCount; i < this.messages.size(); i++) {
+            template.append(this.rendered, this.extractor.apply(this.messages.get(i)), i == 0);
+        }
+        this.renderedCount = this.messages.size();
+        this.text = this.rendered.toString();
+        return this.text;
+    }
+
+    private void reset() {
+        this.rendered.setLength(0);
+        this.renderedCount = 0;
+        this.text = null;
     }
 }
\ No newline at end of file
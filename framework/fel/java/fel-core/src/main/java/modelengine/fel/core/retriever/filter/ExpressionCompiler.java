@@ -0,0 +1,200 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.retriever.filter;
+
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 表示将过滤器表达式编译为元数据断言的编译器，用于在内存中的向量存储内部执行标量过滤。
+ * <p>比较的语义如下：</p>
+ * <ul>
+ *     <li>数值统一按照数学上的大小比较，因此 {@code 1}、{@code 1L} 和 {@code 1.0} 相等；</li>
+ *     <li>字符串按照字典序比较，{@link Operator#LIKE} 中 {@code %} 匹配任意多个字符，{@code _} 匹配单个字符；</li>
+ *     <li>类型不可比较的值互不相等，且不满足任何大小关系；</li>
+ *     <li>元数据中不存在的键只满足 {@link Operator#NE} 和 {@link Operator#NIN}。</li>
+ * </ul>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public final class ExpressionCompiler {
+    private ExpressionCompiler() {}
+
+    /**
+     * 将过滤器表达式编译为元数据断言。
+     *
+     * @param expression 表示过滤器表达式的 {@link Operand.Expression}。
+     * @return 表示元数据断言的 {@link Predicate}。
+     * @throws IllegalArgumentException 当 {@code expression} 为 {@code null} 或结构不合法时。
+     */
+    public static Predicate<Map<String, Object>> compile(Operand.Expression expression) {
+        notNull(expression, "The expression cannot be null.");
+        Operator op = notNull(expression.op(), "The operator cannot be null.");
+        if (op == Operator.AND) {
+            Predicate<Map<String, Object>> left = compile(asExpression(expression.left()));
+            Predicate<Map<String, Object>> right = compile(asExpression(expression.right()));
+            return metadata -> left.test(metadata) && right.test(metadata);
+        }
+        if (op == Operator.OR) {
+            Predicate<Map<String, Object>> left = compile(asExpression(expression.left()));
+            Predicate<Map<String, Object>> right = compile(asExpression(expression.right()));
+            return metadata -> left.test(metadata) || right.test(metadata);
+        }
+        String key = key(expression);
+        Object value = value(expression);
+        Object expected = normalize(value);
+        switch (op) {
+            case EQ:
+                return metadata -> isEqual(metadata.get(key), expected);
+            case NE:
+                return metadata -> !isEqual(metadata.get(key), expected);
+            case LT:
+                return metadata -> matches(compare(metadata.get(key), expected), result -> result < 0);
+            case GT:
+                return metadata -> matches(compare(metadata.get(key), expected), result -> result > 0);
+            case LE:
+                return metadata -> matches(compare(metadata.get(key), expected), result -> result <= 0);
+            case GE:
+                return metadata -> matches(compare(metadata.get(key), expected), result -> result >= 0);
+            case IN: {
+                Set<Object> values = normalizeAll(value);
+                return metadata -> values.contains(normalize(metadata.get(key)));
+            }
+            case NIN: {
+                Set<Object> values = normalizeAll(value);
+                return metadata -> !values.contains(normalize(metadata.get(key)));
+            }
+            case LIKE: {
+                isTrue(value instanceof String, "The like pattern must be string. [key={0}]", key);
+                Pattern pattern = toPattern(ObjectUtils.cast(value));
+                return metadata -> {
+                    Object actual = metadata.get(key);
+                    return actual instanceof String && pattern.matcher((String) actual).matches();
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported operator: " + op);
+        }
+    }
+
+    /**
+     * 获取比较表达式的键。
+     *
+     * @param expression 表示比较表达式的 {@link Operand.Expression}。
+     * @return 表示键的 {@link String}。
+     * @throws IllegalArgumentException 当表达式的左操作数不是键时。
+     */
+    public static String key(Operand.Expression expression) {
+        isTrue(expression.left() instanceof Operand.Key, "The left operand must be key. [op={0}]", expression.op());
+        return ObjectUtils.<Operand.Key>cast(expression.left()).key();
+    }
+
+    /**
+     * 获取比较表达式的值。
+     *
+     * @param expression 表示比较表达式的 {@link Operand.Expression}。
+     * @return 表示值的 {@link Object}。
+     * @throws IllegalArgumentException 当表达式的右操作数不是值时。
+     */
+    public static Object value(Operand.Expression expression) {
+        isTrue(expression.right() instanceof Operand.Value,
+                "The right operand must be value. [op={0}]",
+                expression.op());
+        return ObjectUtils.<Operand.Value>cast(expression.right()).payload();
+    }
+
+    /**
+     * 将元数据的值规范化，使得数学上相等的数值具有相同的表示，并且可以作为哈希表的键。
+     * <p>整数和精确的小数被转换为去除末尾零的 {@link BigDecimal}，字符被转换为 {@link String}，其他值保持不变。</p>
+     *
+     * @param value 表示元数据值的 {@link Object}。
+     * @return 表示规范化后的值的 {@link Object}。
+     */
+    public static Object normalize(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return new BigDecimal(value.toString()).stripTrailingZeros();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double actual = ((Number) value).doubleValue();
+            return Double.isFinite(actual) ? BigDecimal.valueOf(actual).stripTrailingZeros() : value;
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    private static Integer compare(Object actual, Object expected) {
+        Object normalized = normalize(actual);
+        if (normalized == null || expected == null) {
+            return null;
+        }
+        if (normalized.getClass() != expected.getClass() || !(normalized instanceof Comparable)) {
+            return null;
+        }
+        return ObjectUtils.<Comparable<Object>>cast(normalized).compareTo(expected);
+    }
+
+    private static boolean isEqual(Object actual, Object expected) {
+        return actual != null && Objects.equals(normalize(actual), expected);
+    }
+
+    private static boolean matches(Integer result, Predicate<Integer> condition) {
+        return result != null && condition.test(result);
+    }
+
+    private static Set<Object> normalizeAll(Object value) {
+        isTrue(value instanceof Collection, "The value of in operator must be collection.");
+        Set<Object> values = new HashSet<>();
+        for (Object element : ObjectUtils.<Collection<?>>cast(value)) {
+            values.add(normalize(element));
+        }
+        return values;
+    }
+
+    private static Operand.Expression asExpression(Operand operand) {
+        isTrue(operand instanceof Operand.Expression, "The operand of logical operator must be expression.");
+        return ObjectUtils.cast(operand);
+    }
+
+    private static Pattern toPattern(String like) {
+        StringBuilder regex = new StringBuilder(like.length() + 8);
+        StringBuilder literal = new StringBuilder();
+        for (char ch : like.toCharArray()) {
+            if (ch == '%' || ch == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(ch == '%' ? ".*" : ".");
+            } else {
+                literal.append(ch);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
@@ -0,0 +1,177 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.splitter.support;
+
+import modelengine.fel.core.tokenizer.Tokenizer;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 表示从 {@link Reader} 中增量读取文本并按分词数量产生分块的 {@link Iterator}。
+ * <p>窗口中只保留下一个分块起点之后的文本，分词位置保存在 {@code int[]} 中，分块直接从窗口中截取。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class TokenChunkIterator implements Iterator<String> {
+    private static final int READ_SIZE = 8192;
+    private static final int SEGMENT_SIZE = 16384;
+
+    private final Reader reader;
+    private final Tokenizer tokenizer;
+    private final int chunkSize;
+    private final int step;
+
+    private char[] window = new char[SEGMENT_SIZE + READ_SIZE];
+    private int windowLength;
+    private int tokenized;
+    private int base;
+    private int[] ends = new int[SEGMENT_SIZE];
+    private int tokenCount;
+    private int skipped;
+    private boolean eof;
+    private boolean drained;
+    private boolean blank = true;
+    private String next;
+
+    TokenChunkIterator(Reader reader, Tokenizer tokenizer, int chunkSize, int step) {
+        this.reader = reader;
+        this.tokenizer = tokenizer;
+        this.chunkSize = chunkSize;
+        this.step = step;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.next == null && this.window != null) {
+            this.next = this.advance();
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String chunk = this.next;
+        this.next = null;
+        return chunk;
+    }
+
+    private String advance() {
+        while (true) {
+            if (this.tokenCount > this.chunkSize || (this.drained && this.tokenCount > 0 && !this.blank)) {
+                int end = Math.min(this.chunkSize, this.tokenCount);
+                String chunk = new String(this.window, this.base, this.ends[end - 1] - this.base);
+                if (end == this.tokenCount) {
+                    this.release();
+                } else {
+                    this.drop(this.step);
+                }
+                return chunk;
+            }
+            if (this.drained) {
+                this.release();
+                return null;
+            }
+            this.fill();
+        }
+    }
+
+    private void fill() {
+        this.compact();
+        try {
+            while (!this.eof && this.windowLength - this.tokenized < SEGMENT_SIZE) {
+                if (this.window.length - this.windowLength < READ_SIZE) {
+                    this.window = Arrays.copyOf(this.window, this.window.length << 1);
+                }
+                int read = this.reader.read(this.window, this.windowLength, this.window.length - this.windowLength);
+                if (read < 0) {
+                    this.eof = true;
+                } else {
+                    this.windowLength += read;
+                }
+            }
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+        int cut = this.eof ? this.windowLength : this.cut(this.tokenized, this.windowLength);
+        if (cut > this.tokenized) {
+            String segment = new String(this.window, this.tokenized, cut - this.tokenized);
+            this.blank = this.blank && StringUtils.isBlank(segment);
+            int[] boundaries = this.tokenizer.boundaries(segment);
+            int required = this.tokenCount + boundaries.length;
+            if (required > this.ends.length) {
+                this.ends = Arrays.copyOf(this.ends, Math.max(this.ends.length << 1, required));
+            }
+            for (int boundary : boundaries) {
+                this.ends[this.tokenCount++] = this.tokenized + boundary;
+            }
+            this.tokenized = cut;
+            this.drop(this.skipped);
+        }
+        this.drained = this.eof && this.tokenized == this.windowLength;
+    }
+
+    /**
+     * 选择本次分词的结束位置，使得分段分词的结果尽量与整体分词一致。
+     *
+     * @param from 表示尚未分词文本起始位置的 {@code int}。
+     * @param to 表示已读取文本结束位置的 {@code int}。
+     * @return 表示本次分词结束位置（不包含）的 {@code int}。
+     */
+    private int cut(int from, int to) {
+        for (int i = to - 2; i > from; i--) {
+            if (Character.isWhitespace(this.window[i]) && !Character.isWhitespace(this.window[i + 1])) {
+                return i;
+            }
+        }
+        return Character.isHighSurrogate(this.window[to - 1]) && to - 1 > from ? to - 1 : to;
+    }
+
+    /**
+     * 丢弃窗口起始处的分词，重叠大小为负数时需要丢弃的分词可能尚未读取，剩余部分在下次分词后继续丢弃。
+     *
+     * @param count 表示需要丢弃的分词数量的 {@code int}。
+     */
+    private void drop(int count) {
+        int dropped = Math.min(count, this.tokenCount);
+        this.skipped = count - dropped;
+        if (dropped == 0) {
+            return;
+        }
+        this.base = this.ends[dropped - 1];
+        this.tokenCount -= dropped;
+        System.arraycopy(this.ends, dropped, this.ends, 0, this.tokenCount);
+    }
+
+    private void compact() {
+        if (this.base == 0) {
+            return;
+        }
+        System.arraycopy(this.window, this.base, this.window, 0, this.windowLength - this.base);
+        for (int i = 0; i < this.tokenCount; i++) {
+            this.ends[i] -= this.base;
+        }
+        this.windowLength -= this.base;
+        this.tokenized -= this.base;
+        this.base = 0;
+    }
+
+    private void release() {
+        this.window = null;
+        this.ends = null;
+        this.tokenCount = 0;
+    }
+}
@@ -6,18 +6,24 @@
 
 package modelengine.fel.core.splitter.support;
 
+import modelengine.fel.core.document.Document;
 import modelengine.fel.core.pattern.Splitter;
 import modelengine.fel.core.splitter.AbstractTextSplitter;
 import modelengine.fel.core.tokenizer.Tokenizer;
+import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 表示根据 token 数量进行分割的 {@link Splitter}。
+ * <p>分块直接按照分词在原文中的位置截取，不再对分词结果进行解码。对于大文档，可以通过 {@link #splitText(Reader)} 增量读取并惰性
+ * 产生分块，内存占用只与分块大小有关。</p>
  *
  * @author 易文渊
  * @since 2024-08-06
@@ -60,7 +66,7 @@ public class TokenTextSplitter extends AbstractTextSplitter {
                 "The chunk size `{0}` must greater than chunk overlap `{1}`.",
                 chunkSize,
                 chunkOverlap);
-        this.tokenizer = tokenizer;
+        this.tokenizer = Validation.notNull(tokenizer, "The tokenizer cannot be null.");
         this.chunkSize = chunkSize;
         this.chunkOverlap = chunkOverlap;
     }
@@ -71,20 +77,46 @@ public class TokenTextSplitter extends AbstractTextSplitter {
             return Collections.emptyList();
         }
         List<String> splits = new ArrayList<>();
-        List<Integer> inputTokens = tokenizer.encode(text);
-        int step = chunkSize - chunkOverlap;
-        int startIndex = 0;
-        int curIndex = Math.min(startIndex + this.chunkSize, inputTokens.size());
-        List<Integer> chunkTokens = inputTokens.subList(startIndex, curIndex);
-        while (startIndex < inputTokens.size()) {
-            splits.add(tokenizer.decode(chunkTokens));
-            if (curIndex == inputTokens.size()) {
+        int[] boundaries = this.tokenizer.boundaries(text);
+        int step = this.chunkSize - this.chunkOverlap;
+        for (int startIndex = 0; startIndex < boundaries.length; startIndex += step) {
+            int curIndex = Math.min(startIndex + this.chunkSize, boundaries.length);
+            int from = startIndex == 0 ? 0 : boundaries[startIndex - 1];
+            splits.add(text.substring(from, boundaries[curIndex - 1]));
+            if (curIndex == boundaries.length) {
                 break;
             }
-            startIndex += step;
-            curIndex = Math.min(startIndex + this.chunkSize, inputTokens.size());
-            chunkTokens = inputTokens.subList(startIndex, curIndex);
         }
         return splits;
     }
-}
\ No newline at end of file
+
+    /**
+     * 增量读取并分割给定的文本，分块在被请求时才会产生。
+     * <p>文本按段读取并分词，段的边界优先选择在空白字符之后紧跟非空白字符的位置；读取过程中只保留尚未输出的分块对应的文本和分词
+     * 位置。返回的响应式流只能被订阅一次，读取器由调用方在流结束后关闭。</p>
+     *
+     * @param reader 表示需要被分割文本的 {@link Reader}。
+     * @return 表示分割后文本的 {@link Choir}{@code <}{@link String}{@code >}，输入全部为空白字符时不包含任何分块。
+     * @throws IllegalArgumentException 当 {@code reader} 为 {@code null} 时。
+     */
+    public Choir<String> splitText(Reader reader) {
+        Validation.notNull(reader, "The reader cannot be null.");
+        return Choir.fromIterable(() -> new TokenChunkIterator(reader,
+                this.tokenizer,
+                this.chunkSize,
+                this.chunkSize - this.chunkOverlap));
+    }
+
+    /**
+     * 增量读取并分割给定的文本，每个分块使用相同的元数据生成文档。
+     *
+     * @param reader 表示需要被分割文本的 {@link Reader}。
+     * @param metadata 表示文档元数据的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     * @return 表示分割后文档的 {@link Choir}{@code <}{@link Document}{@code >}。
+     * @throws IllegalArgumentException 当 {@code reader} 为 {@code null} 时。
+     * @see #splitText(Reader)
+     */
+    public Choir<Document> split(Reader reader, Map<String, Object> metadata) {
+        return this.splitText(reader).map(chunk -> Document.custom().text(chunk).metadata(metadata).build());
+    }
+}
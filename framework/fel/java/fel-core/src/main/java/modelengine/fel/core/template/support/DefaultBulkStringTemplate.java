@@ -13,7 +13,6 @@ import modelengine.fitframework.inspection.Validation;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * 表示批量生成字符串模板的实现。
@@ -58,7 +57,25 @@ public class DefaultBulkStringTemplate implements BulkStringTemplate {
      */
     @Override
     public String render(List<Map<String, String>> values) {
-        return values.stream().map(this.template::render).collect(Collectors.joining(this.delimiter));
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            this.append(builder, values.get(i), i == 0);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 将单个输入映射按照模板渲染，并追加到已渲染的内容之后。
+     *
+     * @param builder 表示已渲染内容的 {@link StringBuilder}。
+     * @param value 表示输入映射的 {@link Map}{@code <}{@link String}{@code , }{@link String}{@code >}。
+     * @param first 表示是否为第一个输入映射的 {@code boolean}，不是第一个时先追加分隔符。
+     */
+    public void append(StringBuilder builder, Map<String, String> value, boolean first) {
+        if (!first) {
+            builder.append(this.delimiter);
+        }
+        this.template.render(value, builder);
     }
 
     @Override
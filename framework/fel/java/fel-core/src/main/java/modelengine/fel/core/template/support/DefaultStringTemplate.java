@@ -8,14 +8,16 @@ package modelengine.fel.core.template.support;
 
 import modelengine.fel.core.template.StringTemplate;
 import modelengine.fitframework.inspection.Validation;
-import modelengine.fitframework.merge.ConflictResolutionPolicy;
 import modelengine.fitframework.parameterization.ParameterizedString;
 import modelengine.fitframework.parameterization.ParameterizedStringResolver;
 import modelengine.fitframework.parameterization.ResolvedParameter;
-import modelengine.fitframework.util.MapUtils;
+import modelengine.fitframework.parameterization.StringFormatException;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
 
 /**
  * 表示生成字符串的默认模版实现。
+ * <p>模板在创建时编译为交替排列的文本片段和占位符，渲染时按顺序写入一个预估容量的 {@link StringBuilder}。</p>
  *
  * @author 易文渊
  * @since 2024-04-25
@@ -31,11 +34,17 @@ public class DefaultStringTemplate implements StringTemplate {
     private static final ParameterizedStringResolver FORMATTER =
             ParameterizedStringResolver.create("{{", "}}", '\\', false);
 
-    private final ParameterizedString parameterizedString;
-
     private final Set<String> placeholder;
 
-    private final Map<String, Supplier<String>> builtin;
+    /** 表示模板中的文本片段，数量比占位符多一个，第 {@code i} 个占位符位于第 {@code i} 和第 {@code i + 1} 个片段之间。 */
+    private final String[] literals;
+
+    private final String[] names;
+
+    /** 表示每个占位符的内置取值，为 {@code null} 时从渲染参数中取值。 */
+    private final Supplier<String>[] builtin;
+
+    private final int literalLength;
 
     /**
      * 使用 mustache 模板语法创建 {@link DefaultStringTemplate}。
@@ -44,12 +53,26 @@ public class DefaultStringTemplate implements StringTemplate {
      * @see <a href="https://mustache.github.io/">mustache</a>。
      */
     public DefaultStringTemplate(String template) {
-        this.parameterizedString = FORMATTER.resolve(template);
-        this.placeholder = this.parameterizedString.getParameters()
+        ParameterizedString parameterizedString = FORMATTER.resolve(template);
+        List<ResolvedParameter> parameters = parameterizedString.getParameters()
                 .stream()
-                .map(ResolvedParameter::getName)
-                .collect(Collectors.toSet());
-        this.builtin = new HashMap<>();
+                .sorted(Comparator.comparingInt(ResolvedParameter::getPosition))
+                .collect(Collectors.toList());
+        this.placeholder = parameters.stream().map(ResolvedParameter::getName).collect(Collectors.toSet());
+        this.literals = new String[parameters.size() + 1];
+        this.names = new String[parameters.size()];
+        this.builtin = ObjectUtils.cast(new Supplier[parameters.size()]);
+        int index = 0;
+        int length = 0;
+        for (int i = 0; i < parameters.size(); i++) {
+            ResolvedParameter parameter = parameters.get(i);
+            this.literals[i] = unescape(template, index, parameter.getPosition());
+            this.names[i] = parameter.getName();
+            length += this.literals[i].length();
+            index = parameter.getPosition() + parameter.getLength();
+        }
+        this.literals[parameters.size()] = unescape(template, index, template.length());
+        this.literalLength = length + this.literals[parameters.size()].length();
     }
 
     /**
@@ -74,21 +97,79 @@ public class DefaultStringTemplate implements StringTemplate {
     public DefaultStringTemplate partial(String key, Supplier<String> supplier) {
         Validation.isTrue(this.placeholder.contains(key), "The template not contained '{0}'", key);
         this.placeholder.remove(key);
-        this.builtin.put(key, supplier);
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i].equals(key)) {
+                this.builtin[i] = supplier;
+            }
+        }
         return this;
     }
 
     @Override
     public String render(Map<String, String> values) {
-        Map<String, String> builtinValues =
-                this.builtin.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
-        return this.parameterizedString.format(MapUtils.merge(values,
-                builtinValues,
-                ConflictResolutionPolicy.OVERRIDE));
+        if (this.names.length == 0) {
+            return this.literals[0];
+        }
+        String[] resolved = this.resolve(values);
+        int length = this.literalLength;
+        for (String value : resolved) {
+            length += value.length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        this.write(resolved, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void render(Map<String, String> values, StringBuilder builder) {
+        if (this.names.length == 0) {
+            builder.append(this.literals[0]);
+            return;
+        }
+        this.write(this.resolve(values), builder);
     }
 
     @Override
     public Set<String> placeholder() {
         return Collections.unmodifiableSet(this.placeholder);
     }
-}
\ No newline at end of file
+
+    private String[] resolve(Map<String, String> values) {
+        Map<String, String> actual = ObjectUtils.nullIf(values, Collections.emptyMap());
+        String[] resolved = new String[this.names.length];
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.builtin[i] != null) {
+                resolved[i] = StringUtils.normalize(this.builtin[i].get());
+            } else if (actual.containsKey(this.names[i])) {
+                resolved[i] = StringUtils.normalize(actual.get(this.names[i]));
+            } else {
+                throw new StringFormatException(StringUtils.format("Parameter '{0}' required but not supplied.",
+                        this.names[i]));
+            }
+        }
+        return resolved;
+    }
+
+    private void write(String[] resolved, StringBuilder builder) {
+        for (int i = 0; i < resolved.length; i++) {
+            builder.append(this.literals[i]).append(resolved[i]);
+        }
+        builder.append(this.literals[resolved.length]);
+    }
+
+    private static String unescape(String template, int from, int to) {
+        int escape = template.indexOf('\\', from);
+        if (escape < 0 || escape >= to) {
+            return template.substring(from, to);
+        }
+        StringBuilder builder = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char ch = template.charAt(i);
+            if (ch == '\\' && i + 1 < to) {
+                ch = template.charAt(++i);
+            }
+            builder.append(ch);
+        }
+        return builder.toString();
+    }
+}
@@ -6,6 +6,7 @@
 
 package modelengine.fel.core.tokenizer;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -38,4 +39,26 @@ public interface Tokenizer {
      * @return 表示分词数的 {@code int}。
      */
     int countToken(String text);
-}
\ No newline at end of file
+
+    /**
+     * 对给定的字符串进行分词，并返回每个分词在字符串中的结束位置。
+     * <p>默认实现逐个解码分词结果并累计长度，解码结果与原字符串长度不一致时，最后一个分词的结束位置对齐到字符串末尾。能够直接得到分词
+     * 位置的实现应当覆盖该方法。</p>
+     *
+     * @param text 表示需要进行分词字符串的 {@link String}。
+     * @return 表示每个分词结束位置（不包含）的 {@code int[]}，长度与分词数一致且单调不减。
+     */
+    default int[] boundaries(String text) {
+        List<Integer> tokens = this.encode(text);
+        int[] boundaries = new int[tokens.size()];
+        int offset = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            offset = Math.min(offset + this.decode(Collections.singletonList(tokens.get(i))).length(), text.length());
+            boundaries[i] = offset;
+        }
+        if (boundaries.length > 0) {
+            boundaries[boundaries.length - 1] = text.length();
+        }
+        return boundaries;
+    }
+}
@@ -41,4 +41,110 @@ public final class MathUtils {
         Validation.isFalse(Double.isNaN(result), "The result is NaN.");
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * 将向量转换为基本类型的数组。
+     *
+     * @param vector 表示向量的 {@link List}{@code <}{@link Float}{@code >}。
+     * @return 表示向量数组的 {@code float[]}。
+     */
+    public static float[] toArray(List<Float> vector) {
+        Validation.notNull(vector, "The vector cannot be null.");
+        float[] result = new float[vector.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = vector.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 计算两个向量的余弦相似度，计算结果与 {@link #cosineSimilarity(List, List)} 完全一致。
+     *
+     * @param x 表示第一个向量的 {@code float[]}。
+     * @param y 表示第二个向量的 {@code float[]}。
+     * @return 表示两个向量余弦相似度的 {@code double}。
+     */
+    public static double cosineSimilarity(float[] x, float[] y) {
+        Validation.isTrue(x != null && y != null, "The vector cannot be null.");
+        Validation.equals(x.length, y.length, "The vector sharpe cannot be equal.");
+        double result = preciseDotProduct(x, 0, y, 0, x.length) / (norm(x) * norm(y));
+        Validation.isFalse(Double.isNaN(result), "The result is NaN.");
+        return result;
+    }
+
+    /**
+     * 计算两个向量指定区间的点积，使用单精度累加。
+     * <p>循环展开为 4 路独立累加以提高指令级并行度，累加顺序与逐项累加不同，结果可能存在舍入误差，适用于近似检索。</p>
+     *
+     * @param x 表示第一个向量所在数组的 {@code float[]}。
+     * @param xOffset 表示第一个向量在数组中起始位置的 {@code int}。
+     * @param y 表示第二个向量所在数组的 {@code float[]}。
+     * @param yOffset 表示第二个向量在数组中起始位置的 {@code int}。
+     * @param length 表示向量维度的 {@code int}。
+     * @return 表示两个向量点积的 {@code float}。
+     */
+    public static float dotProduct(float[] x, int xOffset, float[] y, int yOffset, int length) {
+        float sum0 = 0.0f;
+        float sum1 = 0.0f;
+        float sum2 = 0.0f;
+        float sum3 = 0.0f;
+        int bound = length & ~3;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            sum0 += x[xOffset + i] * y[yOffset + i];
+            sum1 += x[xOffset + i + 1] * y[yOffset + i + 1];
+            sum2 += x[xOffset + i + 2] * y[yOffset + i + 2];
+            sum3 += x[xOffset + i + 3] * y[yOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += x[xOffset + i] * y[yOffset + i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * 计算两个向量指定区间的点积，使用双精度按维度顺序累加。
+     * <p>循环展开为每次处理 4 个维度，但保持逐项累加的顺序，因此结果与 {@link #cosineSimilarity(List, List)} 中的点积完全一致。</p>
+     *
+     * @param x 表示第一个向量所在数组的 {@code float[]}。
+     * @param xOffset 表示第一个向量在数组中起始位置的 {@code int}。
+     * @param y 表示第二个向量所在数组的 {@code float[]}。
+     * @param yOffset 表示第二个向量在数组中起始位置的 {@code int}。
+     * @param length 表示向量维度的 {@code int}。
+     * @return 表示两个向量点积的 {@code double}。
+     */
+    public static double preciseDotProduct(float[] x, int xOffset, float[] y, int yOffset, int length) {
+        double result = 0.0d;
+        int bound = length & ~3;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            float p0 = x[xOffset + i] * y[yOffset + i];
+            float p1 = x[xOffset + i + 1] * y[yOffset + i + 1];
+            float p2 = x[xOffset + i + 2] * y[yOffset + i + 2];
+            float p3 = x[xOffset + i + 3] * y[yOffset + i + 3];
+            result += p0;
+            result += p1;
+            result += p2;
+            result += p3;
+        }
+        for (; i < length; i++) {
+            result += x[xOffset + i] * y[yOffset + i];
+        }
+        return result;
+    }
+
+    /**
+     * 计算向量的模长。
+     *
+     * @param x 表示向量的 {@code float[]}。
+     * @return 表示向量模长的 {@code double}。
+     */
+    public static double norm(float[] x) {
+        Validation.notNull(x, "The vector cannot be null.");
+        double result = 0.0d;
+        for (float value : x) {
+            result += value * value;
+        }
+        return Math.sqrt(result);
+    }
+}
@@ -0,0 +1,84 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore;
+
+import modelengine.fitframework.pattern.builder.BuilderFactory;
+
+/**
+ * 表示 HNSW 近似最近邻索引的参数。
+ * <p>未设置的参数使用默认值：{@code m} 为 16，{@code efConstruction} 为 200，{@code efSearch} 为 64。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface HnswOption {
+    /**
+     * 获取每个节点在非底层图中的最大邻居数量，底层图的最大邻居数量为其两倍。
+     *
+     * @return 表示最大邻居数量的 {@link Integer}。
+     */
+    Integer m();
+
+    /**
+     * 获取构建索引时动态候选列表的大小。
+     *
+     * @return 表示构建时候选列表大小的 {@link Integer}。
+     */
+    Integer efConstruction();
+
+    /**
+     * 获取检索时动态候选列表的大小，实际使用的大小不小于检索返回数量。
+     *
+     * @return 表示检索时候选列表大小的 {@link Integer}。
+     */
+    Integer efSearch();
+
+    /**
+     * 表示 {@link HnswOption} 的构建器。
+     */
+    interface Builder {
+        /**
+         * 设置每个节点在非底层图中的最大邻居数量。
+         *
+         * @param m 表示最大邻居数量的 {@link Integer}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder m(Integer m);
+
+        /**
+         * 设置构建索引时动态候选列表的大小。
+         *
+         * @param efConstruction 表示构建时候选列表大小的 {@link Integer}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder efConstruction(Integer efConstruction);
+
+        /**
+         * 设置检索时动态候选列表的大小。
+         *
+         * @param efSearch 表示检索时候选列表大小的 {@link Integer}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder efSearch(Integer efSearch);
+
+        /**
+         * 构建 {@link HnswOption} 的实例。
+         *
+         * @return 表示构建成功的 {@link HnswOption}。
+         */
+        HnswOption build();
+    }
+
+    /**
+     * 获取 {@link Builder} 的实例。
+     *
+     * @return 表示构建器实例的 {@link Builder}。
+     */
+    static Builder custom() {
+        return BuilderFactory.get(HnswOption.class, HnswOption.Builder.class).create(null);
+    }
+}
@@ -0,0 +1,99 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore;
+
+import modelengine.fitframework.pattern.builder.BuilderFactory;
+
+/**
+ * 表示内存向量存储中嵌入向量量化的参数。
+ * <p>开启量化后，检索先使用量化编码近似打分，选出 {@code topK * oversampling} 个候选，再使用全精度向量对候选精确重排。未设置的
+ * 参数使用默认值：{@code type} 为 {@link Type#NONE}，{@code subspaces} 为维度的八分之一，{@code oversampling} 为 8。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface QuantizationOption {
+    /**
+     * 获取量化的类型。
+     *
+     * @return 表示量化类型的 {@link Type}。
+     */
+    Type type();
+
+    /**
+     * 获取乘积量化中子空间的数量，每个子空间使用一个字节编码。
+     *
+     * @return 表示子空间数量的 {@link Integer}。
+     */
+    Integer subspaces();
+
+    /**
+     * 获取近似打分阶段候选数量相对于检索返回数量的倍数。
+     *
+     * @return 表示候选数量倍数的 {@link Integer}。
+     */
+    Integer oversampling();
+
+    /**
+     * 表示量化的类型。
+     */
+    enum Type {
+        /** 不量化，全量精确打分。 */
+        NONE,
+
+        /** 标量量化，每个维度使用一个 {@code int8} 编码。 */
+        SCALAR,
+
+        /** 乘积量化，每个子空间使用一个聚类中心的编号编码。 */
+        PRODUCT
+    }
+
+    /**
+     * 表示 {@link QuantizationOption} 的构建器。
+     */
+    interface Builder {
+        /**
+         * 设置量化的类型。
+         *
+         * @param type 表示量化类型的 {@link Type}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder type(Type type);
+
+        /**
+         * 设置乘积量化中子空间的数量。
+         *
+         * @param subspaces 表示子空间数量的 {@link Integer}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder subspaces(Integer subspaces);
+
+        /**
+         * 设置近似打分阶段候选数量相对于检索返回数量的倍数。
+         *
+         * @param oversampling 表示候选数量倍数的 {@link Integer}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder oversampling(Integer oversampling);
+
+        /**
+         * 构建 {@link QuantizationOption} 的实例。
+         *
+         * @return 表示构建成功的 {@link QuantizationOption}。
+         */
+        QuantizationOption build();
+    }
+
+    /**
+     * 获取 {@link Builder} 的实例。
+     *
+     * @return 表示构建器实例的 {@link Builder}。
+     */
+    static Builder custom() {
+        return BuilderFactory.get(QuantizationOption.class, QuantizationOption.Builder.class).create(null);
+    }
+}
@@ -0,0 +1,482 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.isFalse;
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.retriever.filter.ExpressionCompiler;
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.util.MathUtils;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * 表示精确检索的向量索引。
+ * <p>所有向量连续存放在一个 {@code float[]} 中，模长在插入时预先计算。检索时逐个计算余弦相似度，使用有界最小堆选择评分最高的
+ * 若干向量；当向量数量较多时，按分区并行扫描后合并各分区的结果。相似度的计算方式与
+ * {@link MathUtils#cosineSimilarity(java.util.List, java.util.List)} 完全一致，因此排序结果与逐个比较后全量排序相同。</p>
+ * <p>检索时可以指定元数据过滤器：过滤器先通过元数据的倒排索引裁剪候选位置，再在打分前校验每个候选位置的元数据，因此只有
+ * 满足条件的向量参与打分。</p>
+ * <p>索引可以配置 {@link VectorQuantizer}：量化器可用后，检索先使用量化编码近似打分，选出 {@code topK * oversampling} 个
+ * 候选，再使用全精度向量对候选精确重排，返回的相似度仍然是精确值。</p>
+ * <p>删除时使用最后一个向量填补被删除的位置，保持存储的连续。索引通过读写锁保证线程安全。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class ExactVectorIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int PARTITION_SIZE = 8192;
+    private static final int VERSION = 1;
+
+    /**
+     * 表示索引二进制格式的魔数。
+     */
+    static final int MAGIC = 0x45564958;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final MetadataIndex metadataIndex = new MetadataIndex();
+    private final VectorQuantizer quantizer;
+    private final int oversampling;
+
+    private int dimension;
+    private int size;
+    private float[] vectors = new float[0];
+    private double[] norms = new double[0];
+    private String[] ids = new String[0];
+    private Map<String, Object>[] metadata = ObjectUtils.cast(new Map[0]);
+
+    /**
+     * 创建不量化的 {@link ExactVectorIndex} 的实例。
+     */
+    ExactVectorIndex() {
+        this(null, 1);
+    }
+
+    /**
+     * 创建 {@link ExactVectorIndex} 的实例。
+     *
+     * @param quantizer 表示向量量化器的 {@link VectorQuantizer}，为 {@code null} 时不量化。
+     * @param oversampling 表示近似打分阶段候选数量相对于检索返回数量的倍数的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code oversampling} 不为正数时。
+     */
+    ExactVectorIndex(VectorQuantizer quantizer, int oversampling) {
+        this.quantizer = quantizer;
+        this.oversampling = greaterThan(oversampling, 0,
+                "The oversampling must be positive. [oversampling={0}]",
+                oversampling);
+    }
+
+    /**
+     * 插入一个向量，若唯一标识已经存在，则替换原有的向量。
+     *
+     * @param id 表示向量唯一标识的 {@link String}。
+     * @param vector 表示向量的 {@code float[]}。
+     * @param metadata 表示向量元数据的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     * @throws IllegalArgumentException 当 {@code id} 为空白字符串或 {@code vector} 的维度与索引不一致时。
+     */
+    void add(String id, float[] vector, Map<String, Object> metadata) {
+        notBlank(id, "The vector id cannot be blank.");
+        notNull(vector, "The vector cannot be null.");
+        double norm = MathUtils.norm(vector);
+        this.lock.writeLock().lock();
+        try {
+            if (this.size == 0 && this.dimension != vector.length) {
+                this.dimension = vector.length;
+                this.vectors = new float[this.ids.length * this.dimension];
+                if (this.quantizer != null) {
+                    this.quantizer.clear();
+                }
+            }
+            this.checkDimension(vector);
+            Integer position = this.positions.get(id);
+            if (position == null) {
+                this.ensureCapacity(this.size + 1);
+                position = this.size++;
+                this.positions.put(id, position);
+                this.ids[position] = id;
+            } else {
+                this.metadataIndex.remove(position, this.metadata[position]);
+            }
+            System.arraycopy(vector, 0, this.vectors, position * this.dimension, this.dimension);
+            this.norms[position] = norm;
+            this.metadata[position] = metadata;
+            this.metadataIndex.add(position, metadata);
+            if (this.quantizer == null) {
+                return;
+            }
+            if (this.quantizer.isTrained()) {
+                this.quantizer.encode(position, this.normalized(position));
+            } else {
+                this.trainIfNecessary();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 删除指定唯一标识的向量。
+     *
+     * @param id 表示向量唯一标识的 {@link String}。
+     * @return 若向量存在并被删除，则返回 {@code true}，否则返回 {@code false}。
+     */
+    boolean remove(String id) {
+        this.lock.writeLock().lock();
+        try {
+            Integer position = this.positions.remove(id);
+            if (position == null) {
+                return false;
+            }
+            int last = --this.size;
+            this.metadataIndex.remove(position, this.metadata[position]);
+            if (position != last) {
+                System.arraycopy(this.vectors, last * this.dimension, this.vectors, position * this.dimension,
+                        this.dimension);
+                this.norms[position] = this.norms[last];
+                this.ids[position] = this.ids[last];
+                this.metadata[position] = this.metadata[last];
+                this.positions.put(this.ids[position], position);
+                this.metadataIndex.remove(last, this.metadata[last]);
+                this.metadataIndex.add(position, this.metadata[position]);
+                if (this.quantizer != null && this.quantizer.isTrained()) {
+                    this.quantizer.move(last, position);
+                }
+            }
+            this.ids[last] = null;
+            this.metadata[last] = null;
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 获取指定唯一标识的向量。
+     *
+     * @param id 表示向量唯一标识的 {@link String}。
+     * @return 表示向量副本的 {@code float[]}，若向量不存在，则返回 {@code null}。
+     */
+    float[] get(String id) {
+        this.lock.readLock().lock();
+        try {
+            Integer position = this.positions.get(id);
+            if (position == null) {
+                return null;
+            }
+            int offset = position * this.dimension;
+            return Arrays.copyOfRange(this.vectors, offset, offset + this.dimension);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 检索与查询向量余弦相似度最高的向量。
+     *
+     * @param query 表示查询向量的 {@code float[]}。
+     * @param topK 表示检索返回数量的 {@code int}。
+     * @param filter 表示元数据过滤器的 {@link Filter}，为 {@code null} 时不过滤。
+     * @return 表示按相似度降序排列的检索结果的 {@link List}{@code <}{@link Neighbor}{@code >}。
+     * @throws IllegalArgumentException 当 {@code query} 的维度与索引不一致、相似度无法计算或过滤器不合法时。
+     */
+    List<Neighbor> search(float[] query, int topK, Filter filter) {
+        notNull(query, "The query vector cannot be null.");
+        double queryNorm = MathUtils.norm(query);
+        Predicate<Map<String, Object>> predicate =
+                filter == null ? null : ExpressionCompiler.compile(filter.expression());
+        this.lock.readLock().lock();
+        try {
+            if (topK <= 0 || this.size == 0) {
+                return Collections.emptyList();
+            }
+            this.checkDimension(query);
+            BitSet candidates = filter == null ? null : this.metadataIndex.candidates(filter.expression());
+            IntToDoubleFunction exact = position -> MathUtils.preciseDotProduct(query, 0, this.vectors,
+                    position * this.dimension, this.dimension) / (queryNorm * this.norms[position]);
+            int k = Math.min(topK, this.size);
+            int work = candidates == null ? this.size : candidates.cardinality();
+            TopKHeap heap;
+            if (this.quantizer == null || !this.quantizer.isTrained() || (long) k * this.oversampling >= work) {
+                heap = this.scan(new Scan(k, candidates, predicate, exact), work);
+            } else {
+                IntToDoubleFunction approximate = this.quantizer.scorer(normalize(query, queryNorm));
+                TopKHeap approximated = this.scan(new Scan(k * this.oversampling, candidates, predicate,
+                        approximate), work);
+                double[] approximateScores = new double[approximated.size()];
+                int[] reranked = new int[approximated.size()];
+                approximated.drainTo(approximateScores, reranked);
+                heap = new TopKHeap(k);
+                for (int position : reranked) {
+                    heap.offer(checkScore(exact.applyAsDouble(position)), position);
+                }
+            }
+            double[] scores = new double[heap.size()];
+            int[] selected = new int[heap.size()];
+            heap.drainTo(scores, selected);
+            List<Neighbor> neighbors = new ArrayList<>(selected.length);
+            for (int i = 0; i < selected.length; i++) {
+                neighbors.add(new Neighbor(this.ids[selected[i]], scores[i]));
+            }
+            return neighbors;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 获取索引中向量的数量。
+     *
+     * @return 表示向量数量的 {@code int}。
+     */
+    int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 为从二进制格式读取的索引恢复向量的元数据，二进制格式中不包含元数据。
+     *
+     * @param metadataProvider 表示根据向量唯一标识获取元数据的 {@link Function}。
+     */
+    void restoreMetadata(Function<String, Map<String, Object>> metadataProvider) {
+        this.lock.writeLock().lock();
+        try {
+            this.metadataIndex.clear();
+            for (int position = 0; position < this.size; position++) {
+                this.metadata[position] = metadataProvider.apply(this.ids[position]);
+                this.metadataIndex.add(position, this.metadata[position]);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 将索引以二进制格式写入输出，包括全精度向量和量化器的训练结果与编码。
+     *
+     * @param out 表示输出的 {@link DataOutput}。
+     * @throws IOException 当写入过程中发生输入输出异常时。
+     */
+    void write(DataOutput out) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.dimension);
+            out.writeInt(this.size);
+            for (int position = 0; position < this.size; position++) {
+                out.writeUTF(this.ids[position]);
+                int offset = position * this.dimension;
+                for (int i = 0; i < this.dimension; i++) {
+                    out.writeFloat(this.vectors[offset + i]);
+                }
+            }
+            if (this.quantizer == null || !this.quantizer.isTrained()) {
+                out.writeInt(-1);
+                return;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            this.quantizer.write(new DataOutputStream(buffer), this.size);
+            out.writeInt(this.quantizer.type().ordinal());
+            out.writeInt(buffer.size());
+            out.write(buffer.toByteArray());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 从二进制格式的输入中读取索引。
+     * <p>若输入中量化器的类型与 {@code quantizer} 一致，则直接复用其训练结果和编码，否则使用全精度向量重新训练和编码。</p>
+     *
+     * @param in 表示输入的 {@link DataInput}。
+     * @param quantizer 表示向量量化器的 {@link VectorQuantizer}，为 {@code null} 时不量化。
+     * @param oversampling 表示近似打分阶段候选数量相对于检索返回数量的倍数的 {@code int}。
+     * @return 表示读取成功的索引的 {@link ExactVectorIndex}。
+     * @throws IOException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    static ExactVectorIndex read(DataInput in, VectorQuantizer quantizer, int oversampling) throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException(StringUtils.format("Unsupported vector index format. [magic={0}, version={1}]",
+                    Integer.toHexString(magic),
+                    version));
+        }
+        ExactVectorIndex index = new ExactVectorIndex(quantizer, oversampling);
+        index.dimension = in.readInt();
+        int size = in.readInt();
+        index.ensureCapacity(size);
+        for (int position = 0; position < size; position++) {
+            String id = in.readUTF();
+            index.ids[position] = id;
+            index.positions.put(id, position);
+            int offset = position * index.dimension;
+            for (int i = 0; i < index.dimension; i++) {
+                index.vectors[offset + i] = in.readFloat();
+            }
+            index.norms[position] = Math.sqrt(MathUtils.preciseDotProduct(index.vectors, offset, index.vectors, offset,
+                    index.dimension));
+        }
+        index.size = size;
+        int type = in.readInt();
+        if (type < 0) {
+            index.trainIfNecessary();
+            return index;
+        }
+        byte[] section = new byte[in.readInt()];
+        in.readFully(section);
+        if (quantizer != null && quantizer.type().ordinal() == type) {
+            quantizer.read(new DataInputStream(new ByteArrayInputStream(section)), size);
+        } else {
+            index.trainIfNecessary();
+        }
+        return index;
+    }
+
+    private void trainIfNecessary() {
+        if (this.quantizer == null || this.size == 0) {
+            return;
+        }
+        if (!this.quantizer.isTrained()) {
+            if (this.size < this.quantizer.trainingSize()) {
+                return;
+            }
+            int count = Math.min(this.size, Math.max(1, this.quantizer.trainingSize()));
+            float[][] samples = new float[count][];
+            for (int i = 0; i < count; i++) {
+                samples[i] = this.normalized((int) ((long) i * this.size / count));
+            }
+            this.quantizer.train(samples);
+        }
+        for (int position = 0; position < this.size; position++) {
+            this.quantizer.encode(position, this.normalized(position));
+        }
+    }
+
+    private float[] normalized(int position) {
+        float[] vector = Arrays.copyOfRange(this.vectors, position * this.dimension, (position + 1) * this.dimension);
+        return normalize(vector, this.norms[position]);
+    }
+
+    private TopKHeap scan(Scan scan, int work) {
+        if (work <= PARTITION_SIZE) {
+            return this.scan(scan, 0, this.size);
+        }
+        int partitions = (this.size + PARTITION_SIZE - 1) / PARTITION_SIZE;
+        return IntStream.range(0, partitions)
+                .parallel()
+                .mapToObj(partition -> this.scan(scan, partition * PARTITION_SIZE,
+                        Math.min(this.size, (partition + 1) * PARTITION_SIZE)))
+                .reduce(TopKHeap::merge)
+                .orElseGet(() -> new TopKHeap(scan.k));
+    }
+
+    private TopKHeap scan(Scan scan, int from, int to) {
+        TopKHeap heap = new TopKHeap(scan.k);
+        if (scan.candidates == null) {
+            for (int position = from; position < to; position++) {
+                this.score(scan, heap, position);
+            }
+        } else {
+            for (int position = scan.candidates.nextSetBit(from); position >= 0 && position < to;
+                    position = scan.candidates.nextSetBit(position + 1)) {
+                this.score(scan, heap, position);
+            }
+        }
+        return heap;
+    }
+
+    private void score(Scan scan, TopKHeap heap, int position) {
+        if (scan.predicate != null && !scan.predicate.test(this.metadata[position])) {
+            return;
+        }
+        heap.offer(checkScore(scan.scorer.applyAsDouble(position)), position);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.ids.length) {
+            return;
+        }
+        int actual = Math.max(Math.max(INITIAL_CAPACITY, this.ids.length + (this.ids.length >> 1)), capacity);
+        this.vectors = Arrays.copyOf(this.vectors, actual * this.dimension);
+        this.norms = Arrays.copyOf(this.norms, actual);
+        this.ids = Arrays.copyOf(this.ids, actual);
+        this.metadata = Arrays.copyOf(this.metadata, actual);
+    }
+
+    private static double checkScore(double score) {
+        isFalse(Double.isNaN(score), "The result is NaN.");
+        return score;
+    }
+
+    private static float[] normalize(float[] vector, double norm) {
+        float[] normalized = new float[vector.length];
+        if (norm > 0) {
+            for (int i = 0; i < vector.length; i++) {
+                normalized[i] = (float) (vector[i] / norm);
+            }
+        }
+        return normalized;
+    }
+
+    private void checkDimension(float[] vector) {
+        isTrue(vector.length == this.dimension,
+                "The vector sharpe cannot be equal. [expected={0}, actual={1}]",
+                this.dimension,
+                vector.length);
+    }
+
+    /**
+     * 表示一次检索的参数。
+     */
+    private static final class Scan {
+        private final int k;
+        private final BitSet candidates;
+        private final Predicate<Map<String, Object>> predicate;
+        private final IntToDoubleFunction scorer;
+
+        private Scan(int k, BitSet candidates, Predicate<Map<String, Object>> predicate,
+                IntToDoubleFunction scorer) {
+            this.k = k;
+            this.candidates = candidates;
+            this.predicate = predicate;
+            this.scorer = scorer;
+        }
+    }
+}
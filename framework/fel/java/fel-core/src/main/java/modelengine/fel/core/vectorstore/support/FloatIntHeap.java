@@ -0,0 +1,122 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import java.util.Arrays;
+
+/**
+ * 表示以 {@code float} 为键、{@code int} 为值的二叉最小堆。
+ * <p>使用基本类型数组存储，避免检索热路径上的装箱开销；需要最大堆时，以键的相反数入堆即可。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class FloatIntHeap {
+    private float[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * 使用初始容量创建 {@link FloatIntHeap} 的实例。
+     *
+     * @param capacity 表示初始容量的 {@code int}。
+     */
+    FloatIntHeap(int capacity) {
+        int actual = Math.max(capacity, 1);
+        this.keys = new float[actual];
+        this.values = new int[actual];
+    }
+
+    /**
+     * 将键值对放入堆中。
+     *
+     * @param key 表示键的 {@code float}。
+     * @param value 表示值的 {@code int}。
+     */
+    void push(float key, int value) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size << 1);
+            this.values = Arrays.copyOf(this.values, this.size << 1);
+        }
+        int index = this.size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (this.keys[parent] <= key) {
+                break;
+            }
+            this.keys[index] = this.keys[parent];
+            this.values[index] = this.values[parent];
+            index = parent;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+    }
+
+    /**
+     * 移除堆顶元素。
+     */
+    void pop() {
+        int last = --this.size;
+        if (last == 0) {
+            return;
+        }
+        float key = this.keys[last];
+        int value = this.values[last];
+        int index = 0;
+        int half = last >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            if (child + 1 < last && this.keys[child + 1] < this.keys[child]) {
+                child++;
+            }
+            if (key <= this.keys[child]) {
+                break;
+            }
+            this.keys[index] = this.keys[child];
+            this.values[index] = this.values[child];
+            index = child;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+    }
+
+    /**
+     * 获取堆顶元素的键。
+     *
+     * @return 表示堆顶元素键的 {@code float}。
+     */
+    float peekKey() {
+        return this.keys[0];
+    }
+
+    /**
+     * 获取堆顶元素的值。
+     *
+     * @return 表示堆顶元素值的 {@code int}。
+     */
+    int peekValue() {
+        return this.values[0];
+    }
+
+    /**
+     * 获取堆中元素的数量。
+     *
+     * @return 表示元素数量的 {@code int}。
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 判断堆是否为空。
+     *
+     * @return 若堆为空，则返回 {@code true}，否则返回 {@code false}。
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+}
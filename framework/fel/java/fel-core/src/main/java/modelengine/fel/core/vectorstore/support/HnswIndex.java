@@ -0,0 +1,581 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.retriever.filter.ExpressionCompiler;
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.util.MathUtils;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 表示基于分层可导航小世界图（HNSW）的近似最近邻索引。
+ * <p>所有向量在插入时归一化，并连续存放在一个 {@code float[]} 中，节点间的距离为 {@code 1 - 余弦相似度}。每个节点在每一层的邻居
+ * 列表使用 {@code int[]} 存储，其中第 0 个元素为邻居数量。删除采用标记删除，被删除的节点仍参与图的导航，但不会出现在检索结果中；
+ * 当被删除的节点数量超过有效节点数量时，索引会使用有效节点重建。</p>
+ * <p>检索时可以指定元数据过滤器：当元数据倒排索引给出的候选节点较少时，直接对候选节点精确打分；否则在图上检索，只将满足
+ * 条件的节点加入结果，不满足条件的节点仍用于导航。</p>
+ * <p>索引通过读写锁保证线程安全，检索可以并发进行，插入和删除互斥进行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class HnswIndex {
+    private static final int MAGIC = 0x484E5357;
+    private static final int VERSION = 1;
+    private static final long SEED = 100L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int COMPACT_THRESHOLD = 64;
+    private static final int EXHAUSTIVE_THRESHOLD = 4096;
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelFactor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> nodes = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final Random random = new Random(SEED);
+    private final MetadataIndex metadataIndex = new MetadataIndex();
+
+    private int dimension;
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private float[] vectors = new float[0];
+    private int[][][] links = new int[0][][];
+    private String[] ids = new String[0];
+    private Map<String, Object>[] metadata = ObjectUtils.cast(new Map[0]);
+
+    /**
+     * 创建 {@link HnswIndex} 的实例。
+     *
+     * @param m 表示每个节点在非底层图中最大邻居数量的 {@code int}。
+     * @param efConstruction 表示构建索引时动态候选列表大小的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code m} 小于 2 或 {@code efConstruction} 不是正数时。
+     */
+    HnswIndex(int m, int efConstruction) {
+        this.m = greaterThanOrEquals(m, 2, "The hnsw m must be at least 2. [m={0}]", m);
+        this.maxM0 = m << 1;
+        this.efConstruction = greaterThan(efConstruction, 0,
+                "The hnsw efConstruction must be positive. [efConstruction={0}]",
+                efConstruction);
+        this.levelFactor = 1 / Math.log(m);
+    }
+
+    /**
+     * 插入一个向量，若唯一标识已经存在，则替换原有的向量。
+     *
+     * @param id 表示向量唯一标识的 {@link String}。
+     * @param vector 表示向量的 {@code float[]}。
+     * @param metadata 表示向量元数据的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     * @throws IllegalArgumentException 当 {@code id} 为空白字符串、{@code vector} 为零向量或维度与索引不一致时。
+     */
+    void add(String id, float[] vector, Map<String, Object> metadata) {
+        notBlank(id, "The vector id cannot be blank.");
+        float[] normalized = normalize(vector);
+        this.lock.writeLock().lock();
+        try {
+            if (this.dimension == 0) {
+                this.dimension = normalized.length;
+            }
+            this.checkDimension(normalized);
+            Integer old = this.nodes.get(id);
+            if (old != null) {
+                this.markDeleted(old);
+            }
+            int node = this.allocate(id, normalized, 0, metadata);
+            this.nodes.put(id, node);
+            this.insert(node);
+            this.compactIfNecessary();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 删除指定唯一标识的向量。
+     *
+     * @param id 表示向量唯一标识的 {@link String}。
+     * @return 若向量存在并被删除，则返回 {@code true}，否则返回 {@code false}。
+     */
+    boolean remove(String id) {
+        this.lock.writeLock().lock();
+        try {
+            Integer node = this.nodes.remove(id);
+            if (node == null) {
+                return false;
+            }
+            this.markDeleted(node);
+            this.compactIfNecessary();
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 检索与查询向量最相似的向量。
+     *
+     * @param query 表示查询向量的 {@code float[]}。
+     * @param topK 表示检索返回数量的 {@code int}。
+     * @param efSearch 表示检索时动态候选列表大小的 {@code int}，实际使用的大小不小于 {@code topK}。
+     * @param filter 表示元数据过滤器的 {@link Filter}，为 {@code null} 时不过滤。
+     * @return 表示按相似度降序排列的检索结果的 {@link List}{@code <}{@link Neighbor}{@code >}。
+     * @throws IllegalArgumentException 当 {@code query} 为零向量、维度与索引不一致或过滤器不合法时。
+     */
+    List<Neighbor> search(float[] query, int topK, int efSearch, Filter filter) {
+        float[] normalized = normalize(query);
+        Predicate<Map<String, Object>> predicate =
+                filter == null ? null : ExpressionCompiler.compile(filter.expression());
+        this.lock.readLock().lock();
+        try {
+            if (topK <= 0 || this.nodes.isEmpty()) {
+                return Collections.emptyList();
+            }
+            this.checkDimension(normalized);
+            BitSet allowed = filter == null ? null : this.metadataIndex.candidates(filter.expression());
+            if (allowed != null && allowed.cardinality() <= Math.max(EXHAUSTIVE_THRESHOLD, this.nodes.size() / 10)) {
+                return this.exhaustiveSearch(normalized, topK, allowed, predicate);
+            }
+            int current = this.entryPoint;
+            for (int level = this.maxLevel; level > 0; level--) {
+                current = this.greedySearch(normalized, 0, current, level);
+            }
+            IntPredicate accept = node -> !this.deleted.get(node) && (allowed == null || allowed.get(node))
+                    && (predicate == null || predicate.test(this.metadata[node]));
+            Candidates candidates = this.searchLayer(normalized, 0, current, Math.max(efSearch, topK), 0, accept);
+            int count = Math.min(topK, candidates.size);
+            List<Neighbor> neighbors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int node = candidates.nodes[i];
+                neighbors.add(new Neighbor(this.ids[node], 1 - candidates.distances[i]));
+            }
+            return neighbors;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 为从二进制格式读取的索引恢复有效向量的元数据，二进制格式中不包含元数据。
+     *
+     * @param metadataProvider 表示根据向量唯一标识获取元数据的 {@link Function}。
+     */
+    void restoreMetadata(Function<String, Map<String, Object>> metadataProvider) {
+        this.lock.writeLock().lock();
+        try {
+            this.metadataIndex.clear();
+            this.nodes.forEach((id, node) -> {
+                this.metadata[node] = metadataProvider.apply(id);
+                this.metadataIndex.add(node, this.metadata[node]);
+            });
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 获取索引中有效向量的数量。
+     *
+     * @return 表示有效向量数量的 {@code int}。
+     */
+    int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.nodes.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 将索引以二进制格式写入输出。
+     *
+     * @param out 表示输出的 {@link DataOutput}。
+     * @throws IOException 当写入过程中发生输入输出异常时。
+     */
+    void write(DataOutput out) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.m);
+            out.writeInt(this.efConstruction);
+            out.writeInt(this.dimension);
+            out.writeInt(this.size);
+            out.writeInt(this.entryPoint);
+            out.writeInt(this.maxLevel);
+            for (int node = 0; node < this.size; node++) {
+                out.writeUTF(this.ids[node]);
+                out.writeBoolean(this.deleted.get(node));
+                int offset = node * this.dimension;
+                for (int i = 0; i < this.dimension; i++) {
+                    out.writeFloat(this.vectors[offset + i]);
+                }
+                int[][] levels = this.links[node];
+                out.writeInt(levels.length);
+                for (int[] neighbors : levels) {
+                    out.writeInt(neighbors[0]);
+                    for (int i = 1; i <= neighbors[0]; i++) {
+                        out.writeInt(neighbors[i]);
+                    }
+                }
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 从二进制格式的输入中读取索引。
+     *
+     * @param in 表示输入的 {@link DataInput}。
+     * @return 表示读取成功的索引的 {@link HnswIndex}。
+     * @throws IOException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    static HnswIndex read(DataInput in) throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException(StringUtils.format("Unsupported hnsw index format. [magic={0}, version={1}]",
+                    Integer.toHexString(magic),
+                    version));
+        }
+        HnswIndex index = new HnswIndex(in.readInt(), in.readInt());
+        index.dimension = in.readInt();
+        int size = in.readInt();
+        index.entryPoint = in.readInt();
+        index.maxLevel = in.readInt();
+        index.ensureCapacity(size);
+        for (int node = 0; node < size; node++) {
+            String id = in.readUTF();
+            if (in.readBoolean()) {
+                index.deleted.set(node);
+            } else {
+                index.nodes.put(id, node);
+            }
+            index.ids[node] = id;
+            int offset = node * index.dimension;
+            for (int i = 0; i < index.dimension; i++) {
+                index.vectors[offset + i] = in.readFloat();
+            }
+            int[][] levels = new int[in.readInt()][];
+            for (int level = 0; level < levels.length; level++) {
+                int count = in.readInt();
+                int[] neighbors = new int[index.maxM(level) + 1];
+                if (count >= neighbors.length) {
+                    throw new IOException(StringUtils.format("Too many hnsw neighbors. [node={0}, count={1}]",
+                            node,
+                            count));
+                }
+                neighbors[0] = count;
+                for (int i = 1; i <= count; i++) {
+                    neighbors[i] = in.readInt();
+                }
+                levels[level] = neighbors;
+            }
+            index.links[node] = levels;
+        }
+        index.size = size;
+        return index;
+    }
+
+    private int allocate(String id, float[] source, int offset, Map<String, Object> metadata) {
+        this.ensureCapacity(this.size + 1);
+        int node = this.size++;
+        System.arraycopy(source, offset, this.vectors, node * this.dimension, this.dimension);
+        this.ids[node] = id;
+        this.metadata[node] = metadata;
+        this.metadataIndex.add(node, metadata);
+        int level = (int) (-Math.log(1 - this.random.nextDouble()) * this.levelFactor);
+        int[][] levels = new int[level + 1][];
+        for (int i = 0; i <= level; i++) {
+            levels[i] = new int[this.maxM(i) + 1];
+        }
+        this.links[node] = levels;
+        return node;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.ids.length) {
+            return;
+        }
+        int actual = Math.max(Math.max(INITIAL_CAPACITY, this.ids.length + (this.ids.length >> 1)), capacity);
+        this.vectors = Arrays.copyOf(this.vectors, actual * this.dimension);
+        this.links = Arrays.copyOf(this.links, actual);
+        this.ids = Arrays.copyOf(this.ids, actual);
+        this.metadata = Arrays.copyOf(this.metadata, actual);
+    }
+
+    private void markDeleted(int node) {
+        this.deleted.set(node);
+        this.metadataIndex.remove(node, this.metadata[node]);
+        this.metadata[node] = null;
+    }
+
+    private List<Neighbor> exhaustiveSearch(float[] query, int topK, BitSet allowed,
+            Predicate<Map<String, Object>> predicate) {
+        TopKHeap heap = new TopKHeap(Math.min(topK, allowed.cardinality()));
+        for (int node = allowed.nextSetBit(0); node >= 0; node = allowed.nextSetBit(node + 1)) {
+            if (!this.deleted.get(node) && (predicate == null || predicate.test(this.metadata[node]))) {
+                heap.offer(1 - this.distance(query, 0, node), node);
+            }
+        }
+        double[] scores = new double[heap.size()];
+        int[] selected = new int[heap.size()];
+        heap.drainTo(scores, selected);
+        List<Neighbor> neighbors = new ArrayList<>(selected.length);
+        for (int i = 0; i < selected.length; i++) {
+            neighbors.add(new Neighbor(this.ids[selected[i]], scores[i]));
+        }
+        return neighbors;
+    }
+
+    private void insert(int node) {
+        int level = this.links[node].length - 1;
+        if (this.entryPoint < 0) {
+            this.entryPoint = node;
+            this.maxLevel = level;
+            return;
+        }
+        int offset = node * this.dimension;
+        int current = this.entryPoint;
+        for (int i = this.maxLevel; i > level; i--) {
+            current = this.greedySearch(this.vectors, offset, current, i);
+        }
+        for (int i = Math.min(level, this.maxLevel); i >= 0; i--) {
+            Candidates candidates = this.searchLayer(this.vectors, offset, current, this.efConstruction, i, n -> true);
+            int[] selected = this.selectNeighbors(candidates, this.m);
+            int[] neighbors = this.links[node][i];
+            neighbors[0] = selected.length;
+            System.arraycopy(selected, 0, neighbors, 1, selected.length);
+            for (int neighbor : selected) {
+                this.connect(neighbor, node, i);
+            }
+            current = candidates.nodes[0];
+        }
+        if (level > this.maxLevel) {
+            this.entryPoint = node;
+            this.maxLevel = level;
+        }
+    }
+
+    private void connect(int node, int neighbor, int level) {
+        int[] neighbors = this.links[node][level];
+        int maxM = this.maxM(level);
+        if (neighbors[0] < maxM) {
+            neighbors[++neighbors[0]] = neighbor;
+            return;
+        }
+        int offset = node * this.dimension;
+        FloatIntHeap heap = new FloatIntHeap(maxM + 1);
+        heap.push(this.distance(this.vectors, offset, neighbor), neighbor);
+        for (int i = 1; i <= neighbors[0]; i++) {
+            heap.push(this.distance(this.vectors, offset, neighbors[i]), neighbors[i]);
+        }
+        Candidates candidates = new Candidates(heap.size());
+        while (!heap.isEmpty()) {
+            candidates.add(heap.peekValue(), heap.peekKey());
+            heap.pop();
+        }
+        int[] selected = this.selectNeighbors(candidates, maxM);
+        neighbors[0] = selected.length;
+        System.arraycopy(selected, 0, neighbors, 1, selected.length);
+    }
+
+    /**
+     * 使用启发式规则从按距离升序排列的候选节点中选择邻居：仅当候选节点到基准点的距离小于它到所有已选邻居的距离时才选择它，
+     * 使邻居分布在不同的方向上，从而保持图的连通性。
+     */
+    private int[] selectNeighbors(Candidates candidates, int max) {
+        if (candidates.size <= max) {
+            return Arrays.copyOf(candidates.nodes, candidates.size);
+        }
+        int[] selected = new int[max];
+        int count = 0;
+        for (int i = 0; i < candidates.size && count < max; i++) {
+            int candidate = candidates.nodes[i];
+            int offset = candidate * this.dimension;
+            boolean isGood = true;
+            for (int j = 0; j < count; j++) {
+                if (this.distance(this.vectors, offset, selected[j]) < candidates.distances[i]) {
+                    isGood = false;
+                    break;
+                }
+            }
+            if (isGood) {
+                selected[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private int greedySearch(float[] query, int offset, int start, int level) {
+        int current = start;
+        float best = this.distance(query, offset, current);
+        boolean isChanged = true;
+        while (isChanged) {
+            isChanged = false;
+            int[] neighbors = this.links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float distance = this.distance(query, offset, neighbors[i]);
+                if (distance < best) {
+                    best = distance;
+                    current = neighbors[i];
+                    isChanged = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Candidates searchLayer(float[] query, int offset, int entry, int ef, int level, IntPredicate accept) {
+        BitSet visited = new BitSet(this.size);
+        FloatIntHeap candidates = new FloatIntHeap(ef);
+        FloatIntHeap results = new FloatIntHeap(ef + 1);
+        float distance = this.distance(query, offset, entry);
+        float bound = Float.MAX_VALUE;
+        visited.set(entry);
+        candidates.push(distance, entry);
+        if (accept.test(entry)) {
+            results.push(-distance, entry);
+            bound = distance;
+        }
+        while (!candidates.isEmpty()) {
+            if (candidates.peekKey() > bound && results.size() >= ef) {
+                break;
+            }
+            int[] neighbors = this.links[candidates.peekValue()][level];
+            candidates.pop();
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                distance = this.distance(query, offset, neighbor);
+                if (results.size() < ef || distance < bound) {
+                    candidates.push(distance, neighbor);
+                    if (accept.test(neighbor)) {
+                        results.push(-distance, neighbor);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                        bound = -results.peekKey();
+                    }
+                }
+            }
+        }
+        Candidates sorted = new Candidates(results.size());
+        for (int i = results.size() - 1; i >= 0; i--) {
+            sorted.nodes[i] = results.peekValue();
+            sorted.distances[i] = -results.peekKey();
+            results.pop();
+        }
+        sorted.size = sorted.nodes.length;
+        return sorted;
+    }
+
+    private void compactIfNecessary() {
+        int removed = this.size - this.nodes.size();
+        if (this.size < COMPACT_THRESHOLD || removed <= this.nodes.size()) {
+            return;
+        }
+        float[] oldVectors = this.vectors;
+        String[] oldIds = this.ids;
+        Map<String, Object>[] oldMetadata = this.metadata;
+        BitSet oldDeleted = (BitSet) this.deleted.clone();
+        int oldSize = this.size;
+        this.vectors = new float[0];
+        this.links = new int[0][][];
+        this.ids = new String[0];
+        this.metadata = ObjectUtils.cast(new Map[0]);
+        this.size = 0;
+        this.entryPoint = -1;
+        this.maxLevel = -1;
+        this.nodes.clear();
+        this.deleted.clear();
+        this.metadataIndex.clear();
+        for (int i = 0; i < oldSize; i++) {
+            if (!oldDeleted.get(i)) {
+                int node = this.allocate(oldIds[i], oldVectors, i * this.dimension, oldMetadata[i]);
+                this.nodes.put(oldIds[i], node);
+                this.insert(node);
+            }
+        }
+    }
+
+    private float distance(float[] query, int offset, int node) {
+        return 1 - MathUtils.dotProduct(query, offset, this.vectors, node * this.dimension, this.dimension);
+    }
+
+    private int maxM(int level) {
+        return level == 0 ? this.maxM0 : this.m;
+    }
+
+    private void checkDimension(float[] vector) {
+        isTrue(vector.length == this.dimension,
+                "The vector dimension is not equal to the index. [expected={0}, actual={1}]",
+                this.dimension,
+                vector.length);
+    }
+
+    private static float[] normalize(float[] vector) {
+        notNull(vector, "The vector cannot be null.");
+        double norm = MathUtils.norm(vector);
+        isTrue(norm > 0, "The vector cannot be zero.");
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    /**
+     * 表示按距离升序排列的候选节点。
+     */
+    private static final class Candidates {
+        private final int[] nodes;
+        private final float[] distances;
+        private int size;
+
+        private Candidates(int capacity) {
+            this.nodes = new int[capacity];
+            this.distances = new float[capacity];
+        }
+
+        private void add(int node, float distance) {
+            this.nodes[this.size] = node;
+            this.distances[this.size] = distance;
+            this.size++;
+        }
+    }
+}
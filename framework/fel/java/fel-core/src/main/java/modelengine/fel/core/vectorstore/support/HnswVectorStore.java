@@ -0,0 +1,272 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.document.Document;
+import modelengine.fel.core.document.DocumentEmbedModel;
+import modelengine.fel.core.document.MeasurableDocument;
+import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.util.MathUtils;
+import modelengine.fel.core.vectorstore.HnswOption;
+import modelengine.fel.core.vectorstore.SearchOption;
+import modelengine.fel.core.vectorstore.VectorStore;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
+import modelengine.fitframework.util.UuidUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 表示基于 HNSW 近似最近邻索引的 {@link VectorStore} 内存实现。
+ * <p>与 {@link MemoryVectorStore} 的全量比较不同，检索只访问图中的少量节点，适用于文档数量较多的场景，但检索结果是近似的。
+ * 召回率可以通过 {@link HnswOption} 中的参数调节。</p>
+ * <p>新增、删除和加载持有写锁，检索和持久化持有读锁，因此向量和文档总是成对变化，持久化的结果是一致的快照。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class HnswVectorStore implements VectorStore {
+    private static final int DEFAULT_M = 16;
+    private static final int DEFAULT_EF_CONSTRUCTION = 200;
+    private static final int DEFAULT_EF_SEARCH = 64;
+    private static final Type METADATA_TYPE =
+            TypeUtils.parameterized(Map.class, new Type[] {String.class, Object.class});
+
+    private final DocumentEmbedModel embedModel;
+    private final int efSearch;
+    private final Map<String, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private HnswIndex index;
+
+    /**
+     * 使用默认的索引参数创建 {@link HnswVectorStore} 的实例。
+     *
+     * @param embedModel 表示嵌入文档模型的 {@link DocumentEmbedModel}。
+     * @throws IllegalArgumentException 当 {@code embedModel} 为 {@code null} 时。
+     */
+    public HnswVectorStore(DocumentEmbedModel embedModel) {
+        this(embedModel, HnswOption.custom().build());
+    }
+
+    /**
+     * 创建 {@link HnswVectorStore} 的实例。
+     *
+     * @param embedModel 表示嵌入文档模型的 {@link DocumentEmbedModel}。
+     * @param option 表示索引参数的 {@link HnswOption}。
+     * @throws IllegalArgumentException 当 {@code embedModel} 或 {@code option} 为 {@code null}，或索引参数不合法时。
+     */
+    public HnswVectorStore(DocumentEmbedModel embedModel, HnswOption option) {
+        this.embedModel = notNull(embedModel, "The embed model cannot be null.");
+        notNull(option, "The hnsw option cannot be null.");
+        this.efSearch = ObjectUtils.nullIf(option.efSearch(), DEFAULT_EF_SEARCH);
+        this.index = new HnswIndex(ObjectUtils.nullIf(option.m(), DEFAULT_M),
+                ObjectUtils.nullIf(option.efConstruction(), DEFAULT_EF_CONSTRUCTION));
+    }
+
+    @Override
+    public void persistent(List<Document> documents) {
+        notNull(documents, "The document list cannot be null.");
+        List<Embedding> embeddings = this.embedModel.embed(documents);
+        List<Document> built = new ArrayList<>(documents.size());
+        for (Document origin : documents) {
+            built.add(Document.custom()
+                    .id(StringUtils.getIfBlank(origin.id(), UuidUtils::randomUuidString))
+                    .text(notBlank(origin.text(), "The document text cannot be blank."))
+                    .metadata(notNull(origin.metadata(), "The metadata cannot be null."))
+                    .build());
+        }
+        this.lock.writeLock().lock();
+        try {
+            for (int i = 0; i < built.size(); ++i) {
+                Document document = built.get(i);
+                this.index.add(document.id(), MathUtils.toArray(embeddings.get(i).embedding()), document.metadata());
+                this.documents.put(document.id(), document);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MeasurableDocument> search(String query, SearchOption option) {
+        notNull(option, "The search option cannot be null.");
+        float[] queryEmbedding = MathUtils.toArray(this.embedModel.embed(query).embedding());
+        this.lock.readLock().lock();
+        try {
+            return this.index.search(queryEmbedding, option.topK(), this.efSearch, option.filter())
+                    .stream()
+                    .filter(neighbor -> this.documents.containsKey(neighbor.id()))
+                    .map(neighbor -> new MeasurableDocument(this.documents.get(neighbor.id()), neighbor.score()))
+                    .collect(Collectors.toList());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(List<String> ids) {
+        notNull(ids, "The id list cannot be null.");
+        this.lock.writeLock().lock();
+        try {
+            ids.forEach(id -> {
+                this.index.remove(id);
+                this.documents.remove(id);
+            });
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 获取存储中文档的数量。
+     *
+     * @return 表示文档数量的 {@code int}。
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.index.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 从输入流中加载索引和文档，加载的内容替换存储中原有的内容。
+     *
+     * @param in 表示输入流的 {@link InputStream}。
+     * @param objectSerializer 表示序列化文档元数据的 {@link ObjectSerializer}。
+     * @throws FitException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    public void load(InputStream in, ObjectSerializer objectSerializer) {
+        notNull(in, "The input stream cannot be null.");
+        notNull(objectSerializer, "The object serializer cannot be null.");
+        try {
+            DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+            HnswIndex loaded = HnswIndex.read(data);
+            int count = data.readInt();
+            Map<String, Document> loadedDocuments = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = data.readUTF();
+                String text = new String(readBytes(data), StandardCharsets.UTF_8);
+                Map<String, Object> metadata =
+                        objectSerializer.deserialize(readBytes(data), StandardCharsets.UTF_8, METADATA_TYPE);
+                loadedDocuments.put(id, Document.custom().id(id).text(text).metadata(metadata).build());
+            }
+            loaded.restoreMetadata(id -> notNull(loadedDocuments.get(id),
+                    "The document of the vector does not exist. [id={0}]",
+                    id).metadata());
+            this.lock.writeLock().lock();
+            try {
+                this.index = loaded;
+                this.documents.clear();
+                this.documents.putAll(loadedDocuments);
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    /**
+     * 将索引和文档保存到输出流中。
+     *
+     * @param out 表示输出流的 {@link OutputStream}。
+     * @param objectSerializer 表示序列化文档元数据的 {@link ObjectSerializer}。
+     * @throws FitException 当写入过程中发生输入输出异常时。
+     */
+    public void persist(OutputStream out, ObjectSerializer objectSerializer) {
+        notNull(out, "The output stream cannot be null.");
+        notNull(objectSerializer, "The object serializer cannot be null.");
+        try {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            // 写入期间阻止新增和删除，保证向量和文档来自同一个快照。
+            this.lock.readLock().lock();
+            try {
+                this.index.write(data);
+                data.writeInt(this.documents.size());
+                for (Document document : this.documents.values()) {
+                    data.writeUTF(document.id());
+                    writeBytes(data, document.text().getBytes(StandardCharsets.UTF_8));
+                    writeBytes(data, objectSerializer.serialize(document.metadata(), StandardCharsets.UTF_8));
+                }
+            } finally {
+                this.lock.readLock().unlock();
+            }
+            data.flush();
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    /**
+     * 从本地文件中加载索引和文档，加载的内容替换存储中原有的内容。
+     *
+     * @param file 表示本地文件路径的 {@link Path}。
+     * @param objectSerializer 表示序列化文档元数据的 {@link ObjectSerializer}。
+     * @throws FitException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    public void load(Path file, ObjectSerializer objectSerializer) {
+        notNull(file, "The file cannot be null.");
+        try (InputStream in = Files.newInputStream(file)) {
+            this.load(in, objectSerializer);
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    /**
+     * 将索引和文档保存到本地文件中。
+     *
+     * @param file 表示本地文件路径的 {@link Path}。
+     * @param objectSerializer 表示序列化文档元数据的 {@link ObjectSerializer}。
+     * @throws FitException 当写入过程中发生输入输出异常时。
+     */
+    public void persist(Path file, ObjectSerializer objectSerializer) {
+        notNull(file, "The file cannot be null.");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            this.persist(out, objectSerializer);
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -15,10 +15,11 @@ import modelengine.fel.core.document.DocumentEmbedModel;
 import modelengine.fel.core.document.MeasurableDocument;
 import modelengine.fel.core.embed.Embedding;
 import modelengine.fel.core.util.MathUtils;
+import modelengine.fel.core.vectorstore.QuantizationOption;
 import modelengine.fel.core.vectorstore.SearchOption;
 import modelengine.fel.core.vectorstore.VectorStore;
+import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.inspection.Nonnull;
-import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.resource.web.Media;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ObjectUtils;
@@ -26,26 +27,47 @@ import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.TypeUtils;
 import modelengine.fitframework.util.UuidUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
  * 表示 {@link VectorStore} 的内存简易实现，不要在生产环境中使用。
+ * <p>嵌入向量以 {@code float[]} 的形式连续存放，可以通过 {@link QuantizationOption} 开启标量量化或乘积量化，使用量化编码
+ * 进行近似的首轮扫描，再对候选文档使用全精度向量精确重排。持久化时使用紧凑的二进制格式，加载时兼容旧版本的 JSON 格式。</p>
+ * <p>新增、删除和加载持有写锁，检索和持久化持有读锁，因此向量和文档总是成对变化，持久化的结果是一致的快照。</p>
  *
  * @author 易文渊
  * @since 2024-08-06
  */
 public class MemoryVectorStore implements VectorStore {
+    private static final int DEFAULT_OVERSAMPLING = 8;
+    private static final Type METADATA_TYPE =
+            TypeUtils.parameterized(Map.class, new Type[] {String.class, Object.class});
+
     private final DocumentEmbedModel embedModel;
-    private final Map<String, DocumentWithEmbedding> cache = new ConcurrentHashMap<>();
+    private final QuantizationOption.Type quantization;
+    private final Integer subspaces;
+    private final int oversampling;
+    private final Map<String, Document> cache = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ExactVectorIndex index;
 
     /**
      * 创建 {@link MemoryVectorStore} 的实例。
@@ -53,60 +75,218 @@ public class MemoryVectorStore implements VectorStore {
      * @param embedModel 表示嵌入文档模型的 {@link DocumentEmbedModel}。
      */
     public MemoryVectorStore(DocumentEmbedModel embedModel) {
+        this(embedModel, QuantizationOption.custom().build());
+    }
+
+    /**
+     * 创建使用指定量化参数的 {@link MemoryVectorStore} 的实例。
+     *
+     * @param embedModel 表示嵌入文档模型的 {@link DocumentEmbedModel}。
+     * @param option 表示量化参数的 {@link QuantizationOption}。
+     * @throws IllegalArgumentException 当 {@code option} 为 {@code null} 或量化参数不合法时。
+     */
+    public MemoryVectorStore(DocumentEmbedModel embedModel, QuantizationOption option) {
         this.embedModel = embedModel;
+        notNull(option, "The quantization option cannot be null.");
+        this.quantization = ObjectUtils.nullIf(option.type(), QuantizationOption.Type.NONE);
+        this.subspaces = option.subspaces();
+        this.oversampling = ObjectUtils.nullIf(option.oversampling(), DEFAULT_OVERSAMPLING);
+        this.index = new ExactVectorIndex(this.newQuantizer(), this.oversampling);
     }
 
     @Override
     public void persistent(List<Document> documents) {
         List<Embedding> embeddings = this.embedModel.embed(documents);
+        List<Document> built = new ArrayList<>(documents.size());
+        List<float[]> vectors = new ArrayList<>(documents.size());
         for (int i = 0; i < documents.size(); ++i) {
-            DocumentWithEmbedding document =
-                    DocumentWithEmbedding.from(documents.get(i), embeddings.get(i).embedding());
-            this.cache.put(document.id(), document);
+            Document origin = documents.get(i);
+            List<Float> embedding = embeddings.get(i).embedding();
+            notEmpty(embedding, "The embedding cannot be empty.");
+            built.add(Document.custom()
+                    .id(StringUtils.getIfBlank(origin.id(), UuidUtils::randomUuidString))
+                    .text(notBlank(origin.text(), "The document text cannot be blank."))
+                    .metadata(notNull(origin.metadata(), "The metadata cannot be null."))
+                    .build());
+            vectors.add(MathUtils.toArray(embedding));
+        }
+        this.lock.writeLock().lock();
+        try {
+            for (int i = 0; i < built.size(); ++i) {
+                Document document = built.get(i);
+                this.index.add(document.id(), vectors.get(i), document.metadata());
+                this.cache.put(document.id(), document);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
         }
     }
 
     @Override
     public List<MeasurableDocument> search(String query, SearchOption option) {
-        List<Float> queryEmbedding = this.embedModel.embed(query).embedding();
-        return this.cache.values()
-                .stream()
-                .map(d -> new MeasurableDocument(d, MathUtils.cosineSimilarity(queryEmbedding, d.getEmbedding())))
-                .sorted(Comparator.comparingDouble(MeasurableDocument::score).reversed())
-                .limit(option.topK())
-                .collect(Collectors.toList());
+        float[] queryEmbedding = MathUtils.toArray(this.embedModel.embed(query).embedding());
+        this.lock.readLock().lock();
+        try {
+            return this.index.search(queryEmbedding, option.topK(), option.filter())
+                    .stream()
+                    .filter(neighbor -> this.cache.containsKey(neighbor.id()))
+                    .map(neighbor -> new MeasurableDocument(this.cache.get(neighbor.id()), neighbor.score()))
+                    .collect(Collectors.toList());
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     @Override
     public void delete(List<String> ids) {
-        Validation.notNull(ids, "The id list cannot be null.");
-        ids.forEach(this.cache::remove);
+        notNull(ids, "The id list cannot be null.");
+        this.lock.writeLock().lock();
+        try {
+            ids.forEach(id -> {
+                this.index.remove(id);
+                this.cache.remove(id);
+            });
+        } finally {
+            this.lock.writeLock().unlock();
+        }
     }
 
     /**
-     * 从输入流中加载数据到内存中。
+     * 从输入流中加载数据到内存中，支持 {@link #persist(OutputStream, ObjectSerializer)} 写入的二进制格式和旧版本的 JSON 格式。
      *
      * @param in 表示输入流的 {@link InputStream}。
      * @param objectSerializer 表示对象序列化器的 {@link ObjectSerializer}。
+     * @throws FitException 当读取过程中发生输入输出异常或数据格式不正确时。
      */
     public void load(InputStream in, ObjectSerializer objectSerializer) {
-        Map<String, DocumentWithEmbedding> documents = objectSerializer.deserialize(in,
-                TypeUtils.parameterized(Map.class, new Type[] {String.class, DocumentWithEmbedding.class}));
-        this.cache.putAll(documents);
+        notNull(in, "The input stream cannot be null.");
+        notNull(objectSerializer, "The object serializer cannot be null.");
+        try {
+            BufferedInputStream buffered = new BufferedInputStream(in);
+            DataInputStream data = new DataInputStream(buffered);
+            buffered.mark(Integer.BYTES);
+            byte[] header = buffered.readNBytes(Integer.BYTES);
+            buffered.reset();
+            boolean binary =
+                    header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == ExactVectorIndex.MAGIC;
+            if (binary) {
+                this.loadBinary(data, objectSerializer);
+            } else {
+                this.loadJson(buffered, objectSerializer);
+            }
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
     }
 
     /**
-     * 将数据从内存中保存到输出流中。
+     * 将数据从内存中以二进制格式保存到输出流中，文档的元数据使用对象序列化器序列化。
      *
      * @param out 表示输出流的 {@link OutputStream}。
      * @param objectSerializer 表示对象序列化器的 {@link ObjectSerializer}。
+     * @throws FitException 当写入过程中发生输入输出异常时。
      */
     public void persist(OutputStream out, ObjectSerializer objectSerializer) {
-        objectSerializer.serialize(this.cache, out);
+        notNull(out, "The output stream cannot be null.");
+        notNull(objectSerializer, "The object serializer cannot be null.");
+        try {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            // 写入期间阻止新增和删除，保证向量和文档来自同一个快照。
+            this.lock.readLock().lock();
+            try {
+                this.index.write(data);
+                data.writeInt(this.cache.size());
+                for (Document document : this.cache.values()) {
+                    data.writeUTF(document.id());
+                    writeBytes(data, document.text().getBytes(StandardCharsets.UTF_8));
+                    writeBytes(data, objectSerializer.serialize(document.metadata(), StandardCharsets.UTF_8));
+                }
+            } finally {
+                this.lock.readLock().unlock();
+            }
+            data.flush();
+        } catch (IOException e) {
+            throw new FitException(e);
+        }
+    }
+
+    private void loadBinary(DataInputStream data, ObjectSerializer objectSerializer) throws IOException {
+        ExactVectorIndex loaded = ExactVectorIndex.read(data, this.newQuantizer(), this.oversampling);
+        int count = data.readInt();
+        Map<String, Document> documents = new HashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = data.readUTF();
+            String text = new String(readBytes(data), StandardCharsets.UTF_8);
+            Map<String, Object> metadata =
+                    objectSerializer.deserialize(readBytes(data), StandardCharsets.UTF_8, METADATA_TYPE);
+            documents.put(id, Document.custom().id(id).text(text).metadata(metadata).build());
+        }
+        Map<String, float[]> vectors = new HashMap<>(count);
+        documents.keySet()
+                .forEach(id -> vectors.put(id,
+                        notNull(loaded.get(id), "The vector of the document does not exist. [id={0}]", id)));
+        this.lock.writeLock().lock();
+        try {
+            if (this.cache.isEmpty()) {
+                loaded.restoreMetadata(id -> notNull(documents.get(id),
+                        "The document of the vector does not exist. [id={0}]",
+                        id).metadata());
+                this.index = loaded;
+            } else {
+                documents.values()
+                        .forEach(document -> this.index.add(document.id(),
+                                vectors.get(document.id()),
+                                document.metadata()));
+            }
+            this.cache.putAll(documents);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void loadJson(InputStream in, ObjectSerializer objectSerializer) {
+        Map<String, DocumentWithEmbedding> documents = objectSerializer.deserialize(in,
+                TypeUtils.parameterized(Map.class, new Type[] {String.class, DocumentWithEmbedding.class}));
+        this.lock.writeLock().lock();
+        try {
+            documents.values().forEach(document -> {
+                this.index.add(document.id(), MathUtils.toArray(document.getEmbedding()), document.metadata());
+                this.cache.put(document.id(),
+                        Document.custom()
+                                .id(document.id())
+                                .text(document.text())
+                                .metadata(document.metadata())
+                                .build());
+            });
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private VectorQuantizer newQuantizer() {
+        switch (this.quantization) {
+            case SCALAR:
+                return new ScalarQuantizer();
+            case PRODUCT:
+                return new ProductQuantizer(this.subspaces);
+            default:
+                return null;
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
     }
 
     /**
-     * 表示携带嵌入向量的 {@link Document}。
+     * 表示旧版本 JSON 持久化格式中携带嵌入向量的 {@link Document}，仅用于兼容加载。
      */
     private static class DocumentWithEmbedding implements Document {
         private String id;
@@ -114,26 +294,6 @@ public class MemoryVectorStore implements VectorStore {
         private Map<String, Object> metadata;
         private List<Float> embedding;
 
-        /**
-         * 从给定的 {@link Document} 和嵌入向量创建一个新的 {@link DocumentWithEmbedding}。
-         *
-         * @param document 表示原始文档的 {@link Document}。
-         * @param embedding 表示嵌入向量的 {@link List}{@code <}{@link Double}{@code >}。
-         * @return 表示创建成功文档的 {@link DocumentWithEmbedding}。
-         */
-        public static DocumentWithEmbedding from(Document document, List<Float> embedding) {
-            if (document instanceof DocumentWithEmbedding) {
-                return ObjectUtils.cast(document);
-            }
-            notEmpty(embedding, "The embedding cannot be empty.");
-            DocumentWithEmbedding documentWithEmbedding = new DocumentWithEmbedding();
-            documentWithEmbedding.setId(StringUtils.getIfBlank(document.id(), UuidUtils::randomUuidString));
-            documentWithEmbedding.setText(notBlank(document.text(), "The document text cannot be blank."));
-            documentWithEmbedding.setMetadata(notNull(document.metadata(), "The metadata cannot be null."));
-            documentWithEmbedding.setEmbedding(embedding);
-            return documentWithEmbedding;
-        }
-
         @Nonnull
         @Override
         public String text() {
@@ -0,0 +1,206 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import modelengine.fel.core.retriever.filter.ExpressionCompiler;
+import modelengine.fel.core.retriever.filter.Operand;
+import modelengine.fel.core.retriever.filter.Operator;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 表示元数据的倒排索引，记录每个元数据键值对出现在哪些位置上。
+ * <p>对于等值、集合和范围条件，以及它们的与、或组合，索引可以直接给出满足条件的候选位置，使选择性高的过滤条件只需要检查少量
+ * 位置；对于无法通过索引确定的条件，返回 {@code null} 表示不裁剪。候选位置只是满足条件位置的超集，调用方仍需使用
+ * {@link ExpressionCompiler#compile(Operand.Expression)} 编译得到的断言进行校验。</p>
+ * <p>该类不是线程安全的，由持有它的向量索引负责同步。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class MetadataIndex {
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /**
+     * 将指定位置的元数据加入索引。
+     *
+     * @param position 表示位置的 {@code int}。
+     * @param metadata 表示元数据的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     */
+    void add(int position, Map<String, Object> metadata) {
+        if (metadata == null) {
+            return;
+        }
+        metadata.forEach((key, value) -> {
+            if (value != null) {
+                this.postings.computeIfAbsent(key, k -> new Postings()).add(ExpressionCompiler.normalize(value),
+                        position);
+            }
+        });
+    }
+
+    /**
+     * 将指定位置的元数据从索引中移除。
+     *
+     * @param position 表示位置的 {@code int}。
+     * @param metadata 表示该位置元数据的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     */
+    void remove(int position, Map<String, Object> metadata) {
+        if (metadata == null) {
+            return;
+        }
+        metadata.forEach((key, value) -> {
+            Postings keyPostings = this.postings.get(key);
+            if (value != null && keyPostings != null) {
+                keyPostings.remove(ExpressionCompiler.normalize(value), position);
+                if (keyPostings.isEmpty()) {
+                    this.postings.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * 清空索引。
+     */
+    void clear() {
+        this.postings.clear();
+    }
+
+    /**
+     * 根据过滤器表达式计算候选位置。
+     *
+     * @param expression 表示过滤器表达式的 {@link Operand.Expression}。
+     * @return 表示候选位置的 {@link BitSet}，若无法通过索引裁剪，则返回 {@code null}。
+     */
+    BitSet candidates(Operand.Expression expression) {
+        Operator op = expression.op();
+        if (op == Operator.AND || op == Operator.OR) {
+            BitSet left = this.candidates(ObjectUtils.cast(expression.left()));
+            BitSet right = this.candidates(ObjectUtils.cast(expression.right()));
+            if (op == Operator.AND) {
+                if (left == null || right == null) {
+                    return left == null ? right : left;
+                }
+                left.and(right);
+                return left;
+            }
+            if (left == null || right == null) {
+                return null;
+            }
+            left.or(right);
+            return left;
+        }
+        String key = ExpressionCompiler.key(expression);
+        Object value = ExpressionCompiler.value(expression);
+        Postings keyPostings = this.postings.get(key);
+        switch (op) {
+            case EQ:
+                return keyPostings == null ? new BitSet() : keyPostings.equalTo(ExpressionCompiler.normalize(value));
+            case IN:
+                if (!(value instanceof Collection)) {
+                    return null;
+                }
+                BitSet result = new BitSet();
+                if (keyPostings != null) {
+                    for (Object element : ObjectUtils.<Collection<?>>cast(value)) {
+                        result.or(keyPostings.equalTo(ExpressionCompiler.normalize(element)));
+                    }
+                }
+                return result;
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                return keyPostings == null ? new BitSet() : keyPostings.range(op, ExpressionCompiler.normalize(value));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 表示一个元数据键的倒排列表，数值和字符串额外按顺序组织以支持范围条件。
+     */
+    private static final class Postings {
+        private final Map<Object, BitSet> values = new HashMap<>();
+        private final TreeMap<BigDecimal, BitSet> numbers = new TreeMap<>();
+        private final TreeMap<String, BitSet> strings = new TreeMap<>();
+
+        private void add(Object value, int position) {
+            BitSet positions = this.values.get(value);
+            if (positions == null) {
+                positions = new BitSet();
+                this.values.put(value, positions);
+                if (value instanceof BigDecimal) {
+                    this.numbers.put((BigDecimal) value, positions);
+                } else if (value instanceof String) {
+                    this.strings.put((String) value, positions);
+                }
+            }
+            positions.set(position);
+        }
+
+        private void remove(Object value, int position) {
+            BitSet positions = this.values.get(value);
+            if (positions == null) {
+                return;
+            }
+            positions.clear(position);
+            if (positions.isEmpty()) {
+                this.values.remove(value);
+                if (value instanceof BigDecimal) {
+                    this.numbers.remove(value);
+                } else if (value instanceof String) {
+                    this.strings.remove(value);
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return this.values.isEmpty();
+        }
+
+        private BitSet equalTo(Object value) {
+            BitSet positions = this.values.get(value);
+            return positions == null ? new BitSet() : (BitSet) positions.clone();
+        }
+
+        private BitSet range(Operator op, Object value) {
+            NavigableMap<?, BitSet> ordered;
+            if (value instanceof BigDecimal) {
+                ordered = this.rangeOf(this.numbers, op, (BigDecimal) value);
+            } else if (value instanceof String) {
+                ordered = this.rangeOf(this.strings, op, (String) value);
+            } else {
+                return null;
+            }
+            BitSet result = new BitSet();
+            ordered.values().forEach(result::or);
+            return result;
+        }
+
+        private <K> NavigableMap<K, BitSet> rangeOf(TreeMap<K, BitSet> map, Operator op, K value) {
+            switch (op) {
+                case LT:
+                    return map.headMap(value, false);
+                case LE:
+                    return map.headMap(value, true);
+                case GT:
+                    return map.tailMap(value, false);
+                default:
+                    return map.tailMap(value, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+/**
+ * 表示向量索引检索得到的近邻。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class Neighbor {
+    private final String id;
+    private final double score;
+
+    /**
+     * 创建 {@link Neighbor} 的实例。
+     *
+     * @param id 表示近邻唯一标识的 {@link String}。
+     * @param score 表示近邻与查询向量余弦相似度的 {@code double}。
+     */
+    Neighbor(String id, double score) {
+        this.id = id;
+        this.score = score;
+    }
+
+    /**
+     * 获取近邻的唯一标识。
+     *
+     * @return 表示近邻唯一标识的 {@link String}。
+     */
+    String id() {
+        return this.id;
+    }
+
+    /**
+     * 获取近邻与查询向量的余弦相似度。
+     *
+     * @return 表示余弦相似度的 {@code double}。
+     */
+    double score() {
+        return this.score;
+    }
+}
@@ -0,0 +1,274 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.isTrue;
+
+import modelengine.fel.core.vectorstore.QuantizationOption;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 表示乘积量化器，将归一化后的向量切分为若干子空间，每个子空间使用最近聚类中心的编号编码为一个字节。
+ * <p>每个子空间的聚类中心通过 k-means 训练得到。检索时先为查询向量计算其每个子空间与所有聚类中心的点积表，向量的近似相似度
+ * 即为按编码查表求和的结果，不需要解码向量。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class ProductQuantizer implements VectorQuantizer {
+    private static final int CENTROIDS = 256;
+    private static final int TRAINING_SIZE = 2048;
+    private static final int ITERATIONS = 8;
+    private static final int DIMENSIONS_PER_SUBSPACE = 8;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long SEED = 100L;
+
+    private final Integer expectedSubspaces;
+
+    private int dimension;
+    private int subspaces;
+    private int centroids;
+    private int[] offsets = new int[0];
+    private float[][] codebooks = new float[0][];
+    private byte[] codes = new byte[0];
+    private int capacity;
+    private boolean trained;
+
+    /**
+     * 创建 {@link ProductQuantizer} 的实例。
+     *
+     * @param subspaces 表示子空间数量的 {@link Integer}，为 {@code null} 时使用维度的八分之一。
+     * @throws IllegalArgumentException 当 {@code subspaces} 不为正数时。
+     */
+    ProductQuantizer(Integer subspaces) {
+        if (subspaces != null) {
+            greaterThan(subspaces, 0, "The subspaces must be positive. [subspaces={0}]", subspaces);
+        }
+        this.expectedSubspaces = subspaces;
+    }
+
+    @Override
+    public QuantizationOption.Type type() {
+        return QuantizationOption.Type.PRODUCT;
+    }
+
+    @Override
+    public int trainingSize() {
+        return TRAINING_SIZE;
+    }
+
+    @Override
+    public boolean isTrained() {
+        return this.trained;
+    }
+
+    @Override
+    public void train(float[][] samples) {
+        isTrue(samples != null && samples.length > 0, "The training samples cannot be empty.");
+        this.dimension = samples[0].length;
+        int expected = this.expectedSubspaces == null
+                ? this.dimension / DIMENSIONS_PER_SUBSPACE
+                : this.expectedSubspaces;
+        this.subspaces = Math.max(1, Math.min(expected, this.dimension));
+        this.centroids = Math.min(CENTROIDS, samples.length);
+        this.offsets = offsets(this.dimension, this.subspaces);
+        this.codebooks = IntStream.range(0, this.subspaces)
+                .parallel()
+                .mapToObj(subspace -> this.kMeans(samples, subspace))
+                .toArray(float[][]::new);
+        this.codes = new byte[this.capacity * this.subspaces];
+        this.trained = true;
+    }
+
+    @Override
+    public void clear() {
+        this.dimension = 0;
+        this.subspaces = 0;
+        this.centroids = 0;
+        this.offsets = new int[0];
+        this.codebooks = new float[0][];
+        this.codes = new byte[0];
+        this.capacity = 0;
+        this.trained = false;
+    }
+
+    @Override
+    public void encode(int position, float[] normalized) {
+        this.ensureCapacity(position + 1);
+        int base = position * this.subspaces;
+        for (int subspace = 0; subspace < this.subspaces; subspace++) {
+            this.codes[base + subspace] = (byte) this.nearest(normalized, subspace);
+        }
+    }
+
+    @Override
+    public void move(int from, int to) {
+        System.arraycopy(this.codes, from * this.subspaces, this.codes, to * this.subspaces, this.subspaces);
+    }
+
+    @Override
+    public IntToDoubleFunction scorer(float[] normalizedQuery) {
+        int actualSubspaces = this.subspaces;
+        int actualCentroids = this.centroids;
+        float[] table = new float[actualSubspaces * actualCentroids];
+        for (int subspace = 0; subspace < actualSubspaces; subspace++) {
+            int from = this.offsets[subspace];
+            int length = this.offsets[subspace + 1] - from;
+            float[] codebook = this.codebooks[subspace];
+            for (int centroid = 0; centroid < actualCentroids; centroid++) {
+                float sum = 0F;
+                for (int i = 0; i < length; i++) {
+                    sum += normalizedQuery[from + i] * codebook[centroid * length + i];
+                }
+                table[subspace * actualCentroids + centroid] = sum;
+            }
+        }
+        byte[] actualCodes = this.codes;
+        return position -> {
+            int base = position * actualSubspaces;
+            double sum = 0;
+            for (int subspace = 0; subspace < actualSubspaces; subspace++) {
+                sum += table[subspace * actualCentroids + (actualCodes[base + subspace] & 0xFF)];
+            }
+            return sum;
+        };
+    }
+
+    @Override
+    public void write(DataOutput out, int size) throws IOException {
+        out.writeInt(this.dimension);
+        out.writeInt(this.subspaces);
+        out.writeInt(this.centroids);
+        for (float[] codebook : this.codebooks) {
+            for (float value : codebook) {
+                out.writeFloat(value);
+            }
+        }
+        out.write(this.codes, 0, size * this.subspaces);
+    }
+
+    @Override
+    public void read(DataInput in, int size) throws IOException {
+        int actualDimension = in.readInt();
+        int actualSubspaces = in.readInt();
+        int actualCentroids = in.readInt();
+        if (actualSubspaces <= 0 || actualSubspaces > actualDimension || actualCentroids <= 0
+                || actualCentroids > CENTROIDS) {
+            throw new IOException(StringUtils.format(
+                    "Illegal product quantizer. [dimension={0}, subspaces={1}, centroids={2}]",
+                    actualDimension,
+                    actualSubspaces,
+                    actualCentroids));
+        }
+        this.dimension = actualDimension;
+        this.subspaces = actualSubspaces;
+        this.centroids = actualCentroids;
+        this.offsets = offsets(actualDimension, actualSubspaces);
+        this.codebooks = new float[actualSubspaces][];
+        for (int subspace = 0; subspace < actualSubspaces; subspace++) {
+            float[] codebook = new float[actualCentroids * (this.offsets[subspace + 1] - this.offsets[subspace])];
+            for (int i = 0; i < codebook.length; i++) {
+                codebook[i] = in.readFloat();
+            }
+            this.codebooks[subspace] = codebook;
+        }
+        this.capacity = size;
+        this.codes = new byte[size * actualSubspaces];
+        in.readFully(this.codes);
+        this.trained = true;
+    }
+
+    private float[] kMeans(float[][] samples, int subspace) {
+        int from = this.offsets[subspace];
+        int length = this.offsets[subspace + 1] - from;
+        int k = this.centroids;
+        Random random = new Random(SEED + subspace);
+        int[] order = IntStream.range(0, samples.length).toArray();
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+        float[] codebook = new float[k * length];
+        for (int centroid = 0; centroid < k; centroid++) {
+            System.arraycopy(samples[order[centroid]], from, codebook, centroid * length, length);
+        }
+        double[] sums = new double[k * length];
+        int[] counts = new int[k];
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            Arrays.fill(sums, 0);
+            Arrays.fill(counts, 0);
+            for (float[] sample : samples) {
+                int centroid = nearest(sample, from, codebook, k, length);
+                counts[centroid]++;
+                for (int i = 0; i < length; i++) {
+                    sums[centroid * length + i] += sample[from + i];
+                }
+            }
+            for (int centroid = 0; centroid < k; centroid++) {
+                if (counts[centroid] == 0) {
+                    float[] sample = samples[random.nextInt(samples.length)];
+                    System.arraycopy(sample, from, codebook, centroid * length, length);
+                    continue;
+                }
+                for (int i = 0; i < length; i++) {
+                    codebook[centroid * length + i] = (float) (sums[centroid * length + i] / counts[centroid]);
+                }
+            }
+        }
+        return codebook;
+    }
+
+    private int nearest(float[] vector, int subspace) {
+        int from = this.offsets[subspace];
+        return nearest(vector, from, this.codebooks[subspace], this.centroids, this.offsets[subspace + 1] - from);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= this.capacity) {
+            return;
+        }
+        this.capacity = Math.max(Math.max(INITIAL_CAPACITY, this.capacity + (this.capacity >> 1)), required);
+        this.codes = Arrays.copyOf(this.codes, this.capacity * this.subspaces);
+    }
+
+    private static int nearest(float[] vector, int from, float[] codebook, int centroids, int length) {
+        int best = 0;
+        float bestDistance = Float.MAX_VALUE;
+        for (int centroid = 0; centroid < centroids; centroid++) {
+            float distance = 0F;
+            int offset = centroid * length;
+            for (int i = 0; i < length; i++) {
+                float diff = vector[from + i] - codebook[offset + i];
+                distance += diff * diff;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = centroid;
+            }
+        }
+        return best;
+    }
+
+    private static int[] offsets(int dimension, int subspaces) {
+        int[] offsets = new int[subspaces + 1];
+        for (int subspace = 0; subspace <= subspaces; subspace++) {
+            offsets[subspace] = subspace * dimension / subspaces;
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,147 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import modelengine.fel.core.vectorstore.QuantizationOption;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 表示标量量化器，将归一化后向量的每个维度编码为一个 {@code int8}。
+ * <p>每个向量使用自身各维度绝对值的最大值作为缩放因子对称量化，因此不需要训练。查询向量使用相同的方式量化，近似相似度为两个
+ * 编码的整数点积与两个缩放因子的乘积。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class ScalarQuantizer implements VectorQuantizer {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LEVELS = 127F;
+
+    private int dimension;
+    private byte[] codes = new byte[0];
+    private float[] scales = new float[0];
+
+    @Override
+    public QuantizationOption.Type type() {
+        return QuantizationOption.Type.SCALAR;
+    }
+
+    @Override
+    public int trainingSize() {
+        return 0;
+    }
+
+    @Override
+    public boolean isTrained() {
+        return true;
+    }
+
+    @Override
+    public void train(float[][] samples) {}
+
+    @Override
+    public void clear() {
+        this.dimension = 0;
+        this.codes = new byte[0];
+        this.scales = new float[0];
+    }
+
+    @Override
+    public void encode(int position, float[] normalized) {
+        if (this.dimension != normalized.length) {
+            this.dimension = normalized.length;
+            this.codes = new byte[this.scales.length * this.dimension];
+        }
+        this.ensureCapacity(position + 1);
+        this.scales[position] = quantize(normalized, this.codes, position * this.dimension);
+    }
+
+    @Override
+    public void move(int from, int to) {
+        System.arraycopy(this.codes, from * this.dimension, this.codes, to * this.dimension, this.dimension);
+        this.scales[to] = this.scales[from];
+    }
+
+    @Override
+    public IntToDoubleFunction scorer(float[] normalizedQuery) {
+        byte[] query = new byte[normalizedQuery.length];
+        float queryScale = quantize(normalizedQuery, query, 0);
+        byte[] actualCodes = this.codes;
+        float[] actualScales = this.scales;
+        int actualDimension = this.dimension;
+        return position -> (double) dotProduct(query, actualCodes, position * actualDimension, actualDimension)
+                * queryScale * actualScales[position];
+    }
+
+    @Override
+    public void write(DataOutput out, int size) throws IOException {
+        out.writeInt(this.dimension);
+        for (int position = 0; position < size; position++) {
+            out.writeFloat(this.scales[position]);
+            out.write(this.codes, position * this.dimension, this.dimension);
+        }
+    }
+
+    @Override
+    public void read(DataInput in, int size) throws IOException {
+        this.dimension = in.readInt();
+        this.codes = new byte[size * this.dimension];
+        this.scales = new float[size];
+        for (int position = 0; position < size; position++) {
+            this.scales[position] = in.readFloat();
+            in.readFully(this.codes, position * this.dimension, this.dimension);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.scales.length) {
+            return;
+        }
+        int actual = Math.max(Math.max(INITIAL_CAPACITY, this.scales.length + (this.scales.length >> 1)), capacity);
+        this.codes = Arrays.copyOf(this.codes, actual * this.dimension);
+        this.scales = Arrays.copyOf(this.scales, actual);
+    }
+
+    private static float quantize(float[] vector, byte[] target, int offset) {
+        float max = 0F;
+        for (float value : vector) {
+            max = Math.max(max, Math.abs(value));
+        }
+        if (max == 0F) {
+            Arrays.fill(target, offset, offset + vector.length, (byte) 0);
+            return 0F;
+        }
+        float inverse = LEVELS / max;
+        for (int i = 0; i < vector.length; i++) {
+            target[offset + i] = (byte) Math.round(vector[i] * inverse);
+        }
+        return max / LEVELS;
+    }
+
+    private static int dotProduct(byte[] query, byte[] codes, int offset, int length) {
+        int sum0 = 0;
+        int sum1 = 0;
+        int sum2 = 0;
+        int sum3 = 0;
+        int i = 0;
+        for (int bound = length - 3; i < bound; i += 4) {
+            sum0 += query[i] * codes[offset + i];
+            sum1 += query[i + 1] * codes[offset + i + 1];
+            sum2 += query[i + 2] * codes[offset + i + 2];
+            sum3 += query[i + 3] * codes[offset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += query[i] * codes[offset + i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+}
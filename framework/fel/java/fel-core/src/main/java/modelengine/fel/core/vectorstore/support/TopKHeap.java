@@ -0,0 +1,128 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+/**
+ * 表示保留评分最高的 {@code k} 个元素的有界最小堆。
+ * <p>堆顶为当前保留的元素中最差的一个：评分更低的元素更差，评分相同时位置更靠后的元素更差，因此结果与按评分降序的稳定排序一致。
+ * 选择 {@code k} 个元素的时间复杂度为 {@code O(n log k)}，避免对全部元素排序。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class TopKHeap {
+    private final int capacity;
+    private final double[] scores;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * 创建 {@link TopKHeap} 的实例。
+     *
+     * @param capacity 表示保留元素数量的 {@code int}。
+     */
+    TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.scores = new double[capacity];
+        this.positions = new int[capacity];
+    }
+
+    /**
+     * 尝试放入一个元素，当堆已满且该元素不优于堆顶时直接丢弃。
+     *
+     * @param score 表示元素评分的 {@code double}。
+     * @param position 表示元素位置的 {@code int}。
+     */
+    void offer(double score, int position) {
+        if (this.size < this.capacity) {
+            this.siftUp(this.size++, score, position);
+        } else if (this.capacity > 0 && isWorse(this.scores[0], this.positions[0], score, position)) {
+            this.siftDown(score, position);
+        }
+    }
+
+    /**
+     * 将另一个堆中的元素合并到当前堆中。
+     *
+     * @param other 表示另一个堆的 {@link TopKHeap}。
+     * @return 表示当前堆的 {@link TopKHeap}。
+     */
+    TopKHeap merge(TopKHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            this.offer(other.scores[i], other.positions[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 获取堆中元素的数量。
+     *
+     * @return 表示元素数量的 {@code int}。
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 依次取出堆中的全部元素，按评分降序写入给定的数组，调用后堆为空。
+     *
+     * @param sortedScores 表示接收评分的 {@code double[]}，长度不小于 {@link #size()}。
+     * @param sortedPositions 表示接收位置的 {@code int[]}，长度不小于 {@link #size()}。
+     */
+    void drainTo(double[] sortedScores, int[] sortedPositions) {
+        while (this.size > 0) {
+            int last = this.size - 1;
+            sortedScores[last] = this.scores[0];
+            sortedPositions[last] = this.positions[0];
+            this.size = last;
+            if (last > 0) {
+                this.siftDown(this.scores[last], this.positions[last]);
+            }
+        }
+    }
+
+    private void siftUp(int index, double score, int position) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(score, position, this.scores[parent], this.positions[parent])) {
+                break;
+            }
+            this.scores[index] = this.scores[parent];
+            this.positions[index] = this.positions[parent];
+            index = parent;
+        }
+        this.scores[index] = score;
+        this.positions[index] = position;
+    }
+
+    private void siftDown(double score, int position) {
+        int index = 0;
+        int half = this.size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && isWorse(this.scores[right],
+                    this.positions[right],
+                    this.scores[child],
+                    this.positions[child])) {
+                child = right;
+            }
+            if (!isWorse(this.scores[child], this.positions[child], score, position)) {
+                break;
+            }
+            this.scores[index] = this.scores[child];
+            this.positions[index] = this.positions[child];
+            index = child;
+        }
+        this.scores[index] = score;
+        this.positions[index] = position;
+    }
+
+    private static boolean isWorse(double score, int position, double otherScore, int otherPosition) {
+        return score < otherScore || (score == otherScore && position > otherPosition);
+    }
+}
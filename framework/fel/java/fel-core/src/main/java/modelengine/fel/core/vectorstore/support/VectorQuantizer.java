@@ -0,0 +1,99 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import modelengine.fel.core.vectorstore.QuantizationOption;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 表示向量的量化器，将归一化后的向量编码为紧凑的量化编码，并基于量化编码近似计算余弦相似度。
+ * <p>量化编码按位置存储，与 {@link ExactVectorIndex} 中向量的位置一一对应。该接口的实现不是线程安全的，由持有它的向量索引负责
+ * 同步。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+interface VectorQuantizer {
+    /**
+     * 获取量化的类型。
+     *
+     * @return 表示量化类型的 {@link QuantizationOption.Type}。
+     */
+    QuantizationOption.Type type();
+
+    /**
+     * 获取训练所需的向量数量，在向量数量达到该值之前，量化器不可用。
+     *
+     * @return 表示训练所需向量数量的 {@code int}，为 {@code 0} 时表示不需要训练。
+     */
+    int trainingSize();
+
+    /**
+     * 判断量化器是否已经可以编码和打分。
+     *
+     * @return 若量化器可用，则返回 {@code true}，否则返回 {@code false}。
+     */
+    boolean isTrained();
+
+    /**
+     * 使用样本向量训练量化器。
+     *
+     * @param samples 表示归一化后的样本向量的 {@code float[][]}。
+     */
+    void train(float[][] samples);
+
+    /**
+     * 清空量化器的编码和训练结果。
+     */
+    void clear();
+
+    /**
+     * 编码指定位置的向量。
+     *
+     * @param position 表示向量位置的 {@code int}。
+     * @param normalized 表示归一化后的向量的 {@code float[]}。
+     */
+    void encode(int position, float[] normalized);
+
+    /**
+     * 将一个位置的编码移动到另一个位置。
+     *
+     * @param from 表示原位置的 {@code int}。
+     * @param to 表示目标位置的 {@code int}。
+     */
+    void move(int from, int to);
+
+    /**
+     * 为查询向量创建近似打分器。
+     *
+     * @param normalizedQuery 表示归一化后的查询向量的 {@code float[]}。
+     * @return 表示根据位置计算近似余弦相似度的 {@link IntToDoubleFunction}。
+     */
+    IntToDoubleFunction scorer(float[] normalizedQuery);
+
+    /**
+     * 将训练结果和前 {@code size} 个位置的编码写入输出。
+     *
+     * @param out 表示输出的 {@link DataOutput}。
+     * @param size 表示编码数量的 {@code int}。
+     * @throws IOException 当写入过程中发生输入输出异常时。
+     */
+    void write(DataOutput out, int size) throws IOException;
+
+    /**
+     * 从输入中读取训练结果和 {@code size} 个位置的编码。
+     *
+     * @param in 表示输入的 {@link DataInput}。
+     * @param size 表示编码数量的 {@code int}。
+     * @throws IOException 当读取过程中发生输入输出异常或数据格式不正确时。
+     */
+    void read(DataInput in, int size) throws IOException;
+}
@@ -0,0 +1,100 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.memory.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fel.core.chat.ChatMessage;
+import modelengine.fel.core.chat.support.AiMessage;
+import modelengine.fel.core.chat.support.HumanMessage;
+import modelengine.fel.core.memory.Memory;
+import modelengine.fel.core.template.BulkStringTemplate;
+import modelengine.fel.core.template.support.DefaultBulkStringTemplate;
+import modelengine.fitframework.util.MapBuilder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 表示 {@link CacheMemory} 增量渲染与每轮全量渲染的耗时对比。
+ * <p>耗时较长，默认不执行，通过 {@code mvn test -Dfel.benchmark=true -Dtest=CacheMemoryBenchmarkTest} 执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("对比 CacheMemory 增量渲染与全量渲染的耗时")
+@EnabledIfSystemProperty(named = "fel.benchmark", matches = "true")
+public class CacheMemoryBenchmarkTest {
+    private static final int[] TURNS = {10, 50, 100, 200, 500};
+    private static final int ROUNDS = 50;
+    private static final Function<ChatMessage, Map<String, String>> EXTRACTOR =
+            message -> MapBuilder.<String, String>get()
+                    .put("type", message.type().getRole())
+                    .put("text", message.text())
+                    .build();
+
+    @Test
+    @DisplayName("10 到 500 轮对话中每轮读取历史记录的平均耗时")
+    void shouldReportRenderLatency() {
+        DefaultBulkStringTemplate template = new DefaultBulkStringTemplate("{{type}}:{{text}}", "\n");
+        BulkStringTemplate fullTemplate = new BulkStringTemplate() {
+            @Override
+            public String render(List<Map<String, String>> values) {
+                return template.render(values);
+            }
+
+            @Override
+            public Set<String> placeholder() {
+                return template.placeholder();
+            }
+        };
+        for (int turns : TURNS) {
+            converse(() -> new CacheMemory(template, EXTRACTOR), turns);
+            converse(() -> new CacheMemory(fullTemplate, EXTRACTOR), turns);
+            double incremental = converse(() -> new CacheMemory(template, EXTRACTOR), turns);
+            double full = converse(() -> new CacheMemory(fullTemplate, EXTRACTOR), turns);
+            System.out.printf("turns=%d, incremental=%.3fus/turn, full=%.3fus/turn%n", turns, incremental, full);
+        }
+        CacheMemory incremental = new CacheMemory(template, EXTRACTOR);
+        CacheMemory full = new CacheMemory(fullTemplate, EXTRACTOR);
+        for (int i = 0; i < TURNS[TURNS.length - 1]; i++) {
+            incremental.add(message(i));
+            full.add(message(i));
+            assertThat(incremental.text()).isEqualTo(full.text());
+        }
+    }
+
+    private static double converse(MemoryFactory factory, int turns) {
+        long start = System.nanoTime();
+        long length = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Memory memory = factory.create();
+            for (int i = 0; i < turns; i++) {
+                memory.add(message(i));
+                length += memory.text().length();
+            }
+        }
+        assertThat(length).isPositive();
+        return (System.nanoTime() - start) / 1e3 / ROUNDS / turns;
+    }
+
+    private static ChatMessage message(int index) {
+        String text = "This is the message of turn " + index + ", which carries a typical amount of text.";
+        return index % 2 == 0 ? new HumanMessage(text) : new AiMessage(text);
+    }
+
+    @FunctionalInterface
+    private interface MemoryFactory {
+        Memory create();
+    }
+}
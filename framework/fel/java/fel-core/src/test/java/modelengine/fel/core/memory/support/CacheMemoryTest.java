@@ -61,4 +61,16 @@ public class CacheMemoryTest {
         this.memory.set(newMessages);
         assertThat(this.memory.messages()).isEqualTo(newMessages);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("测试读取格式化文本后继续插入消息，格式化文本包含新增消息。")
+    void giveMessageAfterTextThenReadTextOk() {
+        assertThat(this.memory.text()).isEqualTo("human:hello\nai:hello");
+        this.memory.add(new HumanMessage("bye"));
+        assertThat(this.memory.text()).isEqualTo("human:hello\nai:hello\nhuman:bye");
+        this.memory.set(Arrays.asList(new HumanMessage("你好"), new AiMessage("你好")));
+        assertThat(this.memory.text()).isEqualTo("human:你好\nai:你好");
+        this.memory.clear();
+        assertThat(this.memory.text()).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.retriever.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.core.retriever.filter.ExpressionCompiler;
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.retriever.filter.Operand;
+import modelengine.fel.core.retriever.filter.Operator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 表示 {@link ExpressionCompiler} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 ExpressionCompiler")
+public class ExpressionCompilerTest {
+    private final Map<String, Object> metadata = new HashMap<>();
+
+    @BeforeEach
+    void setup() {
+        this.metadata.put("country", "china");
+        this.metadata.put("age", 30);
+        this.metadata.put("score", 4.5d);
+        this.metadata.put("title", "Vector 100%");
+    }
+
+    @Test
+    @DisplayName("数值按照数学上的大小比较，与类型无关")
+    void shouldCompareNumbersByValue() {
+        assertThat(test(Filter.eq("age", 30L))).isTrue();
+        assertThat(test(Filter.eq("age", 30.0d))).isTrue();
+        assertThat(test(Filter.gt("score", 4))).isTrue();
+        assertThat(test(Filter.le("score", 4.5f))).isTrue();
+        assertThat(test(Filter.lt("age", 30))).isFalse();
+        assertThat(test(Filter.in("age", Arrays.asList(1, 30L)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("组合表达式按照与、或的语义求值")
+    void shouldEvaluateLogicalExpressions() {
+        assertThat(test(Filter.eq("country", "china").and(Filter.ge("age", 18)))).isTrue();
+        assertThat(test(Filter.eq("country", "france").and(Filter.ge("age", 18)))).isFalse();
+        assertThat(test(Filter.eq("country", "france").or(Filter.notIn("age", Arrays.asList(1, 2))))).isTrue();
+    }
+
+    @Test
+    @DisplayName("不存在的键只满足不等于和不在集合中，类型不可比较时不满足大小关系")
+    void shouldHandleMissingKeyAndIncomparableTypes() {
+        assertThat(test(Filter.eq("missing", 1))).isFalse();
+        assertThat(test(Filter.ne("missing", 1))).isTrue();
+        assertThat(test(Filter.notIn("missing", Arrays.asList(1, 2)))).isTrue();
+        assertThat(test(Filter.gt("country", 1))).isFalse();
+        assertThat(test(Filter.lt("country", 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("模糊匹配支持 % 和 _ 通配符，其他字符按字面匹配")
+    void shouldMatchLikePattern() {
+        assertThat(test(Filter.like("country", "ch%"))).isTrue();
+        assertThat(test(Filter.like("country", "ch_na"))).isTrue();
+        assertThat(test(Filter.like("country", "ch"))).isFalse();
+        assertThat(test(Filter.like("title", "Vector 1__%"))).isTrue();
+        assertThat(test(Filter.like("title", "Vector.%"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("当比较表达式的左操作数不是键时，抛出 IllegalArgumentException")
+    void shouldThrowWhenLeftOperandIsNotKey() {
+        Operand.Expression expression = Operand.expression(Operator.EQ, Operand.value(1), Operand.value(1));
+        assertThatThrownBy(() -> ExpressionCompiler.compile(expression)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean test(Filter filter) {
+        Predicate<Map<String, Object>> predicate = ExpressionCompiler.compile(filter.expression());
+        return predicate.test(this.metadata);
+    }
+}
@@ -15,7 +15,11 @@ import modelengine.fel.core.tokenizer.Tokenizer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
 
 /**
  * 表示 {@link TokenTextSplitter} 的测试集。
@@ -42,4 +46,71 @@ public class TokenTextSplitterTest {
         Document document = Document.custom().text("").metadata(new HashMap<>()).build();
         assertThat(splitter.split(document)).hasSize(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("流式切分大文档，结果与整体切分一致")
+    void giveReaderThenReturnSameChunks() {
+        String text = randomText(100_000);
+        TokenTextSplitter splitter = new TokenTextSplitter(new SimpleTokenizer(), 400, 200);
+        List<String> expected = splitter.splitText(text);
+        assertThat(splitter.splitText(new StringReader(text)).blockAll()).isEqualTo(expected);
+        TokenTextSplitter skipping = new TokenTextSplitter(new SimpleTokenizer(), 300, -20_000);
+        assertThat(skipping.splitText(new StringReader(text)).blockAll()).isEqualTo(skipping.splitText(text));
+    }
+
+    @Test
+    @DisplayName("流式切分时按需读取，只保留未输出的文本")
+    void giveReaderThenReadLazily() {
+        String text = randomText(1_000_000);
+        CountingReader reader = new CountingReader(text);
+        TokenChunkIterator iterator = new TokenChunkIterator(reader, new SimpleTokenizer(), 400, 200);
+        assertThat(iterator.next()).isEqualTo(text.substring(0, 400));
+        assertThat(reader.count).isLessThan(text.length() / 10);
+        int chunks = 1;
+        while (iterator.hasNext()) {
+            iterator.next();
+            chunks++;
+        }
+        assertThat(chunks).isEqualTo((text.length() - 400 + 199) / 200 + 1);
+        assertThat(reader.count).isEqualTo(text.length());
+    }
+
+    @Test
+    @DisplayName("流式切分空白文档，不产生分块")
+    void giveBlankReaderThenReturnEmpty() {
+        TokenTextSplitter splitter = new TokenTextSplitter(new SimpleTokenizer());
+        assertThat(splitter.splitText(new StringReader("  \n ")).blockAll()).isEmpty();
+        Document document = Document.custom().text("This is test.").metadata(new HashMap<>()).build();
+        List<Document> documents = new TokenTextSplitter(new SimpleTokenizer(), 2, 1).split(new StringReader(
+                document.text()), document.metadata()).blockAll();
+        assertThat(documents).hasSize(12).allMatch(chunk -> chunk.metadata().equals(document.metadata()));
+    }
+
+    private static String randomText(int length) {
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int word = 1 + random.nextInt(12);
+            for (int i = 0; i < word; i++) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+            builder.append(random.nextInt(10) == 0 ? "\n" : " ");
+        }
+        return builder.substring(0, length);
+    }
+
+    private static class CountingReader extends StringReader {
+        private int count;
+
+        CountingReader(String text) {
+            super(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            this.count += Math.max(read, 0);
+            return read;
+        }
+    }
+}
@@ -63,4 +63,17 @@ public class StringTemplateTest {
         assertThat(partial.placeholder()).contains("adjective").doesNotContain("content");
         assertThat(partial.render(values)).isEqualTo("Tell me a funny joke about chickens.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("当模板包含转义字符时，按照原始语义渲染")
+    void giveEscapedTemplateThenReturnOk() {
+        String template = "\\{{literal}} {{name}}\\\\ }}";
+        Map<String, String> values = MapBuilder.<String, String>get().put("name", "value").build();
+        StringTemplate stringTemplate = new DefaultStringTemplate(template);
+        assertThat(stringTemplate.placeholder()).containsExactly("name");
+        assertThat(stringTemplate.render(values)).isEqualTo("{{literal}} value\\ }}");
+        StringBuilder builder = new StringBuilder("prefix:");
+        stringTemplate.render(values, builder);
+        assertThat(builder.toString()).isEqualTo("prefix:{{literal}} value\\ }}");
+    }
+}
@@ -0,0 +1,128 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.util.MathUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 表示 {@link ExactVectorIndex} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 ExactVectorIndex")
+public class ExactVectorIndexTest {
+    @Test
+    @DisplayName("分区并行检索的结果与逐个比较后全量排序的结果完全一致")
+    void shouldReturnSameRankingAsFullSort() {
+        Random random = new Random(3L);
+        List<List<Float>> vectors = IntStream.range(0, 20000)
+                .mapToObj(i -> randomVector(random, 37))
+                .collect(Collectors.toList());
+        ExactVectorIndex index = new ExactVectorIndex();
+        for (int i = 0; i < vectors.size(); i++) {
+            index.add("doc-" + i, MathUtils.toArray(vectors.get(i)), null);
+        }
+        List<Float> query = randomVector(random, 37);
+        List<Neighbor> expected = IntStream.range(0, vectors.size())
+                .mapToObj(i -> new Neighbor("doc-" + i, MathUtils.cosineSimilarity(query, vectors.get(i))))
+                .sorted(Comparator.comparingDouble(Neighbor::score).reversed())
+                .limit(50)
+                .collect(Collectors.toList());
+        List<Neighbor> actual = index.search(MathUtils.toArray(query), 50, null);
+        assertThat(actual).extracting(Neighbor::id).containsExactlyElementsOf(ids(expected));
+        assertThat(actual).extracting(Neighbor::score)
+                .containsExactlyElementsOf(expected.stream().map(Neighbor::score).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("评分相同时，按插入顺序返回")
+    void shouldKeepInsertionOrderWhenScoresEqual() {
+        ExactVectorIndex index = new ExactVectorIndex();
+        index.add("a", new float[] {1, 0}, null);
+        index.add("b", new float[] {0, 1}, null);
+        index.add("c", new float[] {2, 0}, null);
+        index.add("d", new float[] {1, 0}, null);
+        assertThat(index.search(new float[] {1, 0}, 3, null)).extracting(Neighbor::id).containsExactly("a", "c", "d");
+    }
+
+    @Test
+    @DisplayName("删除和替换向量后，检索结果正确")
+    void shouldSearchCorrectlyAfterRemoveAndReplace() {
+        ExactVectorIndex index = new ExactVectorIndex();
+        index.add("a", new float[] {1, 0}, null);
+        index.add("b", new float[] {0, 1}, null);
+        index.add("c", new float[] {1, 1}, null);
+        assertThat(index.remove("a")).isTrue();
+        assertThat(index.remove("a")).isFalse();
+        index.add("b", new float[] {1, 0.1f}, null);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.get("b")).containsExactly(1, 0.1f);
+        assertThat(index.search(new float[] {1, 0}, 10, null)).extracting(Neighbor::id).containsExactly("b", "c");
+    }
+
+    @Test
+    @DisplayName("指定元数据过滤器时，只返回满足条件的向量，且删除后索引随位置更新")
+    void shouldOnlyReturnMatchedVectorsWhenFilterSpecified() {
+        ExactVectorIndex index = new ExactVectorIndex();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("tenant", i % 4 == 0 ? "a" : "b");
+            metadata.put("year", 2000 + i);
+            index.add("doc-" + i, new float[] {1, i}, metadata);
+        }
+        index.remove("doc-0");
+        Filter filter = Filter.eq("tenant", "a").and(Filter.ge("year", 2050L));
+        List<Neighbor> neighbors = index.search(new float[] {1, 0}, 100, filter);
+        assertThat(neighbors).extracting(Neighbor::id)
+                .containsExactlyElementsOf(IntStream.range(50, 100)
+                        .filter(i -> i % 4 == 0)
+                        .mapToObj(i -> "doc-" + i)
+                        .collect(Collectors.toList()));
+        assertThat(index.search(new float[] {1, 0}, 10, Filter.ne("tenant", "b"))).extracting(Neighbor::id)
+                .containsExactly("doc-4", "doc-8", "doc-12", "doc-16", "doc-20", "doc-24", "doc-28", "doc-32",
+                        "doc-36", "doc-40");
+    }
+
+    @Test
+    @DisplayName("当向量维度与索引不一致时，抛出 IllegalArgumentException")
+    void shouldThrowWhenDimensionMismatch() {
+        ExactVectorIndex index = new ExactVectorIndex();
+        index.add("a", new float[] {1, 0}, null);
+        assertThatThrownBy(() -> index.add("b", new float[] {1, 0, 0}, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(new float[] {1}, 1, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> ids(List<Neighbor> neighbors) {
+        return neighbors.stream().map(Neighbor::id).collect(Collectors.toList());
+    }
+
+    private static List<Float> randomVector(Random random, int dimension) {
+        List<Float> vector = new ArrayList<>(dimension);
+        for (int i = 0; i < dimension; i++) {
+            vector.add((float) random.nextGaussian());
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,74 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fel.core.embed.EmbedOption;
+import modelengine.fel.core.embed.support.DefaultDocumentEmbedModel;
+import modelengine.fel.core.vectorstore.HnswOption;
+import modelengine.fel.core.vectorstore.SearchOption;
+import modelengine.fel.core.vectorstore.VectorStore;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link HnswVectorStore} 与 {@link MemoryVectorStore} 的召回率与延迟对比。
+ * <p>耗时较长，默认不执行，通过 {@code mvn test -Dfel.benchmark=true -Dtest=HnswVectorStoreBenchmarkTest} 执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("对比 HnswVectorStore 与暴力检索的召回率与延迟")
+@EnabledIfSystemProperty(named = "fel.benchmark", matches = "true")
+public class HnswVectorStoreBenchmarkTest {
+    private static final int DOCUMENT_COUNT = 100_000;
+    private static final int QUERY_COUNT = 200;
+    private static final int DIMENSION = 128;
+    private static final int INTRINSIC_DIMENSION = 16;
+
+    @Test
+    @DisplayName("十万文档下的召回率与平均检索延迟")
+    void shouldReportRecallAndLatency() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(DOCUMENT_COUNT,
+                QUERY_COUNT,
+                DIMENSION,
+                INTRINSIC_DIMENSION,
+                42L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        MemoryVectorStore exact = new MemoryVectorStore(embedModel);
+        exact.persistent(model.documents());
+        HnswVectorStore hnsw = new HnswVectorStore(embedModel, HnswOption.custom().efSearch(128).build());
+        long start = System.nanoTime();
+        hnsw.persistent(model.documents());
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        double exactLatency = averageLatency(exact);
+        double hnswLatency = averageLatency(hnsw);
+        double recall = HnswVectorStoreTest.recall(hnsw, exact, QUERY_COUNT);
+        System.out.printf("documents=%d, dimension=%d, build=%dms%n", DOCUMENT_COUNT, DIMENSION, buildMillis);
+        System.out.printf("brute force: %.3fms/query%n", exactLatency);
+        System.out.printf("hnsw: %.3fms/query, recall@10=%.4f%n", hnswLatency, recall);
+        assertThat(recall).isGreaterThanOrEqualTo(0.9);
+    }
+
+    private static double averageLatency(VectorStore store) {
+        SearchOption option = SearchOption.custom().topK(10).build();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            store.search("query-" + i, option);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            store.search("query-" + i, option);
+        }
+        return (System.nanoTime() - start) / 1e6 / QUERY_COUNT;
+    }
+}
@@ -0,0 +1,246 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+import modelengine.fel.core.document.Document;
+import modelengine.fel.core.document.MeasurableDocument;
+import modelengine.fel.core.embed.EmbedOption;
+import modelengine.fel.core.embed.support.DefaultDocumentEmbedModel;
+import modelengine.fel.core.retriever.filter.ExpressionCompiler;
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.vectorstore.HnswOption;
+import modelengine.fel.core.vectorstore.SearchOption;
+import modelengine.fel.core.vectorstore.VectorStore;
+import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
+import modelengine.fitframework.serialization.ObjectSerializer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 表示 {@link HnswVectorStore} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 HnswVectorStore")
+public class HnswVectorStoreTest {
+    private static final SearchOption TOP_10 = SearchOption.custom().topK(10).build();
+
+    @Test
+    @DisplayName("插入文档后，查询结果与暴力检索一致")
+    void shouldReturnSameResultAsMemoryStoreWhenFewDocuments() {
+        VectorStore vectorStore = new HnswVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        vectorStore.persistent(EmbedModelStub.generateTestDocuments());
+        List<MeasurableDocument> documents = vectorStore.search("test", SearchOption.custom().topK(3).build());
+        assertThat(documents).hasSize(3)
+                .isSortedAccordingTo(Comparator.comparingDouble(MeasurableDocument::score).reversed());
+        assertThat(documents.get(0).text()).isEqualTo("test0");
+        assertThat(documents.get(0).score()).isCloseTo(1.0, offset(1e-5));
+    }
+
+    @Test
+    @DisplayName("在随机向量上的召回率不低于 0.9")
+    void shouldHaveHighRecallOnRandomVectors() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(2000, 50, 32, 7L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        HnswVectorStore hnsw = new HnswVectorStore(embedModel, HnswOption.custom().m(16).efSearch(100).build());
+        MemoryVectorStore exact = new MemoryVectorStore(embedModel);
+        hnsw.persistent(model.documents());
+        exact.persistent(model.documents());
+        assertThat(recall(hnsw, exact, 50)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("删除文档后，查询结果不包含被删除的文档")
+    void shouldNotReturnDeletedDocuments() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(200, 1, 16, 11L);
+        HnswVectorStore vectorStore =
+                new HnswVectorStore(new DefaultDocumentEmbedModel(model, EmbedOption.custom().build()));
+        vectorStore.persistent(model.documents());
+        List<String> deleted = IntStream.range(0, 150).mapToObj(i -> "doc-" + i).collect(Collectors.toList());
+        vectorStore.delete(deleted);
+        List<MeasurableDocument> documents = vectorStore.search("query-0", TOP_10);
+        assertThat(vectorStore.size()).isEqualTo(50);
+        assertThat(documents).hasSize(10).extracting(MeasurableDocument::id).doesNotContainAnyElementsOf(deleted);
+    }
+
+    @Test
+    @DisplayName("重复插入相同编号的文档时，替换原有文档")
+    void shouldReplaceDocumentWhenIdExists() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(20, 1, 8, 13L);
+        HnswVectorStore vectorStore =
+                new HnswVectorStore(new DefaultDocumentEmbedModel(model, EmbedOption.custom().build()));
+        vectorStore.persistent(model.documents());
+        vectorStore.persistent(model.documents());
+        assertThat(vectorStore.size()).isEqualTo(20);
+        assertThat(vectorStore.search("query-0", SearchOption.custom().topK(30).build())).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("保存到本地文件后重新加载，查询结果一致")
+    void shouldOkWhenSaveToFileThenLoad(@TempDir Path dir) {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        VectorEmbedModelStub model = new VectorEmbedModelStub(500, 1, 16, 17L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        HnswVectorStore vectorStore = new HnswVectorStore(embedModel);
+        vectorStore.persistent(model.documents());
+        vectorStore.delete(Collections.singletonList("doc-0"));
+        List<MeasurableDocument> first = vectorStore.search("query-0", TOP_10);
+
+        Path file = dir.resolve("index.hnsw");
+        vectorStore.persist(file, serializer);
+        HnswVectorStore resumeStore = new HnswVectorStore(embedModel);
+        resumeStore.load(file, serializer);
+        List<MeasurableDocument> second = resumeStore.search("query-0", TOP_10);
+        assertThat(second).isEqualTo(first);
+        assertThat(resumeStore.size()).isEqualTo(499);
+        assertThat(second.get(0).metadata()).containsKey("index");
+    }
+
+    @Test
+    @DisplayName("索引中的向量没有对应的文档时，加载失败")
+    void shouldFailWhenDocumentOfVectorMissing() throws IOException {
+        HnswIndex index = new HnswIndex(4, 16);
+        index.add("a", new float[] {1, 0}, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        index.write(data);
+        data.writeInt(0);
+        data.flush();
+
+        HnswVectorStore vectorStore = new HnswVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        assertThatThrownBy(() -> vectorStore.load(new ByteArrayInputStream(out.toByteArray()), serializer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The document of the vector does not exist. [id=a]");
+    }
+
+    @Test
+    @DisplayName("指定元数据过滤器时，选择性高和选择性低的过滤器都只返回满足条件的文档")
+    void shouldOnlyReturnMatchedDocumentsWhenFilterSpecified() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(10000, 10, 16, 19L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        HnswVectorStore hnsw = new HnswVectorStore(embedModel);
+        MemoryVectorStore exact = new MemoryVectorStore(embedModel);
+        hnsw.persistent(model.documents());
+        exact.persistent(model.documents());
+        Filter selective = Filter.lt("index", 100);
+        Filter broad = Filter.ge("index", 2000).and(Filter.ne("index", 5000));
+        for (Filter filter : Arrays.asList(selective, broad)) {
+            SearchOption option = SearchOption.custom().topK(10).filter(filter).build();
+            Predicate<Map<String, Object>> predicate = ExpressionCompiler.compile(filter.expression());
+            for (int i = 0; i < 10; i++) {
+                List<MeasurableDocument> expected = exact.search("query-" + i, option);
+                List<MeasurableDocument> actual = hnsw.search("query-" + i, option);
+                assertThat(actual).hasSize(10).allMatch(document -> predicate.test(document.metadata()));
+                assertThat(expected).hasSize(10).allMatch(document -> predicate.test(document.metadata()));
+            }
+        }
+        SearchOption selectiveOption = SearchOption.custom().topK(10).filter(selective).build();
+        assertThat(hnsw.search("query-0", selectiveOption)).extracting(MeasurableDocument::id)
+                .containsExactlyElementsOf(exact.search("query-0", selectiveOption)
+                        .stream()
+                        .map(MeasurableDocument::id)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("当向量维度与索引不一致时，抛出 IllegalArgumentException")
+    void shouldThrowWhenDimensionMismatch() {
+        HnswIndex index = new HnswIndex(4, 16);
+        index.add("a", new float[] {1, 0, 0}, null);
+        assertThatThrownBy(() -> index.add("b", new float[] {1, 0}, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(new float[] {0, 0, 0}, 1, 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("插入和删除文档的同时持久化，持久化的结果可以完整加载")
+    void shouldLoadWhenPersistWhileModifying() throws Exception {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        DefaultDocumentEmbedModel embedModel =
+                new DefaultDocumentEmbedModel(new EmbedModelStub(), EmbedOption.custom().build());
+        HnswVectorStore vectorStore = new HnswVectorStore(embedModel);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; running.get(); i++) {
+                    vectorStore.persistent(Collections.singletonList(Document.custom()
+                            .id("test" + i)
+                            .text("test" + i)
+                            .metadata(Collections.emptyMap())
+                            .build()));
+                    vectorStore.delete(Collections.singletonList("test" + (i - 100)));
+                }
+            });
+            started.await();
+            for (int i = 0; i < 200; i++) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                vectorStore.persist(out, serializer);
+                HnswVectorStore loaded = new HnswVectorStore(embedModel);
+                loaded.load(new ByteArrayInputStream(out.toByteArray()), serializer);
+            }
+            running.set(false);
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    static double recall(VectorStore approximate, VectorStore exact, int queryCount) {
+        int hits = 0;
+        int total = 0;
+        for (int i = 0; i < queryCount; i++) {
+            Set<String> expected = exact.search("query-" + i, TOP_10)
+                    .stream()
+                    .map(MeasurableDocument::id)
+                    .collect(Collectors.toCollection(HashSet::new));
+            for (MeasurableDocument document : approximate.search("query-" + i, TOP_10)) {
+                if (expected.contains(document.id())) {
+                    hits++;
+                }
+            }
+            total += expected.size();
+        }
+        return (double) hits / total;
+    }
+}
@@ -7,10 +7,13 @@
 package modelengine.fel.core.vectorstore.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import modelengine.fel.core.document.Document;
 import modelengine.fel.core.document.MeasurableDocument;
 import modelengine.fel.core.embed.EmbedOption;
 import modelengine.fel.core.embed.support.DefaultDocumentEmbedModel;
+import modelengine.fel.core.vectorstore.QuantizationOption;
 import modelengine.fel.core.vectorstore.SearchOption;
 import modelengine.fel.core.vectorstore.VectorStore;
 import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
@@ -21,10 +24,23 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * 表示 {@link MemoryVectorStore} 的单元测试。
@@ -67,4 +83,176 @@ public class MemoryVectorStoreTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("开启标量量化后，召回率不低于 0.95，且返回精确的相似度")
+    void shouldRerankWithExactScoreWhenScalarQuantized() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(3000, 20, 64, 16, 17L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        MemoryVectorStore quantized = new MemoryVectorStore(embedModel,
+                QuantizationOption.custom().type(QuantizationOption.Type.SCALAR).oversampling(4).build());
+        MemoryVectorStore exact = new MemoryVectorStore(embedModel);
+        quantized.persistent(model.documents());
+        exact.persistent(model.documents());
+        assertThat(HnswVectorStoreTest.recall(quantized, exact, 20)).isGreaterThanOrEqualTo(0.95);
+        Map<String, Double> expected = exact.search("query-0", SearchOption.custom().topK(3000).build())
+                .stream()
+                .collect(Collectors.toMap(MeasurableDocument::id, MeasurableDocument::score));
+        assertThat(quantized.search("query-0", SearchOption.custom().topK(10).build())).hasSize(10)
+                .allSatisfy(document -> assertThat(document.score()).isEqualTo(expected.get(document.id())));
+    }
+
+    @Test
+    @DisplayName("开启乘积量化后，召回率不低于 0.9")
+    void shouldHaveHighRecallWhenProductQuantized() {
+        VectorEmbedModelStub model = new VectorEmbedModelStub(3000, 20, 64, 16, 19L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        MemoryVectorStore quantized = new MemoryVectorStore(embedModel,
+                QuantizationOption.custom().type(QuantizationOption.Type.PRODUCT).subspaces(16).build());
+        MemoryVectorStore exact = new MemoryVectorStore(embedModel);
+        quantized.persistent(model.documents());
+        exact.persistent(model.documents());
+        assertThat(HnswVectorStoreTest.recall(quantized, exact, 20)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("开启乘积量化后，持久化后重新加载的查询结果不变")
+    void shouldKeepResultsWhenPersistThenLoadProductQuantized() throws IOException {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        VectorEmbedModelStub model = new VectorEmbedModelStub(2500, 5, 32, 8, 23L);
+        DefaultDocumentEmbedModel embedModel = new DefaultDocumentEmbedModel(model, EmbedOption.custom().build());
+        QuantizationOption option = QuantizationOption.custom().type(QuantizationOption.Type.PRODUCT).build();
+        MemoryVectorStore vectorStore = new MemoryVectorStore(embedModel, option);
+        vectorStore.persistent(model.documents());
+        vectorStore.delete(Arrays.asList("doc-0", "doc-1"));
+        SearchOption searchOption = SearchOption.custom().topK(10).build();
+        List<MeasurableDocument> first = vectorStore.search("query-0", searchOption);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        vectorStore.persist(out, serializer);
+        MemoryVectorStore resumeStore = new MemoryVectorStore(embedModel, option);
+        resumeStore.load(new ByteArrayInputStream(out.toByteArray()), serializer);
+        List<MeasurableDocument> second = resumeStore.search("query-0", searchOption);
+        assertThat(second).isEqualTo(first);
+        assertThat(second.get(0).metadata()).containsKey("index");
+    }
+
+    @Test
+    @DisplayName("加载旧版本 JSON 格式的数据成功")
+    void shouldLoadLegacyJson() {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("a", legacyDocument("a", "first", Arrays.asList(1F, 0F)));
+        legacy.put("b", legacyDocument("b", "second", Arrays.asList(0F, 1F)));
+        byte[] bytes = serializer.serialize(legacy, StandardCharsets.UTF_8);
+
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(
+                (inputs, option) -> Collections.singletonList(() -> Arrays.asList(0.1F, 1F)),
+                EmbedOption.custom().build()));
+        vectorStore.load(new ByteArrayInputStream(bytes), serializer);
+        List<MeasurableDocument> documents = vectorStore.search("query", SearchOption.custom().topK(2).build());
+        assertThat(documents).extracting(MeasurableDocument::id).containsExactly("b", "a");
+        assertThat(documents.get(0).text()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("加载旧版本 JSON 格式的空数据成功")
+    void shouldLoadLegacyEmptyJson() {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        vectorStore.load(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), serializer);
+        assertThat(vectorStore.search("test", SearchOption.custom().topK(3).build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("索引中的向量没有对应的文档时，加载失败")
+    void shouldFailWhenDocumentOfVectorMissing() throws IOException {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        ExactVectorIndex index = new ExactVectorIndex();
+        index.add("a", new float[] {1F, 0F}, Collections.emptyMap());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        index.write(data);
+        data.writeInt(0);
+        data.flush();
+
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        assertThatThrownBy(() -> vectorStore.load(new ByteArrayInputStream(out.toByteArray()), serializer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The document of the vector does not exist. [id=a]");
+    }
+
+    @Test
+    @DisplayName("文档没有对应的向量时，加载失败并给出文档标识")
+    void shouldFailWhenVectorOfDocumentMissing() throws IOException {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        new ExactVectorIndex().write(data);
+        data.writeInt(1);
+        data.writeUTF("a");
+        byte[] text = "text".getBytes(StandardCharsets.UTF_8);
+        data.writeInt(text.length);
+        data.write(text);
+        byte[] metadata = serializer.serialize(Collections.emptyMap(), StandardCharsets.UTF_8);
+        data.writeInt(metadata.length);
+        data.write(metadata);
+        data.flush();
+
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        vectorStore.persistent(EmbedModelStub.generateTestDocuments());
+        assertThatThrownBy(() -> vectorStore.load(new ByteArrayInputStream(out.toByteArray()), serializer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The vector of the document does not exist. [id=a]");
+        assertThat(vectorStore.search("test", SearchOption.custom().topK(10).build())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("插入和删除文档的同时持久化，持久化的结果可以完整加载")
+    void shouldLoadWhenPersistWhileModifying() throws Exception {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null, true);
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; running.get(); i++) {
+                    vectorStore.persistent(Collections.singletonList(Document.custom()
+                            .id("test" + i)
+                            .text("test" + i)
+                            .metadata(Collections.emptyMap())
+                            .build()));
+                    vectorStore.delete(Collections.singletonList("test" + (i - 100)));
+                }
+            });
+            started.await();
+            for (int i = 0; i < 200; i++) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                vectorStore.persist(out, serializer);
+                MemoryVectorStore loaded = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                        EmbedOption.custom().build()));
+                loaded.load(new ByteArrayInputStream(out.toByteArray()), serializer);
+            }
+            running.set(false);
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> legacyDocument(String id, String text, List<Float> embedding) {
+        Map<String, Object> document = new HashMap<>();
+        document.put("id", id);
+        document.put("text", text);
+        document.put("metadata", Collections.emptyMap());
+        document.put("embedding", embedding);
+        return document;
+    }
+}
@@ -0,0 +1,98 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.core.vectorstore.support;
+
+import modelengine.fel.core.document.Document;
+import modelengine.fel.core.embed.EmbedModel;
+import modelengine.fel.core.embed.EmbedOption;
+import modelengine.fel.core.embed.Embedding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 使用随机向量的嵌入模型打桩实现，文本 {@code doc-i} 和 {@code query-i} 分别对应第 i 个文档和查询的向量。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+class VectorEmbedModelStub implements EmbedModel {
+    private final Map<String, List<Float>> vectors = new HashMap<>();
+    private final int documentCount;
+
+    VectorEmbedModelStub(int documentCount, int queryCount, int dimension, long seed) {
+        this(documentCount, queryCount, dimension, dimension, seed);
+    }
+
+    /**
+     * 创建打桩实例，向量由 {@code intrinsicDimension} 维的随机向量经过固定的随机投影得到，以模拟真实嵌入向量的低内在维度。
+     */
+    VectorEmbedModelStub(int documentCount, int queryCount, int dimension, int intrinsicDimension, long seed) {
+        this.documentCount = documentCount;
+        Random random = new Random(seed);
+        float[][] projection = null;
+        if (intrinsicDimension < dimension) {
+            projection = new float[intrinsicDimension][];
+            for (int i = 0; i < intrinsicDimension; i++) {
+                projection[i] = randomVector(random, dimension);
+            }
+        }
+        for (int i = 0; i < documentCount; i++) {
+            this.vectors.put("doc-" + i, project(randomVector(random, intrinsicDimension), projection));
+        }
+        for (int i = 0; i < queryCount; i++) {
+            this.vectors.put("query-" + i, project(randomVector(random, intrinsicDimension), projection));
+        }
+    }
+
+    List<Document> documents() {
+        List<Document> documents = new ArrayList<>(this.documentCount);
+        for (int i = 0; i < this.documentCount; i++) {
+            documents.add(Document.custom()
+                    .id("doc-" + i)
+                    .text("doc-" + i)
+                    .metadata(Collections.singletonMap("index", i))
+                    .build());
+        }
+        return documents;
+    }
+
+    @Override
+    public List<Embedding> generate(List<String> inputs, EmbedOption ignored) {
+        return inputs.stream().map(input -> (Embedding) () -> this.vectors.get(input)).collect(Collectors.toList());
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static List<Float> project(float[] latent, float[][] projection) {
+        float[] vector = latent;
+        if (projection != null) {
+            vector = new float[projection[0].length];
+            for (int i = 0; i < latent.length; i++) {
+                for (int j = 0; j < vector.length; j++) {
+                    vector[j] += latent[i] * projection[i][j];
+                }
+            }
+        }
+        List<Float> result = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            result.add(value);
+        }
+        return result;
+    }
+}
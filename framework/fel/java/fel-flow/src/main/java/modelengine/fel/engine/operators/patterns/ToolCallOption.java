@@ -0,0 +1,88 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.engine.operators.patterns;
+
+import modelengine.fitframework.pattern.builder.BuilderFactory;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 表示智能体执行工具调用的参数。
+ * <p>一轮模型响应中的多个工具调用会在 {@code executor} 上并发执行，同时执行的数量不超过 {@code concurrency}，每个工具调用的
+ * 执行时间不超过 {@code timeout}，超时的工具调用会被中断。未设置的参数使用默认值：{@code executor} 为共享的有界守护线程池，
+ * {@code concurrency} 为 8，{@code timeout} 为不限制。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface ToolCallOption {
+    /**
+     * 获取执行工具调用的线程池。
+     *
+     * @return 表示执行工具调用线程池的 {@link Executor}。
+     */
+    Executor executor();
+
+    /**
+     * 获取单个工具调用的超时时间，单位为毫秒。
+     *
+     * @return 表示超时时间的 {@link Long}。
+     */
+    Long timeout();
+
+    /**
+     * 获取一轮对话中同时执行的工具调用的最大数量。
+     *
+     * @return 表示最大并发数量的 {@link Integer}。
+     */
+    Integer concurrency();
+
+    /**
+     * 表示 {@link ToolCallOption} 的构建器。
+     */
+    interface Builder {
+        /**
+         * 设置执行工具调用的线程池。
+         *
+         * @param executor 表示执行工具调用线程池的 {@link Executor}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * 设置单个工具调用的超时时间，单位为毫秒。
+         *
+         * @param timeout 表示超时时间的 {@link Long}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder timeout(Long timeout);
+
+        /**
+         * 设置一轮对话中同时执行的工具调用的最大数量。
+         *
+         * @param concurrency 表示最大并发数量的 {@link Integer}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder concurrency(Integer concurrency);
+
+        /**
+         * 构建 {@link ToolCallOption} 的实例。
+         *
+         * @return 表示构建成功的 {@link ToolCallOption}。
+         */
+        ToolCallOption build();
+    }
+
+    /**
+     * 获取 {@link Builder} 的实例。
+     *
+     * @return 表示构建器实例的 {@link Builder}。
+     */
+    static Builder custom() {
+        return BuilderFactory.get(ToolCallOption.class, ToolCallOption.Builder.class).create(null);
+    }
+}
@@ -6,6 +6,7 @@
 
 package modelengine.fel.engine.operators.patterns.support;
 
+import static modelengine.fitframework.inspection.Validation.greaterThan;
 import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
@@ -16,21 +17,49 @@ import modelengine.fel.core.chat.support.ToolMessage;
 import modelengine.fel.core.tool.ToolCall;
 import modelengine.fel.engine.operators.models.ChatFlowModel;
 import modelengine.fel.engine.operators.patterns.AbstractAgent;
+import modelengine.fel.engine.operators.patterns.ToolCallOption;
+import modelengine.fel.engine.util.AiFlowSession;
 import modelengine.fel.tool.service.ToolExecuteService;
+import modelengine.fit.waterflow.domain.context.FlowSession;
 import modelengine.fit.waterflow.domain.context.StateContext;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 表示智能体的默认实现。
+ * <p>一轮模型响应中的多个工具调用并发执行，结果按照工具调用的顺序返回，任一工具调用失败或超时时，中断尚未完成的工具调用。</p>
  *
  * @author 易文渊
  * @since 2024-09-02
  */
 public class DefaultAgent extends AbstractAgent {
+    private static final int DEFAULT_CONCURRENCY = 8;
+    private static final int MAX_TOOL_THREADS = 64;
+    private static final LazyLoader<ThreadPoolExecutor> DEFAULT_EXECUTOR =
+            new LazyLoader<>(DefaultAgent::createExecutor);
+    private static final LazyLoader<ThreadPoolScheduler> TIMER =
+            new LazyLoader<>(() -> ThreadPoolScheduler.timingWheel("fel-agent-tool-timer", Runnable::run));
+
     private final String namespace;
     private final ToolExecuteService toolExecuteService;
+    private final Executor executor;
+    private final Long timeout;
+    private final int concurrency;
 
     /**
      * 创建一个智能体。
@@ -40,16 +69,209 @@ public class DefaultAgent extends AbstractAgent {
      * @param toolExecuteService 智能体的工具执行服务。
      */
     public DefaultAgent(ChatFlowModel flowModel, String namespace, ToolExecuteService toolExecuteService) {
+        this(flowModel, namespace, toolExecuteService, ToolCallOption.custom().build());
+    }
+
+    /**
+     * 创建一个智能体。
+     *
+     * @param flowModel 智能体的流程模型。
+     * @param namespace 智能体的命名空间。
+     * @param toolExecuteService 智能体的工具执行服务。
+     * @param option 智能体执行工具调用的参数。
+     */
+    public DefaultAgent(ChatFlowModel flowModel, String namespace, ToolExecuteService toolExecuteService,
+            ToolCallOption option) {
         super(flowModel);
         this.namespace = notBlank(namespace, "The namespace cannot be blank.");
         this.toolExecuteService = notNull(toolExecuteService, "The tool execute service cannot be null.");
+        notNull(option, "The tool call option cannot be null.");
+        this.executor = option.executor() != null
+                ? option.executor()
+                : runnable -> DEFAULT_EXECUTOR.get().execute(Task.builder().runnable(runnable).buildDisposable());
+        this.timeout = option.timeout();
+        if (this.timeout != null) {
+            greaterThan(this.timeout, 0L, "The tool call timeout must be positive. [timeout={0}]", this.timeout);
+        }
+        this.concurrency = ObjectUtils.nullIf(option.concurrency(), DEFAULT_CONCURRENCY);
+        greaterThan(this.concurrency,
+                0,
+                "The tool call concurrency must be positive. [concurrency={0}]",
+                this.concurrency);
     }
 
     @Override
     protected Prompt doToolCall(List<ToolCall> toolCalls, StateContext ctx) {
-        return toolCalls.stream().map(toolCall -> {
-            String text = this.toolExecuteService.execute(this.namespace, toolCall.name(), toolCall.arguments());
-            return (ChatMessage) new ToolMessage(toolCall.id(), text);
-        }).collect(Collectors.collectingAndThen(Collectors.toList(), ChatMessages::from));
+        if (this.timeout == null && (toolCalls.size() <= 1 || this.concurrency == 1)) {
+            return toolCalls.stream()
+                    .map(toolCall -> (ChatMessage) new ToolMessage(toolCall.id(), this.execute(toolCall)))
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), ChatMessages::from));
+        }
+        Batch batch = new Batch(this.concurrency);
+        FlowSession session = AiFlowSession.get().orElse(null);
+        List<ToolTask> tasks = new ArrayList<>(toolCalls.size());
+        try {
+            for (ToolCall toolCall : toolCalls) {
+                if (!batch.acquire()) {
+                    break;
+                }
+                ToolTask task = new ToolTask(toolCall, session, batch);
+                tasks.add(task);
+                task.start();
+            }
+            batch.await(tasks);
+            List<ChatMessage> messages = new ArrayList<>(toolCalls.size());
+            for (ToolTask task : tasks) {
+                // a failed batch still has unfinished calls, only the finished ones are inspected for the failure
+                if (task.isDone()) {
+                    messages.add(new ToolMessage(task.toolCall.id(), this.await(task)));
+                }
+            }
+            return ChatMessages.from(messages);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to call tools.", e);
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private String execute(ToolCall toolCall) {
+        return this.toolExecuteService.execute(this.namespace, toolCall.name(), toolCall.arguments());
+    }
+
+    private String await(ToolTask task) throws InterruptedException {
+        try {
+            return task.get();
+        } catch (CancellationException e) {
+            if (task.timedOut) {
+                throw new IllegalStateException(StringUtils.format("Tool call timed out. [name={0}, timeout={1}ms]",
+                        task.toolCall.name(),
+                        this.timeout), e);
+            }
+            throw new IllegalStateException(StringUtils.format("Tool call cancelled. [name={0}]",
+                    task.toolCall.name()), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(StringUtils.format("Failed to call tool. [name={0}]",
+                    task.toolCall.name()), cause);
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("fel-agent-tool")
+                .corePoolSize(MAX_TOOL_THREADS)
+                .maximumPoolSize(MAX_TOOL_THREADS)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(Integer.MAX_VALUE)
+                .isDaemonThread(true)
+                .build();
+    }
+
+    /**
+     * 表示一轮工具调用的执行状态。
+     * <p>执行中的工具调用数量在执行线程真正结束时才减少，被中断但仍在执行的工具调用继续占用并发数量。</p>
+     */
+    private static class Batch {
+        private final int concurrency;
+        private int running;
+        private boolean failed;
+
+        Batch(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        synchronized boolean acquire() throws InterruptedException {
+            while (this.running >= this.concurrency && !this.failed) {
+                this.wait();
+            }
+            if (this.failed) {
+                return false;
+            }
+            this.running++;
+            return true;
+        }
+
+        synchronized void release() {
+            this.running--;
+            this.notifyAll();
+        }
+
+        synchronized void complete(boolean succeeded) {
+            this.failed |= !succeeded;
+            this.notifyAll();
+        }
+
+        synchronized void await(List<ToolTask> tasks) throws InterruptedException {
+            while (!this.failed && !tasks.stream().allMatch(FutureTask::isDone)) {
+                this.wait();
+            }
+        }
+    }
+
+    private class ToolTask extends FutureTask<String> {
+        private final ToolCall toolCall;
+        private final Batch batch;
+        private volatile ScheduledFuture<?> timer;
+        private volatile boolean timedOut;
+        private volatile boolean failed;
+
+        ToolTask(ToolCall toolCall, FlowSession session, Batch batch) {
+            super(() -> AiFlowSession.call(session, () -> DefaultAgent.this.execute(toolCall)));
+            this.toolCall = toolCall;
+            this.batch = batch;
+        }
+
+        void start() {
+            try {
+                DefaultAgent.this.executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                this.batch.release();
+                this.setException(e);
+                return;
+            }
+            if (DefaultAgent.this.timeout != null && !this.isDone()) {
+                this.timer = TIMER.get()
+                        .schedule(Task.builder().runnable(this::timeout).buildDisposable(), DefaultAgent.this.timeout);
+            }
+        }
+
+        private void timeout() {
+            this.timedOut = true;
+            if (!this.cancel(true)) {
+                this.timedOut = false;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                this.batch.release();
+            }
+        }
+
+        @Override
+        protected void setException(Throwable cause) {
+            this.failed = true;
+            super.setException(cause);
+        }
+
+        @Override
+        protected void done() {
+            ScheduledFuture<?> scheduled = this.timer;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            this.batch.complete(!this.isCancelled() && !this.failed);
+        }
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ import modelengine.fitframework.inspection.Validation;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -77,4 +78,27 @@ public class AiFlowSession {
             SESSION_THREAD_LOCAL.remove();
         }
     }
+
+    /**
+     * 在指定的 {@link FlowSession} 上下文中执行任务，执行结束后恢复原有的线程变量。
+     * <p>用于把调用方线程的 {@link FlowSession} 传递到执行任务的其他线程上。</p>
+     *
+     * @param <T> 表示任务结果的类型。
+     * @param session 表示流程实例运行标识信息的 {@link FlowSession}，为 {@code null} 时表示没有上下文。
+     * @param supplier 表示待执行任务的 {@link Supplier}{@code <}{@link T}{@code >}。
+     * @return 表示任务结果的 {@link T}。
+     */
+    public static <T> T call(FlowSession session, Supplier<T> supplier) {
+        FlowSession previous = SESSION_THREAD_LOCAL.get();
+        SESSION_THREAD_LOCAL.set(session);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                SESSION_THREAD_LOCAL.remove();
+            } else {
+                SESSION_THREAD_LOCAL.set(previous);
+            }
+        }
+    }
 }
@@ -0,0 +1,212 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.engine.operators.patterns.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.core.chat.ChatMessage;
+import modelengine.fel.core.chat.ChatOption;
+import modelengine.fel.core.chat.support.AiMessage;
+import modelengine.fel.core.tool.ToolCall;
+import modelengine.fel.engine.operators.models.ChatFlowModel;
+import modelengine.fel.engine.operators.patterns.ToolCallOption;
+import modelengine.fel.engine.util.AiFlowSession;
+import modelengine.fel.tool.service.ToolExecuteService;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.utils.SleepUtil;
+import modelengine.fitframework.flowable.Choir;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@link DefaultAgent} 的测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 DefaultAgent")
+public class DefaultAgentTest {
+    private final ChatFlowModel model = new ChatFlowModel((prompt, chatOption) -> Choir.just(new AiMessage("done")),
+            ChatOption.custom().model("modelName").stream(false).build());
+
+    @Test
+    @DisplayName("多个工具调用并发执行，结果按照工具调用的顺序返回")
+    void shouldCallToolsConcurrentlyInOrder() {
+        CountDownLatch latch = new CountDownLatch(3);
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            latch.countDown();
+            try {
+                assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            SleepUtil.sleep(Integer.parseInt(args));
+            return name;
+        });
+        DefaultAgent agent = new DefaultAgent(this.model, "ns", service);
+        List<ChatMessage> messages = agent.doToolCall(toolCalls(30, 0, 10), null).messages();
+        assertThat(messages).extracting(ChatMessage::text).containsExactly("tool0", "tool1", "tool2");
+    }
+
+    @Test
+    @DisplayName("同时执行的工具调用数量不超过最大并发数量")
+    void shouldLimitConcurrentToolCalls() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            SleepUtil.sleep(20);
+            running.decrementAndGet();
+            return name;
+        });
+        DefaultAgent agent =
+                new DefaultAgent(this.model, "ns", service, ToolCallOption.custom().concurrency(2).build());
+        List<ChatMessage> messages = agent.doToolCall(toolCalls(0, 0, 0, 0, 0, 0), null).messages();
+        assertThat(messages).hasSize(6);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("工具调用超时时抛出异常")
+    void shouldThrowWhenToolCallTimedOut() {
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            SleepUtil.sleep(Integer.parseInt(args));
+            return name;
+        });
+        DefaultAgent agent =
+                new DefaultAgent(this.model, "ns", service, ToolCallOption.custom().timeout(100L).build());
+        assertThatThrownBy(() -> agent.doToolCall(toolCalls(0, 2000), null)).isInstanceOf(IllegalStateException.class)
+                .hasMessage("Tool call timed out. [name=tool1, timeout=100ms]");
+    }
+
+    @Test
+    @DisplayName("工具调用超时时中断执行工具调用的线程")
+    void shouldInterruptToolWhenTimedOut() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            try {
+                Thread.sleep(Integer.parseInt(args));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return name;
+        });
+        DefaultAgent agent =
+                new DefaultAgent(this.model, "ns", service, ToolCallOption.custom().timeout(100L).build());
+        assertThatThrownBy(() -> agent.doToolCall(toolCalls(5000), null)).isInstanceOf(IllegalStateException.class)
+                .hasMessage("Tool call timed out. [name=tool0, timeout=100ms]");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("工具调用超时后不再启动后续工具调用，也不等待忽略中断的工具调用结束")
+    void shouldNotStartNextToolWhenTimedOutToolIgnoresInterruption() {
+        AtomicInteger started = new AtomicInteger();
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            started.incrementAndGet();
+            long end = System.currentTimeMillis() + Integer.parseInt(args);
+            while (System.currentTimeMillis() < end) {
+                // ignore the interruption to keep running after the timeout
+                Thread.interrupted();
+            }
+            return name;
+        });
+        DefaultAgent agent = new DefaultAgent(this.model,
+                "ns",
+                service,
+                ToolCallOption.custom().concurrency(1).timeout(100L).build());
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> agent.doToolCall(toolCalls(1000, 0), null)).isInstanceOf(IllegalStateException.class)
+                .hasMessage("Tool call timed out. [name=tool0, timeout=100ms]");
+        assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        SleepUtil.sleep(1100);
+        assertThat(started.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("工具调用在调用方的流程会话上下文中执行")
+    void shouldCallToolsWithCallerFlowSession() {
+        List<FlowSession> sessions = new CopyOnWriteArrayList<>();
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            sessions.add(AiFlowSession.get().orElse(null));
+            return name;
+        });
+        DefaultAgent agent = new DefaultAgent(this.model, "ns", service);
+        FlowSession session = new FlowSession();
+        List<ChatMessage> messages =
+                AiFlowSession.call(session, () -> agent.doToolCall(toolCalls(0, 0, 0), null).messages());
+        assertThat(messages).hasSize(3);
+        assertThat(sessions).hasSize(3).allMatch(actual -> actual == session);
+        assertThat(AiFlowSession.get()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("工具调用失败时抛出原始异常")
+    void shouldRethrowWhenToolCallFailed() {
+        ToolExecuteService service = new StubToolExecuteService((name, args) -> {
+            throw new IllegalArgumentException("bad arguments");
+        });
+        DefaultAgent agent = new DefaultAgent(this.model, "ns", service);
+        assertThatThrownBy(() -> agent.doToolCall(toolCalls(0, 0), null)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad arguments");
+    }
+
+    private static List<ToolCall> toolCalls(int... delays) {
+        return IntStream.range(0, delays.length)
+                .mapToObj(i -> ToolCall.custom()
+                        .id("id" + i)
+                        .index(i)
+                        .name("tool" + i)
+                        .arguments(String.valueOf(delays[i]))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static class StubToolExecuteService implements ToolExecuteService {
+        private final ToolHandler handler;
+
+        StubToolExecuteService(ToolHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public String execute(String namespace, String toolName, String jsonArgs) {
+            return this.handler.handle(toolName, jsonArgs);
+        }
+
+        @Override
+        public String execute(String namespace, String toolName, Map<String, Object> jsonObject) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String execute(String uniqueName, String jsonArgs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String execute(String uniqueName, Map<String, Object> jsonObject) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ToolHandler {
+        String handle(String name, String args);
+    }
+}
@@ -36,7 +36,6 @@ import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
-import modelengine.fitframework.util.ThreadUtils;
 import modelengine.fitframework.util.UuidUtils;
 
 import java.io.IOException;
@@ -44,21 +43,28 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 
 /**
  * Represents a default implementation of the MCP client, responsible for interacting with the MCP server.
  * This class provides methods for initializing the client, retrieving tools, and calling tools.
+ * <p>Each request is correlated with its response through a {@link CompletableFuture} that is completed directly by
+ * the SSE receive path. Pending requests are removed when they complete, time out, are cancelled, or when the client
+ * is closed.</p>
  *
  * @author 季聿阶
  * @since 2025-05-21
  */
 public class DefaultMcpClient implements McpClient {
     private static final Logger log = Logger.get(DefaultMcpClient.class);
+    private static final long DEFAULT_REQUEST_TIMEOUT = 60_000L;
 
     private final ObjectSerializer jsonSerializer;
     private final HttpClassicClient client;
@@ -67,6 +73,7 @@ public class DefaultMcpClient implements McpClient {
     private final String name;
     private final AtomicLong id = new AtomicLong(0);
     private final long pingInterval;
+    private final long requestTimeout;
 
     private volatile String messageEndpoint;
     private volatile String sessionId;
@@ -76,9 +83,7 @@ public class DefaultMcpClient implements McpClient {
     private final List<Tool> tools = new ArrayList<>();
     private final Object initializedLock = LockUtils.newSynchronizedLock();
     private final Object toolsLock = LockUtils.newSynchronizedLock();
-    private final Map<Long, Consumer<JsonRpc.Response<Long>>> responseConsumers = new ConcurrentHashMap<>();
-    private final Map<Long, Boolean> pendingRequests = new ConcurrentHashMap<>();
-    private final Map<Long, Object> pendingResults = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<JsonRpc.Response<Long>>> pendingResponses = new ConcurrentHashMap<>();
 
     private volatile Subscription subscription;
     private volatile ThreadPoolScheduler pingScheduler;
@@ -94,12 +99,29 @@ public class DefaultMcpClient implements McpClient {
      */
     public DefaultMcpClient(ObjectSerializer jsonSerializer, HttpClassicClient client, String baseUri,
             String sseEndpoint, long pingInterval) {
+        this(jsonSerializer, client, baseUri, sseEndpoint, pingInterval, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Constructs a new instance of the DefaultMcpClient with the specified request timeout.
+     *
+     * @param jsonSerializer The serializer used for JSON serialization and deserialization.
+     * @param client The HTTP client used for communication with the MCP server.
+     * @param baseUri The base URI of the MCP server.
+     * @param sseEndpoint The endpoint for the Server-Sent Events (SSE) connection.
+     * @param pingInterval The interval for sending ping messages to the MCP server. Unit: milliseconds.
+     * @param requestTimeout The maximum time to wait for the response of a request. Non-positive values mean the
+     * default of 60 seconds. Unit: milliseconds.
+     */
+    public DefaultMcpClient(ObjectSerializer jsonSerializer, HttpClassicClient client, String baseUri,
+            String sseEndpoint, long pingInterval, long requestTimeout) {
         this.jsonSerializer = notNull(jsonSerializer, "The json serializer cannot be null.");
         this.client = notNull(client, "The http client cannot be null.");
         this.baseUri = notBlank(baseUri, "The MCP server base URI cannot be blank.");
         this.sseEndpoint = notBlank(sseEndpoint, "The MCP server SSE endpoint cannot be blank.");
         this.name = UuidUtils.randomUuidString();
         this.pingInterval = pingInterval > 0 ? pingInterval : 15_000;
+        this.requestTimeout = requestTimeout > 0 ? requestTimeout : DEFAULT_REQUEST_TIMEOUT;
     }
 
     @Override
@@ -128,8 +150,14 @@ public class DefaultMcpClient implements McpClient {
                     subscription.request(Long.MAX_VALUE);
                 },
                 (subscription, textEvent) -> this.consumeTextEvent(textEvent),
-                subscription -> log.info("SSE channel is completed."),
-                (subscription, cause) -> log.error("SSE channel is failed.", cause));
+                subscription -> {
+                    log.info("SSE channel is completed.");
+                    this.failPendingResponses(new IllegalStateException("The SSE channel is completed."));
+                },
+                (subscription, cause) -> {
+                    log.error("SSE channel is failed.", cause);
+                    this.failPendingResponses(new IllegalStateException("The SSE channel is failed.", cause));
+                });
         if (!this.waitInitialized()) {
             throw new IllegalStateException("Failed to initialize.");
         }
@@ -154,9 +182,9 @@ public class DefaultMcpClient implements McpClient {
             return;
         }
         long actualId = Long.parseLong(messageId.toString());
-        Consumer<JsonRpc.Response<Long>> consumer = this.responseConsumers.remove(actualId);
-        if (consumer == null) {
-            log.info("No consumer registered. [id={}]", actualId);
+        CompletableFuture<JsonRpc.Response<Long>> future = this.pendingResponses.remove(actualId);
+        if (future == null) {
+            log.info("No pending request registered. [id={}]", actualId);
             return;
         }
         Object error = jsonRpc.get("error");
@@ -166,7 +194,7 @@ public class DefaultMcpClient implements McpClient {
         } else {
             response = JsonRpc.createResponseWithError(actualId, error);
         }
-        consumer.accept(response);
+        future.complete(response);
     }
 
     private void pingServer() {
@@ -174,7 +202,10 @@ public class DefaultMcpClient implements McpClient {
             log.info("MCP client is not initialized and {} method will be delayed.", Method.PING.code());
             return;
         }
-        this.post2McpServer(Method.PING, null, null);
+        this.request(Method.PING, null, null).exceptionally(cause -> {
+            log.warn("Failed to ping MCP server. [sessionId={}]", this.sessionId, cause);
+            return null;
+        });
     }
 
     private void initializeMcpServer(TextEvent textEvent) {
@@ -182,11 +213,13 @@ public class DefaultMcpClient implements McpClient {
         ClientSchema schema = new ClientSchema("2024-11-05",
                 new ClientSchema.Capabilities(),
                 new ClientSchema.Info("FIT MCP Client", "3.6.0-SNAPSHOT"));
-        this.post2McpServer(Method.INITIALIZE, schema, (request, currentId) -> {
+        this.request(Method.INITIALIZE, schema, (request, currentId) -> {
             this.sessionId = request.queries()
                     .first("session_id")
                     .orElseThrow(() -> new IllegalStateException("The session_id cannot be empty."));
-            this.responseConsumers.put(currentId, this::initializedMcpServer);
+        }).thenAccept(this::initializedMcpServer).exceptionally(cause -> {
+            log.error("Failed to initialize MCP server. [sessionId={}]", this.sessionId, cause);
+            return null;
         });
     }
 
@@ -226,16 +259,7 @@ public class DefaultMcpClient implements McpClient {
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
-        this.pingScheduler = ThreadPoolScheduler.custom()
-                .threadPoolName("mcp-client-ping-" + this.name)
-                .awaitTermination(3, TimeUnit.SECONDS)
-                .isImmediateShutdown(true)
-                .corePoolSize(1)
-                .maximumPoolSize(1)
-                .keepAliveTime(60, TimeUnit.SECONDS)
-                .workQueueCapacity(Integer.MAX_VALUE)
-                .isDaemonThread(true)
-                .build();
+        this.pingScheduler = ThreadPoolScheduler.timingWheel("mcp-client-ping-" + this.name);
         this.pingScheduler.schedule(Task.builder()
                 .runnable(this::pingServer)
                 .policy(ExecutePolicy.fixedDelay(this.pingInterval))
@@ -250,31 +274,18 @@ public class DefaultMcpClient implements McpClient {
 
     @Override
     public List<Tool> getTools() {
-        if (this.closed) {
-            throw new IllegalStateException("The MCP client is closed.");
-        }
-        if (this.isNotInitialized()) {
-            throw new IllegalStateException("MCP client is not initialized. Please wait a moment.");
-        }
-        long requestId = this.post2McpServer(Method.TOOLS_LIST, null, (request, currentId) -> {
-            this.responseConsumers.put(currentId, this::getTools0);
-            this.pendingRequests.put(currentId, true);
-        });
-        while (this.pendingRequests.get(requestId)) {
-            ThreadUtils.sleep(100);
-        }
-        synchronized (this.toolsLock) {
-            return this.tools;
-        }
+        this.checkAvailable();
+        return this.await(this.request(Method.TOOLS_LIST, null, null).thenApply(this::getTools0), Method.TOOLS_LIST);
     }
 
-    private void getTools0(JsonRpc.Response<Long> response) {
+    private List<Tool> getTools0(JsonRpc.Response<Long> response) {
         if (response.error() != null) {
             log.error("Failed to get tools list from MCP server. [sessionId={}, response={}]",
                     this.sessionId,
                     response);
-            this.pendingRequests.put(response.id(), false);
-            return;
+            synchronized (this.toolsLock) {
+                return this.tools;
+            }
         }
         Map<String, Object> result = cast(response.result());
         List<Map<String, Object>> rawTools = cast(result.get("tools"));
@@ -283,61 +294,119 @@ public class DefaultMcpClient implements McpClient {
             this.tools.addAll(rawTools.stream()
                     .map(rawTool -> ObjectUtils.<Tool>toCustomObject(rawTool, Tool.class))
                     .toList());
+            return this.tools;
         }
-        this.pendingRequests.put(response.id(), false);
     }
 
     @Override
     public Object callTool(String name, Map<String, Object> arguments) {
-        if (this.closed) {
-            throw new IllegalStateException("The MCP client is closed.");
-        }
-        if (this.isNotInitialized()) {
-            throw new IllegalStateException("MCP client is not initialized. Please wait a moment.");
-        }
-        long requestId = this.post2McpServer(Method.TOOLS_CALL,
+        return this.await(this.callToolAsync(name, arguments), Method.TOOLS_CALL);
+    }
+
+    @Override
+    public CompletableFuture<Object> callToolAsync(String name, Map<String, Object> arguments) {
+        this.checkAvailable();
+        CompletableFuture<JsonRpc.Response<Long>> response = this.request(Method.TOOLS_CALL,
                 MapBuilder.<String, Object>get().put("name", name).put("arguments", arguments).build(),
-                (request, currentId) -> {
-                    this.responseConsumers.put(currentId, this::callTools0);
-                    this.pendingRequests.put(currentId, true);
-                });
-        while (this.pendingRequests.get(requestId)) {
-            ThreadUtils.sleep(100);
-        }
-        return this.pendingResults.get(requestId);
+                null);
+        CompletableFuture<Object> result = response.thenApply(this::callTools0);
+        // Propagates the cancellation of the result to the pending request to release its correlation entry.
+        result.whenComplete((value, cause) -> response.cancel(false));
+        return result;
     }
 
-    private void callTools0(JsonRpc.Response<Long> response) {
+    private Object callTools0(JsonRpc.Response<Long> response) {
         if (response.error() != null) {
             log.error("Failed to call tool from MCP server. [sessionId={}, response={}]", this.sessionId, response);
-            this.pendingRequests.put(response.id(), false);
-            return;
+            return null;
         }
         Map<String, Object> result = cast(response.result());
         boolean isError = cast(result.get("isError"));
         if (isError) {
             log.error("Failed to call tool from MCP server. [sessionId={}, result={}]", this.sessionId, result);
-            this.pendingRequests.put(response.id(), false);
-            return;
+            return null;
         }
         List<Map<String, Object>> rawContents = cast(result.get("content"));
         if (CollectionUtils.isEmpty(rawContents)) {
             log.error("Failed to call tool from MCP server: no result returned. [sessionId={}, result={}]",
                     this.sessionId,
                     result);
-            this.pendingRequests.put(response.id(), false);
-            return;
+            return null;
         }
         Map<String, Object> rawContent = rawContents.get(0);
-        this.pendingResults.put(response.id(), rawContent.get("text"));
-        this.pendingRequests.put(response.id(), false);
+        return rawContent.get("text");
+    }
+
+    /**
+     * Sends a request to the MCP server and returns a future completed by the matching response.
+     * <p>The future is registered before the request is sent, so a response arriving before the HTTP exchange
+     * returns is never lost. The future fails if sending fails, when the request timeout elapses, or when the client
+     * is closed, and its correlation entry is removed in every case.</p>
+     *
+     * @param method The JSON-RPC method to call.
+     * @param requestParams The parameters of the request.
+     * @param requestConsumer The consumer to customize the HTTP request before sending.
+     * @return The future of the JSON-RPC response.
+     */
+    private CompletableFuture<JsonRpc.Response<Long>> request(Method method, Object requestParams,
+            BiConsumer<HttpClassicClientRequest, Long> requestConsumer) {
+        long currentId = this.getNextId();
+        CompletableFuture<JsonRpc.Response<Long>> future = new CompletableFuture<>();
+        this.pendingResponses.put(currentId, future);
+        future.whenComplete((response, cause) -> this.pendingResponses.remove(currentId, future));
+        try {
+            this.post2McpServer(method, requestParams, currentId, requestConsumer);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        if (this.closed) {
+            future.completeExceptionally(new IllegalStateException("The MCP client is closed."));
+        }
+        return future.orTimeout(this.requestTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T await(CompletableFuture<T> future, Method method) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            throw new IllegalStateException(StringUtils.format("The {0} request is cancelled. [sessionId={1}]",
+                    method.code(),
+                    this.sessionId), e);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new IllegalStateException(StringUtils.format(
+                        "The {0} request timed out. [sessionId={1}, timeout={2}ms]",
+                        method.code(),
+                        this.sessionId,
+                        this.requestTimeout), cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 
-    private long post2McpServer(Method method, Object requestParams,
+    private void checkAvailable() {
+        if (this.closed) {
+            throw new IllegalStateException("The MCP client is closed.");
+        }
+        if (this.isNotInitialized()) {
+            throw new IllegalStateException("MCP client is not initialized. Please wait a moment.");
+        }
+    }
+
+    private void failPendingResponses(Throwable cause) {
+        this.pendingResponses.values().forEach(future -> future.completeExceptionally(cause));
+        this.pendingResponses.clear();
+    }
+
+    private void post2McpServer(Method method, Object requestParams, long currentId,
             BiConsumer<HttpClassicClientRequest, Long> requestConsumer) {
         HttpClassicClientRequest request =
                 this.client.createRequest(HttpRequestMethod.POST, this.baseUri + this.messageEndpoint);
-        long currentId = this.getNextId();
         if (requestConsumer != null) {
             requestConsumer.accept(request, currentId);
         }
@@ -351,17 +420,17 @@ public class DefaultMcpClient implements McpClient {
                         this.sessionId,
                         exchange.statusCode());
             } else {
-                log.error("Failed to {} MCP server. [sessionId={}, statusCode={}]",
+                throw new IllegalStateException(StringUtils.format(
+                        "Failed to {0} MCP server. [sessionId={1}, statusCode={2}]",
                         method.code(),
                         this.sessionId,
-                        exchange.statusCode());
+                        exchange.statusCode()));
             }
         } catch (IOException e) {
             throw new IllegalStateException(StringUtils.format("Failed to {0} MCP server. [sessionId={1}]",
                     method.code(),
                     this.sessionId), e);
         }
-        return currentId;
     }
 
     private long getNextId() {
@@ -398,6 +467,7 @@ public class DefaultMcpClient implements McpClient {
     @Override
     public void close() throws IOException {
         this.closed = true;
+        this.failPendingResponses(new IllegalStateException("The MCP client is closed."));
         if (this.subscription != null) {
             this.subscription.cancel();
         }
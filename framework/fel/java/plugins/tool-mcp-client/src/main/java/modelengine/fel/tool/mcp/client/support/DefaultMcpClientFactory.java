@@ -30,6 +30,7 @@ public class DefaultMcpClientFactory implements McpClientFactory {
     private final HttpClassicClient client;
     private final ObjectSerializer jsonSerializer;
     private final long pingInterval;
+    private final long requestTimeout;
 
     /**
      * Constructs a new instance of the DefaultMcpClientFactory.
@@ -37,10 +38,12 @@ public class DefaultMcpClientFactory implements McpClientFactory {
      * @param clientFactory The factory used to create the HTTP client.
      * @param jsonSerializer The JSON serializer used for serialization and deserialization.
      * @param pingInterval The interval between ping requests. Units: milliseconds.
+     * @param requestTimeout The maximum time to wait for the response of a request. Units: milliseconds.
      */
     public DefaultMcpClientFactory(HttpClassicClientFactory clientFactory,
             @Fit(alias = "json") ObjectSerializer jsonSerializer,
-            @Value("${mcp.client.ping-interval}") long pingInterval) {
+            @Value("${mcp.client.ping-interval}") long pingInterval,
+            @Value("${mcp.client.request-timeout}") long requestTimeout) {
         this.client = clientFactory.create(HttpClassicClientFactory.Config.builder()
                 .connectTimeout(30_000)
                 .socketTimeout(60_000)
@@ -48,10 +51,16 @@ public class DefaultMcpClientFactory implements McpClientFactory {
                 .build());
         this.jsonSerializer = notNull(jsonSerializer, "The json serializer cannot be null.");
         this.pingInterval = pingInterval;
+        this.requestTimeout = requestTimeout;
     }
 
     @Override
     public McpClient create(String baseUri, String sseEndpoint) {
-        return new DefaultMcpClient(this.jsonSerializer, this.client, baseUri, sseEndpoint, this.pingInterval);
+        return new DefaultMcpClient(this.jsonSerializer,
+                this.client,
+                baseUri,
+                sseEndpoint,
+                this.pingInterval,
+                this.requestTimeout);
     }
 }
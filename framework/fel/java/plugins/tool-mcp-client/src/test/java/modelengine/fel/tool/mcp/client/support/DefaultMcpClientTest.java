@@ -0,0 +1,168 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.tool.mcp.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fel.tool.mcp.entity.Event;
+import modelengine.fel.tool.mcp.entity.JsonRpc;
+import modelengine.fel.tool.mcp.entity.Method;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.client.HttpClassicClientRequest;
+import modelengine.fit.http.client.HttpClassicClientResponse;
+import modelengine.fit.http.entity.ObjectEntity;
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.protocol.QueryCollection;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
+import modelengine.fitframework.flowable.util.OnSubscribedObserver;
+import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.MapBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test for {@link DefaultMcpClient}.
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("Unit tests for DefaultMcpClient")
+public class DefaultMcpClientTest {
+    private final Emitter<TextEvent> events = Emitter.create();
+    private final Map<String, Map<String, Object>> messages = new ConcurrentHashMap<>();
+    private final BlockingQueue<JsonRpc.Request<Long>> toolCalls = new LinkedBlockingQueue<>();
+    private DefaultMcpClient mcpClient;
+
+    @BeforeEach
+    void setup() {
+        ObjectSerializer serializer = mock(ObjectSerializer.class);
+        when(serializer.deserialize(anyString(), any())).thenAnswer(invocation -> this.messages.get(
+                invocation.<String>getArgument(0)));
+        HttpClassicClient client = mock(HttpClassicClient.class);
+        Choir<TextEvent> stream = new FlexibleEmitterChoir<>(() -> this.events,
+                null,
+                OnSubscribedObserver::notifyOnSubscribed,
+                count -> this.events.emit(TextEvent.custom()
+                        .event(Event.ENDPOINT.code())
+                        .data("/message?session_id=test")
+                        .build()),
+                null);
+        when(client.<TextEvent>exchangeStream(any(), eq(TextEvent.class))).thenReturn(stream);
+        when(client.createRequest(any(), anyString())).thenAnswer(invocation -> this.createRequest());
+        this.mcpClient = new DefaultMcpClient(serializer, client, "http://localhost", "/sse", 60_000, 300);
+        this.mcpClient.initialize();
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        this.mcpClient.close();
+    }
+
+    @Test
+    @DisplayName("Should correlate parallel tool calls when responses arrive out of order")
+    void shouldCorrelateParallelToolCalls() throws InterruptedException {
+        CompletableFuture<Object> first = this.mcpClient.callToolAsync("echo", Map.of("value", "first"));
+        CompletableFuture<Object> second = this.mcpClient.callToolAsync("echo", Map.of("value", "second"));
+        JsonRpc.Request<Long> firstRequest = this.toolCalls.poll(1, TimeUnit.SECONDS);
+        JsonRpc.Request<Long> secondRequest = this.toolCalls.poll(1, TimeUnit.SECONDS);
+        this.reply(secondRequest);
+        assertThat(second.join()).isEqualTo("second");
+        assertThat(first).isNotDone();
+        this.reply(firstRequest);
+        assertThat(first.join()).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("Should fail with timeout when the server does not respond and ignore the late response")
+    void shouldFailWhenResponseTimedOut() throws InterruptedException {
+        assertThatThrownBy(() -> this.mcpClient.callTool("echo", Map.of("value", "late")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("timed out");
+        this.reply(this.toolCalls.poll(1, TimeUnit.SECONDS));
+        CompletableFuture<Object> next = this.mcpClient.callToolAsync("echo", Map.of("value", "next"));
+        this.reply(this.toolCalls.poll(1, TimeUnit.SECONDS));
+        assertThat(next.join()).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Should fail pending calls when the client is closed")
+    void shouldFailPendingCallsWhenClosed() throws IOException {
+        CompletableFuture<Object> pending = this.mcpClient.callToolAsync("echo", Map.of("value", "closed"));
+        this.mcpClient.close();
+        assertThat(pending).isCompletedExceptionally();
+        assertThatThrownBy(() -> this.mcpClient.callToolAsync("echo", Map.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The MCP client is closed.");
+    }
+
+    private HttpClassicClientRequest createRequest() throws IOException {
+        HttpClassicClientRequest request = mock(HttpClassicClientRequest.class);
+        QueryCollection queries = mock(QueryCollection.class);
+        when(queries.first("session_id")).thenReturn(Optional.of("test"));
+        when(request.queries()).thenReturn(queries);
+        Object[] entity = new Object[1];
+        doAnswer(invocation -> entity[0] = invocation.getArgument(0)).when(request).entity(any());
+        HttpClassicClientResponse<Object> response = mock(HttpClassicClientResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(request.exchange(Object.class)).thenAnswer(invocation -> {
+            if (entity[0] instanceof ObjectEntity<?> objectEntity
+                    && objectEntity.object() instanceof JsonRpc.Request<?> rpcRequest) {
+                this.onRequest((JsonRpc.Request<Long>) rpcRequest);
+            }
+            return response;
+        });
+        return request;
+    }
+
+    private void onRequest(JsonRpc.Request<Long> request) {
+        if (Method.INITIALIZE.code().equals(request.method())) {
+            Map<String, Object> result = MapBuilder.<String, Object>get()
+                    .put("protocolVersion", "2024-11-05")
+                    .put("capabilities", Map.of("tools", Map.of()))
+                    .put("serverInfo", Map.of("name", "test", "version", "1.0"))
+                    .build();
+            CompletableFuture.runAsync(() -> this.respond(request.id(), result));
+        } else if (Method.TOOLS_CALL.code().equals(request.method())) {
+            this.toolCalls.add(request);
+        }
+    }
+
+    private void reply(JsonRpc.Request<Long> request) {
+        Map<String, Object> params = (Map<String, Object>) request.params();
+        Map<String, Object> arguments = (Map<String, Object>) params.get("arguments");
+        this.respond(request.id(),
+                Map.of("isError", false, "content", List.of(Map.of("type", "text", "text", arguments.get("value")))));
+    }
+
+    private void respond(long id, Map<String, Object> result) {
+        String data = "response-" + id + "-" + System.nanoTime();
+        this.messages.put(data, Map.of("jsonrpc", "2.0", "id", id, "result", result));
+        this.events.emit(TextEvent.custom().event(Event.MESSAGE.code()).data(data).build());
+    }
+}
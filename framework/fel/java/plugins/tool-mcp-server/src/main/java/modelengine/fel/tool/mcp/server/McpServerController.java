@@ -6,6 +6,7 @@
 
 package modelengine.fel.tool.mcp.server;
 
+import static modelengine.fitframework.inspection.Validation.greaterThan;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
@@ -23,28 +24,33 @@ import modelengine.fit.http.annotation.RequestBody;
 import modelengine.fit.http.annotation.RequestQuery;
 import modelengine.fit.http.entity.TextEvent;
 import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fit.http.server.ResourceNotFoundException;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Fit;
+import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
+import modelengine.fitframework.flowable.util.OnSubscribedObserver;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.schedule.ExecutePolicy;
 import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.schedule.ThreadPoolScheduler;
 import modelengine.fitframework.serialization.ObjectSerializer;
-import modelengine.fitframework.util.CollectionUtils;
-import modelengine.fitframework.util.MapUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.UuidUtils;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * FIT MCP Server controller.
+ * <p>Sessions are released as soon as their SSE channel is cancelled or fails, and a periodic sweep releases sessions
+ * that are idle for longer than the configured timeout or whose connection is no longer active. Outbound events are
+ * queued per session with a bounded capacity and written asynchronously.</p>
  *
  * @author 季聿阶
  * @since 2025-05-13
@@ -54,12 +60,16 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
     private static final Logger log = Logger.get(McpServerController.class);
     private static final String MESSAGE_PATH = "/mcp/message";
     private static final String RESPONSE_OK = StringUtils.EMPTY;
+    private static final int MAX_LOGGED_BODY_LENGTH = 1024;
+    private static final long SWEEP_INTERVAL = 10_000L;
 
-    private final Map<String, Emitter<TextEvent>> emitters = new ConcurrentHashMap<>();
-    private final Map<String, HttpClassicServerResponse> responses = new ConcurrentHashMap<>();
+    private final Map<String, McpSession> sessions = new ConcurrentHashMap<>();
     private final Map<String, MessageHandler> methodHandlers = new HashMap<>();
     private final MessageHandler unsupportedMethodHandler = new UnsupportedMethodHandler();
     private final ObjectSerializer serializer;
+    private final long idleTimeout;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor sender;
 
     /**
      * Constructs a new instance of the McpController class.
@@ -68,10 +78,24 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
      * {@link ObjectSerializer}.
      * @param mcpServer The MCP server instance used to handle tool operations such as initialization,
      * listing tools, and calling tools, as a {@link McpServer}.
+     * @param idleTimeout The maximum time a session may stay without any message from its client before it is
+     * released, in milliseconds.
+     * @param queueCapacity The maximum number of outbound events buffered for one session. A session whose client
+     * cannot keep up is closed once the limit is exceeded.
      */
-    public McpServerController(@Fit(alias = "json") ObjectSerializer serializer, McpServer mcpServer) {
+    public McpServerController(@Fit(alias = "json") ObjectSerializer serializer, McpServer mcpServer,
+            @Value("${mcp.server.session.idle-timeout}") long idleTimeout,
+            @Value("${mcp.server.session.queue-capacity}") int queueCapacity) {
         this.serializer = notNull(serializer, "The json serializer cannot be null.");
         notNull(mcpServer, "The MCP server cannot be null.");
+        this.idleTimeout = greaterThan(idleTimeout,
+                0L,
+                "The session idle timeout must be positive. [idleTimeout={0}]",
+                idleTimeout);
+        this.queueCapacity = greaterThan(queueCapacity,
+                0,
+                "The session queue capacity must be positive. [queueCapacity={0}]",
+                queueCapacity);
         mcpServer.registerToolsChangedObserver(this);
 
         this.methodHandlers.put(Method.INITIALIZE.code(), new InitializeHandler(mcpServer));
@@ -79,29 +103,38 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
         this.methodHandlers.put(Method.TOOLS_LIST.code(), new ToolListHandler(mcpServer));
         this.methodHandlers.put(Method.TOOLS_CALL.code(), new ToolCallHandler(mcpServer, this.serializer));
 
-        ThreadPoolScheduler channelDetectorScheduler = ThreadPoolScheduler.custom()
-                .corePoolSize(1)
+        int senders = Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.sender = ThreadPoolExecutor.custom()
+                .threadPoolName("mcp-server-sender")
+                .awaitTermination(3, TimeUnit.SECONDS)
+                .isImmediateShutdown(true)
+                .corePoolSize(senders)
+                .maximumPoolSize(senders)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(Integer.MAX_VALUE)
                 .isDaemonThread(true)
-                .threadPoolName("mcp-server-channel-detector")
+                .exceptionHandler((thread, cause) -> log.warn("Exception in MCP server sender pool.", cause))
                 .build();
-        channelDetectorScheduler.schedule(Task.builder().policy(ExecutePolicy.fixedDelay(10000)).runnable(() -> {
-            if (MapUtils.isEmpty(this.responses)) {
-                return;
-            }
-            List<String> toRemoved = new ArrayList<>();
-            for (Map.Entry<String, HttpClassicServerResponse> entry : this.responses.entrySet()) {
-                if (entry.getValue().isActive()) {
-                    continue;
-                }
-                toRemoved.add(entry.getKey());
-            }
-            if (CollectionUtils.isEmpty(toRemoved)) {
-                return;
+        ThreadPoolScheduler sessionSweeper = ThreadPoolScheduler.timingWheel("mcp-server-session-sweeper",
+                runnable -> this.sender.execute(Task.builder().runnable(runnable).buildDisposable()));
+        sessionSweeper.schedule(Task.builder()
+                .policy(ExecutePolicy.fixedDelay(SWEEP_INTERVAL))
+                .runnable(this::sweepSessions)
+                .build());
+    }
+
+    private void sweepSessions() {
+        long now = System.currentTimeMillis();
+        this.sessions.values().forEach(session -> {
+            if (session.isExpired(now, this.idleTimeout)) {
+                session.close();
             }
-            toRemoved.forEach(this.responses::remove);
-            toRemoved.forEach(this.emitters::remove);
-            log.info("Channels are inactive, remove emitters and responses. [sessionIds={}]", toRemoved);
-        }).build());
+        });
+    }
+
+    private void onSessionClosed(McpSession session) {
+        this.sessions.remove(session.id(), session);
+        log.info("MCP session is closed. [sessionId={}, sessions={}]", session.id(), this.sessions.size());
     }
 
     /**
@@ -116,15 +149,17 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
     @GetMapping(path = "/sse")
     public Choir<TextEvent> createSse(HttpClassicServerResponse response) {
         String sessionId = UuidUtils.randomUuidString();
-        this.responses.put(sessionId, response);
+        McpSession session =
+                new McpSession(sessionId, response, this.queueCapacity, this.sender, this::onSessionClosed);
+        this.sessions.put(sessionId, session);
         log.info("New SSE channel for MCP server created. [sessionId={}]", sessionId);
-        return Choir.create(emitter -> {
-            emitters.put(sessionId, emitter);
-            String data = MESSAGE_PATH + "?session_id=" + sessionId;
-            TextEvent textEvent = TextEvent.custom().id(sessionId).event(Event.ENDPOINT.code()).data(data).build();
-            emitter.emit(textEvent);
-            log.info("Send MCP endpoint. [endpoint={}]", data);
-        });
+        String data = MESSAGE_PATH + "?session_id=" + sessionId;
+        session.send(TextEvent.custom().id(sessionId).event(Event.ENDPOINT.code()).data(data).build());
+        return new FlexibleEmitterChoir<>(Emitter::create,
+                session::attach,
+                OnSubscribedObserver::notifyOnSubscribed,
+                null,
+                session::close);
     }
 
     /**
@@ -140,7 +175,15 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
     @PostMapping(path = MESSAGE_PATH)
     public Object receiveMcpMessage(@RequestQuery(name = "session_id") String sessionId,
             @RequestBody Map<String, Object> request) {
-        log.info("Receive MCP message. [sessionId={}, message={}]", sessionId, request);
+        McpSession session = this.sessions.get(sessionId);
+        if (session == null) {
+            throw new ResourceNotFoundException(StringUtils.format("The MCP session is not found. [sessionId={0}]",
+                    sessionId));
+        }
+        session.touch();
+        if (log.isDebugEnabled()) {
+            log.debug("Receive MCP message. [sessionId={}, message={}]", sessionId, abbreviate(request));
+        }
         Object id = request.get("id");
         if (id == null) {
             // Request without an ID indicates a notification message, ignore.
@@ -158,9 +201,10 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
         }
         String serialized = this.serializer.serialize(response);
         TextEvent textEvent = TextEvent.custom().id(sessionId).event(Event.MESSAGE.code()).data(serialized).build();
-        Emitter<TextEvent> emitter = this.emitters.get(sessionId);
-        emitter.emit(textEvent);
-        log.info("Send MCP message. [message={}]", serialized);
+        session.send(textEvent);
+        if (log.isDebugEnabled()) {
+            log.debug("Send MCP message. [sessionId={}, message={}]", sessionId, abbreviate(serialized));
+        }
         return RESPONSE_OK;
     }
 
@@ -168,10 +212,21 @@ public class McpServerController implements McpServer.ToolsChangedObserver {
     public void onToolsChanged() {
         JsonRpc.Notification notification = JsonRpc.createNotification(Method.NOTIFICATION_TOOLS_CHANGED.code());
         String serialized = this.serializer.serialize(notification);
-        this.emitters.forEach((sessionId, emitter) -> {
-            TextEvent textEvent = TextEvent.custom().id(sessionId).event(Event.MESSAGE.code()).data(serialized).build();
-            emitter.emit(textEvent);
-            log.info("Send MCP notification: tools changed. [sessionId={}]", sessionId);
-        });
+        this.sender.execute(Task.builder().runnable(() -> {
+            this.sessions.forEach((sessionId, session) -> session.send(TextEvent.custom()
+                    .id(sessionId)
+                    .event(Event.MESSAGE.code())
+                    .data(serialized)
+                    .build()));
+            log.info("Send MCP notification: tools changed. [sessions={}]", this.sessions.size());
+        }).buildDisposable());
+    }
+
+    private static String abbreviate(Object body) {
+        String text = String.valueOf(body);
+        if (text.length() <= MAX_LOGGED_BODY_LENGTH) {
+            return text;
+        }
+        return text.substring(0, MAX_LOGGED_BODY_LENGTH) + "...(" + text.length() + " chars)";
     }
 }
@@ -0,0 +1,179 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.tool.mcp.server;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Represents an SSE session between the MCP server and one client.
+ * <p>Outbound events are buffered in a bounded queue and written to the client by a shared sender pool, at most one
+ * writer per session at a time, so that a slow client never blocks the caller or other sessions. A session whose
+ * queue overflows, or whose events cannot be scheduled on the sender pool, is closed.</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class McpSession {
+    private static final Logger log = Logger.get(McpSession.class);
+
+    private final String id;
+    private final HttpClassicServerResponse response;
+    private final BlockingQueue<TextEvent> outbound;
+    private final ThreadPoolExecutor sender;
+    private final Consumer<McpSession> closeHandler;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile Emitter<TextEvent> emitter;
+    private volatile long lastActiveTime;
+
+    /**
+     * Constructs a new session.
+     *
+     * @param id The identifier of the session.
+     * @param response The HTTP response that carries the SSE channel.
+     * @param queueCapacity The maximum number of outbound events waiting to be written.
+     * @param sender The thread pool used to write outbound events.
+     * @param closeHandler The handler invoked once when the session is closed.
+     */
+    McpSession(String id, HttpClassicServerResponse response, int queueCapacity, ThreadPoolExecutor sender,
+            Consumer<McpSession> closeHandler) {
+        this.id = notBlank(id, "The session id cannot be blank.");
+        this.response = notNull(response, "The http response cannot be null.");
+        greaterThan(queueCapacity, 0, "The queue capacity must be positive. [queueCapacity={0}]", queueCapacity);
+        this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+        this.sender = notNull(sender, "The sender cannot be null.");
+        this.closeHandler = notNull(closeHandler, "The close handler cannot be null.");
+        this.touch();
+    }
+
+    /**
+     * Gets the identifier of the session.
+     *
+     * @return The identifier of the session.
+     */
+    String id() {
+        return this.id;
+    }
+
+    /**
+     * Attaches the emitter of the SSE channel once the client has subscribed, and starts writing buffered events.
+     *
+     * @param emitter The emitter of the SSE channel.
+     */
+    void attach(Emitter<TextEvent> emitter) {
+        this.emitter = emitter;
+        if (this.closed.get()) {
+            emitter.complete();
+            return;
+        }
+        this.scheduleDrain();
+    }
+
+    /**
+     * Queues an event to be sent to the client.
+     *
+     * @param event The event to send.
+     * @return {@code true} if the event is queued, {@code false} if the session is closed or its queue is full, in
+     * which case the session is closed.
+     */
+    boolean send(TextEvent event) {
+        if (this.closed.get()) {
+            return false;
+        }
+        if (!this.outbound.offer(event)) {
+            log.warn("Outbound queue of MCP session is full, close the session. [sessionId={}, capacity={}]",
+                    this.id,
+                    this.outbound.size());
+            this.close();
+            return false;
+        }
+        this.scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Records activity from the client.
+     */
+    void touch() {
+        this.lastActiveTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Determines whether the session should be released.
+     *
+     * @param now The current time in milliseconds.
+     * @param idleTimeout The maximum idle time in milliseconds.
+     * @return {@code true} if the session is closed, its connection is inactive, or it has been idle for longer than
+     * {@code idleTimeout}, otherwise {@code false}.
+     */
+    boolean isExpired(long now, long idleTimeout) {
+        return this.closed.get() || !this.response.isActive() || now - this.lastActiveTime > idleTimeout;
+    }
+
+    /**
+     * Closes the session, completing the SSE channel and discarding pending events. Closing is idempotent.
+     */
+    void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        this.outbound.clear();
+        Emitter<TextEvent> current = this.emitter;
+        if (current != null) {
+            current.complete();
+        }
+        this.closeHandler.accept(this);
+    }
+
+    private void scheduleDrain() {
+        if (this.emitter == null || !this.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.sender.execute(Task.builder().runnable(this::drain).buildDisposable());
+        } catch (RejectedExecutionException e) {
+            this.draining.set(false);
+            log.warn("Failed to schedule sending events to MCP session, close the session. [sessionId={}]",
+                    this.id,
+                    e);
+            this.close();
+        }
+    }
+
+    private void drain() {
+        try {
+            TextEvent event;
+            while (!this.closed.get() && (event = this.outbound.poll()) != null) {
+                this.emitter.emit(event);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to send event to MCP session, close the session. [sessionId={}]", this.id, e);
+            this.close();
+        } finally {
+            this.draining.set(false);
+        }
+        if (!this.closed.get() && !this.outbound.isEmpty()) {
+            this.scheduleDrain();
+        }
+    }
+}
@@ -8,15 +8,30 @@ package modelengine.fel.tool.mcp.server;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import modelengine.fel.tool.mcp.entity.Event;
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fit.http.server.ResourceNotFoundException;
+import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.StringUtils;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Unit test for {@link McpServerController}.
  *
@@ -41,7 +56,7 @@ public class McpServerControllerTest {
         @DisplayName("Should throw exception when serializer is null")
         void shouldThrowExceptionWhenSerializerIsNull() {
             var exception = catchThrowableOfType(IllegalArgumentException.class,
-                    () -> new McpServerController(null, mcpServer));
+                    () -> new McpServerController(null, mcpServer, 60_000, 16));
             assertThat(exception).hasMessage("The json serializer cannot be null.");
         }
 
@@ -49,8 +64,63 @@ public class McpServerControllerTest {
         @DisplayName("Should throw exception when mcpServer is null")
         void shouldThrowExceptionWhenMcpServerIsNull() {
             var exception = catchThrowableOfType(IllegalArgumentException.class,
-                    () -> new McpServerController(objectSerializer, null));
+                    () -> new McpServerController(objectSerializer, null, 60_000, 16));
             assertThat(exception).hasMessage("The MCP server cannot be null.");
         }
     }
+
+    @Nested
+    @DisplayName("Session Tests")
+    class GivenSession {
+        private final BlockingQueue<TextEvent> events = new LinkedBlockingQueue<>();
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        private McpServerController controller;
+        private String sessionId;
+
+        @BeforeEach
+        void setup() throws InterruptedException {
+            when(objectSerializer.serialize(any())).thenAnswer(invocation -> {
+                Object message = invocation.getArgument(0);
+                return String.valueOf(message);
+            });
+            this.controller = new McpServerController(objectSerializer, mcpServer, 60_000, 4);
+            HttpClassicServerResponse response = mock(HttpClassicServerResponse.class);
+            when(response.isActive()).thenReturn(true);
+            this.controller.createSse(response).subscribe(subscription -> {
+                this.subscription.set(subscription);
+                subscription.request(Long.MAX_VALUE);
+            }, (subscription, event) -> this.events.add(event), null, null);
+            TextEvent endpoint = this.events.poll(1, TimeUnit.SECONDS);
+            assertThat(endpoint).isNotNull();
+            assertThat(endpoint.event()).isEqualTo(Event.ENDPOINT.code());
+            this.sessionId = StringUtils.substringAfter((String) endpoint.data(), "session_id=");
+        }
+
+        @Test
+        @DisplayName("Should send the response through the SSE channel of the session")
+        void shouldSendResponseToSession() throws InterruptedException {
+            Object result = this.controller.receiveMcpMessage(this.sessionId, Map.of("id", 1, "method", "ping"));
+            assertThat(result).isEqualTo(StringUtils.EMPTY);
+            TextEvent event = this.events.poll(1, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            assertThat(event.event()).isEqualTo(Event.MESSAGE.code());
+        }
+
+        @Test
+        @DisplayName("Should broadcast tools changed notification asynchronously")
+        void shouldBroadcastToolsChanged() throws InterruptedException {
+            this.controller.onToolsChanged();
+            TextEvent event = this.events.poll(1, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            assertThat((String) event.data()).contains("notifications/tools/list_changed");
+        }
+
+        @Test
+        @DisplayName("Should release the session when the SSE channel is cancelled")
+        void shouldReleaseSessionWhenCancelled() throws InterruptedException {
+            this.subscription.get().cancel();
+            assertThatThrownBy(() -> this.controller.receiveMcpMessage(this.sessionId,
+                    Map.of("id", 1, "method", "ping"))).isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
 }
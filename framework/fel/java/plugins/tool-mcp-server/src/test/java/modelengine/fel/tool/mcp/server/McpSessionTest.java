@@ -0,0 +1,56 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fel.tool.mcp.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Unit tests for {@link McpSession}.
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("Unit tests for McpSession")
+public class McpSessionTest {
+    @Test
+    @DisplayName("Should close the session when the sender pool rejects the drain task")
+    @SuppressWarnings("unchecked")
+    void shouldCloseSessionWhenDrainRejected() {
+        HttpClassicServerResponse response = mock(HttpClassicServerResponse.class);
+        when(response.isActive()).thenReturn(true);
+        ThreadPoolExecutor sender = mock(ThreadPoolExecutor.class);
+        doThrow(new RejectedExecutionException("rejected")).when(sender).execute(any(Task.DisposableTask.class));
+        List<McpSession> closed = new CopyOnWriteArrayList<>();
+        McpSession session = new McpSession("session", response, 4, sender, closed::add);
+        Emitter<TextEvent> emitter = mock(Emitter.class);
+
+        session.attach(emitter);
+
+        assertThat(closed).containsExactly(session);
+        assertThat(session.isExpired(System.currentTimeMillis(), Long.MAX_VALUE)).isTrue();
+        assertThat(session.send(TextEvent.custom().data("data").build())).isFalse();
+        verify(emitter).complete();
+    }
+}
@@ -11,6 +11,7 @@ import modelengine.fel.tool.mcp.entity.Tool;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@code McpClient} interface defines the contract for interacting with the MCP server.
@@ -42,4 +43,17 @@ public interface McpClient extends Closeable {
      * @return The tool result as a {@link Object}.
      */
     Object callTool(String name, Map<String, Object> arguments);
-}
\ No newline at end of file
+
+    /**
+     * Calls MCP Server Tool asynchronously, so that several tools can be called in parallel.
+     * <p>The default implementation runs {@link #callTool(String, Map)} in the common pool; implementations that
+     * correlate responses asynchronously should override it.</p>
+     *
+     * @param name The tool name as a {@link String}.
+     * @param arguments The tool arguments as a {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}.
+     * @return The future of the tool result as a {@link CompletableFuture}{@code <}{@link Object}{@code >}.
+     */
+    default CompletableFuture<Object> callToolAsync(String name, Map<String, Object> arguments) {
+        return CompletableFuture.supplyAsync(() -> this.callTool(name, arguments));
+    }
+}
@@ -37,6 +37,7 @@ public abstract class AbstractCacheInterceptor extends AbstractMethodInterceptor
         this.keyGenerator = ObjectUtils.getIfNull(keyGenerator, KeyGenerator::params);
         List<String> actualCacheNames = ObjectUtils.getIfNull(cacheNames, ArrayList::new);
         this.instancesLoader = new LazyLoader<>(() -> container.factory(CacheManager.class)
+                .or(() -> container.lookup(CacheManager.class))
                 .map(BeanFactory::<CacheManager>get)
                 .map(manager -> actualCacheNames.stream()
                         .map(manager::getInstance)
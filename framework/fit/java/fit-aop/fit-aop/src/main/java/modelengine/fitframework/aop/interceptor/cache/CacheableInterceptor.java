@@ -18,6 +18,8 @@ import java.util.List;
 
 /**
  * 表示 {@link Cacheable} 的方法拦截器。
+ * <p>按照缓存实例的顺序依次通过 {@link Cache#getOrLoad(Object, Cache.Loader)} 查找，前一个缓存未命中时由后一个缓存加载，
+ * 所有缓存均未命中时执行被拦截的方法。同一个键的并发未命中只会执行一次加载。</p>
  *
  * @author 季聿阶
  * @since 2022-12-12
@@ -40,13 +42,14 @@ public class CacheableInterceptor extends AbstractCacheInterceptor {
         MethodInvocation invocation = methodJoinPoint.getProxiedInvocation();
         CacheKey key = this.getKeyGenerator()
                 .generate(invocation.getTarget(), invocation.getMethod(), invocation.getArguments());
-        for (Cache instance : this.getCacheInstances()) {
-            if (instance.contains(key)) {
-                return instance.get(key);
-            }
+        return this.getOrLoad(this.getCacheInstances(), 0, key, methodJoinPoint);
+    }
+
+    private Object getOrLoad(List<Cache> instances, int index, CacheKey key, MethodJoinPoint methodJoinPoint)
+            throws Throwable {
+        if (index >= instances.size()) {
+            return methodJoinPoint.proceed();
         }
-        Object result = methodJoinPoint.proceed();
-        this.getCacheInstances().forEach(instance -> instance.put(key, result));
-        return result;
+        return instances.get(index).getOrLoad(key, () -> this.getOrLoad(instances, index + 1, key, methodJoinPoint));
     }
 }
@@ -13,9 +13,15 @@ import modelengine.fitframework.cache.Cache;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 表示 {@link Cache} 的抽象实现。
+ * <p>{@link #getOrLoad(Object, Loader)} 对同一个键同时只执行一个加载，其他调用等待该加载的结果。加载过程中在同一个线程上
+ * 再次加载同一个键时，直接失败，而不是等待自身的加载结果。</p>
  *
  * @author 季聿阶
  * @since 2022-12-15
@@ -23,6 +29,7 @@ import java.util.Optional;
 public abstract class AbstractCache implements Cache {
     private final String name;
     private final boolean allowsNullValue;
+    private final ConcurrentMap<Object, Loading> loadings = new ConcurrentHashMap<>();
 
     /**
      * 使用指定的名称和空值允许标志初始化 {@link AbstractCache} 的新实例。
@@ -68,6 +75,52 @@ public abstract class AbstractCache implements Cache {
         this.store(key, this.toStoreValue(value));
     }
 
+    @Override
+    public Object getOrLoad(Object key, Loader loader) throws Throwable {
+        notNull(key, "The cache key cannot be null.");
+        notNull(loader, "The cache loader cannot be null.");
+        Object stored = this.load(key);
+        if (stored != null) {
+            return this.fromStoreValue(stored);
+        }
+        Loading loading = new Loading();
+        Loading existing = this.loadings.putIfAbsent(key, loading);
+        if (existing != null) {
+            if (existing.owner == Thread.currentThread()) {
+                throw new IllegalStateException(StringUtils.format(
+                        "Cannot load cache key recursively. [instance={0}, key={1}]",
+                        this.name(),
+                        key));
+            }
+            return await(existing);
+        }
+        try {
+            stored = this.load(key);
+            Object value;
+            if (stored != null) {
+                value = this.fromStoreValue(stored);
+            } else {
+                value = loader.load();
+                this.put(key, value);
+            }
+            loading.complete(value);
+            return value;
+        } catch (Throwable cause) {
+            loading.completeExceptionally(cause);
+            throw cause;
+        } finally {
+            this.loadings.remove(key, loading);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> loading) throws Throwable {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
     private Object toStoreValue(Object value) {
         return value == null ? Optional.empty() : value;
     }
@@ -88,7 +141,14 @@ public abstract class AbstractCache implements Cache {
      * 从当前缓存实例中获取指定键的值。
      *
      * @param key 表示指定键的 {@link Object}。
-     * @return 表示从当前缓存实例中获取到的指定键的值的 {@link Object}。
+     * @return 表示从当前缓存实例中获取到的指定键的值的 {@link Object}，不存在时为 {@code null}。
      */
     protected abstract Object load(Object key);
+
+    /**
+     * 表示正在进行的加载，记录执行加载的线程。
+     */
+    private static class Loading extends CompletableFuture<Object> {
+        private final Thread owner = Thread.currentThread();
+    }
 }
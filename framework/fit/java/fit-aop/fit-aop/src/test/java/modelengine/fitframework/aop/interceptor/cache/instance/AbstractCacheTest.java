@@ -0,0 +1,73 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.aop.interceptor.cache.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示 {@link AbstractCache} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 AbstractCache 类")
+public class AbstractCacheTest {
+    private final MapCache cache = new MapCache();
+
+    @Test
+    @DisplayName("未命中时加载并保存，命中时不再加载")
+    void shouldLoadOnceWhenMissed() throws Throwable {
+        assertThat(this.cache.getOrLoad("a", () -> 1)).isEqualTo(1);
+        assertThat(this.cache.getOrLoad("a", () -> 2)).isEqualTo(1);
+        assertThat(this.cache.get("a")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("加载过程中在同一个线程上加载同一个键时，直接失败而不是死锁")
+    void shouldFailWhenLoadedRecursively() throws Throwable {
+        assertThatThrownBy(() -> this.cache.getOrLoad("a", () -> this.cache.getOrLoad("a", () -> 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot load cache key recursively. [instance=test, key=a]");
+        assertThat(this.cache.contains("a")).isFalse();
+        assertThat(this.cache.getOrLoad("a", () -> 2)).isEqualTo(2);
+    }
+
+    private static class MapCache extends AbstractCache {
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        MapCache() {
+            super("test", true);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return this.values.containsKey(key);
+        }
+
+        @Override
+        public void remove(Object key) {
+            this.values.remove(key);
+        }
+
+        @Override
+        protected void store(Object key, Object value) {
+            this.values.put(key, value);
+        }
+
+        @Override
+        protected Object load(Object key) {
+            return this.values.get(key);
+        }
+    }
+}
@@ -54,4 +54,39 @@ public interface Cache {
      * @throws IllegalArgumentException 当 {@code key} 为 {@code null} 时。
      */
     void remove(Object key);
+
+    /**
+     * 获取指定键的值，当前缓存实例中不存在该键时，使用指定的加载器加载该值并保存到当前缓存实例中。
+     * <p>实现类应保证判断与读取是一次原子操作，并且同一个键同时只有一个加载在执行，其他调用等待该加载的结果。默认实现
+     * 不提供这些保证，并发调用可能重复加载。</p>
+     *
+     * @param key 表示指定键的 {@link Object}。
+     * @param loader 表示加载该键的值的 {@link Loader}。
+     * @return 表示指定键的值的 {@link Object}。
+     * @throws IllegalArgumentException 当 {@code key} 为 {@code null} 时。
+     * @throws IllegalStateException 当加载器在同一个线程上再次加载同一个键时。
+     * @throws Throwable 当加载器加载失败时。
+     */
+    default Object getOrLoad(Object key, Loader loader) throws Throwable {
+        if (this.contains(key)) {
+            return this.get(key);
+        }
+        Object value = loader.load();
+        this.put(key, value);
+        return value;
+    }
+
+    /**
+     * 表示缓存值的加载器。
+     */
+    @FunctionalInterface
+    interface Loader {
+        /**
+         * 加载缓存值。
+         *
+         * @return 表示加载到的缓存值的 {@link Object}。
+         * @throws Throwable 当加载失败时。
+         */
+        Object load() throws Throwable;
+    }
 }
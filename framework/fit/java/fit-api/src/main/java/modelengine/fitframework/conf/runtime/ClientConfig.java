@@ -7,6 +7,7 @@
 package modelengine.fitframework.conf.runtime;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 表示运行时 {@code 'client.*.'} 前缀的配置项。
@@ -22,6 +23,13 @@ public interface ClientConfig {
      */
     Optional<Secure> secure();
 
+    /**
+     * 获取批量调用相关的配置信息。
+     *
+     * @return 表示批量调用相关的配置信息的 {@link Batch}。
+     */
+    Batch batch();
+
     /**
      * 表示运行时 {@code 'client.*.secure.'} 前缀的配置项。
      */
@@ -94,4 +102,41 @@ public interface ClientConfig {
          */
         Optional<String> secureProtocol();
     }
+
+    /**
+     * 表示运行时 {@code 'client.*.batch.'} 前缀的配置项。
+     * <p>开启后，在同一时间窗口内发往同一地址的、声明为可批量调用的泛服务的同步请求，会被合并为一个批量请求发送。</p>
+     */
+    interface Batch {
+        /**
+         * 获取是否开启批量调用的标志。
+         * <p>如果显式地配置了 {@code 'client.*.batch.enabled'}，则以配置内容为准，如果没有配置表示关闭。</p>
+         *
+         * @return 如果开启批量调用，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        boolean enabled();
+
+        /**
+         * 获取可以批量调用的泛服务唯一标识的集合。
+         *
+         * @return 表示可以批量调用的泛服务唯一标识的集合的 {@link Set}{@code <}{@link String}{@code >}。
+         */
+        Set<String> genericables();
+
+        /**
+         * 获取合并请求的时间窗口。
+         * <p>单位为毫秒，如果没有配置，默认为 {@code 1}。</p>
+         *
+         * @return 表示合并请求的时间窗口的 {@code long}。
+         */
+        long window();
+
+        /**
+         * 获取一个批量请求中包含的最大请求数量。
+         * <p>如果没有配置，默认为 {@code 32}。</p>
+         *
+         * @return 表示一个批量请求中包含的最大请求数量的 {@code int}。
+         */
+        int maxSize();
+    }
 }
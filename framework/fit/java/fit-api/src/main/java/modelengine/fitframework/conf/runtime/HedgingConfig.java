@@ -0,0 +1,55 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.conf.runtime;
+
+import java.util.Set;
+
+/**
+ * 表示运行时 {@code 'broker.hedging.'} 前缀的配置项。
+ * <p>对冲请求仅对声明为幂等的泛服务生效：当首个远程请求在指定延迟内未返回时，会向另一个地址发送备份请求，并以先返回的结果为准。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface HedgingConfig {
+    /**
+     * 获取 {@code 'broker.hedging.enabled'} 的配置项。
+     *
+     * @return 如果开启对冲请求，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean enabled();
+
+    /**
+     * 获取 {@code 'broker.hedging.idempotent-genericables'} 的配置项。
+     *
+     * @return 表示声明为幂等的泛服务唯一标识集合的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    Set<String> idempotentGenericables();
+
+    /**
+     * 获取 {@code 'broker.hedging.delay'} 的配置项。
+     * <p>当该值不大于 {@code 0} 时，使用目标地址观测到的 P95 时延作为对冲延迟。</p>
+     *
+     * @return 表示固定对冲延迟毫秒数的 {@code long}。
+     */
+    long delay();
+
+    /**
+     * 获取 {@code 'broker.hedging.min-delay'} 的配置项。
+     * <p>在使用观测时延作为对冲延迟时，该值作为下限，并在样本不足时直接使用。</p>
+     *
+     * @return 表示最小对冲延迟毫秒数的 {@code long}。
+     */
+    long minDelay();
+
+    /**
+     * 获取 {@code 'broker.hedging.budget'} 的配置项。
+     *
+     * @return 表示对冲请求占总请求量的最大百分比的 {@code int}。
+     */
+    int budget();
+}
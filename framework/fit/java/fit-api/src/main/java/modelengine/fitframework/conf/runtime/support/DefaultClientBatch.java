@@ -0,0 +1,104 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.conf.runtime.support;
+
+import modelengine.fitframework.conf.runtime.ClientConfig.Batch;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 表示 {@link Batch} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class DefaultClientBatch implements Batch {
+    private static final long DEFAULT_WINDOW = 1L;
+    private static final int DEFAULT_MAX_SIZE = 32;
+
+    /**
+     * 配置项：{@code 'enabled'}。
+     */
+    private Boolean enabled;
+
+    /**
+     * 配置项：{@code 'genericables'}。
+     */
+    private List<String> genericables;
+
+    /**
+     * 配置项：{@code 'window'}。
+     */
+    private Long window;
+
+    /**
+     * 配置项：{@code 'max-size'}。
+     */
+    private Integer maxSize;
+
+    /**
+     * 设置是否开启批量调用。
+     *
+     * @param enabled 表示是否开启批量调用的 {@link Boolean}。
+     */
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 设置可以批量调用的泛服务唯一标识列表。
+     *
+     * @param genericables 表示可以批量调用的泛服务唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public void setGenericables(List<String> genericables) {
+        this.genericables = genericables;
+    }
+
+    /**
+     * 设置合并请求的时间窗口。
+     *
+     * @param window 表示合并请求的时间窗口毫秒数的 {@link Long}。
+     */
+    public void setWindow(Long window) {
+        this.window = window;
+    }
+
+    /**
+     * 设置一个批量请求中包含的最大请求数量。
+     *
+     * @param maxSize 表示一个批量请求中包含的最大请求数量的 {@link Integer}。
+     */
+    public void setMaxSize(Integer maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public boolean enabled() {
+        return this.enabled != null ? this.enabled : false;
+    }
+
+    @Override
+    public Set<String> genericables() {
+        if (this.genericables == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new HashSet<>(this.genericables));
+    }
+
+    @Override
+    public long window() {
+        return this.window == null || this.window < 0 ? DEFAULT_WINDOW : this.window;
+    }
+
+    @Override
+    public int maxSize() {
+        return this.maxSize == null || this.maxSize < 1 ? DEFAULT_MAX_SIZE : this.maxSize;
+    }
+}
@@ -15,6 +15,7 @@ import modelengine.fitframework.filesystem.FileObservers;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.schedule.ExecutePolicy;
 import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.schedule.ThreadPoolScheduler;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.FileUtils;
@@ -78,17 +79,18 @@ public class DefaultDirectoryMonitor implements DirectoryMonitor {
 
         this.policy = ObjectUtils.getIfNull(policy, () -> ExecutePolicy.fixedDelay(100));
         this.handler = notNull(handler, "The exception handler cannot be null.");
-        this.scheduler = ThreadPoolScheduler.custom()
-                .threadPoolName(StringUtils.format("directory-monitor-{0}", this.directory.getName()))
+        String threadPoolName = StringUtils.format("directory-monitor-{0}", this.directory.getName());
+        this.scheduler = ThreadPoolScheduler.timingWheel(threadPoolName, ThreadPoolExecutor.custom()
+                .threadPoolName(threadPoolName)
                 .awaitTermination(500L, TimeUnit.MILLISECONDS)
                 .isImmediateShutdown(true)
-                .corePoolSize(1)
+                .corePoolSize(0)
                 .maximumPoolSize(1)
                 .keepAliveTime(1, TimeUnit.SECONDS)
                 .workQueueCapacity(0)
                 .isDaemonThread(true)
                 .rejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy())
-                .build();
+                .build());
     }
 
     @Override
@@ -33,6 +33,7 @@ import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,6 +53,9 @@ public class DefaultFitable implements ConfigurableFitable {
     private final FitableExecutor remoteExecutor;
     private final FitableExecutor multicastExecutor;
     private final FitableExecutor genericRemoteExecutor;
+    private final HedgingPolicy hedgingPolicy;
+    private final FitableExecutor hedgingRemoteExecutor;
+    private final FitableExecutor hedgingGenericRemoteExecutor;
 
     private final String id;
     private final String version;
@@ -63,6 +67,11 @@ public class DefaultFitable implements ConfigurableFitable {
 
     DefaultFitable(BeanContainer container, LoadBalancer loadBalancer, TargetLocator targetLocator, String id,
             String version) {
+        this(container, loadBalancer, targetLocator, HedgingPolicy.disabled(), id, version);
+    }
+
+    DefaultFitable(BeanContainer container, LoadBalancer loadBalancer, TargetLocator targetLocator,
+            HedgingPolicy hedgingPolicy, String id, String version) {
         this.container = container;
         this.loadBalancer = loadBalancer;
         this.targetLocator = targetLocator;
@@ -72,6 +81,9 @@ public class DefaultFitable implements ConfigurableFitable {
         this.remoteExecutor = new RemoteFitableExecutor(container);
         this.multicastExecutor = new MulticastFitableExecutor(this.container, this.remoteExecutor);
         this.genericRemoteExecutor = new GenericRemoteFitableExecutor(container);
+        this.hedgingPolicy = notNull(hedgingPolicy, "The hedging policy cannot be null.");
+        this.hedgingRemoteExecutor = new HedgingFitableExecutor(this.hedgingPolicy, this.remoteExecutor);
+        this.hedgingGenericRemoteExecutor = new HedgingFitableExecutor(this.hedgingPolicy, this.genericRemoteExecutor);
 
         this.id = notBlank(id, "The fitable id cannot be blank.");
         this.version = notBlank(version, "The fitable version cannot be blank.");
@@ -154,6 +166,14 @@ public class DefaultFitable implements ConfigurableFitable {
         Invoker.Filter roundRobinFilter = Invoker.Filter.roundRobin();
         List<Target> actualTargets =
                 roundRobinFilter.filter(this, context.localWorkerId(), balancedTargets, context.filterExtensions());
+        if (this.hedgingPolicy.isHedgeable(this, context, balancedTargets)) {
+            List<Target> hedgingTargets = this.appendBackupTarget(actualTargets, balancedTargets);
+            if (context.genericableMethod() != null) {
+                return execute(this.hedgingRemoteExecutor, this, hedgingTargets, context, args);
+            } else {
+                return execute(this.hedgingGenericRemoteExecutor, this, hedgingTargets, context, args);
+            }
+        }
         if (context.genericableMethod() != null) {
             return execute(this.remoteExecutor, this, actualTargets, context, args);
         } else {
@@ -161,6 +181,13 @@ public class DefaultFitable implements ConfigurableFitable {
         }
     }
 
+    private List<Target> appendBackupTarget(List<Target> actualTargets, List<Target> balancedTargets) {
+        Target primary = actualTargets.get(0);
+        int index = balancedTargets.indexOf(primary);
+        Target backup = balancedTargets.get((index + 1) % balancedTargets.size());
+        return Objects.equals(primary, backup) ? actualTargets : Arrays.asList(primary, backup);
+    }
+
     private static Object execute(FitableExecutor executor, Fitable fitable, List<Target> targets,
             InvocationContext context, Object[] args) {
         try {
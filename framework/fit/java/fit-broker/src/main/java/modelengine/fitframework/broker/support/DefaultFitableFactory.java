@@ -26,6 +26,7 @@ public class DefaultFitableFactory implements FitableFactory {
     private final BeanContainer container;
     private final LoadBalancer loadBalancer;
     private final TargetLocator targetLocator;
+    private final HedgingPolicy hedgingPolicy;
 
     /**
      * 使用指定的容器、负载均衡器和目标定位器初始化 {@link DefaultFitableFactory} 的新实例。
@@ -37,14 +38,35 @@ public class DefaultFitableFactory implements FitableFactory {
      * 时。
      */
     public DefaultFitableFactory(BeanContainer container, LoadBalancer loadBalancer, TargetLocator targetLocator) {
+        this(container, loadBalancer, targetLocator, HedgingPolicy.disabled());
+    }
+
+    /**
+     * 使用指定的容器、负载均衡器、目标定位器和对冲策略初始化 {@link DefaultFitableFactory} 的新实例。
+     *
+     * @param container 表示容器的 {@link BeanContainer}。
+     * @param loadBalancer 表示负载均衡器的 {@link LoadBalancer}。
+     * @param targetLocator 表示目标定位器的 {@link TargetLocator}。
+     * @param hedgingPolicy 表示远程调用对冲策略的 {@link HedgingPolicy}。
+     * @throws IllegalArgumentException 当 {@code container}、{@code loadBalancer}、{@code targetLocator} 或
+     * {@code hedgingPolicy} 为 {@code null} 时。
+     */
+    public DefaultFitableFactory(BeanContainer container, LoadBalancer loadBalancer, TargetLocator targetLocator,
+            HedgingPolicy hedgingPolicy) {
         this.container = notNull(container, "The bean container cannot be null.");
         this.loadBalancer = notNull(loadBalancer, "The load balancer cannot be null.");
         this.targetLocator = notNull(targetLocator, "The target locator cannot be null.");
+        this.hedgingPolicy = notNull(hedgingPolicy, "The hedging policy cannot be null.");
     }
 
     @Override
     public ConfigurableFitable create(String id, String version) {
-        return new DefaultFitable(this.container, this.loadBalancer, this.targetLocator, id, version);
+        return new DefaultFitable(this.container,
+                this.loadBalancer,
+                this.targetLocator,
+                this.hedgingPolicy,
+                id,
+                version);
     }
 
     @Override
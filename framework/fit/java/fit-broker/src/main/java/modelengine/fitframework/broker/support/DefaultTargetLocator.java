@@ -9,10 +9,12 @@ package modelengine.fitframework.broker.support;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.server.FitServer;
+import modelengine.fit.service.FitableTargetsChangedObserver;
 import modelengine.fit.service.Registry;
 import modelengine.fit.service.RegistryLocator;
 import modelengine.fitframework.broker.Endpoint;
 import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.LocalExecutor;
 import modelengine.fitframework.broker.LocalExecutorFactory;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.broker.TargetLocator;
@@ -22,27 +24,49 @@ import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.ioc.lifecycle.container.BeanContainerInitializedObserver;
+import modelengine.fitframework.ioc.lifecycle.container.BeanContainerStoppedObserver;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppingObserver;
+import modelengine.fitframework.runtime.FitRuntime;
+import modelengine.fitframework.runtime.FitRuntimeStartedObserver;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * {@link TargetLocator} 的默认实现。
+ * <p>从注册中心获取的地址列表会以不可变快照的形式缓存在本地地址表中，查找地址时只需读取快照。地址表通过以下方式维护：</p>
+ * <ul>
+ *     <li>首次查找某个服务实现时，从 {@link Registry} 中加载其地址列表并缓存；</li>
+ *     <li>每个服务实现拥有独立的版本号，加载完成后只有版本号未发生变化时才会缓存加载结果，因此加载过程中收到的变化通知不会丢失；</li>
+ *     <li>收到 {@link FitableTargetsChangedObserver 地址变化通知} 时，递增发生变化的服务实现的版本号，并增量刷新已缓存的服务实现；</li>
+ *     <li>刷新失败时（例如注册中心不可用），继续使用已缓存的旧快照；</li>
+ *     <li>插件启动或停止、运行时启动时，本地服务实现发生变化，清除相关服务实现的快照；</li>
+ *     <li>插件容器启动或停止时，重新解析 {@link Registry} 和本地地址，提供 {@link Registry} 的插件停止时清空地址表。</li>
+ * </ul>
  *
  * @author 梁济时
  * @author 张越
  * @author 季聿阶
  * @since 2020-09-02
  */
-public class DefaultTargetLocator implements TargetLocator {
+public class DefaultTargetLocator implements TargetLocator, FitableTargetsChangedObserver,
+        BeanContainerInitializedObserver, BeanContainerStoppedObserver, PluginStartedObserver, PluginStoppingObserver,
+        FitRuntimeStartedObserver {
     private static final Logger log = Logger.get(DefaultTargetLocator.class);
 
     private final BeanContainer container;
@@ -51,6 +75,11 @@ public class DefaultTargetLocator implements TargetLocator {
     private final WorkerConfig worker;
     private final List<MatataConfig.Registry.AvailableService> registryServices;
 
+    private final Map<UniqueFitableId, TargetsSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<UniqueFitableId, AtomicLong> versions = new ConcurrentHashMap<>();
+    private volatile Optional<Registry> registry;
+    private volatile Target local;
+
     /**
      * 使用指定的容器、工作进程配置和可直接调用服务列表初始化 {@link DefaultTargetLocator} 的新实例。
      *
@@ -112,17 +141,125 @@ public class DefaultTargetLocator implements TargetLocator {
     }
 
     private List<Target> getFitableTargets(UniqueFitableId id) {
-        return this.container.lookup(Registry.class)
-                .map(BeanFactory::<Registry>get)
+        return this.getRegistry()
                 .map(registry -> this.getTargetsFromRegistry(registry, id))
                 .filter(CollectionUtils::isNotEmpty)
                 .orElseGet(() -> this.getTargetsFromLocal(id));
     }
 
+    private Optional<Registry> getRegistry() {
+        Optional<Registry> current = this.registry;
+        if (current == null) {
+            current = this.container.lookup(Registry.class).map(BeanFactory::<Registry>get);
+            this.registry = current;
+        }
+        return current;
+    }
+
     private List<Target> getTargetsFromRegistry(Registry registry, UniqueFitableId id) {
-        List<Target> fitableTargets = registry.getFitableTargets(id);
-        log.debug("Got targets from registry. [id={}, targetSize={}]", id, fitableTargets.size());
-        return fitableTargets;
+        TargetsSnapshot snapshot = this.snapshots.get(id);
+        if (snapshot != null) {
+            return snapshot.targets();
+        }
+        AtomicLong version = this.versions.computeIfAbsent(id, key -> new AtomicLong());
+        return this.refresh(registry, id, version, version.get());
+    }
+
+    private List<Target> refresh(Registry registry, UniqueFitableId id, AtomicLong version, long expectedVersion) {
+        List<Target> fitableTargets;
+        try {
+            fitableTargets = registry.getFitableTargets(id);
+        } catch (RuntimeException e) {
+            TargetsSnapshot stale = this.snapshots.get(id);
+            log.warn("Failed to refresh targets from registry, use cached targets instead. [id={}, version={}]",
+                    id,
+                    stale == null ? null : stale.version());
+            log.debug("Failed to refresh targets from registry.", e);
+            return stale == null ? Collections.emptyList() : stale.targets();
+        }
+        log.debug("Got targets from registry. [id={}, targetSize={}, version={}]",
+                id,
+                fitableTargets.size(),
+                expectedVersion);
+        TargetsSnapshot loaded =
+                CollectionUtils.isEmpty(fitableTargets) ? null : new TargetsSnapshot(expectedVersion, fitableTargets);
+        // 版本号只在当前服务实现的快照锁内递增，因此加载期间发生的变化要么使本次加载结果被丢弃，要么触发一次新的刷新。
+        this.snapshots.compute(id, (key, old) -> version.get() == expectedVersion ? loaded : old);
+        return loaded == null ? Collections.emptyList() : loaded.targets();
+    }
+
+    @Override
+    public void onFitableTargetsChanged(List<UniqueFitableId> ids) {
+        Optional<Registry> current = this.getRegistry();
+        if (!current.isPresent()) {
+            return;
+        }
+        for (UniqueFitableId id : ids) {
+            AtomicLong version = this.versions.get(id);
+            if (version == null) {
+                continue;
+            }
+            long[] latest = new long[1];
+            TargetsSnapshot cached = this.snapshots.compute(id, (key, old) -> {
+                latest[0] = version.incrementAndGet();
+                return old;
+            });
+            // 尚未缓存（例如正在首次加载）时，递增的版本号使进行中的加载结果不被缓存，下次查找时重新加载。
+            if (cached != null) {
+                this.refresh(current.get(), id, version, latest[0]);
+            }
+        }
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.invalidate(plugin);
+    }
+
+    @Override
+    public void onPluginStopping(Plugin plugin) {
+        this.invalidate(plugin);
+    }
+
+    @Override
+    public void onRuntimeStarted(FitRuntime runtime) {
+        runtime.plugins().forEach(this::invalidate);
+    }
+
+    private void invalidate(Plugin plugin) {
+        LocalExecutorFactory factory = this.localExecutorFactoryLoader.get();
+        List<LocalExecutor> executors = new ArrayList<>(factory.get(plugin, false));
+        executors.addAll(factory.get(plugin, true));
+        executors.forEach(executor -> this.invalidate(executor.id()));
+        log.debug("Invalidate targets of local fitables. [plugin={}, size={}]",
+                plugin.metadata().name(),
+                executors.size());
+    }
+
+    private void invalidate(UniqueFitableId id) {
+        AtomicLong version = this.versions.get(id);
+        if (version == null) {
+            return;
+        }
+        this.snapshots.compute(id, (key, old) -> {
+            version.incrementAndGet();
+            return null;
+        });
+    }
+
+    @Override
+    public void onBeanContainerInitialized(BeanContainer container) {
+        this.registry = null;
+        this.local = null;
+    }
+
+    @Override
+    public void onBeanContainerStopped(BeanContainer container) {
+        if (container.factory(Registry.class).isPresent()) {
+            this.versions.keySet().forEach(this::invalidate);
+        }
+        this.registry = null;
+        this.local = null;
     }
 
     private List<Target> getTargetsFromLocal(UniqueFitableId id) {
@@ -141,6 +278,15 @@ public class DefaultTargetLocator implements TargetLocator {
 
     @Override
     public Target local() {
+        Target current = this.local;
+        if (current == null) {
+            current = this.buildLocal();
+            this.local = current;
+        }
+        return current;
+    }
+
+    private Target buildLocal() {
         List<Endpoint> endpoints = this.getFitServers()
                 .stream()
                 .map(FitServer::endpoints)
@@ -167,4 +313,25 @@ public class DefaultTargetLocator implements TargetLocator {
                 .map(BeanFactory::<FitServer>get)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 表示指定服务实现的地址列表的不可变快照。
+     */
+    private static class TargetsSnapshot {
+        private final long version;
+        private final List<Target> targets;
+
+        TargetsSnapshot(long version, List<Target> targets) {
+            this.version = version;
+            this.targets = Collections.unmodifiableList(new ArrayList<>(targets));
+        }
+
+        long version() {
+            return this.version;
+        }
+
+        List<Target> targets() {
+            return this.targets;
+        }
+    }
 }
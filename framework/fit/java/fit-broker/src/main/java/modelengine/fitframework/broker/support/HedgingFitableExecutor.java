@@ -0,0 +1,219 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.FitableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link FitableExecutor} 的对冲调用实现。
+ * <p>首个请求和备份请求都在对冲线程池上执行，调用线程只等待竞争结果。首个请求发送至第一个地址，同时在对冲延迟后调度一次备份请求：当首个请求
+ * 在对冲延迟内未返回且对冲预算充足时，向第二个地址发送备份请求；当首个请求在对冲延迟内失败时，立即向第二个地址发送备份请求。先成功返回的结果
+ * 被采纳，调用线程立即返回，仍在执行的请求被异步取消，即使底层调用不响应中断，也不会阻塞调用线程。只有当所有已发出的请求都失败时，才会抛出最后
+ * 一个失败的异常。当对冲线程池已满时，放弃对冲，直接在调用线程上发送首个请求。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class HedgingFitableExecutor implements FitableExecutor {
+    private static final Logger log = Logger.get(HedgingFitableExecutor.class);
+
+    private final HedgingPolicy policy;
+    private final FitableExecutor executor;
+
+    HedgingFitableExecutor(HedgingPolicy policy, FitableExecutor executor) {
+        this.policy = notNull(policy, "The hedging policy cannot be null.");
+        this.executor = notNull(executor, "The fitable executor cannot be null.");
+    }
+
+    @Override
+    public Object execute(Fitable fitable, List<Target> targets, InvocationContext context, Object[] args) {
+        Validation.notEmpty(targets, "The targets cannot be empty.");
+        this.policy.deposit();
+        Target primary = targets.get(0);
+        if (targets.size() < 2) {
+            return this.executor.execute(fitable, Collections.singletonList(primary), context, args);
+        }
+        Target backup = targets.get(1);
+        Race race = new Race(fitable, primary, backup, context, args);
+        if (!race.start()) {
+            log.debug("The hedging executor is busy, send request without hedging. [id={}, primary={}]",
+                    fitable.toUniqueId(),
+                    primary);
+            return this.executor.execute(fitable, Collections.singletonList(primary), context, args);
+        }
+        Task.DisposableTask hedge = Task.builder().runnable(race::hedge).buildDisposable();
+        ScheduledFuture<?> trigger = this.policy.scheduler().schedule(hedge, this.policy.delay(primary));
+        try {
+            return race.await();
+        } finally {
+            trigger.cancel(false);
+            race.cancel();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new FitException(cause);
+    }
+
+    /**
+     * 表示一次对冲调用中所有请求的竞争状态。
+     * <p>首个请求在创建竞争后立即发送，备份请求最多发送一次，由对冲定时器或首个请求的失败触发。</p>
+     */
+    private class Race {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final Map<Target, Future<?>> attempts = new IdentityHashMap<>(2);
+        private final Fitable fitable;
+        private final Target primary;
+        private final Target backup;
+        private final InvocationContext context;
+        private final Object[] args;
+        private boolean hedged;
+        private int launched;
+        private int failed;
+
+        Race(Fitable fitable, Target primary, Target backup, InvocationContext context, Object[] args) {
+            this.fitable = fitable;
+            this.primary = primary;
+            this.backup = backup;
+            this.context = context;
+            this.args = args;
+        }
+
+        /**
+         * 在对冲线程池上发送首个请求。
+         *
+         * @return 如果首个请求已发送，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        synchronized boolean start() {
+            return this.launch(this.primary);
+        }
+
+        /**
+         * 当首个请求仍在执行时，发送备份请求。
+         */
+        synchronized void hedge() {
+            if (this.result.isDone() || this.hedged) {
+                return;
+            }
+            this.hedged = true;
+            if (HedgingFitableExecutor.this.policy.tryAcquire() && this.launch(this.backup)) {
+                log.debug("Send hedged request. [id={}, primary={}, backup={}]",
+                        this.fitable.toUniqueId(),
+                        this.primary,
+                        this.backup);
+            }
+        }
+
+        private boolean launch(Target target) {
+            Task.DisposableTask task = Task.builder().runnable(() -> this.attempt(target)).buildDisposable();
+            try {
+                this.attempts.put(target, HedgingFitableExecutor.this.policy.executor().submit(task));
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+            this.launched++;
+            return true;
+        }
+
+        private void attempt(Target target) {
+            long start = System.nanoTime();
+            Object value;
+            try {
+                value = HedgingFitableExecutor.this.executor.execute(this.fitable,
+                        Collections.singletonList(target),
+                        this.context,
+                        this.args);
+            } catch (Throwable e) {
+                this.fail(target, e);
+                return;
+            }
+            HedgingFitableExecutor.this.policy.record(target,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            this.succeed(target, value);
+        }
+
+        private synchronized void succeed(Target target, Object value) {
+            if (!this.result.complete(value)) {
+                return;
+            }
+            this.attempts.forEach((other, attempt) -> {
+                if (other != target) {
+                    attempt.cancel(true);
+                }
+            });
+        }
+
+        private synchronized void fail(Target target, Throwable cause) {
+            if (this.result.isDone()) {
+                return;
+            }
+            this.failed++;
+            if (target == this.primary && !this.hedged) {
+                this.hedged = true;
+                if (HedgingFitableExecutor.this.policy.tryAcquire() && this.launch(this.backup)) {
+                    log.debug("Send hedged request after primary failed. [id={}, primary={}, backup={}]",
+                            this.fitable.toUniqueId(),
+                            this.primary,
+                            this.backup);
+                }
+            }
+            if (this.failed >= this.launched) {
+                this.result.completeExceptionally(cause);
+            }
+        }
+
+        /**
+         * 等待竞争结果。
+         *
+         * @return 表示先成功返回的请求结果的 {@link Object}。
+         */
+        Object await() {
+            try {
+                return this.result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for remote fitable.", e);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        /**
+         * 取消所有仍在执行的请求。
+         * <p>取消只向执行请求的线程发送中断信号，不等待请求结束，因此不响应中断的请求不会阻塞调用线程。</p>
+         */
+        synchronized void cancel() {
+            this.attempts.values().forEach(attempt -> attempt.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.conf.runtime.DefaultHedging;
+import modelengine.fitframework.conf.runtime.HedgingConfig;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.LazyLoader;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示远程调用的对冲策略。
+ * <p>对冲策略维护了所有远程调用共享的状态，包括：</p>
+ * <ul>
+ *     <li>每个目标进程最近的调用时延，用于计算 P95 对冲延迟；</li>
+ *     <li>对冲预算，每个请求存入 {@link HedgingConfig#budget()} 百分比的令牌，每个对冲请求消耗一个完整令牌；</li>
+ *     <li>触发对冲请求的定时器和执行对冲调用中所有请求的有界线程池。</li>
+ * </ul>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class HedgingPolicy {
+    private static final HedgingPolicy DISABLED = new HedgingPolicy(new DefaultHedging());
+
+    private static final long TOKEN = 100L;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+    private static final int MAX_HEDGING_THREADS = 256;
+
+    private final HedgingConfig config;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong tokens = new AtomicLong();
+    private final LazyLoader<ThreadPoolExecutor> executorLoader = new LazyLoader<>(HedgingPolicy::createExecutor);
+    private final LazyLoader<ThreadPoolScheduler> schedulerLoader =
+            new LazyLoader<>(() -> ThreadPoolScheduler.timingWheel("broker-hedging-timer", Runnable::run));
+
+    /**
+     * 使用指定的对冲配置初始化 {@link HedgingPolicy} 的新实例。
+     *
+     * @param config 表示对冲配置的 {@link HedgingConfig}。
+     * @throws IllegalArgumentException 当 {@code config} 为 {@code null} 时。
+     */
+    public HedgingPolicy(HedgingConfig config) {
+        this.config = notNull(config, "The hedging config cannot be null.");
+    }
+
+    /**
+     * 获取不进行任何对冲的策略。
+     *
+     * @return 表示不进行任何对冲的策略的 {@link HedgingPolicy}。
+     */
+    public static HedgingPolicy disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * 判断指定的调用是否可以进行对冲。
+     *
+     * @param fitable 表示待调用的服务实现的 {@link Fitable}。
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @param targets 表示负载均衡后的候选地址列表的 {@link List}{@code <}{@link Target}{@code >}。
+     * @return 如果可以进行对冲，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isHedgeable(Fitable fitable, InvocationContext context, List<Target> targets) {
+        return this.config.enabled() && !context.isMulticast() && targets.size() > 1
+                && this.config.idempotentGenericables().contains(fitable.genericable().id());
+    }
+
+    /**
+     * 获取指定目标地址的对冲延迟。
+     *
+     * @param target 表示目标地址的 {@link Target}。
+     * @return 表示对冲延迟毫秒数的 {@code long}。
+     */
+    long delay(Target target) {
+        if (this.config.delay() > 0) {
+            return this.config.delay();
+        }
+        LatencyWindow window = this.latencies.get(target.workerId());
+        long observed = window == null ? 0L : window.p95();
+        return Math.max(observed, this.config.minDelay());
+    }
+
+    /**
+     * 记录一次成功调用的时延。
+     *
+     * @param target 表示目标地址的 {@link Target}。
+     * @param millis 表示调用时延毫秒数的 {@code long}。
+     */
+    void record(Target target, long millis) {
+        this.latencies.computeIfAbsent(target.workerId(), key -> new LatencyWindow()).add(millis);
+    }
+
+    /**
+     * 为一次主请求存入对冲预算。
+     */
+    void deposit() {
+        long amount = this.config.budget();
+        this.tokens.getAndUpdate(current -> Math.min(current + amount, MAX_TOKENS));
+    }
+
+    /**
+     * 尝试从对冲预算中申请一次对冲请求。
+     *
+     * @return 如果预算充足，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean tryAcquire() {
+        long current;
+        do {
+            current = this.tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!this.tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * 获取执行对冲调用中首个请求和备份请求的线程池。
+     * <p>线程池的大小是有限的，当线程池已满时，提交的请求会被拒绝，此时放弃本次对冲。</p>
+     *
+     * @return 表示执行对冲请求的线程池的 {@link ThreadPoolExecutor}。
+     */
+    ThreadPoolExecutor executor() {
+        return this.executorLoader.get();
+    }
+
+    /**
+     * 获取触发对冲请求的定时器。
+     * <p>定时任务直接在时间轮线程上执行，因此只能用于向 {@link #executor()} 提交对冲请求等耗时很短的操作。</p>
+     *
+     * @return 表示触发对冲请求的定时器的 {@link ThreadPoolScheduler}。
+     */
+    ThreadPoolScheduler scheduler() {
+        return this.schedulerLoader.get();
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("broker-hedging")
+                .corePoolSize(0)
+                .maximumPoolSize(MAX_HEDGING_THREADS)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(0)
+                .isDaemonThread(true)
+                .build();
+    }
+
+    /**
+     * 表示固定容量的时延采样窗口。
+     */
+    private static class LatencyWindow {
+        private static final int CAPACITY = 128;
+        private static final int REFRESH_INTERVAL = 16;
+        private static final double PERCENTILE = 0.95;
+
+        private final long[] samples = new long[CAPACITY];
+        private int size;
+        private int next;
+        private long p95;
+
+        synchronized void add(long millis) {
+            this.samples[this.next] = millis;
+            this.next = (this.next + 1) % CAPACITY;
+            this.size = Math.min(this.size + 1, CAPACITY);
+            if (this.size < REFRESH_INTERVAL || this.next % REFRESH_INTERVAL == 0) {
+                long[] sorted = Arrays.copyOf(this.samples, this.size);
+                Arrays.sort(sorted);
+                this.p95 = sorted[(int) Math.ceil(PERCENTILE * sorted.length) - 1];
+            }
+        }
+
+        synchronized long p95() {
+            return this.size < REFRESH_INTERVAL ? 0L : this.p95;
+        }
+    }
+}
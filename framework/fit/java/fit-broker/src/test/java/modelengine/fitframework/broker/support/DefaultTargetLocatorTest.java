@@ -0,0 +1,139 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.service.Registry;
+import modelengine.fitframework.broker.LocalExecutor;
+import modelengine.fitframework.broker.LocalExecutorFactory;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginMetadata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 表示 {@link DefaultTargetLocator} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 DefaultTargetLocator")
+public class DefaultTargetLocatorTest {
+    private final UniqueFitableId id = UniqueFitableId.create("g", "f");
+
+    private Registry registry;
+    private LocalExecutorFactory localExecutorFactory;
+    private DefaultTargetLocator locator;
+
+    @BeforeEach
+    void setup() {
+        BeanContainer container = mock(BeanContainer.class);
+        this.localExecutorFactory = mock(LocalExecutorFactory.class);
+        when(this.localExecutorFactory.get(any(UniqueFitableId.class))).thenReturn(Optional.empty());
+        BeanFactory localExecutorBeanFactory = mock(BeanFactory.class);
+        when(localExecutorBeanFactory.get()).thenReturn(this.localExecutorFactory);
+        when(container.factory(LocalExecutorFactory.class)).thenReturn(Optional.of(localExecutorBeanFactory));
+        this.registry = mock(Registry.class);
+        BeanFactory registryBeanFactory = mock(BeanFactory.class);
+        when(registryBeanFactory.get()).thenReturn(this.registry);
+        when(container.lookup(Registry.class)).thenReturn(Optional.of(registryBeanFactory));
+        this.locator = new DefaultTargetLocator(container, mock(WorkerConfig.class), Collections.emptyList());
+    }
+
+    private static Target target(String workerId) {
+        return Target.custom().workerId(workerId).build();
+    }
+
+    private Plugin plugin() {
+        Plugin plugin = mock(Plugin.class);
+        PluginMetadata metadata = mock(PluginMetadata.class);
+        when(metadata.name()).thenReturn("p");
+        when(plugin.metadata()).thenReturn(metadata);
+        LocalExecutor executor = mock(LocalExecutor.class);
+        when(executor.id()).thenReturn(this.id);
+        when(this.localExecutorFactory.get(plugin, false)).thenReturn(Collections.singletonList(executor));
+        when(this.localExecutorFactory.get(plugin, true)).thenReturn(Collections.emptyList());
+        return plugin;
+    }
+
+    @Test
+    @DisplayName("多次查找时，只从注册中心加载一次地址列表")
+    void givenCachedTargetsThenNotQueryRegistryAgain() {
+        when(this.registry.getFitableTargets(this.id)).thenReturn(Collections.singletonList(target("w1")));
+        this.locator.lookup(this.id);
+        List<Target> targets = this.locator.lookup(this.id);
+        assertThat(targets).extracting(Target::workerId).containsExactly("w1");
+        verify(this.registry, times(1)).getFitableTargets(this.id);
+    }
+
+    @Test
+    @DisplayName("收到地址变化通知后，返回最新的地址列表")
+    void givenChangedNotificationThenRefreshTargets() {
+        when(this.registry.getFitableTargets(this.id)).thenReturn(Collections.singletonList(target("w1")))
+                .thenReturn(Collections.singletonList(target("w2")));
+        this.locator.lookup(this.id);
+        this.locator.onFitableTargetsChanged(Collections.singletonList(this.id));
+        List<Target> targets = this.locator.lookup(this.id);
+        assertThat(targets).extracting(Target::workerId).containsExactly("w2");
+    }
+
+    @Test
+    @DisplayName("刷新地址列表失败时，继续使用已缓存的地址列表")
+    void givenRegistryFailureThenUseStaleTargets() {
+        when(this.registry.getFitableTargets(this.id)).thenReturn(Collections.singletonList(target("w1")))
+                .thenThrow(new IllegalStateException("registry is unavailable"));
+        this.locator.lookup(this.id);
+        this.locator.onFitableTargetsChanged(Collections.singletonList(this.id));
+        List<Target> targets = this.locator.lookup(this.id);
+        assertThat(targets).extracting(Target::workerId).containsExactly("w1");
+    }
+
+    @Test
+    @DisplayName("插件启动或停止时，清除其本地服务实现的地址列表")
+    void givenPluginStartedOrStoppingThenInvalidateTargets() {
+        when(this.registry.getFitableTargets(this.id)).thenReturn(Collections.singletonList(target("w1")))
+                .thenReturn(Collections.singletonList(target("w2")))
+                .thenReturn(Collections.singletonList(target("w3")));
+        Plugin plugin = this.plugin();
+        this.locator.lookup(this.id);
+        this.locator.onPluginStarted(plugin);
+        assertThat(this.locator.lookup(this.id)).extracting(Target::workerId).containsExactly("w2");
+        this.locator.onPluginStopping(plugin);
+        assertThat(this.locator.lookup(this.id)).extracting(Target::workerId).containsExactly("w3");
+        verify(this.registry, times(3)).getFitableTargets(this.id);
+    }
+
+    @Test
+    @DisplayName("首次加载过程中收到地址变化通知时，不缓存加载结果")
+    void givenChangedNotificationDuringFirstLoadThenReloadTargets() {
+        when(this.registry.getFitableTargets(this.id)).thenAnswer(invocation -> {
+            this.locator.onFitableTargetsChanged(Collections.singletonList(this.id));
+            return Collections.singletonList(target("w1"));
+        }).thenReturn(Collections.singletonList(target("w2")));
+        assertThat(this.locator.lookup(this.id)).extracting(Target::workerId).containsExactly("w1");
+        assertThat(this.locator.lookup(this.id)).extracting(Target::workerId).containsExactly("w2");
+        assertThat(this.locator.lookup(this.id)).extracting(Target::workerId).containsExactly("w2");
+        verify(this.registry, times(2)).getFitableTargets(this.id);
+    }
+}
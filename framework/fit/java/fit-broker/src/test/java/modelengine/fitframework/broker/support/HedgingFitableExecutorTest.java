@@ -0,0 +1,227 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.FitableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.conf.runtime.DefaultHedging;
+import modelengine.fitframework.util.ThreadUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link HedgingFitableExecutor} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 HedgingFitableExecutor")
+public class HedgingFitableExecutorTest {
+    private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+    private Fitable fitable;
+    private InvocationContext context;
+    private Target slow;
+    private Target fast;
+
+    @BeforeEach
+    void setup() {
+        this.invocations.clear();
+        this.fitable = Mockito.mock(Fitable.class);
+        this.context = Mockito.mock(InvocationContext.class);
+        this.slow = target("slow");
+        this.fast = target("fast");
+    }
+
+    private static Target target(String workerId) {
+        Target target = Mockito.mock(Target.class);
+        Mockito.when(target.workerId()).thenReturn(workerId);
+        return target;
+    }
+
+    private static HedgingPolicy policy(long delay, int budget) {
+        DefaultHedging hedging = new DefaultHedging();
+        hedging.setEnabled(true);
+        hedging.setIdempotentGenericables(Collections.singletonList("g"));
+        hedging.setDelay(delay);
+        hedging.setBudget(budget);
+        return new HedgingPolicy(hedging);
+    }
+
+    private FitableExecutor delegate() {
+        return (fitable, targets, context, args) -> {
+            String workerId = targets.get(0).workerId();
+            this.invocations.computeIfAbsent(workerId, key -> new AtomicInteger()).incrementAndGet();
+            if ("slow".equals(workerId)) {
+                ThreadUtils.sleep(2000);
+            }
+            return workerId;
+        };
+    }
+
+    @Test
+    @DisplayName("当首个请求超过对冲延迟时，返回备份请求的结果")
+    void givenSlowPrimaryThenReturnBackupResult() {
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(20, 100), this.delegate());
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        Object result = executor.execute(this.fitable, targets, this.context, new Object[0]);
+        assertThat(result).isEqualTo("fast");
+        assertThat(this.invocations.get("slow").get()).isEqualTo(1);
+        assertThat(this.invocations.get("fast").get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("当首个请求在对冲延迟内返回时，不发送备份请求")
+    void givenFastPrimaryThenNoBackupRequest() {
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(1000, 100), this.delegate());
+        List<Target> targets = Arrays.asList(this.fast, this.slow);
+        Object result = executor.execute(this.fitable, targets, this.context, new Object[0]);
+        assertThat(result).isEqualTo("fast");
+        assertThat(this.invocations).doesNotContainKey("slow");
+    }
+
+    @Test
+    @DisplayName("所有请求都不在调用线程上执行，备份请求先返回时中断首个请求")
+    void givenSlowPrimaryThenRunAttemptsOffCallerAndInterruptPrimary() throws InterruptedException {
+        Map<String, Thread> threads = new ConcurrentHashMap<>();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        FitableExecutor delegate = (fitable, targets, context, args) -> {
+            String workerId = targets.get(0).workerId();
+            threads.put(workerId, Thread.currentThread());
+            if ("slow".equals(workerId)) {
+                try {
+                    Thread.sleep(10000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return workerId;
+        };
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(20, 100), delegate);
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        long start = System.currentTimeMillis();
+        Object result = executor.execute(this.fitable, targets, this.context, new Object[0]);
+        assertThat(result).isEqualTo("fast");
+        assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+        assertThat(threads.get("slow")).isNotSameAs(Thread.currentThread());
+        assertThat(threads.get("fast")).isNotSameAs(Thread.currentThread());
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("当首个请求不响应中断时，备份请求先返回后调用线程立即返回")
+    void givenUninterruptiblePrimaryThenReturnBackupResultWithoutWaiting() {
+        CountDownLatch release = new CountDownLatch(1);
+        FitableExecutor delegate = (fitable, targets, context, args) -> {
+            String workerId = targets.get(0).workerId();
+            if ("slow".equals(workerId)) {
+                boolean isReleased = false;
+                while (!isReleased) {
+                    try {
+                        isReleased = release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException ignored) {
+                        // 模拟不响应中断的阻塞调用。
+                    }
+                }
+            }
+            return workerId;
+        };
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(20, 100), delegate);
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        long start = System.currentTimeMillis();
+        try {
+            Object result = executor.execute(this.fitable, targets, this.context, new Object[0]);
+            assertThat(result).isEqualTo("fast");
+            assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("当首个请求在对冲延迟内失败时，立即发送备份请求")
+    void givenPrimaryFailedEarlyThenSendBackupImmediately() {
+        Map<String, Thread> threads = new ConcurrentHashMap<>();
+        FitableExecutor delegate = (fitable, targets, context, args) -> {
+            String workerId = targets.get(0).workerId();
+            threads.put(workerId, Thread.currentThread());
+            if ("slow".equals(workerId)) {
+                throw new IllegalStateException("failed");
+            }
+            return workerId;
+        };
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(10000, 100), delegate);
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        long start = System.currentTimeMillis();
+        Object result = executor.execute(this.fitable, targets, this.context, new Object[0]);
+        assertThat(result).isEqualTo("fast");
+        assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+        assertThat(threads.get("fast")).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("当首个请求失败且对冲预算不足时，抛出首个请求的异常")
+    void givenPrimaryFailedWithoutBudgetThenThrow() {
+        FitableExecutor delegate = (fitable, targets, context, args) -> {
+            this.invocations.computeIfAbsent(targets.get(0).workerId(), key -> new AtomicInteger())
+                    .incrementAndGet();
+            throw new IllegalStateException(targets.get(0).workerId());
+        };
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(10000, 0), delegate);
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        assertThatThrownBy(() -> executor.execute(this.fitable, targets, this.context, new Object[0])).isInstanceOf(
+                IllegalStateException.class).hasMessage("slow");
+        assertThat(this.invocations).doesNotContainKey("fast");
+    }
+
+    @Test
+    @DisplayName("当对冲预算不足时，不发送备份请求")
+    void givenNoBudgetThenNoBackupRequest() {
+        HedgingPolicy policy = policy(10, 0);
+        FitableExecutor delegate = (fitable, targets, context, args) -> {
+            this.invocations.computeIfAbsent(targets.get(0).workerId(), key -> new AtomicInteger())
+                    .incrementAndGet();
+            ThreadUtils.sleep(50);
+            return targets.get(0).workerId();
+        };
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy, delegate);
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        Object result = executor.execute(this.fitable, targets, this.context, new Object[0]);
+        assertThat(result).isEqualTo("slow");
+        assertThat(this.invocations).doesNotContainKey("fast");
+    }
+
+    @Test
+    @DisplayName("当所有请求均失败时，抛出异常")
+    void givenAllFailedThenThrow() {
+        FitableExecutor delegate = (fitable, targets, context, args) -> {
+            throw new IllegalStateException("failed");
+        };
+        HedgingFitableExecutor executor = new HedgingFitableExecutor(policy(10, 100), delegate);
+        List<Target> targets = Arrays.asList(this.slow, this.fast);
+        assertThatThrownBy(() -> executor.execute(this.fitable, targets, this.context, new Object[0])).isInstanceOf(
+                IllegalStateException.class).hasMessage("failed");
+    }
+}
@@ -0,0 +1,92 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示缓存实例的统计信息快照。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public final class CacheStatistics {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long evictionWeight;
+
+    /**
+     * 使用指定的统计数据初始化 {@link CacheStatistics} 的新实例。
+     *
+     * @param hitCount 表示命中次数的 {@code long}。
+     * @param missCount 表示未命中次数的 {@code long}。
+     * @param evictionCount 表示因容量或过期被淘汰的缓存项数量的 {@code long}。
+     * @param evictionWeight 表示被淘汰的缓存项的权重之和的 {@code long}。
+     */
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long evictionWeight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+    }
+
+    /**
+     * 获取命中次数。
+     *
+     * @return 表示命中次数的 {@code long}。
+     */
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * 获取未命中次数。
+     *
+     * @return 表示未命中次数的 {@code long}。
+     */
+    public long missCount() {
+        return this.missCount;
+    }
+
+    /**
+     * 获取因容量或过期被淘汰的缓存项数量。
+     *
+     * @return 表示被淘汰的缓存项数量的 {@code long}。
+     */
+    public long evictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * 获取被淘汰的缓存项的权重之和。
+     *
+     * @return 表示被淘汰的缓存项的权重之和的 {@code long}。
+     */
+    public long evictionWeight() {
+        return this.evictionWeight;
+    }
+
+    /**
+     * 获取命中率。
+     *
+     * @return 表示命中率的 {@code double}，没有任何请求时为 {@code 1.0}。
+     */
+    public double hitRate() {
+        long requestCount = this.hitCount + this.missCount;
+        return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format("[hitCount={0}, missCount={1}, evictionCount={2}, evictionWeight={3}]",
+                this.hitCount,
+                this.missCount,
+                this.evictionCount,
+                this.evictionWeight);
+    }
+}
@@ -0,0 +1,123 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+/**
+ * 表示估计键的访问频率的 Count-Min Sketch。
+ * <p>每个 {@code long} 保存 16 个 4 位计数器，每个键在 4 个计数器上计数，估计值取其中的最小值。计数次数达到采样大小时，
+ * 所有计数器减半，使频率随时间衰减。该类不是线程安全的，需要在缓存的淘汰锁内使用。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAXIMUM_CAPACITY = 1 << 26;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch(long expectedSize) {
+        this.ensureCapacity(expectedSize);
+    }
+
+    /**
+     * 获取当前可以较准确计数的键的数量。
+     *
+     * @return 表示键的数量的 {@code int}。
+     */
+    int capacity() {
+        return this.table.length;
+    }
+
+    /**
+     * 确保可以较准确地为指定数量的键计数，扩容时已有的计数被丢弃。
+     *
+     * @param expectedSize 表示键的数量的 {@code long}。
+     */
+    void ensureCapacity(long expectedSize) {
+        int capacity = (int) Math.min(Math.max(expectedSize, 16), MAXIMUM_CAPACITY);
+        if (this.table != null && this.table.length >= capacity) {
+            return;
+        }
+        this.table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        this.tableMask = this.table.length - 1;
+        this.sampleSize = 10 * capacity;
+        this.size = 0;
+    }
+
+    /**
+     * 估计指定键的访问频率。
+     *
+     * @param key 表示键的 {@link Object}。
+     * @return 表示访问频率的 {@code int}，最大为 {@code 15}。
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = 15;
+        for (int i = 0; i < 4; i++) {
+            int index = this.indexOf(hash, i);
+            int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * 为指定键计数一次。
+     *
+     * @param key 表示键的 {@link Object}。
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= this.incrementAt(this.indexOf(hash, i), start + i);
+        }
+        if (added && ++this.size >= this.sampleSize) {
+            this.reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((this.table[index] & mask) == mask) {
+            return false;
+        }
+        this.table[index] += 1L << offset;
+        return true;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < this.table.length; i++) {
+            odd += Long.bitCount(this.table[i] & ONE_MASK);
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.size = (this.size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long value = (hash + SEEDS[i]) * SEEDS[i];
+        value += value >>> 32;
+        return (int) value & this.tableMask;
+    }
+
+    private static int spread(int hash) {
+        int value = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        return (value >>> 16) ^ value;
+    }
+}
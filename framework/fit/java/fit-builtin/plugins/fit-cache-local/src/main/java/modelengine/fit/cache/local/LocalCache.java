@@ -0,0 +1,793 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNegative;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 表示有界的进程内 {@link Cache} 实现。
+ * <p>缓存项的数量或权重之和不超过上限，淘汰策略为 W-TinyLFU：新写入的缓存项先进入占总容量 1% 的窗口区，从窗口区淘汰的
+ * 缓存项与主区的 LRU 缓存项比较访问频率，频率更高的留在主区。主区分为试用区和占主区 80% 的保护区，试用区中再次被访问的
+ * 缓存项晋升到保护区。</p>
+ * <p>读操作不加锁，访问记录写入有损的 {@link ReadBuffer}，由写操作或者定时清理在淘汰锁内批量回放。过期的缓存项在读取时
+ * 视为不存在，并在写操作或者定时清理时按照写入顺序或访问顺序移除。</p>
+ * <p>{@link #getOrLoad(Object, Loader)} 对同一个键同时只执行一个加载。配置了写入后刷新时间时，命中写入时间超过刷新时间的
+ * 缓存项会在后台重新加载，当前调用仍然返回旧值；配置了过期后可用时间时，过期时间在该时间范围内的缓存项仍会返回给
+ * {@link #getOrLoad(Object, Loader)} 的调用方，同时在后台重新加载。后台加载在 {@code executor} 上执行，同一个键同时只有一个。
+ * </p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public final class LocalCache implements Cache {
+    private static final Logger log = Logger.get(LocalCache.class);
+    private static final Object NULL_VALUE = new Object();
+    private static final int MAXIMUM_SKETCH_SIZE = 1 << 26;
+
+    private final String name;
+    private final long maximum;
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+    private final Weigher weigher;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final long refreshAfterWriteNanos;
+    private final long staleNanos;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final boolean expires;
+
+    private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Loading> loadings = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<Node> readBuffer = new ReadBuffer<>();
+    private final FrequencySketch sketch;
+    private final NodeDeque window = new PolicyDeque();
+    private final NodeDeque probation = new PolicyDeque();
+    private final NodeDeque protection = new PolicyDeque();
+    private final NodeDeque accessOrder = new AccessDeque();
+    private final NodeDeque writeOrder = new WriteDeque();
+    private long windowWeight;
+    private long mainWeight;
+    private long protectedWeight;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+
+    private LocalCache(Builder builder) {
+        this.name = builder.name;
+        this.maximum = builder.maximum;
+        this.windowMaximum = Math.max(1, this.maximum / 100);
+        this.mainMaximum = this.maximum - this.windowMaximum;
+        this.protectedMaximum = this.mainMaximum * 4 / 5;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? 0 : builder.expireAfterWrite.toNanos();
+        this.expireAfterAccessNanos = builder.expireAfterAccess == null ? 0 : builder.expireAfterAccess.toNanos();
+        this.refreshAfterWriteNanos = builder.refreshAfterWrite == null ? 0 : builder.refreshAfterWrite.toNanos();
+        this.staleNanos = builder.staleWhileRevalidate == null ? 0 : builder.staleWhileRevalidate.toNanos();
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+        this.expires = this.expireAfterWriteNanos > 0 || this.expireAfterAccessNanos > 0;
+        this.sketch = new FrequencySketch(builder.weigher == null ? Math.min(this.maximum, 1024) : 1024);
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        notNull(key, "The cache key cannot be null.");
+        Node node = this.data.get(key);
+        if (node == null || (this.expires && this.isExpired(node, this.ticker.getAsLong()))) {
+            this.missCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Object get(Object key) {
+        notNull(key, "The cache key cannot be null.");
+        Node node = this.data.get(key);
+        if (node == null) {
+            this.missCount.increment();
+            return null;
+        }
+        long now = this.expires ? this.ticker.getAsLong() : 0L;
+        if (this.expires && this.isExpired(node, now)) {
+            this.missCount.increment();
+            return null;
+        }
+        this.hitCount.increment();
+        this.afterRead(node, now);
+        return unwrap(node.value);
+    }
+
+    @Override
+    public Object getOrLoad(Object key, Loader loader) throws Throwable {
+        notNull(key, "The cache key cannot be null.");
+        notNull(loader, "The cache loader cannot be null.");
+        Node node = this.data.get(key);
+        if (node != null) {
+            long now = this.expires || this.refreshAfterWriteNanos > 0 ? this.ticker.getAsLong() : 0L;
+            if (!this.expires || !this.isExpired(node, now)) {
+                this.hitCount.increment();
+                this.afterRead(node, now);
+                if (this.refreshAfterWriteNanos > 0 && now - node.writeTime >= this.refreshAfterWriteNanos) {
+                    this.refresh(key, loader);
+                }
+                return unwrap(node.value);
+            }
+            if (this.staleNanos > 0 && !this.isExpired(node, now - this.staleNanos)) {
+                this.hitCount.increment();
+                this.refresh(key, loader);
+                return unwrap(node.value);
+            }
+        }
+        this.missCount.increment();
+        return this.load(key, loader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        notNull(key, "The cache key cannot be null.");
+        int weight = this.weigher == null ? 1 : this.weigher.weigh(key, value);
+        notNegative(weight, "The weight of cache entry cannot be negative. [cache={0}, key={1}]", this.name, key);
+        Object stored = value == null ? NULL_VALUE : value;
+        long now = this.ticker.getAsLong();
+        this.evictionLock.lock();
+        try {
+            this.drainReadBuffer();
+            Node node = this.data.get(key);
+            if (weight > this.maximum) {
+                if (node != null) {
+                    this.discard(node, false);
+                }
+                this.evictionCount.increment();
+                this.evictionWeight.add(weight);
+                return;
+            }
+            if (node == null) {
+                this.insert(key, stored, weight, now);
+            } else {
+                this.update(node, stored, weight, now);
+            }
+            this.expire(now);
+            this.evict();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Object key) {
+        notNull(key, "The cache key cannot be null.");
+        this.evictionLock.lock();
+        try {
+            Node node = this.data.get(key);
+            if (node != null) {
+                this.discard(node, false);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 回放积累的访问记录，并移除已经过期的缓存项。
+     */
+    public void cleanUp() {
+        this.evictionLock.lock();
+        try {
+            this.drainReadBuffer();
+            this.expire(this.ticker.getAsLong());
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 获取当前缓存项的数量，其中可能包含已经过期但尚未移除的缓存项。
+     *
+     * @return 表示当前缓存项数量的 {@code long}。
+     */
+    public long estimatedSize() {
+        return this.data.size();
+    }
+
+    /**
+     * 获取当前缓存项的权重之和。未配置权重计算器时，每个缓存项的权重为 {@code 1}。
+     *
+     * @return 表示当前缓存项权重之和的 {@code long}。
+     */
+    public long weightedSize() {
+        this.evictionLock.lock();
+        try {
+            return this.windowWeight + this.mainWeight;
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 获取当前缓存实例的统计信息。
+     *
+     * @return 表示统计信息快照的 {@link CacheStatistics}。
+     */
+    public CacheStatistics statistics() {
+        return new CacheStatistics(this.hitCount.sum(),
+                this.missCount.sum(),
+                this.evictionCount.sum(),
+                this.evictionWeight.sum());
+    }
+
+    private Object load(Object key, Loader loader) throws Throwable {
+        Loading loading = new Loading(Thread.currentThread());
+        Loading existing = this.loadings.putIfAbsent(key, loading);
+        if (existing != null) {
+            if (existing.owner == Thread.currentThread()) {
+                throw new IllegalStateException(StringUtils.format(
+                        "Cannot load cache key recursively. [instance={0}, key={1}]",
+                        this.name,
+                        key));
+            }
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+        try {
+            Node node = this.data.get(key);
+            Object value;
+            if (node != null && (!this.expires || !this.isExpired(node, this.ticker.getAsLong()))) {
+                value = unwrap(node.value);
+            } else {
+                value = loader.load();
+                this.put(key, value);
+            }
+            loading.complete(value);
+            return value;
+        } catch (Throwable cause) {
+            loading.completeExceptionally(cause);
+            throw cause;
+        } finally {
+            this.loadings.remove(key, loading);
+        }
+    }
+
+    private void refresh(Object key, Loader loader) {
+        if (this.loadings.containsKey(key)) {
+            return;
+        }
+        Loading loading = new Loading(null);
+        if (this.loadings.putIfAbsent(key, loading) != null) {
+            return;
+        }
+        try {
+            this.executor.execute(() -> {
+                loading.owner = Thread.currentThread();
+                try {
+                    Object value = loader.load();
+                    this.put(key, value);
+                    loading.complete(value);
+                } catch (Throwable cause) {
+                    log.warn("Failed to refresh local cache entry. [cache={}, key={}]", this.name, key, cause);
+                    loading.completeExceptionally(cause);
+                } finally {
+                    this.loadings.remove(key, loading);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to submit refresh of local cache entry. [cache={}, key={}]", this.name, key, e);
+            loading.completeExceptionally(e);
+            this.loadings.remove(key, loading);
+        }
+    }
+
+    private static Object unwrap(Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private boolean isExpired(Node node, long now) {
+        return (this.expireAfterWriteNanos > 0 && now - node.writeTime >= this.expireAfterWriteNanos)
+                || (this.expireAfterAccessNanos > 0 && now - node.accessTime >= this.expireAfterAccessNanos);
+    }
+
+    private void afterRead(Node node, long now) {
+        if (this.expireAfterAccessNanos > 0) {
+            node.accessTime = now;
+        }
+        if (this.readBuffer.offer(node) && this.evictionLock.tryLock()) {
+            try {
+                this.drainReadBuffer();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        this.readBuffer.drainTo(this::onAccess);
+    }
+
+    private void insert(Object key, Object value, int weight, long now) {
+        Node node = new Node(key, value, weight, now);
+        this.data.put(key, node);
+        node.region = Region.WINDOW;
+        this.window.addLast(node);
+        this.windowWeight += weight;
+        if (this.expireAfterAccessNanos > 0) {
+            this.accessOrder.addLast(node);
+        }
+        if (this.expireAfterWriteNanos > 0) {
+            this.writeOrder.addLast(node);
+        }
+        if (this.data.size() > this.sketch.capacity()) {
+            this.sketch.ensureCapacity(Math.min((long) this.data.size() << 1, MAXIMUM_SKETCH_SIZE));
+        }
+        this.sketch.increment(key);
+    }
+
+    private void update(Node node, Object value, int weight, long now) {
+        int delta = weight - node.weight;
+        node.value = value;
+        node.weight = weight;
+        node.writeTime = now;
+        node.accessTime = now;
+        if (node.region == Region.WINDOW) {
+            this.windowWeight += delta;
+        } else {
+            this.mainWeight += delta;
+            if (node.region == Region.PROTECTED) {
+                this.protectedWeight += delta;
+            }
+        }
+        if (this.expireAfterWriteNanos > 0) {
+            this.writeOrder.moveToBack(node);
+        }
+        this.onAccess(node);
+    }
+
+    private void onAccess(Node node) {
+        if (node.region == Region.DEAD) {
+            return;
+        }
+        this.sketch.increment(node.key);
+        if (this.expireAfterAccessNanos > 0) {
+            this.accessOrder.moveToBack(node);
+        }
+        if (node.region == Region.WINDOW) {
+            this.window.moveToBack(node);
+        } else if (node.region == Region.PROBATION) {
+            this.probation.remove(node);
+            node.region = Region.PROTECTED;
+            this.protection.addLast(node);
+            this.protectedWeight += node.weight;
+            this.demote();
+        } else {
+            this.protection.moveToBack(node);
+        }
+    }
+
+    private void demote() {
+        while (this.protectedWeight > this.protectedMaximum) {
+            Node node = this.protection.first();
+            this.protection.remove(node);
+            this.protectedWeight -= node.weight;
+            node.region = Region.PROBATION;
+            this.probation.addLast(node);
+        }
+    }
+
+    private void expire(long now) {
+        long retained = now - this.staleNanos;
+        Node node;
+        if (this.expireAfterWriteNanos > 0) {
+            while ((node = this.writeOrder.first()) != null
+                    && retained - node.writeTime >= this.expireAfterWriteNanos) {
+                this.discard(node, true);
+            }
+        }
+        if (this.expireAfterAccessNanos > 0) {
+            while ((node = this.accessOrder.first()) != null
+                    && retained - node.accessTime >= this.expireAfterAccessNanos) {
+                this.discard(node, true);
+            }
+        }
+    }
+
+    private void evict() {
+        while (this.windowWeight > this.windowMaximum) {
+            Node candidate = this.window.first();
+            this.window.remove(candidate);
+            this.windowWeight -= candidate.weight;
+            candidate.region = Region.NONE;
+            this.admit(candidate);
+        }
+        while (this.windowWeight + this.mainWeight > this.maximum) {
+            Node victim = this.probation.first();
+            if (victim == null) {
+                victim = this.protection.first();
+            }
+            if (victim == null) {
+                victim = this.window.first();
+            }
+            if (victim == null) {
+                return;
+            }
+            this.discard(victim, true);
+        }
+    }
+
+    private void admit(Node candidate) {
+        while (this.mainWeight + candidate.weight > this.mainMaximum) {
+            Node victim = this.probation.first();
+            if (victim == null) {
+                victim = this.protection.first();
+            }
+            if (victim == null || this.sketch.frequency(candidate.key) <= this.sketch.frequency(victim.key)) {
+                this.discard(candidate, true);
+                return;
+            }
+            this.discard(victim, true);
+        }
+        candidate.region = Region.PROBATION;
+        this.probation.addLast(candidate);
+        this.mainWeight += candidate.weight;
+    }
+
+    private void discard(Node node, boolean evicted) {
+        if (node.region == Region.WINDOW) {
+            this.window.remove(node);
+            this.windowWeight -= node.weight;
+        } else if (node.region == Region.PROBATION) {
+            this.probation.remove(node);
+            this.mainWeight -= node.weight;
+        } else if (node.region == Region.PROTECTED) {
+            this.protection.remove(node);
+            this.mainWeight -= node.weight;
+            this.protectedWeight -= node.weight;
+        }
+        this.accessOrder.remove(node);
+        this.writeOrder.remove(node);
+        this.data.remove(node.key, node);
+        node.region = Region.DEAD;
+        if (evicted) {
+            this.evictionCount.increment();
+            this.evictionWeight.add(node.weight);
+        }
+    }
+
+    /**
+     * 创建 {@link LocalCache} 的构建器。
+     *
+     * @param name 表示缓存实例名字的 {@link String}。
+     * @return 表示缓存构建器的 {@link Builder}。
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * 表示 {@link LocalCache} 的构建器。
+     */
+    public static final class Builder {
+        private final String name;
+        private long maximum;
+        private Weigher weigher;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private Duration refreshAfterWrite;
+        private Duration staleWhileRevalidate;
+        private Executor executor = ForkJoinPool.commonPool();
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(String name) {
+            this.name = notBlank(name, "The cache instance name cannot be blank.");
+        }
+
+        /**
+         * 设置缓存项的最大数量。
+         *
+         * @param maximumSize 表示缓存项最大数量的 {@code long}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder maximumSize(long maximumSize) {
+            this.maximum = greaterThan(maximumSize, 0L, "The maximum size must be positive.");
+            this.weigher = null;
+            return this;
+        }
+
+        /**
+         * 设置缓存项的最大权重之和。
+         *
+         * @param maximumWeight 表示缓存项最大权重之和的 {@code long}。
+         * @param weigher 表示计算缓存项权重的 {@link Weigher}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder maximumWeight(long maximumWeight, Weigher weigher) {
+            this.maximum = greaterThan(maximumWeight, 0L, "The maximum weight must be positive.");
+            this.weigher = notNull(weigher, "The weigher cannot be null.");
+            return this;
+        }
+
+        /**
+         * 设置缓存项写入后的过期时间。
+         *
+         * @param duration 表示过期时间的 {@link Duration}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder expireAfterWrite(Duration duration) {
+            this.expireAfterWrite = positive(duration);
+            return this;
+        }
+
+        /**
+         * 设置缓存项最后一次访问后的过期时间。
+         *
+         * @param duration 表示过期时间的 {@link Duration}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder expireAfterAccess(Duration duration) {
+            this.expireAfterAccess = positive(duration);
+            return this;
+        }
+
+        /**
+         * 设置缓存项写入后的刷新时间。
+         * <p>通过 {@link LocalCache#getOrLoad(Object, Loader)} 命中写入时间超过刷新时间的缓存项时，在后台重新加载。</p>
+         *
+         * @param duration 表示刷新时间的 {@link Duration}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder refreshAfterWrite(Duration duration) {
+            this.refreshAfterWrite = positive(duration);
+            return this;
+        }
+
+        /**
+         * 设置缓存项过期后仍可返回旧值的时间。
+         * <p>只对 {@link LocalCache#getOrLoad(Object, Loader)} 生效，返回旧值的同时在后台重新加载。需要同时设置过期时间。</p>
+         *
+         * @param duration 表示过期后仍可返回旧值的时间的 {@link Duration}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder staleWhileRevalidate(Duration duration) {
+            this.staleWhileRevalidate = positive(duration);
+            return this;
+        }
+
+        /**
+         * 设置执行后台重新加载的线程池，默认为 {@link ForkJoinPool#commonPool()}。
+         *
+         * @param executor 表示执行后台重新加载的 {@link Executor}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder executor(Executor executor) {
+            this.executor = notNull(executor, "The executor cannot be null.");
+            return this;
+        }
+
+        /**
+         * 设置读取当前时间的计时器，用于测试。
+         *
+         * @param ticker 表示返回纳秒时间的 {@link LongSupplier}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = notNull(ticker, "The ticker cannot be null.");
+            return this;
+        }
+
+        /**
+         * 构建缓存实例。
+         *
+         * @return 表示构建的缓存实例的 {@link LocalCache}。
+         * @throws IllegalArgumentException 当没有设置最大数量或者最大权重时。
+         */
+        public LocalCache build() {
+            isTrue(this.maximum > 0, "The maximum size or weight of cache must be set. [cache={0}]", this.name);
+            return new LocalCache(this);
+        }
+
+        private static Duration positive(Duration duration) {
+            notNull(duration, "The duration cannot be null.");
+            isTrue(!duration.isNegative() && !duration.isZero(), "The duration must be positive.");
+            return duration;
+        }
+    }
+
+    private enum Region {
+        NONE,
+        WINDOW,
+        PROBATION,
+        PROTECTED,
+        DEAD
+    }
+
+    private static final class Node {
+        private final Object key;
+        private volatile Object value;
+        private volatile long writeTime;
+        private volatile long accessTime;
+        private int weight;
+        private Region region = Region.NONE;
+        private Node prev;
+        private Node next;
+        private Node accessPrev;
+        private Node accessNext;
+        private Node writePrev;
+        private Node writeNext;
+
+        private Node(Object key, Object value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    /**
+     * 表示正在进行的加载，记录执行加载的线程，后台刷新在开始执行时记录。
+     */
+    private static final class Loading extends CompletableFuture<Object> {
+        private volatile Thread owner;
+
+        private Loading(Thread owner) {
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * 表示以节点自身的指针相连的双端队列，同一个节点可以通过不同的指针同时位于多个队列中。
+     */
+    private abstract static class NodeDeque {
+        private Node first;
+        private Node last;
+
+        Node first() {
+            return this.first;
+        }
+
+        void addLast(Node node) {
+            this.setPrev(node, this.last);
+            this.setNext(node, null);
+            if (this.last == null) {
+                this.first = node;
+            } else {
+                this.setNext(this.last, node);
+            }
+            this.last = node;
+        }
+
+        void remove(Node node) {
+            Node prev = this.prev(node);
+            Node next = this.next(node);
+            if (prev == null && next == null && this.first != node) {
+                return;
+            }
+            if (prev == null) {
+                this.first = next;
+            } else {
+                this.setNext(prev, next);
+            }
+            if (next == null) {
+                this.last = prev;
+            } else {
+                this.setPrev(next, prev);
+            }
+            this.setPrev(node, null);
+            this.setNext(node, null);
+        }
+
+        void moveToBack(Node node) {
+            if (node != this.last) {
+                this.remove(node);
+                this.addLast(node);
+            }
+        }
+
+        abstract Node prev(Node node);
+
+        abstract Node next(Node node);
+
+        abstract void setPrev(Node node, Node prev);
+
+        abstract void setNext(Node node, Node next);
+    }
+
+    private static final class PolicyDeque extends NodeDeque {
+        @Override
+        Node prev(Node node) {
+            return node.prev;
+        }
+
+        @Override
+        Node next(Node node) {
+            return node.next;
+        }
+
+        @Override
+        void setPrev(Node node, Node prev) {
+            node.prev = prev;
+        }
+
+        @Override
+        void setNext(Node node, Node next) {
+            node.next = next;
+        }
+    }
+
+    private static final class AccessDeque extends NodeDeque {
+        @Override
+        Node prev(Node node) {
+            return node.accessPrev;
+        }
+
+        @Override
+        Node next(Node node) {
+            return node.accessNext;
+        }
+
+        @Override
+        void setPrev(Node node, Node prev) {
+            node.accessPrev = prev;
+        }
+
+        @Override
+        void setNext(Node node, Node next) {
+            node.accessNext = next;
+        }
+    }
+
+    private static final class WriteDeque extends NodeDeque {
+        @Override
+        Node prev(Node node) {
+            return node.writePrev;
+        }
+
+        @Override
+        Node next(Node node) {
+            return node.writeNext;
+        }
+
+        @Override
+        void setPrev(Node node, Node prev) {
+            node.writePrev = prev;
+        }
+
+        @Override
+        void setNext(Node node, Node next) {
+            node.writeNext = next;
+        }
+    }
+}
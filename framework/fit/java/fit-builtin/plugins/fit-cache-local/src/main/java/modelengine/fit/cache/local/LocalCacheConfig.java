@@ -0,0 +1,39 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import java.util.List;
+
+/**
+ * 表示配置项 {@code 'plugin.cache.local'} 下的配置。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface LocalCacheConfig {
+    /**
+     * 获取定时清理过期缓存项的间隔。
+     * <p>单位为毫秒。所有缓存实例共享同一个清理线程。</p>
+     *
+     * @return 表示清理间隔的 {@code long}。
+     */
+    long cleanupInterval();
+
+    /**
+     * 获取没有单独配置的缓存实例使用的默认配置。
+     *
+     * @return 表示默认配置的 {@link LocalCacheOption}。
+     */
+    LocalCacheOption defaults();
+
+    /**
+     * 获取按照名字单独配置的缓存实例列表。
+     *
+     * @return 表示缓存实例配置列表的 {@link List}{@code <}{@link LocalCacheOption}{@code >}。
+     */
+    List<LocalCacheOption> instances();
+}
@@ -0,0 +1,159 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheManager;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.ioc.annotation.PreDestroy;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示管理 {@link LocalCache} 的 {@link CacheManager}。
+ * <p>在配置项 {@code 'plugin.cache.local.instances'} 中配置的缓存实例在启动时创建，其他名字的缓存实例在第一次获取时使用
+ * {@code 'plugin.cache.local.defaults'} 的配置创建。所有缓存实例共享一个后台线程池，用于定时清理和重新加载缓存项。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component
+public class LocalCacheManager implements CacheManager {
+    private static final Logger log = Logger.get(LocalCacheManager.class);
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+    private final BeanContainer container;
+    private final LocalCacheOption defaults;
+    private final Map<String, LocalCacheOption> options = new HashMap<>();
+    private final Map<String, LocalCache> caches = new ConcurrentHashMap<>();
+    private final ThreadPoolScheduler cleaner;
+    private final ThreadPoolExecutor worker;
+
+    /**
+     * 使用指定的容器和配置初始化 {@link LocalCacheManager} 的新实例。
+     *
+     * @param container 表示查找权重计算器的容器的 {@link BeanContainer}。
+     * @param config 表示本地缓存配置的 {@link LocalCacheConfig}。
+     * @throws IllegalArgumentException 当 {@code container} 或 {@code config} 为 {@code null} 时。
+     */
+    public LocalCacheManager(BeanContainer container, LocalCacheConfig config) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        notNull(config, "The local cache config cannot be null.");
+        this.defaults = notNull(config.defaults(), "The default local cache option cannot be null.");
+        for (LocalCacheOption option : config.instances()) {
+            this.options.put(notBlank(option.name(), "The local cache name cannot be blank."), option);
+        }
+        int workers = Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.worker = ThreadPoolExecutor.custom()
+                .threadPoolName("local-cache-worker")
+                .awaitTermination(3, TimeUnit.SECONDS)
+                .isImmediateShutdown(true)
+                .corePoolSize(workers)
+                .maximumPoolSize(workers)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(Integer.MAX_VALUE)
+                .isDaemonThread(true)
+                .exceptionHandler((thread, cause) -> log.warn("Exception in local cache worker pool.", cause))
+                .build();
+        this.options.keySet().forEach(name -> this.caches.computeIfAbsent(name, this::create));
+        this.cleaner = ThreadPoolScheduler.timingWheel("local-cache-cleaner", this::submit);
+        this.cleaner.schedule(Task.builder()
+                .runnable(this::cleanUp)
+                .policy(ExecutePolicy.fixedDelay(config.cleanupInterval()))
+                .uncaughtExceptionHandler((thread, cause) -> log.warn("Failed to clean up local caches.", cause))
+                .build(), config.cleanupInterval());
+    }
+
+    @Override
+    public Optional<Cache> getInstance(String name) {
+        if (StringUtils.isBlank(name)) {
+            return Optional.empty();
+        }
+        return Optional.of(this.caches.computeIfAbsent(name, this::create));
+    }
+
+    @Override
+    public Set<String> getInstanceNames() {
+        return Collections.unmodifiableSet(new HashSet<>(this.caches.keySet()));
+    }
+
+    /**
+     * 停止定时清理，并关闭后台线程池。
+     *
+     * @throws InterruptedException 当等待线程结束时被中断。
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        this.cleaner.shutdown();
+        this.worker.shutdown();
+    }
+
+    private void cleanUp() {
+        this.caches.values().forEach(LocalCache::cleanUp);
+    }
+
+    private void submit(Runnable runnable) {
+        this.worker.execute(Task.builder().runnable(runnable).buildDisposable());
+    }
+
+    private LocalCache create(String name) {
+        LocalCacheOption option = this.options.getOrDefault(name, this.defaults);
+        LocalCache.Builder builder = LocalCache.builder(name);
+        if (option.maximumWeight() > 0) {
+            builder.maximumWeight(option.maximumWeight(), this.weigher(name, option.weigher()));
+        } else {
+            builder.maximumSize(option.maximumSize() > 0 ? option.maximumSize() : DEFAULT_MAXIMUM_SIZE);
+        }
+        if (option.expireAfterWrite() > 0) {
+            builder.expireAfterWrite(Duration.ofMillis(option.expireAfterWrite()));
+        }
+        if (option.expireAfterAccess() > 0) {
+            builder.expireAfterAccess(Duration.ofMillis(option.expireAfterAccess()));
+        }
+        if (option.refreshAfterWrite() > 0) {
+            builder.refreshAfterWrite(Duration.ofMillis(option.refreshAfterWrite()));
+        }
+        if (option.staleWhileRevalidate() > 0) {
+            builder.staleWhileRevalidate(Duration.ofMillis(option.staleWhileRevalidate()));
+        }
+        builder.executor(this::submit);
+        log.debug("Create local cache. [name={}, maximumSize={}, maximumWeight={}]",
+                name,
+                option.maximumSize(),
+                option.maximumWeight());
+        return builder.build();
+    }
+
+    private Weigher weigher(String cacheName, String weigherName) {
+        notBlank(weigherName, "The weigher must be configured with maximum weight. [cache={0}]", cacheName);
+        return this.container.lookup(weigherName)
+                .map(BeanFactory::<Weigher>get)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "The weigher of local cache not found. [cache={0}, weigher={1}]",
+                        cacheName,
+                        weigherName)));
+    }
+}
@@ -0,0 +1,78 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+/**
+ * 表示单个本地缓存实例的配置。
+ * <p>数值类型的配置项不大于 {@code 0} 时表示未配置。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface LocalCacheOption {
+    /**
+     * 获取缓存实例的名字。
+     *
+     * @return 表示缓存实例名字的 {@link String}。
+     */
+    String name();
+
+    /**
+     * 获取缓存项的最大数量。
+     * <p>同时配置了最大权重时，以最大权重为准。</p>
+     *
+     * @return 表示缓存项最大数量的 {@code long}。
+     */
+    long maximumSize();
+
+    /**
+     * 获取缓存项的最大权重之和。
+     *
+     * @return 表示缓存项最大权重之和的 {@code long}。
+     */
+    long maximumWeight();
+
+    /**
+     * 获取计算缓存项权重的 {@link Weigher} 的 Bean 名称。
+     * <p>配置了最大权重时必须配置。</p>
+     *
+     * @return 表示权重计算器 Bean 名称的 {@link String}。
+     */
+    String weigher();
+
+    /**
+     * 获取缓存项写入后的过期时间。
+     * <p>单位为毫秒。</p>
+     *
+     * @return 表示写入后过期时间的 {@code long}。
+     */
+    long expireAfterWrite();
+
+    /**
+     * 获取缓存项最后一次访问后的过期时间。
+     * <p>单位为毫秒。</p>
+     *
+     * @return 表示访问后过期时间的 {@code long}。
+     */
+    long expireAfterAccess();
+
+    /**
+     * 获取缓存项写入后的刷新时间。
+     * <p>单位为毫秒。通过 {@code getOrLoad} 命中超过刷新时间的缓存项时，在后台重新加载。</p>
+     *
+     * @return 表示写入后刷新时间的 {@code long}。
+     */
+    long refreshAfterWrite();
+
+    /**
+     * 获取缓存项过期后仍可返回旧值的时间。
+     * <p>单位为毫秒。通过 {@code getOrLoad} 获取该时间范围内的过期缓存项时返回旧值，同时在后台重新加载。</p>
+     *
+     * @return 表示过期后仍可返回旧值的时间的 {@code long}。
+     */
+    long staleWhileRevalidate();
+}
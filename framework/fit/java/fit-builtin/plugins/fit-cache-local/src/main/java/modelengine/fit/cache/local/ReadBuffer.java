@@ -0,0 +1,95 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 表示记录缓存读操作的有损缓冲区。
+ * <p>读操作不需要获取淘汰锁，只需要将访问的元素写入按线程分段的环形缓冲区，由持有淘汰锁的线程批量回放。缓冲区已满或者写入
+ * 竞争失败时直接丢弃记录，只影响淘汰顺序的准确性。</p>
+ *
+ * @param <E> 表示记录的元素的类型。
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class ReadBuffer<E> {
+    private static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+    private static final int DRAIN_THRESHOLD = STRIPE_SIZE / 2;
+
+    private final Stripe<E>[] stripes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        int count = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 2 - 1) << 1;
+        this.stripes = new Stripe[Math.min(count, 64)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe<>();
+        }
+        this.mask = this.stripes.length - 1;
+    }
+
+    /**
+     * 记录一个元素。
+     *
+     * @param element 表示待记录元素的 {@link E}。
+     * @return 如果缓冲区中积累的记录需要回放，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean offer(E element) {
+        long probe = Thread.currentThread().getId() * 0x9e3779b97f4a7c15L;
+        return this.stripes[(int) (probe >>> 32) & this.mask].offer(element);
+    }
+
+    /**
+     * 回放所有记录，调用方需要持有淘汰锁。
+     *
+     * @param consumer 表示处理记录的 {@link Consumer}{@code <}{@link E}{@code >}。
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : this.stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong head = new AtomicLong();
+        private volatile long tail;
+
+        boolean offer(E element) {
+            long current = this.head.get();
+            long size = current - this.tail;
+            if (size >= STRIPE_SIZE) {
+                return true;
+            }
+            if (!this.head.compareAndSet(current, current + 1)) {
+                return false;
+            }
+            this.buffer.lazySet((int) (current & STRIPE_MASK), element);
+            return size + 1 >= DRAIN_THRESHOLD;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long current = this.head.get();
+            long index = this.tail;
+            for (; index < current; index++) {
+                int slot = (int) (index & STRIPE_MASK);
+                E element = this.buffer.get(slot);
+                if (element == null) {
+                    break;
+                }
+                this.buffer.lazySet(slot, null);
+                consumer.accept(element);
+            }
+            this.tail = index;
+        }
+    }
+}
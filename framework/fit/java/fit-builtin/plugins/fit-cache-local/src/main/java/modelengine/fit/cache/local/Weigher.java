@@ -0,0 +1,27 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+/**
+ * 表示计算缓存项权重的计算器。
+ * <p>当缓存实例配置了最大权重时，缓存项的权重之和不超过最大权重。计算器需要以 Bean 的形式注册，并在配置项
+ * {@code 'plugin.cache.local.instances[].weigher'} 中指定其名称。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface Weigher {
+    /**
+     * 计算缓存项的权重。
+     *
+     * @param key 表示缓存项的键的 {@link Object}。
+     * @param value 表示缓存项的值的 {@link Object}。
+     * @return 表示缓存项权重的非负 {@code int}。
+     */
+    int weigh(Object key, Object value);
+}
@@ -0,0 +1,85 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local.support;
+
+import modelengine.fit.cache.local.LocalCacheConfig;
+import modelengine.fit.cache.local.LocalCacheOption;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表示 {@link LocalCacheConfig} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component
+@AcceptConfigValues("plugin.cache.local")
+public class DefaultLocalCacheConfig implements LocalCacheConfig {
+    private static final long DEFAULT_CLEANUP_INTERVAL = 1_000L;
+
+    /**
+     * 配置项：{@code 'cleanup-interval'}。
+     */
+    private long cleanupInterval;
+
+    /**
+     * 配置项：{@code 'defaults'}。
+     */
+    private DefaultLocalCacheOption defaults;
+
+    /**
+     * 配置项：{@code 'instances'}。
+     */
+    private List<DefaultLocalCacheOption> instances;
+
+    /**
+     * 设置定时清理过期缓存项的间隔。
+     *
+     * @param cleanupInterval 表示清理间隔毫秒数的 {@code long}。
+     */
+    public void setCleanupInterval(long cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    /**
+     * 设置默认配置。
+     *
+     * @param defaults 表示默认配置的 {@link DefaultLocalCacheOption}。
+     */
+    public void setDefaults(DefaultLocalCacheOption defaults) {
+        this.defaults = defaults;
+    }
+
+    /**
+     * 设置按照名字单独配置的缓存实例列表。
+     *
+     * @param instances 表示缓存实例配置列表的 {@link List}{@code <}{@link DefaultLocalCacheOption}{@code >}。
+     */
+    public void setInstances(List<DefaultLocalCacheOption> instances) {
+        this.instances = instances;
+    }
+
+    @Override
+    public long cleanupInterval() {
+        return this.cleanupInterval > 0 ? this.cleanupInterval : DEFAULT_CLEANUP_INTERVAL;
+    }
+
+    @Override
+    public LocalCacheOption defaults() {
+        return this.defaults != null ? this.defaults : new DefaultLocalCacheOption();
+    }
+
+    @Override
+    public List<LocalCacheOption> instances() {
+        return this.instances == null ? Collections.emptyList() : new ArrayList<>(this.instances);
+    }
+}
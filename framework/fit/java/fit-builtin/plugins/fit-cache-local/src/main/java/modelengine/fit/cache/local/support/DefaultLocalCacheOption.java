@@ -0,0 +1,169 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local.support;
+
+import modelengine.fit.cache.local.LocalCacheOption;
+
+/**
+ * 表示 {@link LocalCacheOption} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class DefaultLocalCacheOption implements LocalCacheOption {
+    /**
+     * 配置项：{@code 'name'}。
+     */
+    private String name;
+
+    /**
+     * 配置项：{@code 'maximum-size'}。
+     */
+    private long maximumSize;
+
+    /**
+     * 配置项：{@code 'maximum-weight'}。
+     */
+    private long maximumWeight;
+
+    /**
+     * 配置项：{@code 'weigher'}。
+     */
+    private String weigher;
+
+    /**
+     * 配置项：{@code 'expire-after-write'}。
+     */
+    private long expireAfterWrite;
+
+    /**
+     * 配置项：{@code 'expire-after-access'}。
+     */
+    private long expireAfterAccess;
+
+    /**
+     * 配置项：{@code 'refresh-after-write'}。
+     */
+    private long refreshAfterWrite;
+
+    /**
+     * 配置项：{@code 'stale-while-revalidate'}。
+     */
+    private long staleWhileRevalidate;
+
+    /**
+     * 设置缓存实例的名字。
+     *
+     * @param name 表示缓存实例名字的 {@link String}。
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 设置缓存项的最大数量。
+     *
+     * @param maximumSize 表示缓存项最大数量的 {@code long}。
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 设置缓存项的最大权重之和。
+     *
+     * @param maximumWeight 表示缓存项最大权重之和的 {@code long}。
+     */
+    public void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * 设置权重计算器的 Bean 名称。
+     *
+     * @param weigher 表示权重计算器 Bean 名称的 {@link String}。
+     */
+    public void setWeigher(String weigher) {
+        this.weigher = weigher;
+    }
+
+    /**
+     * 设置缓存项写入后的过期时间。
+     *
+     * @param expireAfterWrite 表示写入后过期毫秒数的 {@code long}。
+     */
+    public void setExpireAfterWrite(long expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * 设置缓存项最后一次访问后的过期时间。
+     *
+     * @param expireAfterAccess 表示访问后过期毫秒数的 {@code long}。
+     */
+    public void setExpireAfterAccess(long expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    /**
+     * 设置缓存项写入后的刷新时间。
+     *
+     * @param refreshAfterWrite 表示写入后刷新毫秒数的 {@code long}。
+     */
+    public void setRefreshAfterWrite(long refreshAfterWrite) {
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    /**
+     * 设置缓存项过期后仍可返回旧值的时间。
+     *
+     * @param staleWhileRevalidate 表示过期后仍可返回旧值的毫秒数的 {@code long}。
+     */
+    public void setStaleWhileRevalidate(long staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public long maximumSize() {
+        return this.maximumSize;
+    }
+
+    @Override
+    public long maximumWeight() {
+        return this.maximumWeight;
+    }
+
+    @Override
+    public String weigher() {
+        return this.weigher;
+    }
+
+    @Override
+    public long expireAfterWrite() {
+        return this.expireAfterWrite;
+    }
+
+    @Override
+    public long expireAfterAccess() {
+        return this.expireAfterAccess;
+    }
+
+    @Override
+    public long refreshAfterWrite() {
+        return this.refreshAfterWrite;
+    }
+
+    @Override
+    public long staleWhileRevalidate() {
+        return this.staleWhileRevalidate;
+    }
+}
@@ -0,0 +1,117 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 表示 {@link LocalCache} 在 Zipf 分布的读多写少和写多读少负载下的吞吐量与命中率。
+ * <p>耗时较长，默认不执行，通过 {@code mvn test -Dfit.benchmark=true -Dtest=LocalCacheBenchmarkTest} 执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 LocalCache 在 Zipf 负载下的吞吐量与命中率")
+@EnabledIfSystemProperty(named = "fit.benchmark", matches = "true")
+public class LocalCacheBenchmarkTest {
+    private static final int KEY_COUNT = 1 << 20;
+    private static final int MAXIMUM_SIZE = 1 << 14;
+    private static final int THREAD_COUNT = 4;
+    private static final int OPERATIONS_PER_THREAD = 2_000_000;
+    private static final double SKEW = 0.99;
+
+    @Test
+    @DisplayName("读多写少与写多读少负载")
+    void shouldReportThroughput() throws InterruptedException {
+        double[] distribution = zipf(KEY_COUNT, SKEW);
+        for (int readPercent : new int[] {90, 10}) {
+            this.run(distribution, readPercent);
+            double throughput = this.run(distribution, readPercent);
+            System.out.printf("read=%d%%, threads=%d, throughput=%.2f Mops/s%n",
+                    readPercent,
+                    THREAD_COUNT,
+                    throughput);
+        }
+    }
+
+    private double run(double[] distribution, int readPercent) throws InterruptedException {
+        LocalCache cache = LocalCache.builder("benchmark").maximumSize(MAXIMUM_SIZE).build();
+        Integer[] keys = new Integer[KEY_COUNT];
+        Arrays.setAll(keys, i -> i);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int[] trace = trace(distribution, OPERATIONS_PER_THREAD, t);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < trace.length; i++) {
+                    Integer key = keys[trace[i]];
+                    if ((i * 37 + trace[i]) % 100 < readPercent) {
+                        if (cache.get(key) == null) {
+                            cache.put(key, key);
+                        }
+                    } else {
+                        cache.put(key, key);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        CacheStatistics statistics = cache.statistics();
+        System.out.printf("read=%d%%, hitRate=%.4f, size=%d%n",
+                readPercent,
+                statistics.hitRate(),
+                cache.estimatedSize());
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+        return (double) THREAD_COUNT * OPERATIONS_PER_THREAD / elapsed * 1e3;
+    }
+
+    private static double[] zipf(int count, double skew) {
+        double[] cumulative = new double[count];
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < count; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int[] trace(double[] distribution, int length, long seed) {
+        Random random = new Random(seed);
+        int[] trace = new int[length];
+        for (int i = 0; i < length; i++) {
+            int index = Arrays.binarySearch(distribution, random.nextDouble());
+            trace[i] = Math.min(index < 0 ? -index - 1 : index, distribution.length - 1);
+        }
+        return trace;
+    }
+}
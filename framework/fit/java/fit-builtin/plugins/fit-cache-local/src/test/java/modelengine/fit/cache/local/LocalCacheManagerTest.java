@@ -0,0 +1,99 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.cache.local.support.DefaultLocalCacheConfig;
+import modelengine.fit.cache.local.support.DefaultLocalCacheOption;
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 为 {@link LocalCacheManager} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 LocalCacheManager")
+public class LocalCacheManagerTest {
+    private final BeanContainer container = mock(BeanContainer.class);
+    private final DefaultLocalCacheConfig config = new DefaultLocalCacheConfig();
+    private LocalCacheManager manager;
+
+    @BeforeEach
+    void setup() {
+        BeanFactory factory = mock(BeanFactory.class);
+        Weigher weigher = (key, value) -> ((String) value).length();
+        when(factory.get()).thenReturn(weigher);
+        when(this.container.lookup("lengthWeigher")).thenReturn(Optional.of(factory));
+        DefaultLocalCacheOption defaults = new DefaultLocalCacheOption();
+        defaults.setMaximumSize(2);
+        DefaultLocalCacheOption users = new DefaultLocalCacheOption();
+        users.setName("users");
+        users.setMaximumWeight(10);
+        users.setWeigher("lengthWeigher");
+        this.config.setDefaults(defaults);
+        this.config.setInstances(List.of(users));
+        this.manager = new LocalCacheManager(this.container, this.config);
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        this.manager.close();
+    }
+
+    @Test
+    @DisplayName("按照名字使用单独的配置创建缓存实例")
+    void shouldCreateConfiguredInstance() {
+        assertThat(this.manager.getInstanceNames()).containsExactly("users");
+        Cache cache = this.manager.getInstance("users").orElseThrow();
+        cache.put("a", "12345");
+        cache.put("b", "12345");
+        cache.put("c", "12345");
+        assertThat(((LocalCache) cache).weightedSize()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("没有单独配置的缓存实例使用默认配置创建")
+    void shouldCreateDefaultInstance() {
+        Cache cache = this.manager.getInstance("orders").orElseThrow();
+        assertThat(this.manager.getInstance("orders")).containsSame(cache);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        assertThat(((LocalCache) cache).estimatedSize()).isEqualTo(2);
+        assertThat(this.manager.getInstanceNames()).containsExactlyInAnyOrder("users", "orders");
+        assertThat(this.manager.getInstance(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("配置了最大权重但没有找到权重计算器时抛出异常")
+    void shouldThrowWhenWeigherNotFound() {
+        DefaultLocalCacheOption option = new DefaultLocalCacheOption();
+        option.setName("broken");
+        option.setMaximumWeight(10);
+        option.setWeigher("missing");
+        this.config.setInstances(List.of(option));
+        when(this.container.lookup("missing")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> new LocalCacheManager(this.container, this.config))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The weigher of local cache not found. [cache=broken, weigher=missing]");
+    }
+}
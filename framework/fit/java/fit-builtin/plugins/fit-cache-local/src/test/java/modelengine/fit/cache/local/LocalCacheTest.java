@@ -0,0 +1,283 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.cache.Cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 为 {@link LocalCache} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 LocalCache")
+public class LocalCacheTest {
+    private final AtomicLong time = new AtomicLong();
+
+    @Test
+    @DisplayName("写入、读取和移除缓存项，null 值被视为存在")
+    void shouldPutGetAndRemove() {
+        LocalCache cache = LocalCache.builder("test").maximumSize(10).build();
+        cache.put("a", 1);
+        cache.put("b", null);
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.contains("b")).isTrue();
+        assertThat(cache.get("b")).isNull();
+        cache.remove("a");
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.get("a")).isNull();
+        CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hitCount()).isEqualTo(2);
+        assertThat(statistics.missCount()).isEqualTo(2);
+        assertThat(statistics.evictionCount()).isZero();
+    }
+
+    @Nested
+    @DisplayName("容量淘汰")
+    class GivenBound {
+        @Test
+        @DisplayName("缓存项数量不超过最大数量")
+        void shouldNotExceedMaximumSize() {
+            LocalCache cache = LocalCache.builder("test").maximumSize(100).build();
+            for (int i = 0; i < 1000; i++) {
+                cache.put(i, i);
+                assertThat(cache.estimatedSize()).isLessThanOrEqualTo(100);
+            }
+            assertThat(cache.statistics().evictionCount()).isEqualTo(900);
+        }
+
+        @Test
+        @DisplayName("频繁访问的缓存项不会被一次性扫描淘汰")
+        void shouldKeepFrequentEntriesWhenScanned() {
+            LocalCache cache = LocalCache.builder("test").maximumSize(100).build();
+            for (int i = 0; i < 50; i++) {
+                cache.put("hot-" + i, i);
+                for (int j = 0; j < 10; j++) {
+                    cache.get("hot-" + i);
+                }
+            }
+            for (int i = 0; i < 1000; i++) {
+                cache.put("scan-" + i, i);
+            }
+            assertThat(IntStream.range(0, 50).filter(i -> cache.contains("hot-" + i)).count()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("缓存项权重之和不超过最大权重，超过最大权重的缓存项不被缓存")
+        void shouldNotExceedMaximumWeight() {
+            LocalCache cache = LocalCache.builder("test")
+                    .maximumWeight(100, (key, value) -> ((String) value).length())
+                    .build();
+            for (int i = 0; i < 10; i++) {
+                cache.put(i, "x".repeat(30));
+                assertThat(cache.weightedSize()).isLessThanOrEqualTo(100);
+            }
+            cache.put("large", "x".repeat(101));
+            assertThat(cache.contains("large")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("过期淘汰")
+    class GivenExpiration {
+        @Test
+        @DisplayName("写入超过指定时间后过期")
+        void shouldExpireAfterWrite() {
+            LocalCache cache = LocalCache.builder("test")
+                    .maximumSize(10)
+                    .expireAfterWrite(Duration.ofSeconds(10))
+                    .ticker(LocalCacheTest.this.time::get)
+                    .build();
+            cache.put("a", 1);
+            this.advance(5);
+            assertThat(cache.get("a")).isEqualTo(1);
+            this.advance(5);
+            assertThat(cache.contains("a")).isFalse();
+            cache.cleanUp();
+            assertThat(cache.estimatedSize()).isZero();
+            assertThat(cache.statistics().evictionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("最后一次访问超过指定时间后过期")
+        void shouldExpireAfterAccess() {
+            LocalCache cache = LocalCache.builder("test")
+                    .maximumSize(10)
+                    .expireAfterAccess(Duration.ofSeconds(10))
+                    .ticker(LocalCacheTest.this.time::get)
+                    .build();
+            cache.put("a", 1);
+            cache.put("b", 2);
+            this.advance(6);
+            assertThat(cache.get("a")).isEqualTo(1);
+            this.advance(6);
+            cache.cleanUp();
+            assertThat(cache.contains("a")).isTrue();
+            assertThat(cache.contains("b")).isFalse();
+            this.advance(10);
+            cache.cleanUp();
+            assertThat(cache.estimatedSize()).isZero();
+        }
+
+        private void advance(long seconds) {
+            LocalCacheTest.this.time.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+        }
+    }
+
+    @Nested
+    @DisplayName("加载缓存项")
+    class GivenLoader {
+        private final AtomicInteger loads = new AtomicInteger();
+        private final List<Runnable> refreshes = new ArrayList<>();
+
+        @Test
+        @DisplayName("同一个键的并发未命中只加载一次")
+        void shouldLoadOnceWhenMissedConcurrently() throws Throwable {
+            LocalCache cache = LocalCache.builder("test").maximumSize(10).build();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> this.getOrLoad(cache, () -> {
+                started.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                return this.loads.incrementAndGet();
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            List<CompletableFuture<Object>> others = IntStream.range(0, 4)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> this.getOrLoad(cache,
+                            this.loads::incrementAndGet)))
+                    .toList();
+            release.countDown();
+            assertThat(first.join()).isEqualTo(1);
+            others.forEach(other -> assertThat(other.join()).isEqualTo(1));
+            assertThat(this.loads.get()).isEqualTo(1);
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("加载失败时抛出原始异常且不缓存")
+        void shouldRethrowWhenLoadFailed() throws Throwable {
+            LocalCache cache = LocalCache.builder("test").maximumSize(10).build();
+            assertThatThrownBy(() -> cache.getOrLoad("a", () -> {
+                throw new IllegalStateException("failed");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+            assertThat(cache.contains("a")).isFalse();
+            assertThat(cache.getOrLoad("a", () -> null)).isNull();
+            assertThat(cache.contains("a")).isTrue();
+        }
+
+        @Test
+        @DisplayName("加载过程中在同一个线程上加载同一个键时，直接失败而不是死锁")
+        void shouldFailWhenLoadedRecursively() throws Throwable {
+            LocalCache cache = LocalCache.builder("test").maximumSize(10).build();
+            assertThatThrownBy(() -> cache.getOrLoad("a", () -> cache.getOrLoad("a", this.loads::incrementAndGet)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Cannot load cache key recursively. [instance=test, key=a]");
+            assertThat(cache.contains("a")).isFalse();
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("超过刷新时间后返回旧值并在后台重新加载一次")
+        void shouldRefreshAfterWrite() throws Throwable {
+            LocalCache cache = LocalCache.builder("test")
+                    .maximumSize(10)
+                    .refreshAfterWrite(Duration.ofSeconds(10))
+                    .executor(this.refreshes::add)
+                    .ticker(LocalCacheTest.this.time::get)
+                    .build();
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(1);
+            this.advance(10);
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(1);
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(1);
+            assertThat(this.refreshes).hasSize(1);
+            this.refreshes.get(0).run();
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(2);
+            assertThat(this.loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("过期后在可用时间内返回旧值并在后台重新加载，超过可用时间后同步加载")
+        void shouldServeStaleWhileRevalidating() throws Throwable {
+            LocalCache cache = LocalCache.builder("test")
+                    .maximumSize(10)
+                    .expireAfterWrite(Duration.ofSeconds(10))
+                    .staleWhileRevalidate(Duration.ofSeconds(5))
+                    .executor(this.refreshes::add)
+                    .ticker(LocalCacheTest.this.time::get)
+                    .build();
+            cache.put("a", 0);
+            this.advance(12);
+            cache.cleanUp();
+            assertThat(cache.contains("a")).isFalse();
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(0);
+            assertThat(this.refreshes).hasSize(1);
+            this.refreshes.get(0).run();
+            assertThat(cache.get("a")).isEqualTo(1);
+            this.advance(16);
+            assertThat(cache.getOrLoad("a", this.loads::incrementAndGet)).isEqualTo(2);
+            assertThat(this.refreshes).hasSize(1);
+        }
+
+        private Object getOrLoad(LocalCache cache, Cache.Loader loader) {
+            try {
+                return cache.getOrLoad("a", loader);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void advance(long seconds) {
+            LocalCacheTest.this.time.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+        }
+    }
+
+    @Test
+    @DisplayName("并发读写时缓存项数量不超过最大数量")
+    void shouldStayBoundedWhenAccessedConcurrently() throws InterruptedException {
+        LocalCache cache = LocalCache.builder("test").maximumSize(64).build();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int j = 0; j < 20_000; j++) {
+                    int key = random.nextInt(256);
+                    if (cache.get(key) == null) {
+                        cache.put(key, key);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(64);
+        assertThat(cache.weightedSize()).isEqualTo(cache.estimatedSize());
+        CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hitCount() + statistics.missCount()).isEqualTo(160_000);
+    }
+}
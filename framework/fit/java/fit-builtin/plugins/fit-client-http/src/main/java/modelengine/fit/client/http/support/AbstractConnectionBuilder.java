@@ -6,6 +6,7 @@
 
 package modelengine.fit.client.http.support;
 
+import static modelengine.fit.serialization.http.Constants.FIT_BATCH_PATH_PATTERN;
 import static modelengine.fit.serialization.http.Constants.FIT_PATH_PATTERN;
 
 import modelengine.fit.client.Address;
@@ -32,6 +33,11 @@ public abstract class AbstractConnectionBuilder implements ConnectionBuilder {
         return sb.toString();
     }
 
+    @Override
+    public String buildBatchUrl(Request request) {
+        return this.buildBaseUrl(request).append(FIT_BATCH_PATH_PATTERN).toString();
+    }
+
     /**
      * 构建基础的访问 URL。
      *
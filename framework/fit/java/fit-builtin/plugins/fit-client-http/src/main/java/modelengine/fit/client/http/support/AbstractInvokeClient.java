@@ -164,12 +164,23 @@ public abstract class AbstractInvokeClient implements InvokeClient {
         } else {
             clientRequest.headers().add(MessageHeaderNames.CONTENT_TYPE, MimeType.APPLICATION_OCTET_STREAM.value());
         }
+        byte[] bytes = this.serializeRequestData(request);
+        clientRequest.headers().add(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(bytes.length));
+        return new DefaultReadableBinaryEntity(clientRequest, new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * 使用请求元数据中指定的序列化方式序列化请求参数。
+     *
+     * @param request 表示 Http 请求的 {@link Request}。
+     * @return 表示序列化后的请求参数的 {@code byte[]}。
+     */
+    protected byte[] serializeRequestData(Request request) {
+        int format = request.metadata().dataFormat();
         MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         format)));
-        byte[] bytes = messageSerializer.serializeRequest(request.dataTypes(), request.data());
-        clientRequest.headers().add(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(bytes.length));
-        return new DefaultReadableBinaryEntity(clientRequest, new ByteArrayInputStream(bytes));
+        return messageSerializer.serializeRequest(request.dataTypes(), request.data());
     }
 }
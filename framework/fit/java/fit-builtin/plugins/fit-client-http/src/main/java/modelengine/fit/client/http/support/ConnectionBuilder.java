@@ -24,6 +24,14 @@ public interface ConnectionBuilder {
      */
     String buildUrl(Request request);
 
+    /**
+     * 构建一个批量调用的链接。
+     *
+     * @param request 表示批量请求中任意一个请求的 {@link Request}。
+     * @return 表示构建出来的批量调用链接的 {@link String}。
+     */
+    String buildBatchUrl(Request request);
+
     /**
      * 获取构建器的类型。
      *
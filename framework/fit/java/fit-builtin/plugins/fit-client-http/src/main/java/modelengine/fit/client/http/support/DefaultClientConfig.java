@@ -9,6 +9,7 @@ package modelengine.fit.client.http.support;
 import modelengine.fitframework.annotation.AcceptConfigValues;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.conf.runtime.ClientConfig;
+import modelengine.fitframework.conf.runtime.support.DefaultClientBatch;
 import modelengine.fitframework.conf.runtime.support.DefaultClientSecure;
 
 import java.util.Optional;
@@ -22,16 +23,28 @@ import java.util.Optional;
 @Component
 @AcceptConfigValues("client.http")
 public class DefaultClientConfig implements ClientConfig {
+    private static final DefaultClientBatch DEFAULT_BATCH = new DefaultClientBatch();
+
     /**
      * 配置项：{@code 'secure'}。
      */
     private DefaultClientSecure secure;
 
+    /**
+     * 配置项：{@code 'batch'}。
+     */
+    private DefaultClientBatch batch;
+
     @Override
     public Optional<Secure> secure() {
         return Optional.ofNullable(this.secure);
     }
 
+    @Override
+    public Batch batch() {
+        return this.batch != null ? this.batch : DEFAULT_BATCH;
+    }
+
     /**
      * 设置安全相关的信息。
      *
@@ -40,4 +53,13 @@ public class DefaultClientConfig implements ClientConfig {
     public void setSecure(DefaultClientSecure secure) {
         this.secure = secure;
     }
+
+    /**
+     * 设置批量调用相关的信息。
+     *
+     * @param batch 表示批量调用相关的信息的 {@link DefaultClientBatch}。
+     */
+    public void setBatch(DefaultClientBatch batch) {
+        this.batch = batch;
+    }
 }
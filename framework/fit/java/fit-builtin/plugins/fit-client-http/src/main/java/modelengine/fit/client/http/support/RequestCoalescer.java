@@ -0,0 +1,275 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fitframework.conf.runtime.ClientConfig;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 表示将发往同一地址的同步请求合并为批量请求的合并器。
+ * <p>每个地址维护一个正在收集请求的批次，第一个加入批次的请求负责等待时间窗口结束或批次已满，然后将整个批次交给
+ * {@link Sender} 发送。每个请求都只按照自身的超时时间等待自己的结果，批量请求中单个条目的失败只影响对应的请求。</p>
+ * <p>当批次中只有一个请求，或者目标地址不支持批量调用时，请求会退回到普通的单个调用。</p>
+ * <p>批量请求在有界的线程池中发送，线程池已满时由负责批次的请求在自身线程中发送，因此突发流量不会无限制地创建线程。</p>
+ * <p>批次关闭后，如果地址上没有新的批次在收集请求，该地址的通道会被移除，因此通道的数量只与正在发生调用的地址数量相关。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class RequestCoalescer {
+    private static final Logger log = Logger.get(RequestCoalescer.class);
+    private static final long UNSUPPORTED_BACKOFF_MILLIS = 60_000L;
+    private static final int MAX_SENDING_THREADS = 64;
+
+    private final ClientConfig.Batch config;
+    private final Sender sender;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Long> unsupported = new ConcurrentHashMap<>();
+    private final LazyLoader<ThreadPoolExecutor> executorLoader = new LazyLoader<>(RequestCoalescer::createExecutor);
+
+    RequestCoalescer(ClientConfig.Batch config, Sender sender) {
+        this.config = notNull(config, "The batch config cannot be null.");
+        this.sender = notNull(sender, "The batch sender cannot be null.");
+    }
+
+    /**
+     * 判断指定的请求是否可以合并为批量请求。
+     *
+     * @param request 表示待判断的请求的 {@link Request}。
+     * @return 如果可以合并，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isBatchable(Request request) {
+        return this.config.enabled() && this.config.genericables().contains(request.metadata().genericableId());
+    }
+
+    /**
+     * 提交一个请求，并等待其结果。
+     *
+     * @param key 表示批量请求的目标的 {@link String}，相同目标的请求才会被合并。
+     * @param request 表示待提交的请求的 {@link Request}。
+     * @param timeout 表示请求的超时毫秒数的 {@code long}。
+     * @return 表示请求结果的 {@link Optional}{@code <}{@link Response}{@code >}，当请求未被合并发送时，返回
+     * {@link Optional#empty()}，此时调用者需要自行发送单个请求。
+     * @throws ClientException 当等待结果超时或被中断时。
+     */
+    Optional<Response> submit(String key, Request request, long timeout) {
+        Long unsupportedUntil = this.unsupported.get(key);
+        if (unsupportedUntil != null) {
+            if (unsupportedUntil > System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            this.unsupported.remove(key, unsupportedUntil);
+        }
+        Call call = new Call(request);
+        Lane lane;
+        Group group;
+        do {
+            lane = this.lanes.computeIfAbsent(key, k -> new Lane());
+            group = lane.join(call, this.config.maxSize());
+        } while (group == null);
+        if (group.leader() == call) {
+            List<Call> calls = lane.close(group, this.config.maxSize(), this.config.window());
+            if (lane.isRetired()) {
+                this.lanes.remove(key, lane);
+            }
+            if (calls.size() == 1) {
+                return Optional.empty();
+            }
+            Task.DisposableTask task = Task.builder().runnable(() -> this.send(key, calls)).buildDisposable();
+            this.executorLoader.get().execute(task);
+        }
+        return Optional.ofNullable(this.await(call, timeout));
+    }
+
+    private void send(String key, List<Call> calls) {
+        List<Request> requests = calls.stream().map(Call::request).collect(Collectors.toList());
+        try {
+            Optional<List<Response>> responses = this.sender.send(requests);
+            if (!responses.isPresent()) {
+                log.info("Batch invocation is not supported, fall back to single invocation. [target={}]", key);
+                this.unsupported.put(key, System.currentTimeMillis() + UNSUPPORTED_BACKOFF_MILLIS);
+                calls.forEach(call -> call.result().complete(null));
+                return;
+            }
+            List<Response> actual = responses.get();
+            for (int i = 0; i < calls.size(); i++) {
+                calls.get(i).result().complete(actual.get(i));
+            }
+        } catch (Throwable e) {
+            calls.forEach(call -> call.result().completeExceptionally(e));
+        }
+    }
+
+    private Response await(Call call, long timeout) {
+        try {
+            return call.result().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Interrupted while waiting for batched response.", e);
+        } catch (TimeoutException e) {
+            throw new ClientException(StringUtils.format(
+                    "Batched request timed out. [genericableId={0}, fitableId={1}, timeout={2}ms]",
+                    call.request().metadata().genericableId(),
+                    call.request().metadata().fitableId(),
+                    timeout), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ClientException("Failed to send batched request.", e.getCause());
+        }
+    }
+
+    /**
+     * 获取当前的请求通道数量。
+     *
+     * @return 表示当前的请求通道数量的 {@code int}。
+     */
+    int laneCount() {
+        return this.lanes.size();
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("client-http-batch")
+                .corePoolSize(0)
+                .maximumPoolSize(MAX_SENDING_THREADS)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(0)
+                .isDaemonThread(true)
+                .rejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy())
+                .build();
+    }
+
+    /**
+     * 表示批量请求的发送器。
+     */
+    @FunctionalInterface
+    public interface Sender {
+        /**
+         * 将多个请求作为一个批量请求发送。
+         *
+         * @param requests 表示待发送的请求列表的 {@link List}{@code <}{@link Request}{@code >}。
+         * @return 表示与请求一一对应的响应列表的 {@link Optional}{@code <}{@link List}{@code <}{@link Response}{@code >>}，
+         * 当目标地址不支持批量调用时，返回 {@link Optional#empty()}。
+         */
+        Optional<List<Response>> send(List<Request> requests);
+    }
+
+    /**
+     * 表示一个等待结果的请求。
+     */
+    private static class Call {
+        private final Request request;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+
+        Call(Request request) {
+            this.request = request;
+        }
+
+        Request request() {
+            return this.request;
+        }
+
+        CompletableFuture<Response> result() {
+            return this.result;
+        }
+    }
+
+    /**
+     * 表示一个正在收集请求的批次。
+     */
+    private static class Group {
+        private final Call leader;
+        private final List<Call> calls = new ArrayList<>();
+
+        Group(Call leader) {
+            this.leader = leader;
+            this.calls.add(leader);
+        }
+
+        Call leader() {
+            return this.leader;
+        }
+    }
+
+    /**
+     * 表示发往同一目标的请求通道，同一时刻最多只有一个批次在收集请求。
+     * <p>当批次关闭时没有新的批次在收集请求，通道会被标记为退役，退役的通道不再接受请求，由调用者从通道表中移除。</p>
+     */
+    private static class Lane {
+        private Group open;
+        private boolean retired;
+
+        /**
+         * 将请求加入正在收集请求的批次。
+         *
+         * @param call 表示待加入的请求的 {@link Call}。
+         * @param maxSize 表示批次最大请求数量的 {@code int}。
+         * @return 表示请求所加入的批次的 {@link Group}，当通道已经退役时，返回 {@code null}。
+         */
+        synchronized Group join(Call call, int maxSize) {
+            if (this.retired) {
+                return null;
+            }
+            if (this.open == null || this.open.calls.size() >= maxSize) {
+                this.open = new Group(call);
+                return this.open;
+            }
+            Group group = this.open;
+            group.calls.add(call);
+            if (group.calls.size() >= maxSize) {
+                this.notifyAll();
+            }
+            return group;
+        }
+
+        synchronized List<Call> close(Group group, int maxSize, long window) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(window);
+            long remaining;
+            while (group.calls.size() < maxSize && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (this.open == group) {
+                this.open = null;
+            }
+            if (this.open == null) {
+                this.retired = true;
+            }
+            return group.calls;
+        }
+
+        synchronized boolean isRetired() {
+            return this.retired;
+        }
+    }
+}
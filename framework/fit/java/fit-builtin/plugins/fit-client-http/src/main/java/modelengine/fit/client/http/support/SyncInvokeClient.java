@@ -6,6 +6,8 @@
 
 package modelengine.fit.client.http.support;
 
+import static modelengine.fit.http.header.HttpHeaderKey.FIT_ACCESS_TOKEN;
+
 import modelengine.fit.client.Request;
 import modelengine.fit.client.Response;
 import modelengine.fit.client.http.InvokeClient;
@@ -13,28 +15,55 @@ import modelengine.fit.client.http.util.HttpClientUtils;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
+import modelengine.fit.http.entity.support.DefaultReadableBinaryEntity;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import modelengine.fit.http.protocol.HttpResponseStatus;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fit.http.protocol.Protocol;
+import modelengine.fit.serialization.http.BatchMessageContentUtils;
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.conf.runtime.ClientConfig;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.exception.ClientException;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.StringUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 表示 {@link InvokeClient} 的同步实现。
+ * <p>当开启批量调用时，发往同一地址的、声明为可批量调用的泛服务的请求会通过 {@link RequestCoalescer} 合并为一个批量请求。</p>
  *
  * @author 季聿阶
  * @since 2024-02-17
  */
 public class SyncInvokeClient extends AbstractInvokeClient {
+    private final RequestCoalescer coalescer;
+
     public SyncInvokeClient(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
         super(container, workerConfig, clientConfig);
+        this.coalescer = new RequestCoalescer(clientConfig.batch(), this::requestResponses);
     }
 
     @Override
     public Response requestResponse(@Nonnull Request request) {
+        if (this.isBatchable(request)) {
+            Optional<Response> response =
+                    this.coalescer.submit(this.getBatchKey(request), request, this.getTimeout(request));
+            if (response.isPresent()) {
+                return response.get();
+            }
+        }
         HttpClassicClient client = this.buildHttpClient(request);
         HttpClassicClientRequest clientRequest = this.buildClientRequest(client, request);
         clientRequest.entity(this.buildHttpEntity(clientRequest, request));
@@ -45,6 +74,78 @@ public class SyncInvokeClient extends AbstractInvokeClient {
         }
     }
 
+    private boolean isBatchable(Request request) {
+        Protocol protocol = Protocol.from(request.protocol());
+        return (protocol == Protocol.HTTP || protocol == Protocol.HTTPS) && this.coalescer.isBatchable(request);
+    }
+
+    private String getBatchKey(Request request) {
+        ConnectionBuilder builder = ConnectionBuilderFactory.getConnectionBuilder(Protocol.from(request.protocol()));
+        return builder.buildBatchUrl(request) + '#' + StringUtils.blankIf(request.metadata().accessToken(),
+                StringUtils.EMPTY);
+    }
+
+    private Optional<List<Response>> requestResponses(List<Request> requests) {
+        Request first = requests.get(0);
+        HttpClassicClient client =
+                this.buildHttpClient(requests.stream().max(Comparator.comparingInt(this::getTimeout)).orElse(first));
+        ConnectionBuilder builder = ConnectionBuilderFactory.getConnectionBuilder(Protocol.from(first.protocol()));
+        HttpClassicClientRequest clientRequest =
+                client.createRequest(HttpRequestMethod.POST, builder.buildBatchUrl(first));
+        List<BatchMessageContentUtils.Entry> entries = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            TagLengthValues tagLengthValues = request.metadata().tagValues();
+            TlvUtils.setWorkerId(tagLengthValues, this.getWorkerConfig().id());
+            TlvUtils.setWorkerInstanceId(tagLengthValues, this.getWorkerConfig().instanceId());
+            entries.add(new BatchMessageContentUtils.Entry(request.metadata().serialize(),
+                    this.serializeRequestData(request)));
+        }
+        byte[] content = BatchMessageContentUtils.serialize(entries);
+        clientRequest.headers()
+                .add(MessageHeaderNames.CONTENT_TYPE, MimeType.APPLICATION_OCTET_STREAM.value())
+                .add(MessageHeaderNames.ACCEPT, MimeType.APPLICATION_OCTET_STREAM.value())
+                .add(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(content.length));
+        if (StringUtils.isNotBlank(first.metadata().accessToken())) {
+            clientRequest.headers().add(FIT_ACCESS_TOKEN.value(), first.metadata().accessToken());
+        }
+        clientRequest.entity(new DefaultReadableBinaryEntity(clientRequest, new ByteArrayInputStream(content)));
+        try (HttpClassicClientResponse<Object> clientResponse = client.exchange(clientRequest)) {
+            int statusCode = clientResponse.statusCode();
+            if (statusCode == HttpResponseStatus.NOT_FOUND.statusCode()
+                    || statusCode == HttpResponseStatus.METHOD_NOT_ALLOWED.statusCode()) {
+                return Optional.empty();
+            }
+            if (statusCode != HttpResponseStatus.OK.statusCode()) {
+                throw new ClientException(StringUtils.format(
+                        "Failed to send batched request. [protocol={0}, address={1}, statusCode={2}]",
+                        first.protocol(),
+                        first.address(),
+                        statusCode));
+            }
+            List<BatchMessageContentUtils.Entry> results =
+                    BatchMessageContentUtils.deserialize(clientResponse.entityBytes());
+            if (results.size() != requests.size()) {
+                throw new ClientException(StringUtils.format(
+                        "Incorrect batch response size. [protocol={0}, address={1}, expected={2}, actual={3}]",
+                        first.protocol(),
+                        first.address(),
+                        requests.size(),
+                        results.size()));
+            }
+            List<Response> responses = new ArrayList<>(results.size());
+            for (int i = 0; i < results.size(); i++) {
+                BatchMessageContentUtils.Entry result = results.get(i);
+                responses.add(HttpClientUtils.getResponse(this.getContainer(),
+                        requests.get(i),
+                        ResponseMetadata.deserialize(result.metadata()),
+                        result.entity()));
+            }
+            return Optional.of(responses);
+        } catch (IOException e) {
+            throw new ClientException("Failed to close http classic client.", e);
+        }
+    }
+
     @Override
     public CommunicationType support() {
         return CommunicationType.SYNC;
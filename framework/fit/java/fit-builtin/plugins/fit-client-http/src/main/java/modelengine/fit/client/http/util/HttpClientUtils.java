@@ -90,7 +90,25 @@ public class HttpClientUtils {
             HttpClassicClientResponse<Object> clientResponse) {
         ResponseMetadata responseMetadata = HttpClientUtils.getResponseMetadata(request, clientResponse);
         if (responseMetadata.code() == ResponseMetadata.CODE_OK) {
-            Object result = getResponseData(container, request, responseMetadata, clientResponse);
+            Object result = getResponseData(container, request, responseMetadata, clientResponse.entityBytes());
+            return Response.create(responseMetadata, result);
+        }
+        return Response.create(responseMetadata, null);
+    }
+
+    /**
+     * 根据响应元数据和序列化后的响应数据获取响应。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param request 表示 Http 请求的 {@link Request}。
+     * @param responseMetadata 表示响应元数据的 {@link ResponseMetadata}。
+     * @param entityBytes 表示序列化后的响应数据的 {@code byte[]}。
+     * @return 表示响应的 {@link Response}。
+     */
+    public static Response getResponse(BeanContainer container, Request request, ResponseMetadata responseMetadata,
+            byte[] entityBytes) {
+        if (responseMetadata.code() == ResponseMetadata.CODE_OK) {
+            Object result = getResponseData(container, request, responseMetadata, entityBytes);
             return Response.create(responseMetadata, result);
         }
         return Response.create(responseMetadata, null);
@@ -123,13 +141,13 @@ public class HttpClientUtils {
     }
 
     private static Object getResponseData(BeanContainer container, Request request, ResponseMetadata responseMetadata,
-            HttpClassicClientResponse<Object> clientResponse) {
+            byte[] entityBytes) {
         int format = responseMetadata.dataFormat();
         MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(container, format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         format)));
-        return messageSerializer.deserializeResponse(request.returnType(), clientResponse.entityBytes());
+        return messageSerializer.deserializeResponse(request.returnType(), entityBytes);
     }
 
     private static ResponseMetadata getResponseMetadata(Request request,
@@ -0,0 +1,160 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fitframework.conf.runtime.support.DefaultClientBatch;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 表示 {@link RequestCoalescer} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 RequestCoalescer")
+public class RequestCoalescerTest {
+    private static DefaultClientBatch batch(long window, int maxSize) {
+        DefaultClientBatch batch = new DefaultClientBatch();
+        batch.setEnabled(true);
+        batch.setGenericables(Collections.singletonList("g"));
+        batch.setWindow(window);
+        batch.setMaxSize(maxSize);
+        return batch;
+    }
+
+    private static Request request(String fitableId) {
+        RequestMetadata metadata = RequestMetadata.custom().genericableId("g").fitableId(fitableId).build();
+        Request request = mock(Request.class);
+        when(request.metadata()).thenReturn(metadata);
+        return request;
+    }
+
+    private static Response response(Request request) {
+        return Response.create(ResponseMetadata.custom().code(ResponseMetadata.CODE_OK).build(),
+                request.metadata().fitableId());
+    }
+
+    @Test
+    @DisplayName("同一窗口内的请求被合并为一个批量请求，且每个请求获得自己的结果")
+    void givenConcurrentRequestsThenSendOneBatch() throws Exception {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        RequestCoalescer coalescer = new RequestCoalescer(batch(1000, 4), requests -> {
+            batchSizes.add(requests.size());
+            return Optional.of(requests.stream().map(RequestCoalescerTest::response).collect(Collectors.toList()));
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Optional<Response>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Request request = request("f" + i);
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return coalescer.submit("target", request, 5000);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < 4; i++) {
+                Optional<Response> response = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertThat(response).isPresent();
+                assertThat(response.get().data()).isEqualTo("f" + i);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(batchSizes).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("窗口内只有一个请求时，不发送批量请求")
+    void givenSingleRequestThenFallbackToSingleInvocation() {
+        AtomicInteger sent = new AtomicInteger();
+        RequestCoalescer coalescer = new RequestCoalescer(batch(1, 4), requests -> {
+            sent.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<Response> response = coalescer.submit("target", request("f"), 5000);
+        assertThat(response).isEmpty();
+        assertThat(sent.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("批量请求失败时，每个请求都获得相同的异常")
+    void givenSenderFailedThenEveryRequestFailed() {
+        RequestCoalescer coalescer = new RequestCoalescer(batch(1000, 2), requests -> {
+            throw new ClientException("batch failed");
+        });
+        CompletableFuture<Optional<Response>> first =
+                CompletableFuture.supplyAsync(() -> coalescer.submit("target", request("f1"), 5000));
+        assertThatThrownBy(() -> coalescer.submit("target", request("f2"), 5000)).isInstanceOf(ClientException.class)
+                .hasMessage("batch failed");
+        assertThatThrownBy(first::join).hasCauseInstanceOf(ClientException.class);
+    }
+
+    @Test
+    @DisplayName("批量请求的结果超过请求自身的超时时间时，抛出异常")
+    void givenSlowBatchThenTimeout() {
+        RequestCoalescer coalescer = new RequestCoalescer(batch(1000, 2), requests -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(requests.stream().map(RequestCoalescerTest::response).collect(Collectors.toList()));
+        });
+        CompletableFuture<Optional<Response>> first =
+                CompletableFuture.supplyAsync(() -> coalescer.submit("target", request("f1"), 5000));
+        assertThatThrownBy(() -> coalescer.submit("target", request("f2"), 10)).isInstanceOf(ClientException.class)
+                .hasMessageContaining("timed out");
+        assertThat(first.join()).isPresent();
+    }
+
+    @Test
+    @DisplayName("批次发送后，移除空闲地址的请求通道")
+    void givenIdleTargetsThenRemoveLanes() {
+        RequestCoalescer coalescer = new RequestCoalescer(batch(10, 2), requests -> Optional.of(requests.stream()
+                .map(RequestCoalescerTest::response)
+                .collect(Collectors.toList())));
+        List<CompletableFuture<Optional<Response>>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String target = "target" + i;
+            for (int j = 0; j < 2; j++) {
+                Request request = request("f" + j);
+                futures.add(CompletableFuture.supplyAsync(() -> coalescer.submit(target, request, 5000)));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+        assertThat(coalescer.laneCount()).isEqualTo(0);
+        assertThat(coalescer.submit("target", request("f"), 5000)).isEmpty();
+        assertThat(coalescer.laneCount()).isEqualTo(0);
+    }
+}
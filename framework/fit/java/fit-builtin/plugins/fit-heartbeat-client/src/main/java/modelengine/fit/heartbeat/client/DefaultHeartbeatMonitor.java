@@ -50,11 +50,7 @@ public class DefaultHeartbeatMonitor implements HeartbeatMonitor, FitRuntimeStar
     public DefaultHeartbeatMonitor(HeartbeatService heartbeatService, WorkerConfig worker) {
         this.heartbeatService = notNull(heartbeatService, "The heartbeat service cannot be null.");
         this.worker = notNull(worker, "The worker config cannot be null.");
-        this.keepAliveScheduledExecutor = ThreadPoolScheduler.custom()
-                .corePoolSize(1)
-                .isDaemonThread(true)
-                .threadPoolName("heartbeat-client")
-                .build();
+        this.keepAliveScheduledExecutor = ThreadPoolScheduler.timingWheel("heartbeat-client");
     }
 
     @Override
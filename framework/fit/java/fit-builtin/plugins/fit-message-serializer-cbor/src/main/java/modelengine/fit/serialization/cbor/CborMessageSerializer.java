@@ -17,10 +17,15 @@ import modelengine.fitframework.annotation.Order;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.TypeUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -28,6 +33,7 @@ import java.util.List;
 /**
  * 表示 {@link MessageSerializer} 的 CBOR 的实现。
  * <p><a href="https://datatracker.ietf.org/doc/html/rfc8949">RFC 8949</a> 列出了 CBOR 的详细规范。</p>
+ * <p>CBOR 的编解码器本身基于流实现，因此流式方法直接读写传入的流，不会产生中间的 {@code byte[]}。</p>
  *
  * @author 季聿阶
  * @since 2024-01-25
@@ -35,6 +41,8 @@ import java.util.List;
 @Order(Order.LOW)
 @Component
 public class CborMessageSerializer implements MessageSerializer {
+    private static final Type ARGUMENTS_TYPE = TypeUtils.parameterized(List.class, new Type[] {Object.class});
+
     private final ObjectSerializer serializer;
     private final Config config;
 
@@ -57,14 +65,21 @@ public class CborMessageSerializer implements MessageSerializer {
     @Override
     public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
         MessageSerializerUtils.isSupportedLength(serialized.length, this.config);
-        List<Object> deserialized = this.serializer.deserialize(serialized,
+        List<Object> deserialized = this.serializer.deserialize(serialized, UTF_8, ARGUMENTS_TYPE);
+        return toArguments(argumentTypes, deserialized);
+    }
+
+    @Override
+    public void serializeRequestTo(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        this.serializer.serialize(arguments, UTF_8, out);
+    }
+
+    @Override
+    public Object[] deserializeRequestFrom(Type[] argumentTypes, InputStream in) {
+        List<Object> deserialized = this.serializer.deserialize(MessageSerializerUtils.limitLength(in, this.config),
                 UTF_8,
-                TypeUtils.parameterized(List.class, new Type[] {Object.class}));
-        Object[] array = new Object[argumentTypes.length];
-        for (int i = 0; i < deserialized.size(); i++) {
-            array[i] = ObjectUtils.toCustomObject(deserialized.get(i), argumentTypes[i]);
-        }
-        return array;
+                ARGUMENTS_TYPE);
+        return toArguments(argumentTypes, deserialized);
     }
 
     @Override
@@ -81,6 +96,26 @@ public class CborMessageSerializer implements MessageSerializer {
         return this.serializer.deserialize(serialized, UTF_8, returnType);
     }
 
+    @Override
+    public <T> void serializeResponseTo(Type returnType, T returnData, OutputStream out) {
+        this.serializer.serialize(returnData, UTF_8, out);
+    }
+
+    @Override
+    public <T> T deserializeResponseFrom(Type returnType, InputStream in) {
+        PushbackInputStream actual = new PushbackInputStream(MessageSerializerUtils.limitLength(in, this.config));
+        try {
+            int first = actual.read();
+            if (first < 0) {
+                return null;
+            }
+            actual.unread(first);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read CBOR response from input stream.", e);
+        }
+        return this.serializer.deserialize(actual, UTF_8, returnType);
+    }
+
     @Override
     public boolean isSupported(Method method) {
         return true;
@@ -90,4 +125,12 @@ public class CborMessageSerializer implements MessageSerializer {
     public int getFormat() {
         return SerializationFormat.CBOR.code();
     }
+
+    private static Object[] toArguments(Type[] argumentTypes, List<Object> deserialized) {
+        Object[] array = new Object[argumentTypes.length];
+        for (int i = 0; i < deserialized.size(); i++) {
+            array[i] = ObjectUtils.toCustomObject(deserialized.get(i), argumentTypes[i]);
+        }
+        return array;
+    }
 }
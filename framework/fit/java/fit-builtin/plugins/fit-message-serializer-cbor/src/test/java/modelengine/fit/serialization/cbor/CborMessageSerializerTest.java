@@ -20,8 +20,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Properties;
 
@@ -57,6 +60,38 @@ public class CborMessageSerializerTest {
         assertThat(arguments).isEqualTo(values);
     }
 
+    @Test
+    @DisplayName("通过流序列化并反序列化的结果，与基于字节数组的结果一致")
+    void shouldStreamSameAsBytes() {
+        Type[] argumentTypes = new Type[] {String.class, Integer.class};
+        Object[] values = new Object[] {"用以UTF-8编码的中文", 1};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.cborMessageSerializer.serializeRequestTo(argumentTypes, values, out);
+        assertThat(out.toByteArray()).isEqualTo(this.cborMessageSerializer.serializeRequest(argumentTypes, values));
+        Object[] arguments = this.cborMessageSerializer.deserializeRequestFrom(argumentTypes,
+                new ByteArrayInputStream(out.toByteArray()));
+        assertThat(arguments).isEqualTo(values);
+    }
+
+    @Test
+    @DisplayName("从直接缓冲区反序列化响应，结果等于原来的值")
+    void shouldDeserializeResponseFromDirectBuffer() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.cborMessageSerializer.serializeResponseTo(String.class, "hello", out);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(out.size());
+        buffer.put(out.toByteArray()).flip();
+        String actual = this.cborMessageSerializer.deserializeResponseFrom(String.class, buffer);
+        assertThat(actual).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("从空的输入流反序列化响应，结果为 null")
+    void shouldReturnNullWhenDeserializeResponseFromEmptyStream() {
+        String actual =
+                this.cborMessageSerializer.deserializeResponseFrom(String.class, new ByteArrayInputStream(new byte[0]));
+        assertThat(actual).isNull();
+    }
+
     @Nested
     @DisplayName("给定一个结构体对象")
     class GivenParamsAreCustom {
@@ -10,6 +10,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -25,11 +29,14 @@ import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
 /**
  * 表示 {@link MessageSerializer} 的 Jackson 的实现。
+ * <p>流式方法直接基于 Jackson 的流式读写器实现，请求参数逐个从输入流中解析，不会将消息完整地读入内存。</p>
  *
  * @author 梁济时
  * @author 季聿阶
@@ -80,11 +87,77 @@ public class JacksonMessageSerializer implements MessageSerializer {
         return arguments;
     }
 
+    @Override
+    public void serializeRequestTo(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        this.write(arguments, out);
+    }
+
+    @Override
+    public Object[] deserializeRequestFrom(Type[] argumentTypes, InputStream in) {
+        try (JsonParser parser = this.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new SerializationException("The JSON request must be an array.");
+            }
+            Object[] arguments = new Object[argumentTypes.length];
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (count < argumentTypes.length) {
+                    arguments[count] = this.mapper.readValue(parser, this.mapper.constructType(argumentTypes[count]));
+                } else {
+                    parser.skipChildren();
+                }
+                count++;
+            }
+            if (count != argumentTypes.length) {
+                throw new SerializationException(StringUtils.format("Total {0} arguments supplied but {1} required.",
+                        count,
+                        argumentTypes.length));
+            }
+            return arguments;
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read JSON request from input stream.", e);
+        }
+    }
+
     @Override
     public <T> byte[] serializeResponse(Type returnType, T returnData) {
         return this.serializer.serialize(returnData, UTF_8);
     }
 
+    @Override
+    public <T> void serializeResponseTo(Type returnType, T returnData, OutputStream out) {
+        this.write(returnData, out);
+    }
+
+    @Override
+    public <T> T deserializeResponseFrom(Type returnType, InputStream in) {
+        try (JsonParser parser = this.createParser(in)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return this.mapper.readValue(parser, this.mapper.constructType(returnType));
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read JSON response from input stream.", e);
+        }
+    }
+
+    private void write(Object value, OutputStream out) {
+        notNull(out, "The output stream cannot be null.");
+        try (JsonGenerator generator = this.mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.mapper.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write JSON message to output stream.", e);
+        }
+    }
+
+    private JsonParser createParser(InputStream in) throws IOException {
+        notNull(in, "The input stream cannot be null.");
+        JsonParser parser = this.mapper.getFactory().createParser(MessageSerializerUtils.limitLength(in, this.config));
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+
     @Override
     public <T> T deserializeResponse(Type returnType, byte[] serialized) {
         if (ArrayUtils.isEmpty(serialized)) {
@@ -7,6 +7,7 @@
 package modelengine.fit.serialization.json.jackson;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import modelengine.fit.serialization.test.box.Box;
 import modelengine.fit.serialization.test.person.PersonAlias;
@@ -14,6 +15,7 @@ import modelengine.fit.serialization.test.person.PersonName;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.conf.support.PropertiesConfig;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -22,8 +24,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
@@ -57,6 +62,49 @@ public class JacksonMessageSerializerTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("通过流序列化并反序列化请求，结果等于原来的值，且不关闭传入的流")
+    void shouldRoundTripRequestOverStreams() {
+        Type[] argumentTypes = new Type[] {String.class, Integer.class};
+        Object[] expected = new Object[] {"用以UTF-8编码的中文", 1};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.messageSerializer.serializeRequestTo(argumentTypes, expected, out);
+        out.write('x');
+        byte[] bytes = out.toByteArray();
+        assertThat(bytes[bytes.length - 1]).isEqualTo((byte) 'x');
+        Object[] actual = this.messageSerializer.deserializeRequestFrom(argumentTypes,
+                new ByteArrayInputStream(bytes, 0, bytes.length - 1));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("通过流反序列化请求时，当参数数量不匹配，抛出 SerializationException")
+    void shouldThrowWhenStreamArgumentsMismatch() {
+        byte[] bytes = "[\"a\",\"b\",{\"c\":[1]}]".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> this.messageSerializer.deserializeRequestFrom(new Type[] {String.class},
+                new ByteArrayInputStream(bytes))).isInstanceOf(SerializationException.class)
+                .hasMessage("Total 3 arguments supplied but 1 required.");
+    }
+
+    @Test
+    @DisplayName("从直接缓冲区反序列化响应，结果等于原来的值")
+    void shouldDeserializeResponseFromDirectBuffer() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.messageSerializer.serializeResponseTo(String.class, "hello", out);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(out.size());
+        buffer.put(out.toByteArray()).flip();
+        String actual = this.messageSerializer.deserializeResponseFrom(String.class, buffer);
+        assertThat(actual).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("从空的输入流反序列化响应，结果为 null")
+    void shouldReturnNullWhenDeserializeResponseFromEmptyStream() {
+        String actual =
+                this.messageSerializer.deserializeResponseFrom(String.class, new ByteArrayInputStream(new byte[0]));
+        assertThat(actual).isNull();
+    }
+
     @Test
     @DisplayName("支持所有方法")
     void shouldReturnTrue() {
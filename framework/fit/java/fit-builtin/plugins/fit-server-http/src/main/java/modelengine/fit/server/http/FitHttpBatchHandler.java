@@ -0,0 +1,175 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http;
+
+import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.protocol.HttpResponseStatus;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fit.http.server.DoHttpHandlerException;
+import modelengine.fit.http.server.HttpClassicServerRequest;
+import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fit.serialization.http.BatchMessageContentUtils;
+import modelengine.fit.server.http.util.HttpServerUtils;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示处理 FIT 批量调用的处理器。
+ * <p>批量请求中的每个条目都会被单独反序列化并通过 {@link Dispatcher} 分发，条目之间的失败互不影响，每个条目的执行结果
+ * 按照请求中的顺序写入批量响应。</p>
+ * <p>第一个条目在当前线程上分发，其余条目并发地在有界的分发线程池上分发，因此批量请求的耗时取决于最慢的条目，而不是所有
+ * 条目耗时之和。当分发线程池已满时，条目退回到当前线程上分发。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class FitHttpBatchHandler extends FitHttpHandler {
+    private static final Logger log = Logger.get(FitHttpBatchHandler.class);
+    private static final int MAX_DISPATCH_THREADS = 64;
+
+    private final BeanContainer container;
+    private final Dispatcher dispatcher;
+    private final WorkerConfig workerConfig;
+    private final LazyLoader<ThreadPoolExecutor> executorLoader =
+            new LazyLoader<>(FitHttpBatchHandler::createExecutor);
+
+    FitHttpBatchHandler(BeanContainer container, Dispatcher dispatcher, LocalGenericableRepository repository,
+            WorkerConfig workerConfig, StaticInfo staticInfo, ExecutionInfo executionInfo) {
+        super(container, dispatcher, repository, workerConfig, staticInfo, executionInfo);
+        this.container = container;
+        this.dispatcher = dispatcher;
+        this.workerConfig = workerConfig;
+    }
+
+    @Override
+    public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
+            throws DoHttpHandlerException {
+        List<BatchMessageContentUtils.Entry> requestEntries;
+        try {
+            requestEntries = BatchMessageContentUtils.deserialize(request.entityBytes());
+        } catch (IllegalArgumentException e) {
+            throw new DoHttpHandlerException("Illegal fit batch content.", e);
+        }
+        List<CompletableFuture<BatchMessageContentUtils.Entry>> pending = new ArrayList<>(requestEntries.size());
+        for (int i = 1; i < requestEntries.size(); i++) {
+            pending.add(this.dispatchAsync(requestEntries.get(i)));
+        }
+        List<BatchMessageContentUtils.Entry> responseEntries = new ArrayList<>(requestEntries.size());
+        if (!requestEntries.isEmpty()) {
+            responseEntries.add(this.handleEntry(requestEntries.get(0)));
+        }
+        for (CompletableFuture<BatchMessageContentUtils.Entry> future : pending) {
+            responseEntries.add(await(future));
+        }
+        byte[] content = BatchMessageContentUtils.serialize(responseEntries);
+        HttpServerUtils.setResponseCode(response, HttpResponseStatus.OK);
+        response.headers()
+                .set(MessageHeaderNames.CONTENT_TYPE, MimeType.APPLICATION_OCTET_STREAM.value())
+                .set(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(content.length));
+        response.entity(Entity.createBinaryEntity(response, new ByteArrayInputStream(content)));
+    }
+
+    private CompletableFuture<BatchMessageContentUtils.Entry> dispatchAsync(BatchMessageContentUtils.Entry entry) {
+        CompletableFuture<BatchMessageContentUtils.Entry> future = new CompletableFuture<>();
+        Runnable runnable = () -> {
+            try {
+                future.complete(this.handleEntry(entry));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        try {
+            this.executorLoader.get().execute(Task.builder().runnable(runnable).buildDisposable());
+        } catch (RejectedExecutionException e) {
+            log.debug("The fit batch dispatch pool is busy, dispatch entry on current thread.");
+            runnable.run();
+        }
+        return future;
+    }
+
+    private static BatchMessageContentUtils.Entry await(CompletableFuture<BatchMessageContentUtils.Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private BatchMessageContentUtils.Entry handleEntry(BatchMessageContentUtils.Entry entry) {
+        RequestMetadata metadata = RequestMetadata.deserialize(entry.metadata());
+        try {
+            Object[] data = this.getRequestData(entry.entity(), metadata);
+            Response result = this.dispatcher.dispatch(metadata, data);
+            byte[] entity = null;
+            if (result.metadata().code() == ResponseMetadata.CODE_OK) {
+                entity = HttpServerUtils.getResponseData(this.container,
+                        result.type(),
+                        result.data(),
+                        metadata.dataFormat());
+            }
+            return new BatchMessageContentUtils.Entry(result.metadata().serialize(), entity);
+        } catch (RuntimeException e) {
+            log.error("Failed to handle fit batch entry. [genericableId={}, fitableId={}, cause={}]",
+                    metadata.genericableId(),
+                    metadata.fitableId(),
+                    e.getMessage(),
+                    e);
+            return new BatchMessageContentUtils.Entry(this.errorMetadata(metadata, e).serialize(), null);
+        }
+    }
+
+    private ResponseMetadata errorMetadata(RequestMetadata metadata, RuntimeException cause) {
+        TagLengthValues tagValues = TagLengthValues.create();
+        TlvUtils.setWorkerId(tagValues, this.workerConfig.id());
+        TlvUtils.setWorkerInstanceId(tagValues, this.workerConfig.instanceId());
+        return ResponseMetadata.custom()
+                .dataFormat(metadata.dataFormat())
+                .code(-1)
+                .message(StringUtils.blankIf(cause.getMessage(), cause.getClass().getName()))
+                .tagValues(tagValues)
+                .build();
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("fit-http-batch")
+                .corePoolSize(0)
+                .maximumPoolSize(MAX_DISPATCH_THREADS)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(0)
+                .isDaemonThread(true)
+                .build();
+    }
+}
@@ -95,7 +95,14 @@ public class FitHttpHandler extends AbstractHttpHandler {
                 .build();
     }
 
-    private Object[] getRequestData(byte[] dataBytes, RequestMetadata metadata) {
+    /**
+     * 根据请求元数据中的泛服务和序列化方式，反序列化请求参数。
+     *
+     * @param dataBytes 表示序列化后的请求参数的 {@code byte[]}。
+     * @param metadata 表示请求元数据的 {@link RequestMetadata}。
+     * @return 表示反序列化后的请求参数的 {@link Object}{@code []}。
+     */
+    protected Object[] getRequestData(byte[] dataBytes, RequestMetadata metadata) {
         Genericable genericable = this.getGenericable(metadata);
         Method method = genericable.method().method();
         notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
@@ -7,6 +7,7 @@
 package modelengine.fit.server.http;
 
 import static modelengine.fit.serialization.http.Constants.FIT_ASYNC_TASK_PATH_PATTERN;
+import static modelengine.fit.serialization.http.Constants.FIT_BATCH_PATH_PATTERN;
 import static modelengine.fit.serialization.http.Constants.FIT_PATH_PATTERN;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
@@ -55,12 +56,19 @@ public class FitHttpHandlerRegistry {
             HttpHandler handler =
                     this.createHttpHandler(httpServer, dispatcher, this.contextPath + FIT_PATH_PATTERN, worker);
             httpServer.httpDispatcher().register(HttpRequestMethod.POST.name(), handler);
+            HttpHandler batchHandler = this.createBatchHttpHandler(httpServer,
+                    dispatcher,
+                    this.contextPath + FIT_BATCH_PATH_PATTERN,
+                    worker);
+            httpServer.httpDispatcher().register(HttpRequestMethod.POST.name(), batchHandler);
             HttpHandler asyncTaskHandler =
                     this.createAsyncHttpHandler(httpServer, worker, this.contextPath + FIT_ASYNC_TASK_PATH_PATTERN);
             httpServer.httpDispatcher().register(HttpRequestMethod.GET.name(), asyncTaskHandler);
         }
         HttpHandler handler = this.createHttpHandler(httpServer, dispatcher, FIT_PATH_PATTERN, worker);
         httpServer.httpDispatcher().register(HttpRequestMethod.POST.name(), handler);
+        HttpHandler batchHandler = this.createBatchHttpHandler(httpServer, dispatcher, FIT_BATCH_PATH_PATTERN, worker);
+        httpServer.httpDispatcher().register(HttpRequestMethod.POST.name(), batchHandler);
         HttpHandler asyncTaskHandler = this.createAsyncHttpHandler(httpServer, worker, FIT_ASYNC_TASK_PATH_PATTERN);
         httpServer.httpDispatcher().register(HttpRequestMethod.GET.name(), asyncTaskHandler);
     }
@@ -75,6 +83,16 @@ public class FitHttpHandlerRegistry {
                 HttpHandler.ExecutionInfo.builder().httpServer(httpServer).build());
     }
 
+    private HttpHandler createBatchHttpHandler(HttpClassicServer httpServer, Dispatcher dispatcher,
+            String pathPattern, WorkerConfig worker) {
+        return new FitHttpBatchHandler(this.container,
+                dispatcher,
+                this.repository,
+                worker,
+                HttpHandler.StaticInfo.builder().pathPattern(pathPattern).build(),
+                HttpHandler.ExecutionInfo.builder().httpServer(httpServer).build());
+    }
+
     private HttpHandler createAsyncHttpHandler(HttpClassicServer httpServer, WorkerConfig worker, String pathPattern) {
         return new FitHttpAsyncTaskHandler(this.container,
                 worker,
@@ -119,7 +119,16 @@ public class HttpServerUtils {
         }
     }
 
-    private static byte[] getResponseData(BeanContainer container, Type returnType, Object data, int format) {
+    /**
+     * 使用指定的序列化方式序列化响应结果。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param returnType 表示响应结果类型的 {@link Type}。
+     * @param data 表示响应结果的 {@link Object}。
+     * @param format 表示序列化方式的 {@code int}。
+     * @return 表示序列化后的响应结果的 {@code byte[]}。
+     */
+    public static byte[] getResponseData(BeanContainer container, Type returnType, Object data, int format) {
         MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(container, format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
@@ -0,0 +1,115 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.entity.ReadableBinaryEntity;
+import modelengine.fit.http.server.HttpClassicServer;
+import modelengine.fit.http.server.HttpClassicServerRequest;
+import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fit.http.server.HttpHandler;
+import modelengine.fit.serialization.http.BatchMessageContentUtils;
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.util.ThreadUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 表示 {@link FitHttpBatchHandler} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 FitHttpBatchHandler")
+public class FitHttpBatchHandlerTest {
+    private static final int ENTRY_COUNT = 4;
+    private static final long DISPATCH_MILLIS = 500;
+
+    private static RequestMetadata metadata(String fitableId) {
+        return RequestMetadata.custom()
+                .dataFormat(0)
+                .genericableId("g")
+                .genericableVersion(Version.builder("1.0.0").build())
+                .fitableId(fitableId)
+                .fitableVersion(Version.builder(FitableMetadata.DEFAULT_VERSION).build())
+                .tagValues(TagLengthValues.create())
+                .build();
+    }
+
+    @Test
+    @DisplayName("批量请求中的条目并发分发，且每个条目获得自己的结果")
+    void givenBatchThenDispatchEntriesConcurrently() throws IOException {
+        Dispatcher dispatcher = mock(Dispatcher.class);
+        when(dispatcher.dispatch(any(), any())).thenAnswer(invocation -> {
+            RequestMetadata metadata = invocation.getArgument(0);
+            ThreadUtils.sleep(DISPATCH_MILLIS);
+            if ("f1".equals(metadata.fitableId())) {
+                throw new IllegalStateException("failed");
+            }
+            return Response.create(ResponseMetadata.custom().code(1).message(metadata.fitableId()).build());
+        });
+        WorkerConfig worker = mock(WorkerConfig.class);
+        when(worker.id()).thenReturn("worker");
+        when(worker.instanceId()).thenReturn("instance");
+        FitHttpBatchHandler handler = new FitHttpBatchHandler(mock(BeanContainer.class),
+                dispatcher,
+                mock(LocalGenericableRepository.class),
+                worker,
+                HttpHandler.StaticInfo.builder().pathPattern("/fit/batch").build(),
+                HttpHandler.ExecutionInfo.builder().httpServer(mock(HttpClassicServer.class)).build()) {
+            @Override
+            protected Object[] getRequestData(byte[] dataBytes, RequestMetadata metadata) {
+                return new Object[0];
+            }
+        };
+        List<BatchMessageContentUtils.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.add(new BatchMessageContentUtils.Entry(metadata("f" + i).serialize(), new byte[0]));
+        }
+        HttpClassicServerRequest request = mock(HttpClassicServerRequest.class);
+        when(request.entityBytes()).thenReturn(BatchMessageContentUtils.serialize(entries));
+        HttpClassicServerResponse response = mock(HttpClassicServerResponse.class, RETURNS_DEEP_STUBS);
+
+        long start = System.currentTimeMillis();
+        handler.handle(request, response);
+        long elapsed = System.currentTimeMillis() - start;
+
+        ArgumentCaptor<Entity> captor = ArgumentCaptor.forClass(Entity.class);
+        verify(response).entity(captor.capture());
+        byte[] content = ((ReadableBinaryEntity) captor.getValue()).getInputStream().readAllBytes();
+        List<ResponseMetadata> results = BatchMessageContentUtils.deserialize(content)
+                .stream()
+                .map(entry -> ResponseMetadata.deserialize(entry.metadata()))
+                .collect(Collectors.toList());
+        assertThat(results).extracting(ResponseMetadata::code).containsExactly(1, -1, 1, 1);
+        assertThat(results).extracting(ResponseMetadata::message).containsExactly("f0", "failed", "f2", "f3");
+        assertThat(elapsed).isLessThan(DISPATCH_MILLIS * ENTRY_COUNT);
+    }
+}
@@ -94,21 +94,13 @@ public class RegisteredGenericableRepository implements GenericableRepository {
         this.registryService = notNull(registryService, "The registry service cannot be null.");
         notNegative(pullPeriod, "The pullPeriod which used to update repository cannot less than zero.");
         this.environmentPrioritySequence = worker.environmentSequence();
-        ThreadPoolScheduler scheduler = ThreadPoolScheduler.custom()
-                .corePoolSize(1)
-                .isDaemonThread(true)
-                .threadPoolName("registry-genericable-repository")
-                .build();
+        ThreadPoolScheduler scheduler = ThreadPoolScheduler.timingWheel("registry-genericable-repository");
         scheduler.schedule(Task.builder()
                 .runnable(this::updateRegisteredGenericables)
                 .policy(ExecutePolicy.fixedDelay(pullPeriod * 1000))
                 .uncaughtExceptionHandler((thread, cause) -> this.fallbackForUpdateRegisteredRepository(cause))
                 .build(), INITIAL_DELAY * 1000);
-        ThreadPoolScheduler schedulerForDisabledGenericables = ThreadPoolScheduler.custom()
-                .corePoolSize(1)
-                .isDaemonThread(true)
-                .threadPoolName("disabled-genericables")
-                .build();
+        ThreadPoolScheduler schedulerForDisabledGenericables = ThreadPoolScheduler.timingWheel("disabled-genericables");
         schedulerForDisabledGenericables.schedule(Task.builder()
                 .runnable(this::updateDisabledGenericables)
                 .policy(ExecutePolicy.fixedDelay(DISABLED_GENERICABLE_INTERVAL * 1000))
@@ -85,6 +85,7 @@ import java.util.stream.Collectors;
  *     <li>超时：开启一个定时任务，周期性地检测本地缓存中的过期时间，达到过期时间时需要调用 {@link
  *     RegistryService#unsubscribeFitables 注册中心服务端的注销接口}，同时删除本地缓存。</li>
  * </ul>
+ * <p>本地缓存因推送或定时拉取而发生变化时，会通过 {@link FitableTargetsChangedObserver} 通知发生变化的服务实现，以便调用方增量更新其地址表。</p>
  * <p>注册中心监听器的本地服务缓存和工作模式的关系：</p>
  * <ul>
  *     <li>拉模式：定时获取地址的服务信息来源于本地缓存，更新本地缓存时，如果本地缓存没有指定的服务，则忽略。</li>
@@ -153,11 +154,7 @@ public class RegistryListener implements Registry {
                 pullPeriod);
         log.debug("The registry listener pull period is {} seconds.", pullPeriod);
 
-        ThreadPoolScheduler syncListenerScheduledExecutor = ThreadPoolScheduler.custom()
-                .corePoolSize(1)
-                .isDaemonThread(true)
-                .threadPoolName("registry-listener")
-                .build();
+        ThreadPoolScheduler syncListenerScheduledExecutor = ThreadPoolScheduler.timingWheel("registry-listener");
         if (this.listenerMode.isPullEnabled()) {
             syncListenerScheduledExecutor.schedule(Task.builder()
                     .runnable(this::syncListener)
@@ -481,17 +478,24 @@ public class RegistryListener implements Registry {
     }
 
     private void updateLocalCacheIfPresent(List<FitableAddressInstance> fitableInstances) {
-        fitableInstances.stream().filter(Objects::nonNull).forEach(this::updateLocalCacheIfPresent);
+        List<UniqueFitableId> changedFitableKeys = fitableInstances.stream()
+                .filter(Objects::nonNull)
+                .map(this::updateLocalCacheIfPresent)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        FitableTargetsChangedObserver.notify(this.container, changedFitableKeys);
     }
 
-    private void updateLocalCacheIfPresent(FitableAddressInstance fitableInstance) {
+    private Optional<UniqueFitableId> updateLocalCacheIfPresent(FitableAddressInstance fitableInstance) {
         FitableInfo fitable = fitableInstance.getFitable();
         if (fitable == null) {
-            return;
+            return Optional.empty();
         }
         UniqueFitableId fitableKey = this.getUniqueFitableId(fitable);
-        if (this.fitableInstancesCache.containsKey(fitableKey)) {
-            this.fitableInstancesCache.put(fitableKey, Optional.of(fitableInstance));
+        if (!this.fitableInstancesCache.containsKey(fitableKey)) {
+            return Optional.empty();
         }
+        this.fitableInstancesCache.put(fitableKey, Optional.of(fitableInstance));
+        return Optional.of(fitableKey);
     }
 }
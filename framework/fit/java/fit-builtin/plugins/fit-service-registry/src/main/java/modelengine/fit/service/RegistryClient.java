@@ -79,11 +79,7 @@ public class RegistryClient
                 "The registry sync period must be positive. [plugin.registry.sync.period={0}]",
                 registrySyncPeriod);
         log.debug("Config 'plugin.registry.sync.period' is {} seconds.", this.registrySyncPeriod);
-        this.registerFitablesExecutor = ThreadPoolScheduler.custom()
-                .corePoolSize(1)
-                .isDaemonThread(true)
-                .threadPoolName("registry-client")
-                .build();
+        this.registerFitablesExecutor = ThreadPoolScheduler.timingWheel("registry-client");
     }
 
     @Override
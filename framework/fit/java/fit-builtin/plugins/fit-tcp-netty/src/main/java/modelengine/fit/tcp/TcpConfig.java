@@ -0,0 +1,83 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp;
+
+/**
+ * 表示配置项 {@code 'plugin.tcp'} 下的配置。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public interface TcpConfig {
+    /**
+     * 获取服务端监听的端口。
+     * <p>当端口不大于 {@code 0} 时，不启动服务端。</p>
+     *
+     * @return 表示服务端监听的端口的 {@code int}。
+     */
+    int port();
+
+    /**
+     * 获取服务端注册到注册中心的端口。
+     * <p>如果没有配置，则与 {@link #port()} 相同。</p>
+     *
+     * @return 表示服务端注册到注册中心的端口的 {@code int}。
+     */
+    int toRegisterPort();
+
+    /**
+     * 获取服务端执行请求的线程池的核心线程数。
+     *
+     * @return 表示核心线程数的 {@code int}。
+     */
+    int coreThreadNum();
+
+    /**
+     * 获取服务端执行请求的线程池的最大线程数。
+     *
+     * @return 表示最大线程数的 {@code int}。
+     */
+    int maxThreadNum();
+
+    /**
+     * 获取服务端执行请求的线程池的等待队列大小。
+     *
+     * @return 表示等待队列大小的 {@code int}。
+     */
+    int queueCapacity();
+
+    /**
+     * 获取单个帧的最大字节数。
+     *
+     * @return 表示单个帧的最大字节数的 {@code int}。
+     */
+    int maxFrameSize();
+
+    /**
+     * 获取单个连接上同时进行的最大请求数量。
+     * <p>客户端达到该数量时，新的请求需要等待；服务端达到该数量时，暂停读取该连接，直到正在执行的请求数量降到一半以下。</p>
+     *
+     * @return 表示单个连接上同时进行的最大请求数量的 {@code int}。
+     */
+    int maxConcurrentStreams();
+
+    /**
+     * 获取心跳间隔。
+     * <p>单位为毫秒。连接在一个心跳间隔内没有写出数据时发送心跳，在三个心跳间隔内没有读到数据时被关闭。</p>
+     *
+     * @return 表示心跳间隔的 {@code long}。
+     */
+    long heartbeatInterval();
+
+    /**
+     * 获取客户端建立连接的超时时间。
+     * <p>单位为毫秒，必须为正数。</p>
+     *
+     * @return 表示客户端建立连接的超时时间的 {@code int}。
+     */
+    int connectTimeout();
+}
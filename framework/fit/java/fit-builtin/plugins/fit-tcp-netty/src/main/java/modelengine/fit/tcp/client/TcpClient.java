@@ -0,0 +1,276 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.client;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.timeout.IdleStateHandler;
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.tcp.TcpConfig;
+import modelengine.fit.tcp.codec.Frame;
+import modelengine.fit.tcp.codec.FrameDecoder;
+import modelengine.fit.tcp.codec.FrameEncoder;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.annotation.PreDestroy;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 Broker 提供基于 tcp 长连接多路复用调用的客户端。
+ * <p>到同一个服务端地址的所有请求共享一个长连接，请求之间通过流标识区分，不存在队头阻塞。连接断开后，下一次请求会重新建立
+ * 连接。</p>
+ * <p>到同一个地址的连接只会由一个请求建立，其余请求等待同一个建立连接的结果，建立连接的过程不会阻塞其他地址的请求。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component
+public class TcpClient implements Client {
+    private static final Logger log = Logger.get(TcpClient.class);
+    private static final String PROTOCOL = CommunicationProtocol.TCP.name().toLowerCase(Locale.ROOT);
+
+    private final BeanContainer container;
+    private final WorkerConfig workerConfig;
+    private final TcpConfig tcpConfig;
+    private final LazyLoader<EventLoopGroup> eventLoopGroup;
+    private final Map<String, CompletableFuture<TcpConnection>> connections = new ConcurrentHashMap<>();
+
+    /**
+     * 创建 tcp 客户端。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     * @param tcpConfig 表示 tcp 配置的 {@link TcpConfig}。
+     */
+    public TcpClient(BeanContainer container, WorkerConfig workerConfig, TcpConfig tcpConfig) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+        this.tcpConfig = notNull(tcpConfig, "The tcp config cannot be null.");
+        this.eventLoopGroup = new LazyLoader<>(() -> new MultiThreadIoEventLoopGroup(0,
+                new DefaultThreadFactory("tcp-client-group", true, (thread, exception) -> {
+                    log.error("Tcp client group occurs exception.", exception);
+                }),
+                NioIoHandler.newFactory()));
+    }
+
+    @Override
+    public Response requestResponse(@Nonnull Request request) {
+        if (isReactor(request)) {
+            throw new ClientException(StringUtils.format(
+                    "Reactive request is not supported over tcp. [genericableId={0}, fitableId={1}]",
+                    request.metadata().genericableId(),
+                    request.metadata().fitableId()));
+        }
+        RequestMetadata metadata = request.metadata();
+        TagLengthValues tagValues = metadata.tagValues();
+        TlvUtils.setWorkerId(tagValues, this.workerConfig.id());
+        TlvUtils.setWorkerInstanceId(tagValues, this.workerConfig.instanceId());
+        byte[] entity = this.getMessageSerializer(metadata.dataFormat())
+                .serializeRequest(request.dataTypes(), request.data());
+        long timeout = request.context().timeoutUnit().toMillis(request.context().timeout());
+        TcpConnection connection = this.getConnection(request.address().host(), request.address().port());
+        Frame frame = connection.exchange(metadata.serialize(), entity, timeout);
+        ResponseMetadata responseMetadata = ResponseMetadata.deserialize(frame.metadata());
+        if (responseMetadata.code() != ResponseMetadata.CODE_OK) {
+            return Response.create(responseMetadata, null);
+        }
+        Object data = this.getMessageSerializer(responseMetadata.dataFormat())
+                .deserializeResponse(request.returnType(), frame.entity());
+        return Response.create(responseMetadata, data);
+    }
+
+    @Override
+    public Set<String> getSupportedProtocols() {
+        return Collections.singleton(PROTOCOL);
+    }
+
+    /**
+     * 关闭所有连接，并释放客户端的线程资源。
+     */
+    @PreDestroy
+    public void close() {
+        this.connections.values().forEach(future -> future.thenAccept(TcpConnection::close));
+        this.connections.clear();
+        if (this.eventLoopGroup.isLoaded()) {
+            this.eventLoopGroup.get().shutdownGracefully();
+        }
+    }
+
+    /**
+     * 获取到指定地址的连接，当连接不存在或已断开时，建立新的连接。
+     *
+     * @param host 表示服务端主机的 {@link String}。
+     * @param port 表示服务端端口的 {@code int}。
+     * @return 表示到指定地址的连接的 {@link TcpConnection}。
+     * @throws ClientException 当建立连接失败时。
+     */
+    TcpConnection getConnection(String host, int port) {
+        String key = host + ':' + port;
+        while (true) {
+            CompletableFuture<TcpConnection> future = this.connections.get(key);
+            if (future == null) {
+                CompletableFuture<TcpConnection> created = new CompletableFuture<>();
+                future = this.connections.putIfAbsent(key, created);
+                if (future == null) {
+                    future = this.connectExclusively(key, host, port, created);
+                }
+            }
+            TcpConnection connection;
+            try {
+                connection = await(future, host, port);
+            } catch (ClientException e) {
+                this.connections.remove(key, future);
+                throw e;
+            }
+            if (connection.isActive()) {
+                return connection;
+            }
+            this.connections.remove(key, future);
+        }
+    }
+
+    private CompletableFuture<TcpConnection> connectExclusively(String key, String host, int port,
+            CompletableFuture<TcpConnection> result) {
+        try {
+            return this.connect(host, port, result);
+        } catch (RuntimeException e) {
+            this.connections.remove(key, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 建立到指定地址的新连接。
+     *
+     * @param host 表示服务端主机的 {@link String}。
+     * @param port 表示服务端端口的 {@code int}。
+     * @return 表示建立的连接的 {@link TcpConnection}。
+     * @throws ClientException 当建立连接失败时。
+     * @throws IllegalArgumentException 当配置的建立连接的超时时间不是正数时。
+     */
+    TcpConnection connect(String host, int port) {
+        return await(this.connect(host, port, new CompletableFuture<>()), host, port);
+    }
+
+    private CompletableFuture<TcpConnection> connect(String host, int port, CompletableFuture<TcpConnection> result) {
+        int connectTimeout = this.tcpConfig.connectTimeout();
+        greaterThan(connectTimeout,
+                0,
+                "The tcp connect timeout must be positive. [connectTimeout={0}]",
+                connectTimeout);
+        TcpConnection connection = new TcpConnection(this.tcpConfig.maxConcurrentStreams());
+        long heartbeatInterval = this.tcpConfig.heartbeatInterval();
+        int maxFrameSize = this.tcpConfig.maxFrameSize();
+        Bootstrap bootstrap = new Bootstrap().group(this.eventLoopGroup.get())
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline()
+                                .addLast(new IdleStateHandler(heartbeatInterval * 3,
+                                        heartbeatInterval,
+                                        0,
+                                        TimeUnit.MILLISECONDS))
+                                .addLast(new FrameDecoder(maxFrameSize))
+                                .addLast(new FrameEncoder(maxFrameSize))
+                                .addLast(connection.handler());
+                    }
+                });
+        bootstrap.connect(host, port).addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                log.debug("Tcp connection established. [host={}, port={}]", host, port);
+                result.complete(connection);
+            } else {
+                result.completeExceptionally(new ClientException(StringUtils.format(
+                        "Failed to connect tcp server. [host={0}, port={1}]",
+                        host,
+                        port), future.cause()));
+            }
+        });
+        return result;
+    }
+
+    private static TcpConnection await(CompletableFuture<TcpConnection> future, String host, int port) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException(StringUtils.format(
+                    "Interrupted while connecting tcp server. [host={0}, port={1}]",
+                    host,
+                    port), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ClientException) {
+                throw (ClientException) e.getCause();
+            }
+            throw new ClientException(StringUtils.format("Failed to connect tcp server. [host={0}, port={1}]",
+                    host,
+                    port), e.getCause());
+        }
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        return MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+    }
+
+    private static boolean isReactor(Request request) {
+        for (Type type : request.dataTypes()) {
+            if (isReactor(type)) {
+                return true;
+            }
+        }
+        return isReactor(request.returnType());
+    }
+
+    private static boolean isReactor(Type type) {
+        return type != null && Publisher.class.isAssignableFrom(TypeUtils.toClass(type));
+    }
+}
@@ -0,0 +1,226 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.client;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import modelengine.fit.tcp.codec.Frame;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示客户端到一个服务端的长连接。
+ * <p>同一个连接上可以同时进行多个请求，每个请求使用一个独立的流标识，响应根据流标识与请求关联，因此响应的顺序不需要与请求的顺序
+ * 一致。同时进行的请求数量受 {@code maxConcurrentStreams} 限制，超过限制的请求会在自身的超时时间内等待。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class TcpConnection {
+    private static final Logger log = Logger.get(TcpConnection.class);
+
+    private final Semaphore streams;
+    private final AtomicInteger streamIdGenerator = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<Frame>> pendingStreams = new ConcurrentHashMap<>();
+    private final Handler handler = new Handler();
+    private volatile Channel channel;
+
+    /**
+     * 使用单个连接上同时进行的最大请求数量初始化 {@link TcpConnection} 的新实例。
+     *
+     * @param maxConcurrentStreams 表示单个连接上同时进行的最大请求数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code maxConcurrentStreams} 不是正数时。
+     */
+    public TcpConnection(int maxConcurrentStreams) {
+        greaterThan(maxConcurrentStreams, 0, "The max concurrent streams must be positive.");
+        this.streams = new Semaphore(maxConcurrentStreams);
+    }
+
+    /**
+     * 获取处理当前连接上收到的帧的处理器。
+     * <p>该处理器需要添加到连接的管道的末尾。</p>
+     *
+     * @return 表示处理当前连接上收到的帧的处理器的 {@link ChannelHandler}。
+     */
+    public ChannelHandler handler() {
+        return this.handler;
+    }
+
+    /**
+     * 判断当前连接是否可用。
+     *
+     * @return 如果当前连接可用，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    public boolean isActive() {
+        Channel actual = this.channel;
+        return actual != null && actual.isActive();
+    }
+
+    /**
+     * 关闭当前连接。
+     * <p>所有未完成的请求都将以失败结束。</p>
+     */
+    public void close() {
+        Channel actual = this.channel;
+        if (actual != null) {
+            actual.close();
+        }
+    }
+
+    /**
+     * 在当前连接上发送一个请求，并等待其响应。
+     *
+     * @param metadata 表示序列化后的请求元数据的 {@code byte[]}。
+     * @param entity 表示序列化后的请求参数的 {@code byte[]}。
+     * @param timeout 表示等待响应的超时毫秒数的 {@code long}。
+     * @return 表示响应帧的 {@link Frame}。
+     * @throws ClientException 当连接不可用、请求发送失败、等待超时或等待被中断时。
+     */
+    public Frame exchange(byte[] metadata, byte[] entity, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            if (!this.streams.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new ClientException(StringUtils.format(
+                        "Timeout to wait for an idle stream. [remote={0}, timeout={1}ms]",
+                        this.remoteAddress(),
+                        timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Interrupted while waiting for an idle stream.", e);
+        }
+        int streamId = this.nextStreamId();
+        CompletableFuture<Frame> future = new CompletableFuture<>();
+        this.pendingStreams.put(streamId, future);
+        try {
+            Channel actual = this.channel;
+            if (actual == null || !actual.isActive()) {
+                throw new ClientException(StringUtils.format("The tcp connection is not active. [remote={0}]",
+                        this.remoteAddress()));
+            }
+            actual.writeAndFlush(Frame.request(streamId, metadata, entity)).addListener(written -> {
+                if (!written.isSuccess()) {
+                    future.completeExceptionally(written.cause());
+                }
+            });
+            return future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Interrupted while waiting for the tcp response.", e);
+        } catch (ExecutionException e) {
+            throw new ClientException(StringUtils.format("Failed to request over tcp. [remote={0}]",
+                    this.remoteAddress()), e.getCause());
+        } catch (TimeoutException e) {
+            throw new ClientException(StringUtils.format(
+                    "Timeout to wait for the tcp response. [remote={0}, streamId={1}, timeout={2}ms]",
+                    this.remoteAddress(),
+                    streamId,
+                    timeout), e);
+        } finally {
+            this.pendingStreams.remove(streamId);
+            this.streams.release();
+        }
+    }
+
+    private int nextStreamId() {
+        int streamId;
+        do {
+            streamId = this.streamIdGenerator.incrementAndGet() & Integer.MAX_VALUE;
+        } while (streamId == 0 || this.pendingStreams.containsKey(streamId));
+        return streamId;
+    }
+
+    private String remoteAddress() {
+        Channel actual = this.channel;
+        return actual == null ? null : String.valueOf(actual.remoteAddress());
+    }
+
+    private void failAll(Throwable cause) {
+        for (Integer streamId : this.pendingStreams.keySet()) {
+            CompletableFuture<Frame> future = this.pendingStreams.remove(streamId);
+            if (future != null) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+
+    private class Handler extends SimpleChannelInboundHandler<Frame> {
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            TcpConnection.this.channel = ctx.channel();
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Frame frame) {
+            switch (frame.type()) {
+                case RESPONSE:
+                    CompletableFuture<Frame> future = TcpConnection.this.pendingStreams.remove(frame.streamId());
+                    if (future == null) {
+                        log.debug("Discard tcp response without pending request. [streamId={}]", frame.streamId());
+                    } else {
+                        future.complete(frame);
+                    }
+                    break;
+                case PING:
+                    ctx.writeAndFlush(Frame.pong());
+                    break;
+                case PONG:
+                    break;
+                default:
+                    log.warn("Unexpected tcp frame received by client, close the connection. [frame={}]", frame);
+                    ctx.close();
+            }
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+            if (!(event instanceof IdleStateEvent)) {
+                super.userEventTriggered(ctx, event);
+                return;
+            }
+            IdleState state = ((IdleStateEvent) event).state();
+            if (state == IdleState.WRITER_IDLE) {
+                ctx.writeAndFlush(Frame.ping());
+            } else if (state == IdleState.READER_IDLE) {
+                log.info("Tcp connection has no heartbeat, close it. [remote={}]", ctx.channel().remoteAddress());
+                ctx.close();
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            TcpConnection.this.failAll(new ClientException(StringUtils.format("The tcp connection is closed. "
+                    + "[remote={0}]", ctx.channel().remoteAddress())));
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.warn("Tcp connection occurs exception, close it. [remote={}, cause={}]",
+                    ctx.channel().remoteAddress(),
+                    cause.getMessage());
+            log.debug("Tcp connection exception details.", cause);
+            ctx.close();
+        }
+    }
+}
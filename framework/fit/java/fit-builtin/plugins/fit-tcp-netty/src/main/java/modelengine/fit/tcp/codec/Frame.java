@@ -0,0 +1,189 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.codec;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示 tcp 传输协议中的一个帧。
+ * <p>帧在网络上的格式为：</p>
+ * <pre>
+ * +----------+---------+------+-----------+-----------------+----------+--------+
+ * | length   | version | type | stream id | metadata length | metadata | entity |
+ * | 4 bytes  | 1 byte  | 1    | 4 bytes   | 4 bytes         | N bytes  | rest   |
+ * +----------+---------+------+-----------+-----------------+----------+--------+
+ * </pre>
+ * <p>其中 {@code length} 不包含自身的 4 个字节。请求帧的元数据为
+ * {@link modelengine.fitframework.serialization.RequestMetadata} 的序列化结果，响应帧的元数据为
+ * {@link modelengine.fitframework.serialization.ResponseMetadata} 的序列化结果，数据为使用元数据中指定的序列化方式序列化后的
+ * 请求参数或返回值。心跳帧没有元数据和数据。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class Frame {
+    /** 表示当前帧格式的版本号。 */
+    public static final byte VERSION = 1;
+
+    /** 表示帧头的长度，包含版本号、类型、流标识和元数据长度。 */
+    static final int HEADER_LENGTH = 1 + 1 + 4 + 4;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Type type;
+    private final int streamId;
+    private final byte[] metadata;
+    private final byte[] entity;
+
+    private Frame(Type type, int streamId, byte[] metadata, byte[] entity) {
+        this.type = notNull(type, "The frame type cannot be null.");
+        this.streamId = streamId;
+        this.metadata = metadata == null ? EMPTY : metadata;
+        this.entity = entity == null ? EMPTY : entity;
+    }
+
+    /**
+     * 创建一个请求帧。
+     *
+     * @param streamId 表示流标识的 {@code int}。
+     * @param metadata 表示序列化后的请求元数据的 {@code byte[]}。
+     * @param entity 表示序列化后的请求参数的 {@code byte[]}。
+     * @return 表示请求帧的 {@link Frame}。
+     */
+    public static Frame request(int streamId, byte[] metadata, byte[] entity) {
+        return new Frame(Type.REQUEST, streamId, metadata, entity);
+    }
+
+    /**
+     * 创建一个响应帧。
+     *
+     * @param streamId 表示对应请求的流标识的 {@code int}。
+     * @param metadata 表示序列化后的响应元数据的 {@code byte[]}。
+     * @param entity 表示序列化后的返回值的 {@code byte[]}。
+     * @return 表示响应帧的 {@link Frame}。
+     */
+    public static Frame response(int streamId, byte[] metadata, byte[] entity) {
+        return new Frame(Type.RESPONSE, streamId, metadata, entity);
+    }
+
+    /**
+     * 创建一个心跳请求帧。
+     *
+     * @return 表示心跳请求帧的 {@link Frame}。
+     */
+    public static Frame ping() {
+        return new Frame(Type.PING, 0, null, null);
+    }
+
+    /**
+     * 创建一个心跳响应帧。
+     *
+     * @return 表示心跳响应帧的 {@link Frame}。
+     */
+    public static Frame pong() {
+        return new Frame(Type.PONG, 0, null, null);
+    }
+
+    static Frame create(Type type, int streamId, byte[] metadata, byte[] entity) {
+        return new Frame(type, streamId, metadata, entity);
+    }
+
+    /**
+     * 获取帧的类型。
+     *
+     * @return 表示帧的类型的 {@link Type}。
+     */
+    public Type type() {
+        return this.type;
+    }
+
+    /**
+     * 获取帧所属的流标识。
+     *
+     * @return 表示流标识的 {@code int}。
+     */
+    public int streamId() {
+        return this.streamId;
+    }
+
+    /**
+     * 获取序列化后的元数据。
+     *
+     * @return 表示序列化后的元数据的 {@code byte[]}。
+     */
+    public byte[] metadata() {
+        return this.metadata;
+    }
+
+    /**
+     * 获取序列化后的数据。
+     *
+     * @return 表示序列化后的数据的 {@code byte[]}。
+     */
+    public byte[] entity() {
+        return this.entity;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format("/{\"type\": {0}, \"streamId\": {1}, \"metadata\": {2}, \"entity\": {3}/}",
+                this.type,
+                this.streamId,
+                this.metadata.length,
+                this.entity.length);
+    }
+
+    /**
+     * 表示帧的类型。
+     */
+    public enum Type {
+        /** 表示请求帧。 */
+        REQUEST((byte) 1),
+
+        /** 表示响应帧。 */
+        RESPONSE((byte) 2),
+
+        /** 表示心跳请求帧。 */
+        PING((byte) 3),
+
+        /** 表示心跳响应帧。 */
+        PONG((byte) 4);
+
+        private final byte code;
+
+        Type(byte code) {
+            this.code = code;
+        }
+
+        /**
+         * 获取帧类型的编码。
+         *
+         * @return 表示帧类型编码的 {@code byte}。
+         */
+        public byte code() {
+            return this.code;
+        }
+
+        /**
+         * 将编码转换为对应的帧类型。
+         *
+         * @param code 表示帧类型编码的 {@code byte}。
+         * @return 表示帧类型的 {@link Type}。
+         * @throws IllegalArgumentException 当编码不存在对应的帧类型时。
+         */
+        public static Type from(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException(StringUtils.format("Unknown frame type. [code={0}]", code));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示将长度前缀的二进制帧解码为 {@link Frame} 的解码器。
+ * <p>每个连接需要使用独立的解码器实例。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class FrameDecoder extends LengthFieldBasedFrameDecoder {
+    /**
+     * 使用单个帧的最大字节数初始化 {@link FrameDecoder} 的新实例。
+     *
+     * @param maxFrameSize 表示单个帧的最大字节数的 {@code int}。
+     */
+    public FrameDecoder(int maxFrameSize) {
+        super(maxFrameSize + 4, 0, 4, 0, 4);
+    }
+
+    @Override
+    protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+        ByteBuf buf = (ByteBuf) super.decode(ctx, in);
+        if (buf == null) {
+            return null;
+        }
+        try {
+            if (buf.readableBytes() < Frame.HEADER_LENGTH) {
+                throw new CorruptedFrameException(StringUtils.format("Frame is too short. [length={0}]",
+                        buf.readableBytes()));
+            }
+            byte version = buf.readByte();
+            if (version != Frame.VERSION) {
+                throw new CorruptedFrameException(StringUtils.format("Unsupported frame version. [version={0}]",
+                        version));
+            }
+            Frame.Type type = Frame.Type.from(buf.readByte());
+            int streamId = buf.readInt();
+            int metadataLength = buf.readInt();
+            if (metadataLength < 0 || metadataLength > buf.readableBytes()) {
+                throw new CorruptedFrameException(StringUtils.format(
+                        "Illegal frame metadata length. [metadataLength={0}, readable={1}]",
+                        metadataLength,
+                        buf.readableBytes()));
+            }
+            byte[] metadata = new byte[metadataLength];
+            buf.readBytes(metadata);
+            byte[] entity = new byte[buf.readableBytes()];
+            buf.readBytes(entity);
+            return Frame.create(type, streamId, metadata, entity);
+        } catch (IllegalArgumentException e) {
+            throw new CorruptedFrameException(e.getMessage(), e);
+        } finally {
+            buf.release();
+        }
+    }
+}
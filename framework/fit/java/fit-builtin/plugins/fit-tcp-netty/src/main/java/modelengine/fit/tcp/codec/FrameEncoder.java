@@ -0,0 +1,53 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.EncoderException;
+import io.netty.handler.codec.MessageToByteEncoder;
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示将 {@link Frame} 编码为长度前缀的二进制帧的编码器。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@ChannelHandler.Sharable
+public class FrameEncoder extends MessageToByteEncoder<Frame> {
+    private final int maxFrameSize;
+
+    /**
+     * 使用单个帧的最大字节数初始化 {@link FrameEncoder} 的新实例。
+     *
+     * @param maxFrameSize 表示单个帧的最大字节数的 {@code int}。
+     */
+    public FrameEncoder(int maxFrameSize) {
+        super(Frame.class);
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Frame frame, ByteBuf out) {
+        int length = Frame.HEADER_LENGTH + frame.metadata().length + frame.entity().length;
+        if (length > this.maxFrameSize) {
+            throw new EncoderException(StringUtils.format("Frame is too large. [length={0}, maxFrameSize={1}]",
+                    length,
+                    this.maxFrameSize));
+        }
+        out.ensureWritable(4 + length);
+        out.writeInt(length);
+        out.writeByte(Frame.VERSION);
+        out.writeByte(frame.type().code());
+        out.writeInt(frame.streamId());
+        out.writeInt(frame.metadata().length);
+        out.writeBytes(frame.metadata());
+        out.writeBytes(frame.entity());
+    }
+}
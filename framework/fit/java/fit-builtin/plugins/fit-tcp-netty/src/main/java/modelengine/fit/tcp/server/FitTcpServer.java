@@ -0,0 +1,193 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.server;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.timeout.IdleStateHandler;
+import modelengine.fit.server.FitServer;
+import modelengine.fit.server.StartServerException;
+import modelengine.fit.tcp.TcpConfig;
+import modelengine.fit.tcp.codec.FrameDecoder;
+import modelengine.fit.tcp.codec.FrameEncoder;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.runtime.FitRuntime;
+import modelengine.fitframework.runtime.FitRuntimeStartedObserver;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tcp 服务器。
+ * <p>服务端监听配置的端口，接收客户端的长连接，并在每个连接上并发处理多个请求。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component(name = "tcp")
+public class FitTcpServer implements FitServer, FitRuntimeStartedObserver {
+    private static final Logger log = Logger.get(FitTcpServer.class);
+    private static final String PROTOCOL = CommunicationProtocol.TCP.name().toLowerCase(Locale.ROOT);
+
+    private final TcpRequestProcessor processor;
+    private final TcpConfig tcpConfig;
+    private final Object lock = new Object();
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ThreadPoolExecutor executor;
+    private Channel serverChannel;
+
+    /**
+     * 创建 FIT 的 Tcp 服务器对象。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param dispatcher 表示请求分发器的 {@link Dispatcher}。
+     * @param repository 表示本地泛服务仓库的 {@link LocalGenericableRepository}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     * @param tcpConfig 表示 tcp 配置的 {@link TcpConfig}。
+     */
+    public FitTcpServer(BeanContainer container, Dispatcher dispatcher, LocalGenericableRepository repository,
+            WorkerConfig workerConfig, TcpConfig tcpConfig) {
+        this.processor = new TcpRequestProcessor(container, dispatcher, repository, workerConfig);
+        this.tcpConfig = notNull(tcpConfig, "The tcp config cannot be null.");
+        log.debug("Config 'plugin.tcp.port' is {}.", tcpConfig.port());
+    }
+
+    @Override
+    public void onRuntimeStarted(FitRuntime runtime) {
+        this.start();
+    }
+
+    @Override
+    public void start() throws StartServerException {
+        if (this.tcpConfig.port() <= 0) {
+            log.info("Tcp server is disabled. [port={}]", this.tcpConfig.port());
+            return;
+        }
+        synchronized (this.lock) {
+            if (this.serverChannel != null) {
+                return;
+            }
+            this.bossGroup = new MultiThreadIoEventLoopGroup(1, new DefaultThreadFactory("tcp-boss-group", false,
+                    (thread, exception) -> log.error("Tcp boss group occurs exception.", exception)),
+                    NioIoHandler.newFactory());
+            this.workerGroup = new MultiThreadIoEventLoopGroup(0, new DefaultThreadFactory("tcp-worker-group", true,
+                    (thread, exception) -> log.error("Tcp worker group occurs exception.", exception)),
+                    NioIoHandler.newFactory());
+            this.executor = ThreadPoolExecutor.custom()
+                    .threadPoolName("fit-tcp-server")
+                    .corePoolSize(this.tcpConfig.coreThreadNum())
+                    .maximumPoolSize(this.tcpConfig.maxThreadNum())
+                    .keepAliveTime(60, TimeUnit.SECONDS)
+                    .workQueueCapacity(this.tcpConfig.queueCapacity())
+                    .isDaemonThread(true)
+                    .build();
+            ServerBootstrap bootstrap = new ServerBootstrap().group(this.bossGroup, this.workerGroup)
+                    .channel(NioServerSocketChannel.class)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childOption(ChannelOption.SO_KEEPALIVE, true)
+                    .childHandler(new Initializer(this.processor, this.executor, this.tcpConfig));
+            try {
+                this.serverChannel = bootstrap.bind(this.tcpConfig.port()).sync().channel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.release();
+                throw new StartServerException("Tcp server is interrupted.", e);
+            } catch (RuntimeException e) {
+                this.release();
+                throw new StartServerException("Failed to start tcp server.", e);
+            }
+            log.info("Start tcp server successfully. [port={}]", this.tcpConfig.port());
+        }
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this.lock) {
+            if (this.serverChannel == null) {
+                return;
+            }
+            this.serverChannel.close().syncUninterruptibly();
+            this.serverChannel = null;
+            this.release();
+            log.info("Terminate tcp server successfully.");
+        }
+    }
+
+    private void release() {
+        this.workerGroup.shutdownGracefully();
+        this.bossGroup.shutdownGracefully();
+        try {
+            this.executor.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public List<Endpoint> endpoints() {
+        if (this.tcpConfig.port() <= 0) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(Endpoint.custom()
+                .protocol(PROTOCOL, CommunicationProtocol.TCP.code())
+                .port(this.tcpConfig.toRegisterPort())
+                .build());
+    }
+
+    /**
+     * 表示为每个新连接初始化管道的初始化器。
+     */
+    static class Initializer extends ChannelInitializer<SocketChannel> {
+        private final TcpRequestProcessor processor;
+        private final ThreadPoolExecutor executor;
+        private final TcpConfig tcpConfig;
+        private final FrameEncoder encoder;
+
+        Initializer(TcpRequestProcessor processor, ThreadPoolExecutor executor, TcpConfig tcpConfig) {
+            this.processor = processor;
+            this.executor = executor;
+            this.tcpConfig = tcpConfig;
+            this.encoder = new FrameEncoder(tcpConfig.maxFrameSize());
+        }
+
+        @Override
+        protected void initChannel(SocketChannel channel) {
+            channel.pipeline()
+                    .addLast(new IdleStateHandler(this.tcpConfig.heartbeatInterval() * 3,
+                            0,
+                            0,
+                            TimeUnit.MILLISECONDS))
+                    .addLast(new FrameDecoder(this.tcpConfig.maxFrameSize()))
+                    .addLast(this.encoder)
+                    .addLast(new TcpServerHandler(this.processor,
+                            this.executor,
+                            this.tcpConfig.maxConcurrentStreams()));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.server;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.tcp.codec.Frame;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.stream.Stream;
+
+/**
+ * 表示将 tcp 请求帧分发到本地服务实现，并生成响应帧的处理器。
+ * <p>处理过程中的任何异常都会被转换为失败的响应帧，不会影响同一连接上的其他请求。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class TcpRequestProcessor {
+    private static final Logger log = Logger.get(TcpRequestProcessor.class);
+
+    private final BeanContainer container;
+    private final Dispatcher dispatcher;
+    private final LocalGenericableRepository repository;
+    private final WorkerConfig workerConfig;
+
+    /**
+     * 创建 tcp 请求帧的处理器。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param dispatcher 表示请求分发器的 {@link Dispatcher}。
+     * @param repository 表示本地泛服务仓库的 {@link LocalGenericableRepository}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     */
+    public TcpRequestProcessor(BeanContainer container, Dispatcher dispatcher, LocalGenericableRepository repository,
+            WorkerConfig workerConfig) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.dispatcher = notNull(dispatcher, "The dispatcher cannot be null.");
+        this.repository = notNull(repository, "The local genericable repository cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+    }
+
+    /**
+     * 处理一个请求帧。
+     *
+     * @param request 表示请求帧的 {@link Frame}。
+     * @return 表示响应帧的 {@link Frame}。
+     */
+    public Frame process(Frame request) {
+        RequestMetadata metadata = null;
+        try {
+            metadata = RequestMetadata.deserialize(request.metadata());
+            Object[] data = this.getRequestData(request.entity(), metadata);
+            Response result = this.dispatcher.dispatch(metadata, data);
+            byte[] entity = null;
+            if (result.metadata().code() == ResponseMetadata.CODE_OK) {
+                entity = this.getMessageSerializer(metadata.dataFormat()).serializeResponse(result.type(),
+                        result.data());
+            }
+            return Frame.response(request.streamId(), result.metadata().serialize(), entity);
+        } catch (RuntimeException e) {
+            log.error("Failed to handle tcp request. [streamId={}, genericableId={}, fitableId={}, cause={}]",
+                    request.streamId(),
+                    metadata == null ? null : metadata.genericableId(),
+                    metadata == null ? null : metadata.fitableId(),
+                    e.getMessage(),
+                    e);
+            return this.fail(request, metadata, e);
+        }
+    }
+
+    /**
+     * 生成一个失败的响应帧。
+     *
+     * @param request 表示请求帧的 {@link Frame}。
+     * @param cause 表示失败原因的 {@link Throwable}。
+     * @return 表示失败的响应帧的 {@link Frame}。
+     */
+    public Frame fail(Frame request, Throwable cause) {
+        RequestMetadata metadata;
+        try {
+            metadata = RequestMetadata.deserialize(request.metadata());
+        } catch (RuntimeException e) {
+            metadata = null;
+        }
+        return this.fail(request, metadata, cause);
+    }
+
+    private Frame fail(Frame request, RequestMetadata metadata, Throwable cause) {
+        TagLengthValues tagValues = TagLengthValues.create();
+        TlvUtils.setWorkerId(tagValues, this.workerConfig.id());
+        TlvUtils.setWorkerInstanceId(tagValues, this.workerConfig.instanceId());
+        ResponseMetadata responseMetadata = ResponseMetadata.custom()
+                .dataFormat(metadata == null ? SerializationFormat.UNKNOWN.code() : metadata.dataFormat())
+                .code(-1)
+                .message(StringUtils.blankIf(cause.getMessage(), cause.getClass().getName()))
+                .tagValues(tagValues)
+                .build();
+        return Frame.response(request.streamId(), responseMetadata.serialize(), null);
+    }
+
+    private Object[] getRequestData(byte[] dataBytes, RequestMetadata metadata) {
+        Genericable genericable = this.repository.get(metadata.genericableId(),
+                        metadata.genericableVersion().toString())
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "No genericable. [genericableId={0}, genericableVersion={1}]",
+                        metadata.genericableId(),
+                        metadata.genericableVersion().toString())));
+        Method method = genericable.method().method();
+        notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
+        Type[] argumentTypes =
+                Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+        return this.getMessageSerializer(metadata.dataFormat()).deserializeRequest(argumentTypes, dataBytes);
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        return MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+    }
+}
@@ -0,0 +1,127 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.server;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import modelengine.fit.tcp.codec.Frame;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 表示服务端处理单个 tcp 连接上的帧的处理器。
+ * <p>请求帧在线程池中执行，执行完成后立即写回响应，因此同一连接上的请求互不阻塞。当连接上正在执行的请求数量达到上限时，
+ * 暂停读取该连接，直到正在执行的请求数量降到上限的一半以下，以此向客户端施加背压。</p>
+ * <p>响应写出失败时（例如响应超过帧大小上限），改为向客户端回复对应请求的错误响应；如果错误响应也无法写出，则关闭连接，
+ * 避免客户端一直等待到超时。</p>
+ * <p>每个连接需要使用独立的处理器实例。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class TcpServerHandler extends SimpleChannelInboundHandler<Frame> {
+    private static final Logger log = Logger.get(TcpServerHandler.class);
+
+    private final TcpRequestProcessor processor;
+    private final ThreadPoolExecutor executor;
+    private final int maxConcurrentStreams;
+
+    /** 表示正在执行的请求数量，只在连接所属的事件循环中访问。 */
+    private int inFlight;
+
+    /**
+     * 创建服务端处理单个 tcp 连接上的帧的处理器。
+     *
+     * @param processor 表示请求帧的处理器的 {@link TcpRequestProcessor}。
+     * @param executor 表示执行请求的线程池的 {@link ThreadPoolExecutor}。
+     * @param maxConcurrentStreams 表示单个连接上同时执行的最大请求数量的 {@code int}。
+     */
+    public TcpServerHandler(TcpRequestProcessor processor, ThreadPoolExecutor executor, int maxConcurrentStreams) {
+        this.processor = notNull(processor, "The request processor cannot be null.");
+        this.executor = notNull(executor, "The executor cannot be null.");
+        this.maxConcurrentStreams =
+                greaterThan(maxConcurrentStreams, 0, "The max concurrent streams must be positive.");
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Frame frame) {
+        switch (frame.type()) {
+            case REQUEST:
+                this.handleRequest(ctx, frame);
+                break;
+            case PING:
+                ctx.writeAndFlush(Frame.pong());
+                break;
+            case PONG:
+                break;
+            default:
+                log.warn("Unexpected tcp frame received by server, close the connection. [frame={}]", frame);
+                ctx.close();
+        }
+    }
+
+    private void handleRequest(ChannelHandlerContext ctx, Frame frame) {
+        this.inFlight++;
+        if (this.inFlight >= this.maxConcurrentStreams) {
+            ctx.channel().config().setAutoRead(false);
+        }
+        try {
+            this.executor.execute(Task.builder().runnable(() -> {
+                Frame response = this.processor.process(frame);
+                ctx.executor().execute(() -> this.complete(ctx, frame, response));
+            }).buildDisposable());
+        } catch (RejectedExecutionException e) {
+            log.warn("Tcp request is rejected. [streamId={}, inFlight={}]", frame.streamId(), this.inFlight);
+            this.complete(ctx, frame, this.processor.fail(frame, e));
+        }
+    }
+
+    private void complete(ChannelHandlerContext ctx, Frame request, Frame response) {
+        this.inFlight--;
+        ctx.writeAndFlush(response).addListener(future -> {
+            if (future.isSuccess()) {
+                return;
+            }
+            log.warn("Failed to write tcp response, reply an error instead. [streamId={}, cause={}]",
+                    request.streamId(),
+                    future.cause().getMessage());
+            ctx.writeAndFlush(this.processor.fail(request, future.cause()))
+                    .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        });
+        if (!ctx.channel().config().isAutoRead() && this.inFlight <= this.maxConcurrentStreams / 2) {
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+        if (event instanceof IdleStateEvent && ((IdleStateEvent) event).state() == IdleState.READER_IDLE) {
+            log.info("Tcp connection has no heartbeat, close it. [remote={}]", ctx.channel().remoteAddress());
+            ctx.close();
+            return;
+        }
+        super.userEventTriggered(ctx, event);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("Tcp connection occurs exception, close it. [remote={}, cause={}]",
+                ctx.channel().remoteAddress(),
+                cause.getMessage());
+        log.debug("Tcp connection exception details.", cause);
+        ctx.close();
+    }
+}
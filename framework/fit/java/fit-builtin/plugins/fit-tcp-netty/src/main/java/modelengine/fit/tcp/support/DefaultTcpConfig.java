@@ -0,0 +1,199 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.support;
+
+import modelengine.fit.tcp.TcpConfig;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * 表示 {@link TcpConfig} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@Component
+@AcceptConfigValues("plugin.tcp")
+public class DefaultTcpConfig implements TcpConfig {
+    private static final int DEFAULT_CORE_THREAD_NUM = 10;
+    private static final int DEFAULT_MAX_THREAD_NUM = 100;
+    private static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+    private static final int DEFAULT_MAX_CONCURRENT_STREAMS = 1024;
+    private static final long DEFAULT_HEARTBEAT_INTERVAL = 10_000L;
+    private static final int DEFAULT_CONNECT_TIMEOUT = 3_000;
+
+    /**
+     * 配置项：{@code 'port'}。
+     */
+    private int port;
+
+    /**
+     * 配置项：{@code 'to-register-port'}。
+     */
+    private Integer toRegisterPort;
+
+    /**
+     * 配置项：{@code 'core-thread-num'}。
+     */
+    private int coreThreadNum;
+
+    /**
+     * 配置项：{@code 'max-thread-num'}。
+     */
+    private int maxThreadNum;
+
+    /**
+     * 配置项：{@code 'queue-capacity'}。
+     */
+    private int queueCapacity;
+
+    /**
+     * 配置项：{@code 'max-frame-size'}。
+     */
+    private int maxFrameSize;
+
+    /**
+     * 配置项：{@code 'max-concurrent-streams'}。
+     */
+    private int maxConcurrentStreams;
+
+    /**
+     * 配置项：{@code 'heartbeat-interval'}。
+     */
+    private long heartbeatInterval;
+
+    /**
+     * 配置项：{@code 'connect-timeout'}。
+     */
+    private int connectTimeout;
+
+    /**
+     * 设置服务端监听的端口。
+     *
+     * @param port 表示服务端监听的端口的 {@code int}。
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * 设置服务端注册到注册中心的端口。
+     *
+     * @param toRegisterPort 表示服务端注册到注册中心的端口的 {@link Integer}。
+     */
+    public void setToRegisterPort(Integer toRegisterPort) {
+        this.toRegisterPort = toRegisterPort;
+    }
+
+    /**
+     * 设置核心线程数。
+     *
+     * @param coreThreadNum 表示核心线程数的 {@code int}。
+     */
+    public void setCoreThreadNum(int coreThreadNum) {
+        this.coreThreadNum = coreThreadNum;
+    }
+
+    /**
+     * 设置最大线程数。
+     *
+     * @param maxThreadNum 表示最大线程数的 {@code int}。
+     */
+    public void setMaxThreadNum(int maxThreadNum) {
+        this.maxThreadNum = maxThreadNum;
+    }
+
+    /**
+     * 设置等待队列大小。
+     *
+     * @param queueCapacity 表示等待队列大小的 {@code int}。
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 设置单个帧的最大字节数。
+     *
+     * @param maxFrameSize 表示单个帧的最大字节数的 {@code int}。
+     */
+    public void setMaxFrameSize(int maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * 设置单个连接上同时进行的最大请求数量。
+     *
+     * @param maxConcurrentStreams 表示单个连接上同时进行的最大请求数量的 {@code int}。
+     */
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    /**
+     * 设置心跳间隔。
+     *
+     * @param heartbeatInterval 表示心跳间隔毫秒数的 {@code long}。
+     */
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * 设置客户端建立连接的超时时间。
+     *
+     * @param connectTimeout 表示客户端建立连接的超时毫秒数的 {@code int}。
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    @Override
+    public int port() {
+        return this.port;
+    }
+
+    @Override
+    public int toRegisterPort() {
+        return this.toRegisterPort != null && this.toRegisterPort > 0 ? this.toRegisterPort : this.port;
+    }
+
+    @Override
+    public int coreThreadNum() {
+        return this.coreThreadNum > 0 ? this.coreThreadNum : DEFAULT_CORE_THREAD_NUM;
+    }
+
+    @Override
+    public int maxThreadNum() {
+        return Math.max(this.maxThreadNum > 0 ? this.maxThreadNum : DEFAULT_MAX_THREAD_NUM, this.coreThreadNum());
+    }
+
+    @Override
+    public int queueCapacity() {
+        return Math.max(this.queueCapacity, 0);
+    }
+
+    @Override
+    public int maxFrameSize() {
+        return this.maxFrameSize > 0 ? this.maxFrameSize : DEFAULT_MAX_FRAME_SIZE;
+    }
+
+    @Override
+    public int maxConcurrentStreams() {
+        return this.maxConcurrentStreams > 0 ? this.maxConcurrentStreams : DEFAULT_MAX_CONCURRENT_STREAMS;
+    }
+
+    @Override
+    public long heartbeatInterval() {
+        return this.heartbeatInterval > 0 ? this.heartbeatInterval : DEFAULT_HEARTBEAT_INTERVAL;
+    }
+
+    @Override
+    public int connectTimeout() {
+        return this.connectTimeout > 0 ? this.connectTimeout : DEFAULT_CONNECT_TIMEOUT;
+    }
+}
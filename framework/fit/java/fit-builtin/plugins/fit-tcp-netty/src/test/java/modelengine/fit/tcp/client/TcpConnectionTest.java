@@ -0,0 +1,208 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import modelengine.fit.tcp.codec.Frame;
+import modelengine.fit.tcp.codec.FrameDecoder;
+import modelengine.fit.tcp.TcpConfig;
+import modelengine.fit.tcp.codec.FrameEncoder;
+import modelengine.fit.tcp.support.DefaultTcpConfig;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.ioc.BeanContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link TcpConnection} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 TcpConnection")
+public class TcpConnectionTest {
+    private final AtomicInteger accepted = new AtomicInteger();
+
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private TcpClient client;
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        this.serverGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+        this.serverChannel = new ServerBootstrap().group(this.serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        TcpConnectionTest.this.accepted.incrementAndGet();
+                        channel.pipeline()
+                                .addLast(new FrameDecoder(1024))
+                                .addLast(new FrameEncoder(1024))
+                                .addLast(new DelayedEchoHandler());
+                    }
+                })
+                .bind("127.0.0.1", 0)
+                .sync()
+                .channel();
+        DefaultTcpConfig config = new DefaultTcpConfig();
+        config.setMaxFrameSize(1024);
+        this.client = new TcpClient(mock(BeanContainer.class), mock(WorkerConfig.class), config);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.client.close();
+        this.serverChannel.close().syncUninterruptibly();
+        this.serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    @DisplayName("同一连接上的并发请求按照流标识获得各自的响应，且慢请求不阻塞快请求")
+    void shouldMultiplexConcurrentRequestsOnOneConnection() throws Exception {
+        TcpConnection connection = this.client.connect("127.0.0.1", this.port());
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        long start = System.nanoTime();
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                String payload = (i % 2 == 0 ? "slow-" : "fast-") + i;
+                results.add(callers.submit(() -> new String(connection.exchange(null,
+                        payload.getBytes(StandardCharsets.UTF_8),
+                        5000).entity(), StandardCharsets.UTF_8)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo((i % 2 == 0 ? "slow-" : "fast-") + i);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(16 * 200);
+        assertThat(connection.isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("当响应超时时，抛出 ClientException")
+    void shouldThrowWhenResponseTimeout() {
+        TcpConnection connection = this.client.connect("127.0.0.1", this.port());
+        assertThatThrownBy(() -> connection.exchange(null, "never".getBytes(StandardCharsets.UTF_8), 100))
+                .isInstanceOf(ClientException.class);
+        assertThat(connection.isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("当连接关闭时，未完成的请求立即失败")
+    void shouldFailPendingRequestsWhenConnectionClosed() {
+        TcpConnection connection = this.client.connect("127.0.0.1", this.port());
+        this.serverGroup.schedule(connection::close, 100, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> connection.exchange(null, "never".getBytes(StandardCharsets.UTF_8), 5000))
+                .isInstanceOf(ClientException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+    }
+
+    @Test
+    @DisplayName("并发获取同一地址的连接时，只建立一个连接")
+    void shouldEstablishOneConnectionWhenConnectedConcurrently() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TcpConnection>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(callers.submit(() -> this.client.getConnection("127.0.0.1", this.port())));
+            }
+            TcpConnection first = results.get(0).get();
+            for (Future<TcpConnection> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(this.accepted.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("当连接断开后，重新建立连接")
+    void shouldReconnectWhenConnectionClosed() {
+        TcpConnection first = this.client.getConnection("127.0.0.1", this.port());
+        first.close();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (first.isActive() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        TcpConnection second = this.client.getConnection("127.0.0.1", this.port());
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("当建立连接的超时时间不是正数时，抛出 IllegalArgumentException")
+    void shouldThrowWhenConnectTimeoutIsNotPositive() {
+        TcpConfig config = mock(TcpConfig.class);
+        when(config.maxConcurrentStreams()).thenReturn(16);
+        when(config.maxFrameSize()).thenReturn(1024);
+        when(config.connectTimeout()).thenReturn(0);
+        TcpClient zeroTimeoutClient = new TcpClient(mock(BeanContainer.class), mock(WorkerConfig.class), config);
+        try {
+            assertThatThrownBy(() -> zeroTimeoutClient.getConnection("127.0.0.1", this.port())).isInstanceOf(
+                    IllegalArgumentException.class);
+            assertThatThrownBy(() -> zeroTimeoutClient.getConnection("127.0.0.1", this.port())).isInstanceOf(
+                    IllegalArgumentException.class);
+        } finally {
+            zeroTimeoutClient.close();
+        }
+    }
+
+    private int port() {
+        return ((InetSocketAddress) this.serverChannel.localAddress()).getPort();
+    }
+
+    /**
+     * 表示将请求原样返回的服务端处理器，其中慢请求延迟返回，"never" 请求不返回。
+     */
+    private static class DelayedEchoHandler extends SimpleChannelInboundHandler<Frame> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Frame frame) {
+            if (frame.type() != Frame.Type.REQUEST) {
+                return;
+            }
+            String payload = new String(frame.entity(), StandardCharsets.UTF_8);
+            if (payload.equals("never")) {
+                return;
+            }
+            Frame response = Frame.response(frame.streamId(), null, frame.entity());
+            long delay = payload.startsWith("slow-") ? 200 : 0;
+            ctx.executor().schedule(() -> ctx.writeAndFlush(response), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.EncoderException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 表示 {@link FrameEncoder} 和 {@link FrameDecoder} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 tcp 帧的编解码")
+public class FrameCodecTest {
+    @Test
+    @DisplayName("编码后的帧可以被解码为相同的帧")
+    void shouldDecodeEncodedFrame() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(1024), new FrameEncoder(1024));
+        channel.writeOutbound(Frame.request(7,
+                "metadata".getBytes(StandardCharsets.UTF_8),
+                "entity".getBytes(StandardCharsets.UTF_8)));
+        ByteBuf encoded = channel.readOutbound();
+        channel.writeInbound(encoded);
+        Frame decoded = channel.readInbound();
+        assertThat(decoded.type()).isEqualTo(Frame.Type.REQUEST);
+        assertThat(decoded.streamId()).isEqualTo(7);
+        assertThat(new String(decoded.metadata(), StandardCharsets.UTF_8)).isEqualTo("metadata");
+        assertThat(new String(decoded.entity(), StandardCharsets.UTF_8)).isEqualTo("entity");
+        assertThat(channel.finish()).isFalse();
+    }
+
+    @Test
+    @DisplayName("分片到达的多个帧可以被依次解码")
+    void shouldDecodeFragmentedFrames() {
+        EmbeddedChannel encoder = new EmbeddedChannel(new FrameEncoder(1024));
+        encoder.writeOutbound(Frame.ping(), Frame.response(1, new byte[] {1, 2}, new byte[] {3}));
+        ByteBuf all = Unpooled.buffer();
+        for (ByteBuf buf = encoder.readOutbound(); buf != null; buf = encoder.readOutbound()) {
+            all.writeBytes(buf);
+            buf.release();
+        }
+        EmbeddedChannel decoder = new EmbeddedChannel(new FrameDecoder(1024));
+        while (all.isReadable()) {
+            decoder.writeInbound(all.readRetainedSlice(Math.min(3, all.readableBytes())));
+        }
+        all.release();
+        Frame ping = decoder.readInbound();
+        Frame response = decoder.readInbound();
+        assertThat(ping.type()).isEqualTo(Frame.Type.PING);
+        assertThat(response.type()).isEqualTo(Frame.Type.RESPONSE);
+        assertThat(response.metadata()).containsExactly(1, 2);
+        assertThat(response.entity()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("当帧超过最大长度时，编码失败")
+    void shouldFailToEncodeWhenFrameTooLarge() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameEncoder(16));
+        assertThatThrownBy(() -> channel.writeOutbound(Frame.request(1, new byte[8], new byte[8])))
+                .isInstanceOf(EncoderException.class);
+    }
+
+    @Test
+    @DisplayName("当帧的版本号不支持时，解码失败")
+    void shouldFailToDecodeWhenVersionUnsupported() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(1024));
+        ByteBuf buf = Unpooled.buffer();
+        buf.writeInt(Frame.HEADER_LENGTH).writeByte(9).writeByte(Frame.Type.PING.code()).writeInt(0).writeInt(0);
+        assertThatThrownBy(() -> channel.writeInbound(buf)).isInstanceOf(CorruptedFrameException.class);
+    }
+}
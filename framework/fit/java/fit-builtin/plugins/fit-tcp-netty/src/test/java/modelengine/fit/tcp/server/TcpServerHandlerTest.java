@@ -0,0 +1,65 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import modelengine.fit.tcp.codec.Frame;
+import modelengine.fit.tcp.codec.FrameDecoder;
+import modelengine.fit.tcp.codec.FrameEncoder;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 表示 {@link TcpServerHandler} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 TcpServerHandler")
+public class TcpServerHandlerTest {
+    @Test
+    @DisplayName("当响应超过帧大小上限时，向客户端回复对应请求的错误响应")
+    void givenOversizedResponseThenReplyError() throws Exception {
+        TcpRequestProcessor processor = mock(TcpRequestProcessor.class);
+        Frame request = Frame.request(7, new byte[0], new byte[0]);
+        Frame error = Frame.response(7, new byte[0], "error".getBytes(StandardCharsets.UTF_8));
+        when(processor.process(same(request))).thenReturn(Frame.response(7, new byte[0], new byte[1024]));
+        when(processor.fail(same(request), any())).thenReturn(error);
+        ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+        doAnswer(invocation -> invocation.getArgument(0, Task.class).call()).when(executor).execute(any());
+        EmbeddedChannel channel =
+                new EmbeddedChannel(new FrameEncoder(64), new TcpServerHandler(processor, executor, 8));
+
+        channel.writeInbound(request);
+        channel.runPendingTasks();
+
+        ByteBuf written = channel.readOutbound();
+        assertThat(written).isNotNull();
+        EmbeddedChannel decoder = new EmbeddedChannel(new FrameDecoder(64));
+        decoder.writeInbound(written);
+        Frame response = decoder.readInbound();
+        assertThat(response.type()).isEqualTo(Frame.Type.RESPONSE);
+        assertThat(response.streamId()).isEqualTo(7);
+        assertThat(new String(response.entity(), StandardCharsets.UTF_8)).isEqualTo("error");
+        assertThat(channel.isActive()).isTrue();
+        assertThat(channel.<Object>readOutbound()).isNull();
+        channel.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+}
@@ -6,11 +6,22 @@
 
 package modelengine.fit.serialization;
 
+import modelengine.fit.serialization.util.ByteBufferInputStream;
+import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.util.IoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 
 /**
  * 调用泛服务的输入输出提供序列化程序。
+ * <p>除基于 {@code byte[]} 的方法外，还提供基于 {@link OutputStream}、{@link InputStream} 和 {@link ByteBuffer} 的流式方法。
+ * 流式方法的默认实现通过 {@code byte[]} 的方法适配，支持流式处理的序列化器应重写这些方法，使消息无需完整地保存在连续的
+ * 内存中。流式方法不会关闭传入的流。</p>
  *
  * @author 梁济时
  * @author 季聿阶
@@ -55,6 +66,83 @@ public interface MessageSerializer {
      */
     <T> T deserializeResponse(Type returnType, byte[] serialized);
 
+    /**
+     * 将调用的请求信息序列化到输出流中。
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param arguments 表示请求参数列表的 {@link Object}{@code []}。
+     * @param out 表示序列化结果写入的输出流的 {@link OutputStream}。
+     * @throws SerializationException 当序列化过程中发生异常时。
+     */
+    default void serializeRequestTo(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        write(this.serializeRequest(argumentTypes, arguments), out);
+    }
+
+    /**
+     * 从输入流中反序列化出调用的请求参数列表。
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param in 表示包含请求参数信息的输入流的 {@link InputStream}。
+     * @return 表示请求参数列表的 {@link Object}{@code []}。
+     * @throws SerializationException 当反序列化过程中发生异常时。
+     */
+    default Object[] deserializeRequestFrom(Type[] argumentTypes, InputStream in) {
+        return this.deserializeRequest(argumentTypes, read(in));
+    }
+
+    /**
+     * 从缓冲区的剩余内容中反序列化出调用的请求参数列表。
+     * <p>反序列化完成后，缓冲区的位置将移动到已读取内容的末尾。</p>
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param buffer 表示包含请求参数信息的缓冲区的 {@link ByteBuffer}。
+     * @return 表示请求参数列表的 {@link Object}{@code []}。
+     * @throws SerializationException 当反序列化过程中发生异常时。
+     */
+    default Object[] deserializeRequestFrom(Type[] argumentTypes, ByteBuffer buffer) {
+        return this.deserializeRequestFrom(argumentTypes, new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * 将调用的响应信息序列化到输出流中。
+     *
+     * @param returnType 表示响应数据类型的 {@link Type}。
+     * @param returnData 表示响应数据的 {@link T}。
+     * @param out 表示序列化结果写入的输出流的 {@link OutputStream}。
+     * @param <T> 表示响应数据类型的 {@link T}。
+     * @throws SerializationException 当序列化过程中发生异常时。
+     */
+    default <T> void serializeResponseTo(Type returnType, T returnData, OutputStream out) {
+        write(this.serializeResponse(returnType, returnData), out);
+    }
+
+    /**
+     * 从输入流中反序列化出调用的响应信息。
+     *
+     * @param returnType 表示响应数据类型的 {@link Type}。
+     * @param in 表示包含响应消息信息的输入流的 {@link InputStream}。
+     * @param <T> 表示响应数据类型的 {@link T}。
+     * @return 表示响应消息体的 {@link T}。
+     * @throws SerializationException 当反序列化过程中发生异常时。
+     */
+    default <T> T deserializeResponseFrom(Type returnType, InputStream in) {
+        return this.deserializeResponse(returnType, read(in));
+    }
+
+    /**
+     * 从缓冲区的剩余内容中反序列化出调用的响应信息。
+     * <p>反序列化完成后，缓冲区的位置将移动到已读取内容的末尾。</p>
+     *
+     * @param returnType 表示响应数据类型的 {@link Type}。
+     * @param buffer 表示包含响应消息信息的缓冲区的 {@link ByteBuffer}。
+     * @param <T> 表示响应数据类型的 {@link T}。
+     * @return 表示响应消息体的 {@link T}。
+     * @throws SerializationException 当反序列化过程中发生异常时。
+     */
+    default <T> T deserializeResponseFrom(Type returnType, ByteBuffer buffer) {
+        return this.deserializeResponseFrom(returnType, new ByteBufferInputStream(buffer));
+    }
+
     /**
      * 根据指定的方法，判断当前的序列化方式是否支持。
      *
@@ -75,4 +163,20 @@ public interface MessageSerializer {
      * @return 表示当前序列化器的序列化格式代号的 {@code int}。
      */
     int getFormat();
+
+    private static void write(byte[] bytes, OutputStream out) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write serialized message.", e);
+        }
+    }
+
+    private static byte[] read(InputStream in) {
+        try {
+            return IoUtils.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read serialized message.", e);
+        }
+    }
 }
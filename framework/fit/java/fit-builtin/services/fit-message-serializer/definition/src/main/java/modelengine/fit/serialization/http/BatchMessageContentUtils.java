@@ -0,0 +1,111 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.http;
+
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.serialization.TagLengthValues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 表示批量请求和批量响应的消息体的工具类。
+ * <p>批量消息体是一个 TLV，第 {@code i} 个标签中保存第 {@code i} 个条目。每个条目也是一个 TLV，其中包含：</p>
+ * <ul>
+ *     <li>元数据：请求条目为 {@link modelengine.fitframework.serialization.RequestMetadata} 的序列化结果，
+ *     响应条目为 {@link modelengine.fitframework.serialization.ResponseMetadata} 的序列化结果；</li>
+ *     <li>数据：使用元数据中指定的序列化方式序列化后的请求参数或返回值。</li>
+ * </ul>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class BatchMessageContentUtils {
+    private static final int METADATA_TAG = 0x00;
+    private static final int ENTITY_TAG = 0x01;
+
+    /**
+     * 将批量消息的所有条目序列化为消息体。
+     *
+     * @param entries 表示所有条目的 {@link List}{@code <}{@link Entry}{@code >}。
+     * @return 表示序列化后的消息体的 {@code byte[]}。
+     * @throws IllegalArgumentException 当 {@code entries} 为 {@code null} 时。
+     */
+    public static byte[] serialize(List<Entry> entries) {
+        notNull(entries, "The batch entries cannot be null.");
+        TagLengthValues batch = TagLengthValues.create();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            TagLengthValues entryValues = TagLengthValues.create();
+            entryValues.putTag(METADATA_TAG, entry.metadata());
+            entryValues.putTag(ENTITY_TAG, entry.entity());
+            batch.putTag(i, entryValues.serialize());
+        }
+        return batch.serialize();
+    }
+
+    /**
+     * 将消息体反序列化为批量消息的所有条目。
+     *
+     * @param bytes 表示消息体的 {@code byte[]}。
+     * @return 表示所有条目的 {@link List}{@code <}{@link Entry}{@code >}。
+     * @throws IllegalArgumentException 当 {@code bytes} 为 {@code null} 或条目不连续时。
+     */
+    public static List<Entry> deserialize(byte[] bytes) {
+        notNull(bytes, "The batch content cannot be null.");
+        TagLengthValues batch = TagLengthValues.deserialize(bytes);
+        Set<Integer> tags = batch.getTags();
+        List<Entry> entries = new ArrayList<>(tags.size());
+        for (int i = 0; i < tags.size(); i++) {
+            isTrue(tags.contains(i), "Batch entry not found. [index={0}]", i);
+            TagLengthValues entryValues = TagLengthValues.deserialize(batch.getValue(i));
+            entries.add(new Entry(entryValues.getValue(METADATA_TAG), entryValues.getValue(ENTITY_TAG)));
+        }
+        return entries;
+    }
+
+    /**
+     * 表示批量消息中的一个条目。
+     */
+    public static class Entry {
+        private final byte[] metadata;
+        private final byte[] entity;
+
+        /**
+         * 使用元数据和数据初始化 {@link Entry} 的新实例。
+         *
+         * @param metadata 表示序列化后的元数据的 {@code byte[]}。
+         * @param entity 表示序列化后的数据的 {@code byte[]}，为 {@code null} 时表示没有数据。
+         * @throws IllegalArgumentException 当 {@code metadata} 为 {@code null} 时。
+         */
+        public Entry(byte[] metadata, byte[] entity) {
+            this.metadata = notNull(metadata, "The batch entry metadata cannot be null.");
+            this.entity = entity == null ? new byte[0] : entity;
+        }
+
+        /**
+         * 获取序列化后的元数据。
+         *
+         * @return 表示序列化后的元数据的 {@code byte[]}。
+         */
+        public byte[] metadata() {
+            return this.metadata;
+        }
+
+        /**
+         * 获取序列化后的数据。
+         *
+         * @return 表示序列化后的数据的 {@code byte[]}。
+         */
+        public byte[] entity() {
+            return this.entity;
+        }
+    }
+}
@@ -16,6 +16,9 @@ public class Constants {
     /** 表示 FIT 通信中同步获取结果的路径。 */
     public static final String FIT_PATH_PATTERN = "/fit/{genericableId}/{fitableId}";
 
+    /** 表示 FIT 通信中批量获取结果的路径。 */
+    public static final String FIT_BATCH_PATH_PATTERN = "/fit/batch";
+
     /** 表示 FIT 通信中等待异步结果的路径。 */
     public static final String FIT_ASYNC_TASK_PATH_PATTERN = "/fit/async/await-response";
 
@@ -0,0 +1,63 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.util;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 表示读取 {@link ByteBuffer} 剩余内容的 {@link InputStream}。
+ * <p>读取直接作用于缓冲区的位置，不复制缓冲区的内容，因此同时适用于堆内缓冲区和直接缓冲区。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    /**
+     * 使用待读取的缓冲区初始化 {@link ByteBufferInputStream} 的新实例。
+     *
+     * @param buffer 表示待读取的缓冲区的 {@link ByteBuffer}。
+     * @throws IllegalArgumentException 当 {@code buffer} 为 {@code null} 时。
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = notNull(buffer, "The byte buffer cannot be null.");
+    }
+
+    @Override
+    public int read() {
+        return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!this.buffer.hasRemaining()) {
+            return -1;
+        }
+        int actual = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, actual);
+        return actual;
+    }
+
+    @Override
+    public long skip(long n) {
+        int actual = (int) Math.min(Math.max(n, 0L), this.buffer.remaining());
+        this.buffer.position(this.buffer.position() + actual);
+        return actual;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
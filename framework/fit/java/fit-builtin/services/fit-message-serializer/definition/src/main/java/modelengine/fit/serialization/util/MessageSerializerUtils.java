@@ -14,6 +14,9 @@ import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,18 +48,86 @@ public class MessageSerializerUtils {
      * @param config 表示指定配置的 {@link Config}。
      */
     public static void isSupportedLength(long length, Config config) {
-        long largeDataSize = config.keys().contains(Constants.LARGE_DATA_SIZE) ? config.get(
-                Constants.LARGE_DATA_SIZE, Long.class) : 0L;
+        long largeDataSize = getLargeDataSize(config);
         if (largeDataSize != 0L && length > largeDataSize) {
-            throw new SerializationException(StringUtils.format("The deserialized data size exceeds the threshold. "
-                    + "[largeDataSize={0}]", largeDataSize));
+            throw exceedThreshold(largeDataSize);
         }
     }
 
+    /**
+     * 为输入流增加反序列化数据大小阈值的检查。
+     * <p>流式反序列化时无法预先获知数据长度，因此在读取的数据量超过阈值时抛出异常。</p>
+     *
+     * @param in 表示原始输入流的 {@link InputStream}。
+     * @param config 表示指定配置的 {@link Config}。
+     * @return 表示增加了检查的输入流的 {@link InputStream}。如果没有配置阈值，则返回原始输入流。
+     */
+    public static InputStream limitLength(InputStream in, Config config) {
+        long largeDataSize = getLargeDataSize(config);
+        return largeDataSize == 0L ? in : new LengthLimitedInputStream(in, largeDataSize);
+    }
+
+    private static long getLargeDataSize(Config config) {
+        Long largeDataSize = config.get(Constants.LARGE_DATA_SIZE, Long.class);
+        return largeDataSize == null ? 0L : largeDataSize;
+    }
+
+    private static SerializationException exceedThreshold(long largeDataSize) {
+        return new SerializationException(StringUtils.format("The deserialized data size exceeds the threshold. "
+                + "[largeDataSize={0}]", largeDataSize));
+    }
+
     private static List<MessageSerializer> getMessageSerializers(BeanContainer container) {
         return container.all(MessageSerializer.class)
                 .stream()
                 .map(BeanFactory::<MessageSerializer>get)
                 .collect(Collectors.toList());
     }
+
+    private static class LengthLimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LengthLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                this.count(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+            if (read > 0) {
+                this.count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            this.count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long read) {
+            this.count += read;
+            if (this.count > this.limit) {
+                throw exceedThreshold(this.limit);
+            }
+        }
+    }
 }
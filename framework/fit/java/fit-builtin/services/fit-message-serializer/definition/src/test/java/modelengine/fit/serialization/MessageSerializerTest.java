@@ -0,0 +1,99 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 为 {@link MessageSerializer} 的流式默认方法提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 MessageSerializer 的流式默认方法")
+public class MessageSerializerTest {
+    private final MessageSerializer serializer = new CommaSerializer();
+
+    @Test
+    @DisplayName("请求序列化到输出流后，可以从输入流反序列化")
+    void shouldRoundTripRequestOverStreams() {
+        Type[] types = new Type[] {String.class, String.class};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.serializer.serializeRequestTo(types, new Object[] {"a", "b"}, out);
+        Object[] actual = this.serializer.deserializeRequestFrom(types, new ByteArrayInputStream(out.toByteArray()));
+        assertThat(actual).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("可以从直接缓冲区反序列化响应，且缓冲区的位置移动到末尾")
+    void shouldDeserializeResponseFromDirectBuffer() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.serializer.serializeResponseTo(String.class, "hello", out);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(out.size());
+        buffer.put(out.toByteArray()).flip();
+        String actual = this.serializer.deserializeResponseFrom(String.class, buffer);
+        assertThat(actual).isEqualTo("hello");
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("从缓冲区反序列化时，只读取缓冲区的剩余内容")
+    void shouldOnlyReadRemainingContentOfBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("xxa,b".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        Object[] actual = this.serializer.deserializeRequestFrom(new Type[] {String.class, String.class}, buffer);
+        assertThat(actual).containsExactly("a", "b");
+    }
+
+    private static class CommaSerializer implements MessageSerializer {
+        @Override
+        public byte[] serializeRequest(Type[] argumentTypes, Object[] arguments) {
+            return Arrays.stream(arguments)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","))
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
+            return new String(serialized, StandardCharsets.UTF_8).split(",");
+        }
+
+        @Override
+        public <T> byte[] serializeResponse(Type returnType, T returnData) {
+            return String.valueOf(returnData).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T deserializeResponse(Type returnType, byte[] serialized) {
+            return (T) new String(serialized, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean isSupported(Method method) {
+            return true;
+        }
+
+        @Override
+        public int getFormat() {
+            return -1;
+        }
+    }
+}
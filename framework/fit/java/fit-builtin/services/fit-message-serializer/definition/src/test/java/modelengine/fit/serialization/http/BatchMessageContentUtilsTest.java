@@ -0,0 +1,46 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 表示 {@link BatchMessageContentUtils} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 BatchMessageContentUtils")
+public class BatchMessageContentUtilsTest {
+    @Test
+    @DisplayName("序列化后再反序列化，条目的顺序和内容保持不变")
+    void givenEntriesThenRoundTrip() {
+        List<BatchMessageContentUtils.Entry> entries = Arrays.asList(
+                new BatchMessageContentUtils.Entry(bytes("m0"), bytes("e0")),
+                new BatchMessageContentUtils.Entry(bytes("m1"), null),
+                new BatchMessageContentUtils.Entry(bytes("m2"), bytes("e2")));
+        List<BatchMessageContentUtils.Entry> actual =
+                BatchMessageContentUtils.deserialize(BatchMessageContentUtils.serialize(entries));
+        assertThat(actual).hasSize(3);
+        assertThat(actual.get(0).metadata()).isEqualTo(bytes("m0"));
+        assertThat(actual.get(0).entity()).isEqualTo(bytes("e0"));
+        assertThat(actual.get(1).metadata()).isEqualTo(bytes("m1"));
+        assertThat(actual.get(1).entity()).isEmpty();
+        assertThat(actual.get(2).entity()).isEqualTo(bytes("e2"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fit.serialization.Constants;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.conf.support.PropertiesConfig;
+import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.util.IoUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * 为 {@link MessageSerializerUtils} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 MessageSerializerUtils")
+public class MessageSerializerUtilsTest {
+    @Test
+    @DisplayName("当没有配置阈值时，返回原始输入流")
+    void shouldReturnOriginStreamWhenNoThreshold() {
+        InputStream in = new ByteArrayInputStream(new byte[8]);
+        Config config = new PropertiesConfig("test", new Properties());
+        assertThat(MessageSerializerUtils.limitLength(in, config)).isSameAs(in);
+    }
+
+    @Test
+    @DisplayName("当读取的数据量不超过阈值时，可以正常读取")
+    void shouldReadWhenNotExceedThreshold() throws IOException {
+        InputStream in = MessageSerializerUtils.limitLength(new ByteArrayInputStream(new byte[4]), config(4));
+        assertThat(IoUtils.read(in)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("当读取的数据量超过阈值时，抛出 SerializationException")
+    void shouldThrowWhenExceedThreshold() {
+        InputStream in = MessageSerializerUtils.limitLength(new ByteArrayInputStream(new byte[5]), config(4));
+        assertThatThrownBy(() -> IoUtils.read(in)).isInstanceOf(SerializationException.class);
+    }
+
+    private static Config config(long largeDataSize) {
+        Properties properties = new Properties();
+        properties.setProperty(Constants.LARGE_DATA_SIZE, String.valueOf(largeDataSize));
+        return new PropertiesConfig("test", properties);
+    }
+}
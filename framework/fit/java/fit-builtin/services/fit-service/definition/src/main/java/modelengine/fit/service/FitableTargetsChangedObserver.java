@@ -0,0 +1,49 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.service;
+
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.ioc.BeanFactoryOrderComparator;
+import modelengine.fitframework.util.CollectionUtils;
+
+import java.util.List;
+
+/**
+ * 表示服务实现的地址列表发生变化的事件。
+ * <p>当 {@link Registry} 的本地缓存因注册中心的推送或定时拉取而更新时，会通知该事件的观察者。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface FitableTargetsChangedObserver {
+    /**
+     * 当指定服务实现的地址列表发生变化时，调用的方法。
+     *
+     * @param ids 表示地址列表发生变化的服务实现唯一标识列表的 {@link List}{@code <}{@link UniqueFitableId}{@code >}。
+     */
+    void onFitableTargetsChanged(List<UniqueFitableId> ids);
+
+    /**
+     * 通知所有容器中所有实现了 {@link FitableTargetsChangedObserver} 接口的 Bean。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param ids 表示地址列表发生变化的服务实现唯一标识列表的 {@link List}{@code <}{@link UniqueFitableId}{@code >}。
+     */
+    static void notify(BeanContainer container, List<UniqueFitableId> ids) {
+        if (container == null || CollectionUtils.isEmpty(ids)) {
+            return;
+        }
+        container.all(FitableTargetsChangedObserver.class)
+                .stream()
+                .sorted(BeanFactoryOrderComparator.INSTANCE)
+                .map(BeanFactory::<FitableTargetsChangedObserver>get)
+                .forEach(observer -> observer.onFitableTargetsChanged(ids));
+    }
+}
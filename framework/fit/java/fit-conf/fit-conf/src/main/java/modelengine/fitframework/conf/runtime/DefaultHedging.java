@@ -0,0 +1,120 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.conf.runtime;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 表示 {@link HedgingConfig} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class DefaultHedging implements HedgingConfig {
+    private static final long DEFAULT_MIN_DELAY = 10L;
+    private static final int DEFAULT_BUDGET = 10;
+    private static final int MAX_BUDGET = 100;
+
+    private boolean enabled;
+    private List<String> idempotentGenericables;
+    private long delay;
+    private Long minDelay;
+    private Integer budget;
+
+    /**
+     * 设置对冲请求的开关。
+     *
+     * @param enabled 表示待设置的开关的 {@code boolean}。
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 设置声明为幂等的泛服务唯一标识列表。
+     *
+     * @param idempotentGenericables 表示待设置的泛服务唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public void setIdempotentGenericables(List<String> idempotentGenericables) {
+        this.idempotentGenericables = idempotentGenericables;
+    }
+
+    /**
+     * 设置固定的对冲延迟。
+     *
+     * @param delay 表示待设置的对冲延迟毫秒数的 {@code long}。
+     */
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * 设置最小的对冲延迟。
+     *
+     * @param minDelay 表示待设置的最小对冲延迟毫秒数的 {@link Long}。
+     */
+    public void setMinDelay(Long minDelay) {
+        this.minDelay = minDelay;
+    }
+
+    /**
+     * 设置对冲请求的预算百分比。
+     *
+     * @param budget 表示待设置的预算百分比的 {@link Integer}。
+     */
+    public void setBudget(Integer budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public Set<String> idempotentGenericables() {
+        if (this.idempotentGenericables == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new HashSet<>(this.idempotentGenericables));
+    }
+
+    @Override
+    public long delay() {
+        return this.delay;
+    }
+
+    @Override
+    public long minDelay() {
+        return this.minDelay == null || this.minDelay < 0 ? DEFAULT_MIN_DELAY : this.minDelay;
+    }
+
+    @Override
+    public int budget() {
+        if (this.budget == null || this.budget < 0) {
+            return DEFAULT_BUDGET;
+        }
+        return Math.min(this.budget, MAX_BUDGET);
+    }
+
+    @Override
+    public String toString() {
+        String content = StringUtils.format("/{\"enabled\": {0}, \"idempotent-genericables\": {1}, \"delay\": {2}, "
+                        + "\"min-delay\": {3}, \"budget\": {4}/}",
+                this.enabled,
+                this.idempotentGenericables,
+                this.delay,
+                this.minDelay(),
+                this.budget());
+        return StringUtils.format("/{\"hedging\": {0}/}", content);
+    }
+}
@@ -8,7 +8,9 @@ package modelengine.fitframework.conf.support;
 
 import static modelengine.fitframework.inspection.Validation.between;
 import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.cast;
 
+import modelengine.fitframework.beans.convert.ConversionService;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.ConfigChain;
 import modelengine.fitframework.conf.ConfigChainListener;
@@ -20,7 +22,18 @@ import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,22 +44,52 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * 为 {@link Config} 提供组合模式的实现。
+ * <p>链中的配置列表以快照的形式发布，快照中缓存了按照规范化键合并后的值、按照规范化键和目标类型转换后的值以及所有键的
+ * 集合。增加或移除配置时发布新的快照；链中的 {@link ModifiableConfig} 的值发生变化时，发布一个去除了与变化的键相关的缓存的
+ * 新快照。只有不可变的值（字符串、数字、日期时间和枚举等）会被缓存，映射、列表等可变的值每次读取时重新解析，因此返回值的
+ * 类型与未缓存时相同，调用方修改返回值也不会影响缓存。</p>
+ * <p>只有链中所有配置的变化都能被观察到时才缓存值：{@link ModifiableConfig} 会通知值的变化，只读的配置不会变化，嵌套的
+ * {@link DefaultConfigChain} 在读取时比较其修改版本号。当链中存在无法观察到变化的配置（例如对其他配置的键进行转换的装饰器）
+ * 时，不缓存任何值。嵌套的链不被订阅，因此不会持有当前链的引用，其中的变化也不会通知到当前链的监听程序。读取时始终基于同一个
+ * 快照，不会看到更新到一半的链。</p>
  *
  * @author 梁济时
  * @since 2022-05-18
  */
 public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
+    private static final Object NULL = new Object();
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigInteger.class,
+            BigDecimal.class,
+            Duration.class,
+            Instant.class,
+            LocalDate.class,
+            LocalDateTime.class,
+            LocalTime.class,
+            OffsetDateTime.class,
+            ZonedDateTime.class));
+
     private final List<Config> configs;
     private final List<ConfigChainListener> listeners;
     private final ConfigListener configListener;
 
-    private volatile List<Config> currentConfigs;
+    private volatile Snapshot snapshot;
     private volatile List<ConfigChainListener> currentListeners;
+    private volatile long modifications;
 
     /**
      * 使用配置的名称初始化 {@link DefaultConfigChain} 类的新实例。
@@ -60,19 +103,60 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         this.configListener = this.new ConfigListener();
     }
 
-    private List<Config> configs() {
-        List<Config> actual;
-        if ((actual = this.currentConfigs) == null) {
+    private Snapshot snapshot() {
+        Snapshot actual = this.snapshot;
+        if (actual != null && actual.isNestedChanged()) {
+            synchronized (this.configs) {
+                if (this.snapshot == actual) {
+                    this.snapshot = null;
+                }
+            }
+            actual = null;
+        }
+        if (actual == null) {
             synchronized (this.configs) {
-                if ((actual = this.currentConfigs) == null) {
-                    this.currentConfigs = new ArrayList<>(this.configs);
-                    actual = this.currentConfigs;
+                if ((actual = this.snapshot) == null) {
+                    this.snapshot = new Snapshot(new ArrayList<>(this.configs));
+                    actual = this.snapshot;
                 }
             }
         }
         return actual;
     }
 
+    /**
+     * 获取当前链及其嵌套的链的修改版本号之和。
+     * <p>各个链的修改版本号只增不减，因此任一链发生变化时，版本号之和都会变化。</p>
+     *
+     * @return 表示修改版本号之和的 {@code long}。
+     */
+    private long version() {
+        long version = this.modifications;
+        for (DefaultConfigChain nested : this.snapshot().nested) {
+            version += nested.version();
+        }
+        return version;
+    }
+
+    private void modified() {
+        this.modifications++;
+        this.snapshot = null;
+    }
+
+    private List<Config> configs() {
+        return this.snapshot().configs;
+    }
+
+    private void invalidate(String key) {
+        synchronized (this.configs) {
+            Snapshot current = this.snapshot;
+            this.modifications++;
+            if (current != null) {
+                this.snapshot = current.isObservable ? current.without(Config.canonicalizeKey(key)) : null;
+            }
+        }
+    }
+
     private List<ConfigChainListener> listeners() {
         List<ConfigChainListener> actual;
         if ((actual = this.currentListeners) == null) {
@@ -88,13 +172,68 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
 
     @Override
     public Set<String> keys() {
-        return this.configs().stream().map(Config::keys).flatMap(Collection::stream).collect(Collectors.toSet());
+        Snapshot current = this.snapshot();
+        Set<String> keys;
+        if ((keys = current.keys) == null) {
+            keys = Collections.unmodifiableSet(current.configs.stream()
+                    .map(Config::keys)
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toSet()));
+            current.keys = keys;
+        }
+        return keys;
     }
 
     @Override
     protected Object getWithCanonicalKey(String key) {
+        return this.getWithCanonicalKey(this.snapshot(), key);
+    }
+
+    private Object getWithCanonicalKey(Snapshot current, String key) {
+        if (key == null || !current.isObservable) {
+            return resolve(current.configs, key);
+        }
+        Object value = current.values.get(key);
+        if (value != null) {
+            return value == NULL ? null : value;
+        }
+        value = resolve(current.configs, key);
+        if (isImmutable(value)) {
+            current.values.putIfAbsent(key, ObjectUtils.nullIf(value, NULL));
+        }
+        return value;
+    }
+
+    @Override
+    public Object get(String key, Type type) {
+        String canonicalKey = Config.canonicalizeKey(key);
+        if (canonicalKey == null || type == null) {
+            return super.get(key, type);
+        }
+        Snapshot current = this.snapshot();
+        if (!current.isObservable) {
+            return ConversionService.forConfig().convert(resolve(current.configs, canonicalKey), type);
+        }
+        TypedKey typedKey = new TypedKey(canonicalKey, type);
+        Object value = current.convertedValues.get(typedKey);
+        if (value != null) {
+            return value == NULL ? null : value;
+        }
+        value = ConversionService.forConfig().convert(this.getWithCanonicalKey(current, canonicalKey), type);
+        if (isImmutable(value)) {
+            current.convertedValues.putIfAbsent(typedKey, ObjectUtils.nullIf(value, NULL));
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz) {
+        return cast(this.get(key, (Type) clazz));
+    }
+
+    private static Object resolve(List<Config> configs, String key) {
         Object result = null;
-        for (Config config : this.configs()) {
+        for (Config config : configs) {
             Object value = ConfigValueSupplier.get(config, key);
             result = merge(result, value);
         }
@@ -104,6 +243,9 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
     @Override
     public void decrypt(@Nonnull ConfigDecryptor decryptor) {
         this.configs().forEach(config -> config.decrypt(decryptor));
+        synchronized (this.configs) {
+            this.modified();
+        }
     }
 
     @Override
@@ -115,7 +257,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         synchronized (this.configs) {
             index = this.configs.size();
             this.configs.add(config);
-            this.currentConfigs = null;
+            this.modified();
         }
         this.configListener.subscribe(config);
         this.notifyConfigAdded(config);
@@ -133,7 +275,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
                     this.configs.size());
             notNull(config, "The config to insert cannot be null.");
             this.configs.add(index, config);
-            this.currentConfigs = null;
+            this.modified();
         }
         this.configListener.subscribe(config);
         this.notifyConfigAdded(config);
@@ -150,7 +292,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         }
         synchronized (this.configs) {
             this.configs.addAll(actual);
-            this.currentConfigs = null;
+            this.modified();
         }
         for (Config config : actual) {
             this.configListener.subscribe(config);
@@ -167,7 +309,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
             if (!this.configs.remove(config)) {
                 return;
             }
-            this.currentConfigs = null;
+            this.modified();
         }
         this.configListener.unsubscribe(config);
         this.notifyConfigRemoved(config);
@@ -179,7 +321,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         synchronized (this.configs) {
             clearingConfigs = new ArrayList<>(this.configs);
             this.configs.clear();
-            this.currentConfigs = null;
+            this.modified();
         }
         for (Config config : clearingConfigs) {
             this.configListener.unsubscribe(config);
@@ -222,6 +364,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
     private class ConfigListener implements ModifiableConfigListener {
         @Override
         public void onValueChanged(ModifiableConfig config, String key) {
+            DefaultConfigChain.this.invalidate(key);
             DefaultConfigChain.this.notifyConfigChanged(config, key);
         }
 
@@ -238,6 +381,119 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         }
     }
 
+    /**
+     * 表示配置链在某一时刻的快照，以及基于该快照解析的值的缓存。
+     */
+    private static class Snapshot {
+        private final List<Config> configs;
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+        private final Map<TypedKey, Object> convertedValues = new ConcurrentHashMap<>();
+        private final boolean isObservable;
+        private final DefaultConfigChain[] nested;
+        private final long nestedVersion;
+        private volatile Set<String> keys;
+
+        private Snapshot(List<Config> configs) {
+            this.configs = configs;
+            this.isObservable = configs.stream().allMatch(Snapshot::isObservable);
+            this.nested = configs.stream()
+                    .filter(DefaultConfigChain.class::isInstance)
+                    .map(DefaultConfigChain.class::cast)
+                    .toArray(DefaultConfigChain[]::new);
+            this.nestedVersion = versionOf(this.nested);
+        }
+
+        private Snapshot(Snapshot origin) {
+            this.configs = origin.configs;
+            this.isObservable = true;
+            this.nested = origin.nested;
+            this.nestedVersion = origin.nestedVersion;
+        }
+
+        private static long versionOf(DefaultConfigChain[] chains) {
+            long version = 0;
+            for (DefaultConfigChain chain : chains) {
+                version += chain.version();
+            }
+            return version;
+        }
+
+        private boolean isNestedChanged() {
+            return this.nested.length > 0 && versionOf(this.nested) != this.nestedVersion;
+        }
+
+        private static boolean isObservable(Config config) {
+            if (config instanceof DefaultConfigChain) {
+                return ((DefaultConfigChain) config).snapshot().isObservable;
+            }
+            return config instanceof ModifiableConfig || config instanceof ReadonlyMapConfig
+                    || config instanceof ReadonlyPropertiesConfig;
+        }
+
+        private Snapshot without(String changedKey) {
+            Snapshot snapshot = new Snapshot(this);
+            this.values.forEach((key, value) -> {
+                if (!isRelated(key, changedKey)) {
+                    snapshot.values.put(key, value);
+                }
+            });
+            this.convertedValues.forEach((key, value) -> {
+                if (!isRelated(key.key, changedKey)) {
+                    snapshot.convertedValues.put(key, value);
+                }
+            });
+            return snapshot;
+        }
+
+        private static boolean isRelated(String key, String changedKey) {
+            if (changedKey == null) {
+                return true;
+            }
+            return isSelfOrParent(key, changedKey) || isSelfOrParent(changedKey, key);
+        }
+
+        private static boolean isSelfOrParent(String key, String another) {
+            if (!another.regionMatches(true, 0, key, 0, key.length())) {
+                return false;
+            }
+            if (another.length() == key.length()) {
+                return true;
+            }
+            char next = another.charAt(key.length());
+            return next == '.' || next == '[';
+        }
+    }
+
+    /**
+     * 表示转换后的值的缓存键，由规范化后的键和目标类型组成。
+     */
+    private static class TypedKey {
+        private final String key;
+        private final Type type;
+
+        private TypedKey(String key, Type type) {
+            this.key = key;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypedKey)) {
+                return false;
+            }
+            TypedKey another = (TypedKey) obj;
+            return this.key.equals(another.key) && this.type.equals(another.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.type);
+        }
+    }
+
     /**
      * 通知有配置被添加到链中。
      *
@@ -275,6 +531,16 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         }
     }
 
+    /**
+     * 判断值是否不可变，只有不可变的值才会被缓存。
+     *
+     * @param value 表示解析或转换后的值的 {@link Object}。
+     * @return 若值为 {@code null}、枚举或不可变的标量，则为 {@code true}，否则为 {@code false}。
+     */
+    private static boolean isImmutable(Object value) {
+        return value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
     private static Object merge(Object value1, Object value2) {
         if (value1 == null) {
             return value2;
@@ -6,6 +6,7 @@
 
 package modelengine.fitframework.conf.support;
 
+import static modelengine.fitframework.util.ObjectUtils.cast;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -16,15 +17,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.ConfigChainListener;
+import modelengine.fitframework.conf.ConfigDecryptor;
 import modelengine.fitframework.conf.ModifiableConfig;
 import modelengine.fitframework.conf.ModifiableConfigListener;
+import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.TypeUtils;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -32,11 +37,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 @DisplayName("测试 DefaultConfigChain 类")
@@ -291,4 +302,149 @@ class DefaultConfigChainTest {
         assertEquals("kitty", map.get("name"));
         assertEquals(19, map.get("age"));
     }
+
+    @Test
+    @DisplayName("缓存转换后的值，并在配置的值发生变化时失效")
+    void shouldInvalidateCachedValueWhenValueChanged() {
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.b", "1");
+        config.set("a.c", "1234567890");
+        chain.addConfig(config);
+        assertEquals(1, chain.get("a.b", Integer.class));
+        Long cached = chain.get("a.c", Long.class);
+        assertEquals(1234567890L, cached);
+        assertSame(cached, chain.get("a.c", Long.class));
+
+        config.set("a.b", "3");
+        assertEquals(3, chain.get("a.b", Integer.class));
+        assertSame(cached, chain.get("a.c", Long.class));
+    }
+
+    @Test
+    @DisplayName("返回缓存的映射和列表的副本，修改返回的值不影响后续读取")
+    void shouldReturnCopiesOfCachedCollections() {
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        MapConfig config1 = new MapConfig("m1", null);
+        config1.set("a.b", MapBuilder.<String, Object>get().put("name", "kitty").build());
+        config1.set("a.c", "1");
+        MapConfig config2 = new MapConfig("m2", null);
+        config2.set("a.b", MapBuilder.<String, Object>get().put("age", 19).build());
+        chain.addConfigs(config1, config2);
+
+        Map<String, Object> merged = cast(chain.get("a.b"));
+        merged.put("name", "tom");
+        assertEquals("kitty", ((Map<?, ?>) chain.get("a.b")).get("name"));
+        Type type = TypeUtils.parameterized(List.class, new Type[] {Integer.class});
+        List<Integer> converted = cast(chain.get("a.c", type));
+        assertEquals(Collections.singletonList(1), converted);
+        converted.add(2);
+        assertEquals(Collections.singletonList(1), chain.get("a.c", type));
+    }
+
+    @Test
+    @DisplayName("映射和列表不被缓存，返回值的类型与配置中的值一致")
+    void shouldKeepTypeOfCollections() {
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.c", new LinkedList<>(Arrays.asList("2", "1")));
+        config.set("a.d", new TreeMap<>(Collections.singletonMap("name", "kitty")));
+        chain.addConfig(config);
+        for (int i = 0; i < 2; i++) {
+            assertInstanceOf(TreeMap.class, chain.get("a.d"));
+            assertInstanceOf(LinkedList.class, chain.get("a.c"));
+        }
+    }
+
+    @Test
+    @DisplayName("嵌套的配置链的值发生变化或增加配置时，缓存失效，但不订阅嵌套的配置链")
+    void shouldInvalidateCachedValueWhenNestedChainChanged() {
+        List<ConfigChainListener> subscribed = new ArrayList<>();
+        DefaultConfigChain inner = new DefaultConfigChain("inner") {
+            @Override
+            public void subscribe(ConfigChainListener listener) {
+                subscribed.add(listener);
+                super.subscribe(listener);
+            }
+        };
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.b", "1");
+        inner.addConfig(config);
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        ConfigChainListener listener = mock(ConfigChainListener.class);
+        chain.subscribe(listener);
+        chain.addConfig(inner);
+        assertTrue(subscribed.isEmpty());
+        assertEquals("1", chain.get("a.b"));
+        assertEquals(1, chain.keys().size());
+
+        config.set("a.b", "2");
+        assertEquals("2", chain.get("a.b"));
+        MapConfig another = new MapConfig("m2", null);
+        another.set("a.d", "4");
+        inner.addConfig(another);
+        assertEquals("4", chain.get("a.d"));
+        assertEquals(2, chain.keys().size());
+        verify(listener, times(1)).onConfigAdded(chain, inner);
+        verify(listener, never()).onConfigAdded(inner, another);
+        verify(listener, never()).onConfigChanged(any(), any(), any());
+        chain.removeConfig(inner);
+        assertEquals(null, chain.get("a.b"));
+    }
+
+    @Test
+    @DisplayName("多层嵌套的配置链中的值发生变化时，缓存失效")
+    void shouldInvalidateCachedValueWhenDeeplyNestedChainChanged() {
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.b", "1");
+        DefaultConfigChain innermost = new DefaultConfigChain("innermost");
+        innermost.addConfig(config);
+        DefaultConfigChain inner = new DefaultConfigChain("inner");
+        inner.addConfig(innermost);
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        chain.addConfig(inner);
+        assertEquals(1, chain.get("a.b", Integer.class));
+
+        config.set("a.b", "2");
+        assertEquals(2, chain.get("a.b", Integer.class));
+        innermost.removeConfig(config);
+        assertEquals(null, chain.get("a.b", Integer.class));
+    }
+
+    @Test
+    @DisplayName("存在无法观察到变化的配置时，不缓存值")
+    void shouldNotCacheWhenContainsUnobservableConfig() {
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.b", "1");
+        Config prefixed = new AbstractConfig("prefixed") {
+            @Override
+            public Set<String> keys() {
+                return Collections.singleton("b");
+            }
+
+            @Override
+            protected Object getWithCanonicalKey(String key) {
+                return Objects.equals(key, "b") ? config.get("a.b") : null;
+            }
+
+            @Override
+            public void decrypt(@Nonnull ConfigDecryptor decryptor) {}
+        };
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        chain.addConfigs(config, prefixed);
+        assertEquals("1", chain.get("b"));
+
+        config.set("a.b", "2");
+        assertEquals("2", chain.get("b"));
+
+        DefaultConfigChain unobserved = new DefaultConfigChain(null);
+        unobserved.addConfig(prefixed);
+        assertEquals(2, unobserved.get("b", Integer.class));
+        config.set("a.b", "3");
+        assertEquals(3, unobserved.get("b", Integer.class));
+        DefaultConfigChain outer = new DefaultConfigChain(null);
+        outer.addConfig(unobserved);
+        config.set("a.b", "4");
+        assertEquals("4", outer.get("b"));
+    }
 }
@@ -0,0 +1,407 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.log.console;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 表示将日志输出到控制台的输出器。
+ * <p>异步模式下，日志事件写入预先分配的无锁环形缓冲区，由后台线程批量取出、拼接后一次性写入控制台；同步模式下，日志事件在
+ * 调用线程上加锁后直接写入。时间戳按秒缓存格式化结果，控制字符在拼接时一次遍历去除。缓冲区已满时，按照
+ * {@link OverflowPolicy} 决定等待还是丢弃日志事件。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class ConsoleAppender {
+    private static final String WRITER_THREAD_NAME = "fit-console-logger";
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final String COLOR_END = "\033[0m";
+
+    private final Supplier<PrintStream> out;
+    private final Supplier<PrintStream> err;
+    private final OverflowPolicy overflowPolicy;
+    private final Logger.Level discardLevel;
+    private final Object lock = new Object();
+    private final StringBuilder builder = new StringBuilder(1024);
+    private final DateTimeFormatter formatter =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.", Locale.ROOT).withZone(ZoneId.systemDefault());
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+
+    private final Event[] events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head;
+    private long reportedDropped;
+    private final Thread writer;
+    private volatile boolean isSleeping;
+    private volatile boolean isClosed;
+
+    /**
+     * 使用指定的缓冲区容量、溢出策略和输出流初始化 {@link ConsoleAppender} 的新实例。
+     *
+     * @param capacity 表示缓冲区容量的 {@code int}，不大于 0 时使用同步模式，否则向上取整为 2 的幂。
+     * @param overflowPolicy 表示缓冲区已满时的处理策略的 {@link OverflowPolicy}。
+     * @param discardLevel 表示 {@link OverflowPolicy#DISCARD_BELOW_LEVEL} 策略下保留的最低日志级别的
+     * {@link Logger.Level}。
+     * @param out 表示日志的输出流的提供者的 {@link Supplier}{@code <}{@link PrintStream}{@code >}。
+     * @param err 表示异常堆栈的输出流的提供者的 {@link Supplier}{@code <}{@link PrintStream}{@code >}。
+     */
+    ConsoleAppender(int capacity, OverflowPolicy overflowPolicy, Logger.Level discardLevel, Supplier<PrintStream> out,
+            Supplier<PrintStream> err) {
+        this.overflowPolicy = overflowPolicy;
+        this.discardLevel = discardLevel;
+        this.out = out;
+        this.err = err;
+        if (capacity <= 0) {
+            this.events = null;
+            this.sequences = null;
+            this.mask = 0;
+            this.writer = null;
+            return;
+        }
+        int actualCapacity = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.events = new Event[actualCapacity];
+        this.sequences = new AtomicLongArray(actualCapacity);
+        for (int i = 0; i < actualCapacity; i++) {
+            this.events[i] = new Event();
+            this.sequences.set(i, i);
+        }
+        this.mask = actualCapacity - 1;
+        this.writer = new Thread(this::drain, WRITER_THREAD_NAME);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 创建一个同步写入 {@link System#out} 和 {@link System#err} 的输出器。
+     *
+     * @return 表示创建的输出器的 {@link ConsoleAppender}。
+     */
+    static ConsoleAppender synchronous() {
+        return new ConsoleAppender(0, OverflowPolicy.BLOCK, Logger.Level.NONE, () -> System.out, () -> System.err);
+    }
+
+    /**
+     * 输出一条日志。
+     *
+     * @param level 表示日志级别的 {@link Logger.Level}。
+     * @param scope 表示日志记录器名字的 {@link String}。
+     * @param message 表示日志消息的 {@link String}。
+     * @param error 表示日志中的异常的 {@link Throwable}。
+     */
+    void append(Logger.Level level, String scope, String message, Throwable error) {
+        long timestamp = System.currentTimeMillis();
+        String thread = Thread.currentThread().getName();
+        if (Thread.currentThread() == this.writer) {
+            StringBuilder line = new StringBuilder();
+            this.format(line, level, timestamp, thread, scope, message);
+            this.flush(line, error);
+            return;
+        }
+        if (this.writer == null || this.isClosed) {
+            synchronized (this.lock) {
+                this.builder.setLength(0);
+                this.format(this.builder, level, timestamp, thread, scope, message);
+                this.flush(this.builder, error);
+            }
+            return;
+        }
+        while (!this.offer(level, timestamp, thread, scope, message, error)) {
+            if (this.overflowPolicy == OverflowPolicy.DROP
+                    || (this.overflowPolicy == OverflowPolicy.DISCARD_BELOW_LEVEL
+                    && level.priority() < this.discardLevel.priority())) {
+                this.dropped.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(this.writer);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            if (this.isClosed) {
+                this.append(level, scope, message, error);
+                return;
+            }
+        }
+        if (this.isClosed) {
+            // 写入线程可能已经在本条日志发布前退出，由发布者输出剩余的日志
+            this.drainRemaining();
+            return;
+        }
+        if (this.isSleeping) {
+            LockSupport.unpark(this.writer);
+        }
+    }
+
+    /**
+     * 获取因缓冲区已满而丢弃的日志数量。
+     *
+     * @return 表示丢弃的日志数量的 {@code long}。
+     */
+    long dropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * 关闭输出器，等待缓冲区中的日志全部输出。关闭后的日志在调用线程上同步输出。
+     */
+    void close() {
+        if (this.writer == null || this.isClosed) {
+            return;
+        }
+        this.isClosed = true;
+        LockSupport.unpark(this.writer);
+        try {
+            this.writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean offer(Logger.Level level, long timestamp, String thread, String scope, String message,
+            Throwable error) {
+        long position;
+        int index;
+        while (true) {
+            position = this.tail.get();
+            index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+        Event event = this.events[index];
+        event.level = level;
+        event.timestamp = timestamp;
+        event.thread = thread;
+        event.scope = scope;
+        event.message = message;
+        event.error = error;
+        this.sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            int count = this.drainBatch();
+            if (count > 0) {
+                continue;
+            }
+            if (this.isClosed && this.tail.get() == this.head) {
+                return;
+            }
+            this.isSleeping = true;
+            if (this.sequences.get((int) (this.head & this.mask)) != this.head + 1 && !this.isClosed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            this.isSleeping = false;
+        }
+    }
+
+    private void drainRemaining() {
+        int count;
+        do {
+            count = this.drainBatch();
+        } while (count > 0);
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        synchronized (this.lock) {
+            this.builder.setLength(0);
+            this.reportDropped();
+            while (count < BATCH_SIZE) {
+                int index = (int) (this.head & this.mask);
+                if (this.sequences.get(index) != this.head + 1) {
+                    break;
+                }
+                Event event = this.events[index];
+                Throwable error = event.error;
+                this.format(this.builder, event.level, event.timestamp, event.thread, event.scope, event.message);
+                event.clear();
+                this.sequences.lazySet(index, this.head + this.mask + 1);
+                this.head++;
+                count++;
+                if (error != null) {
+                    this.flush(this.builder, error);
+                    this.builder.setLength(0);
+                }
+            }
+            this.flush(this.builder, null);
+        }
+        return count;
+    }
+
+    private void reportDropped() {
+        long current = this.dropped.get();
+        if (current == this.reportedDropped) {
+            return;
+        }
+        String message = StringUtils.format("{0} log events were dropped because the console log buffer is full.",
+                current - this.reportedDropped);
+        this.reportedDropped = current;
+        this.format(this.builder,
+                Logger.Level.WARN,
+                System.currentTimeMillis(),
+                WRITER_THREAD_NAME,
+                ConsoleAppender.class.getName(),
+                message);
+    }
+
+    private void format(StringBuilder line, Logger.Level level, long timestamp, String thread, String scope,
+            String message) {
+        line.append(color(level).prefix()).append('[');
+        this.appendTimestamp(line, timestamp);
+        line.append("] [").append(label(level)).append("] [");
+        appendSanitized(line, thread);
+        line.append("] [");
+        appendSanitized(line, scope);
+        line.append("] ");
+        appendSanitized(line, message);
+        line.append(COLOR_END).append(System.lineSeparator());
+    }
+
+    private void flush(StringBuilder lines, Throwable error) {
+        if (lines.length() > 0) {
+            PrintStream stream = this.out.get();
+            stream.print(lines);
+            stream.flush();
+        }
+        if (error != null) {
+            error.printStackTrace(this.err.get());
+        }
+    }
+
+    private void appendTimestamp(StringBuilder line, long timestamp) {
+        long second = Math.floorDiv(timestamp, 1000L);
+        String prefix = this.cachedTimestamp;
+        if (second != this.cachedSecond) {
+            prefix = this.formatter.format(Instant.ofEpochSecond(second));
+            if (Thread.holdsLock(this.lock)) {
+                this.cachedTimestamp = prefix;
+                this.cachedSecond = second;
+            }
+        }
+        int millis = (int) Math.floorMod(timestamp, 1000L);
+        line.append(prefix);
+        if (millis < 100) {
+            line.append('0');
+        }
+        if (millis < 10) {
+            line.append('0');
+        }
+        line.append(millis);
+    }
+
+    /**
+     * 去除日志中的 '\r', '\b', '\n', '\f', '\t' 特殊字符，预防日志审计的抵赖的安全风险。
+     */
+    private static void appendSanitized(StringBuilder builder, String value) {
+        if (value == null) {
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '\r' || ch == '\b' || ch == '\n' || ch == '\f' || ch == '\t') {
+                builder.append(value, start, i);
+                start = i + 1;
+            }
+        }
+        builder.append(value, start, value.length());
+    }
+
+    private static ConsoleColor color(Logger.Level level) {
+        return switch (level) {
+            case TRACE -> ConsoleColor.PURPLE;
+            case DEBUG -> ConsoleColor.AZURE;
+            case WARN -> ConsoleColor.YELLOW;
+            case ERROR -> ConsoleColor.RED;
+            default -> ConsoleColor.WHITE;
+        };
+    }
+
+    private static String label(Logger.Level level) {
+        return switch (level) {
+            case INFO -> "INFO ";
+            case WARN -> "WARN ";
+            default -> level.name();
+        };
+    }
+
+    /**
+     * 表示缓冲区已满时的处理策略。
+     */
+    enum OverflowPolicy {
+        /** 表示等待缓冲区有空闲位置。 */
+        BLOCK,
+
+        /** 表示丢弃日志。 */
+        DROP,
+
+        /** 表示丢弃低于指定级别的日志，不低于指定级别的日志等待缓冲区有空闲位置。 */
+        DISCARD_BELOW_LEVEL;
+
+        /**
+         * 根据名字获取处理策略，名字中的 {@code '-'} 等同于 {@code '_'}，且不区分大小写。
+         *
+         * @param name 表示处理策略的名字的 {@link String}。
+         * @return 表示对应的处理策略的 {@link OverflowPolicy}，当名字为空白或不存在对应的策略时，返回 {@link #BLOCK}。
+         */
+        static OverflowPolicy from(String name) {
+            if (StringUtils.isBlank(name)) {
+                return BLOCK;
+            }
+            String actual = name.trim().replace('-', '_');
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(actual)) {
+                    return policy;
+                }
+            }
+            return BLOCK;
+        }
+    }
+
+    /**
+     * 表示环形缓冲区中预先分配的日志事件。
+     */
+    private static final class Event {
+        private Logger.Level level;
+        private long timestamp;
+        private String thread;
+        private String scope;
+        private String message;
+        private Throwable error;
+
+        private void clear() {
+            this.thread = null;
+            this.scope = null;
+            this.message = null;
+            this.error = null;
+        }
+    }
+}
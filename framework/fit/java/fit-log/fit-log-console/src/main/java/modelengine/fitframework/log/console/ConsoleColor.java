@@ -39,4 +39,13 @@ public enum ConsoleColor {
     public String format(String content) {
         return StringUtils.format("\033[{0}m{1}\033[0m", this.code, content);
     }
+
+    /**
+     * 获取开始显示当前颜色的控制序列。
+     *
+     * @return 表示开始显示当前颜色的控制序列的 {@link String}。
+     */
+    String prefix() {
+        return "\033[" + this.code + "m";
+    }
 }
@@ -12,26 +12,28 @@ import static modelengine.fitframework.util.ObjectUtils.nullIf;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.ObjectUtils;
-import modelengine.fitframework.util.StringUtils;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.function.Supplier;
 
 /**
  * 表示 {@link Logger} 的控制台实现。
- * <p>该实现的日志打印级别为 {@code DEBUG}。</p>
+ * <p>该实现的日志打印级别为 {@code DEBUG}。日志消息在调用线程上格式化后交给 {@link ConsoleAppender} 输出。</p>
  *
  * @author 梁济时
  * @author 季聿阶
  * @since 2022-11-14
  */
 public class ConsoleLogger implements Logger {
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
     private final String name;
+    private final Supplier<ConsoleAppender> appender;
     private Level level;
 
-    ConsoleLogger(String name, Level level) {
+    ConsoleLogger(String name, Level level, Supplier<ConsoleAppender> appender) {
         this.name = notBlank(name, "The logger name cannot be blank.");
         this.level = nullIf(level, Level.NONE);
+        this.appender = appender;
     }
 
     @Override
@@ -81,76 +83,76 @@ public class ConsoleLogger implements Logger {
     @Override
     public void trace(String format, Object... args) {
         if (this.isTraceEnabled()) {
-            this.trace(StringUtils.format(canonicalizeFormat(format), getActualArgs(args)), getActualThrowable(args));
+            this.trace(LogFormat.format(format, getActualArgs(args)), getActualThrowable(args));
         }
     }
 
     @Override
     public void trace(String message, Throwable error) {
         if (this.isTraceEnabled()) {
-            write(ConsoleColor.PURPLE, Level.TRACE.name(), this.name, message, error);
+            this.appender.get().append(Level.TRACE, this.name, message, error);
         }
     }
 
     @Override
     public void debug(String format, Object... args) {
         if (this.isDebugEnabled()) {
-            this.debug(StringUtils.format(canonicalizeFormat(format), getActualArgs(args)), getActualThrowable(args));
+            this.debug(LogFormat.format(format, getActualArgs(args)), getActualThrowable(args));
         }
     }
 
     @Override
     public void debug(String message, Throwable error) {
         if (this.isDebugEnabled()) {
-            write(ConsoleColor.AZURE, Level.DEBUG.name(), this.name, message, error);
+            this.appender.get().append(Level.DEBUG, this.name, message, error);
         }
     }
 
     @Override
     public void info(String format, Object... args) {
         if (this.isInfoEnabled()) {
-            this.info(StringUtils.format(canonicalizeFormat(format), getActualArgs(args)), getActualThrowable(args));
+            this.info(LogFormat.format(format, getActualArgs(args)), getActualThrowable(args));
         }
     }
 
     @Override
     public void info(String message, Throwable error) {
         if (this.isInfoEnabled()) {
-            write(ConsoleColor.WHITE, Level.INFO.name() + " ", this.name, message, error);
+            this.appender.get().append(Level.INFO, this.name, message, error);
         }
     }
 
     @Override
     public void warn(String format, Object... args) {
         if (this.isWarnEnabled()) {
-            this.warn(StringUtils.format(canonicalizeFormat(format), getActualArgs(args)), getActualThrowable(args));
+            this.warn(LogFormat.format(format, getActualArgs(args)), getActualThrowable(args));
         }
     }
 
     @Override
     public void warn(String message, Throwable error) {
         if (this.isWarnEnabled()) {
-            write(ConsoleColor.YELLOW, Level.WARN.name() + " ", this.name, message, error);
+            this.appender.get().append(Level.WARN, this.name, message, error);
         }
     }
 
     @Override
     public void error(String format, Object... args) {
         if (this.isErrorEnabled()) {
-            this.error(StringUtils.format(canonicalizeFormat(format), getActualArgs(args)), getActualThrowable(args));
+            this.error(LogFormat.format(format, getActualArgs(args)), getActualThrowable(args));
         }
     }
 
     @Override
     public void error(String message, Throwable error) {
         if (this.isErrorEnabled()) {
-            write(ConsoleColor.RED, Level.ERROR.name(), this.name, message, error);
+            this.appender.get().append(Level.ERROR, this.name, message, error);
         }
     }
 
     private static Object[] getActualArgs(Object... args) {
         if (ArrayUtils.isEmpty(args)) {
-            return new Object[0];
+            return EMPTY_ARGS;
         }
         if (args[args.length - 1] instanceof Throwable) {
             Object[] actual = new Object[args.length - 1];
@@ -171,35 +173,4 @@ public class ConsoleLogger implements Logger {
             return null;
         }
     }
-
-    private static String canonicalizeFormat(String format) {
-        StringBuilder builder = new StringBuilder(format.length() << 1);
-        int index = 0;
-        for (int i = 0; i < format.length(); i++) {
-            char ch = format.charAt(i);
-            builder.append(ch);
-            if (ch == '{' && i < format.length() - 1 && format.charAt(i + 1) == '}') {
-                builder.append(index++).append('}');
-                i++;
-            }
-        }
-        return builder.toString();
-    }
-
-    private static void write(ConsoleColor color, String level, String scope, String message, Throwable error) {
-        String now = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
-        String log = StringUtils.format("[{0}] [{1}] [{2}] [{3}] {4}",
-                now,
-                level,
-                Thread.currentThread().getName(),
-                scope,
-                message);
-        // 去除日志中的 '\r', '\b', '\n', '\f', '\t' 特殊字符，预防日志审计的抵赖的安全风险
-        log = log.replaceAll("[\r\b\n\f\t]", "");
-        log = color.format(log);
-        System.out.println(log);
-        if (error != null) {
-            error.printStackTrace();
-        }
-    }
 }
@@ -17,13 +17,26 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 {@link LoggerFactory} 的控制台实现。
+ * <p>初始化之前的日志同步输出；初始化时根据配置创建输出器，支持的配置项如下：</p>
+ * <ul>
+ *     <li>{@code logging.console.async}：是否异步输出，默认为 {@code true}；</li>
+ *     <li>{@code logging.console.buffer-size}：异步输出的环形缓冲区容量，默认为 {@code 8192}；</li>
+ *     <li>{@code logging.console.overflow-policy}：缓冲区已满时的处理策略，可选 {@code block}、{@code drop} 和
+ *     {@code discard-below-level}，默认为 {@code block}；</li>
+ *     <li>{@code logging.console.discard-level}：{@code discard-below-level} 策略下保留的最低日志级别，默认为
+ *     {@code WARN}。</li>
+ * </ul>
  *
  * @author 季聿阶
  * @since 2023-06-13
  */
 public class ConsoleLoggerFactory implements LoggerFactory {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
     private Logger.Level level = Logger.Level.INFO;
     private final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private volatile ConsoleAppender appender = ConsoleAppender.synchronous();
+    private Thread shutdownHook;
 
     @Override
     public void initialize(Config config, ClassLoader frameworkClassLoader) {
@@ -31,6 +44,36 @@ public class ConsoleLoggerFactory implements LoggerFactory {
         if (StringUtils.isNotBlank(initialLevel)) {
             this.level = Logger.Level.from(initialLevel);
         }
+        if (Boolean.FALSE.equals(config.get("logging.console.async", Boolean.class))) {
+            return;
+        }
+        int bufferSize = ObjectUtils.nullIf(config.get("logging.console.buffer-size", Integer.class),
+                DEFAULT_BUFFER_SIZE);
+        ConsoleAppender.OverflowPolicy overflowPolicy =
+                ConsoleAppender.OverflowPolicy.from(config.get("logging.console.overflow-policy", String.class));
+        String discardLevel = config.get("logging.console.discard-level", String.class);
+        Logger.Level actualDiscardLevel =
+                StringUtils.isBlank(discardLevel) ? Logger.Level.WARN : Logger.Level.from(discardLevel);
+        this.setAppender(new ConsoleAppender(bufferSize,
+                overflowPolicy,
+                actualDiscardLevel,
+                () -> System.out,
+                () -> System.err));
+    }
+
+    private synchronized void setAppender(ConsoleAppender appender) {
+        ConsoleAppender previous = this.appender;
+        this.appender = appender;
+        previous.close();
+        if (this.shutdownHook != null) {
+            Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+        }
+        this.shutdownHook = new Thread(appender::close, "fit-console-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+
+    private ConsoleAppender appender() {
+        return this.appender;
     }
 
     @Override
@@ -41,7 +84,7 @@ public class ConsoleLoggerFactory implements LoggerFactory {
     @Override
     public Logger getLogger(String name) {
         String actualName = StringUtils.isBlank(name) ? "ROOT" : name;
-        return this.loggers.computeIfAbsent(actualName, key -> new ConsoleLogger(key, this.level));
+        return this.loggers.computeIfAbsent(actualName, key -> new ConsoleLogger(key, this.level, this::appender));
     }
 
     @Override
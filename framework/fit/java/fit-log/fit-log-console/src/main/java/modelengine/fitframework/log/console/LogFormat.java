@@ -0,0 +1,105 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.log.console;
+
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示预先编译的日志格式化字符串。
+ * <p>格式化字符串中的 {@code {}} 占位符按照顺序对应参数。编译结果按照格式化字符串缓存，格式化时直接拼接字面量和参数，不再
+ * 逐次解析格式化字符串。包含转义字符 {@code '/'} 或其他花括号的格式化字符串，以及参数数量与占位符数量不一致的调用，仍然
+ * 通过 {@link StringUtils#format(String, Object...)} 格式化，以保持原有的结果和异常。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class LogFormat {
+    private static final int MAX_CACHED_FORMATS = 4096;
+    private static final Map<String, LogFormat> FORMATS = new ConcurrentHashMap<>();
+
+    private final String canonicalFormat;
+    private final String[] literals;
+
+    private LogFormat(String canonicalFormat, String[] literals) {
+        this.canonicalFormat = canonicalFormat;
+        this.literals = literals;
+    }
+
+    /**
+     * 使用指定的参数格式化指定的格式化字符串。
+     *
+     * @param format 表示格式化字符串的 {@link String}。
+     * @param args 表示格式化参数的 {@link Object}{@code []}。
+     * @return 表示格式化后的字符串的 {@link String}。
+     */
+    static String format(String format, Object[] args) {
+        LogFormat compiled = FORMATS.get(format);
+        if (compiled == null) {
+            compiled = compile(format);
+            if (FORMATS.size() < MAX_CACHED_FORMATS) {
+                FORMATS.putIfAbsent(format, compiled);
+            }
+        }
+        return compiled.render(args);
+    }
+
+    private String render(Object[] args) {
+        if (this.literals == null || this.literals.length - 1 != args.length) {
+            return StringUtils.format(this.canonicalFormat, args);
+        }
+        if (args.length == 0) {
+            return this.literals[0];
+        }
+        StringBuilder builder = new StringBuilder(this.canonicalFormat.length() + (args.length << 4));
+        builder.append(this.literals[0]);
+        for (int i = 0; i < args.length; i++) {
+            builder.append(StringUtils.normalize(ObjectUtils.toString(args[i]))).append(this.literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static LogFormat compile(String format) {
+        String canonicalFormat = canonicalize(format);
+        if (StringUtils.isBlank(format)) {
+            return new LogFormat(canonicalFormat, null);
+        }
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < format.length(); i++) {
+            char ch = format.charAt(i);
+            if (ch == '{' && i < format.length() - 1 && format.charAt(i + 1) == '}') {
+                literals.add(format.substring(start, i));
+                start = i + 2;
+                i++;
+            } else if (ch == '{' || ch == '}' || ch == '/') {
+                return new LogFormat(canonicalFormat, null);
+            }
+        }
+        literals.add(format.substring(start));
+        return new LogFormat(canonicalFormat, literals.toArray(new String[0]));
+    }
+
+    private static String canonicalize(String format) {
+        StringBuilder builder = new StringBuilder(format.length() << 1);
+        int index = 0;
+        for (int i = 0; i < format.length(); i++) {
+            char ch = format.charAt(i);
+            builder.append(ch);
+            if (ch == '{' && i < format.length() - 1 && format.charAt(i + 1) == '}') {
+                builder.append(index++).append('}');
+                i++;
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,181 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.log.console;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.log.Logger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link ConsoleAppender} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 ConsoleAppender 类")
+class ConsoleAppenderTest {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(this.bytes, true, StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("多个线程异步输出的日志全部写出，且每个线程的日志保持顺序")
+    void shouldWriteAllEventsInOrderOfEachThread() throws InterruptedException {
+        ConsoleAppender appender =
+                new ConsoleAppender(64, ConsoleAppender.OverflowPolicy.BLOCK, Logger.Level.WARN, () -> out, () -> out);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    appender.append(Logger.Level.INFO, "test", "message\r\n" + j, null);
+                }
+            }, "producer-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.close();
+        List<String> lines = Arrays.asList(this.bytes.toString(StandardCharsets.UTF_8).split(System.lineSeparator()));
+        assertThat(lines).hasSize(4000);
+        assertThat(lines.get(0)).matches("\033\\[37m\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3}] "
+                + "\\[INFO ] \\[producer-\\d] \\[test] message\\d+\033\\[0m");
+        for (int i = 0; i < 4; i++) {
+            String prefix = "[producer-" + i + "] [test] message";
+            int[] numbers = lines.stream()
+                    .filter(line -> line.contains(prefix))
+                    .mapToInt(line -> Integer.parseInt(line.substring(line.indexOf(prefix) + prefix.length(),
+                            line.indexOf('\033', line.indexOf(prefix)))))
+                    .toArray();
+            assertThat(numbers).hasSize(1000).isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("缓冲区已满时，丢弃策略丢弃日志，并在之后输出丢弃的数量")
+    void shouldDropWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ConsoleAppender appender = new ConsoleAppender(2,
+                ConsoleAppender.OverflowPolicy.DROP,
+                Logger.Level.WARN,
+                () -> this.blocking(release),
+                () -> this.out);
+        for (int i = 0; i < 100; i++) {
+            appender.append(Logger.Level.INFO, "test", "message", null);
+        }
+        assertThat(appender.dropped()).isGreaterThan(0L);
+        release.countDown();
+        appender.close();
+        assertThat(this.bytes.toString(StandardCharsets.UTF_8)).contains(
+                "log events were dropped because the console log buffer is full.");
+    }
+
+    @Test
+    @DisplayName("缓冲区已满时，只丢弃低于指定级别的日志")
+    void shouldDiscardBelowLevelWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ConsoleAppender appender = new ConsoleAppender(2,
+                ConsoleAppender.OverflowPolicy.DISCARD_BELOW_LEVEL,
+                Logger.Level.WARN,
+                () -> this.blocking(release),
+                () -> this.out);
+        for (int i = 0; i < 10; i++) {
+            appender.append(Logger.Level.INFO, "test", "info", null);
+        }
+        long dropped = appender.dropped();
+        assertThat(dropped).isGreaterThan(0L);
+        CountDownLatch logged = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                appender.append(Logger.Level.ERROR, "test", "error" + i, null);
+            }
+            logged.countDown();
+        });
+        thread.start();
+        assertThat(logged.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(logged.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.close();
+        assertThat(appender.dropped()).isEqualTo(dropped);
+        assertThat(this.bytes.toString(StandardCharsets.UTF_8)).contains("error0", "error9");
+    }
+
+    @Test
+    @DisplayName("关闭时正在输出的日志不丢失")
+    void shouldNotLoseEventsWhenClosedConcurrently() throws InterruptedException {
+        for (int round = 0; round < 2000; round++) {
+            this.bytes.reset();
+            ConsoleAppender appender = new ConsoleAppender(1024,
+                    ConsoleAppender.OverflowPolicy.BLOCK,
+                    Logger.Level.WARN,
+                    () -> out,
+                    () -> out);
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int j = 0; j < 20; j++) {
+                        appender.append(Logger.Level.INFO, "test", "message", null);
+                    }
+                }, "producer-" + i);
+                threads.add(thread);
+                thread.start();
+            }
+            started.await();
+            appender.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertThat(this.bytes.toString(StandardCharsets.UTF_8).split(System.lineSeparator())).hasSize(80);
+        }
+    }
+
+    @Test
+    @DisplayName("同步模式下在调用线程上输出日志和异常堆栈")
+    void shouldWriteSynchronously() {
+        ConsoleAppender appender =
+                new ConsoleAppender(0, ConsoleAppender.OverflowPolicy.BLOCK, Logger.Level.WARN, () -> out, () -> out);
+        appender.append(Logger.Level.ERROR, "test", "failed\tto run", new IllegalStateException("boom"));
+        String output = this.bytes.toString(StandardCharsets.UTF_8);
+        assertThat(output).startsWith("\033[31m[")
+                .contains("[ERROR] [" + Thread.currentThread().getName() + "] [test] failedto run\033[0m")
+                .contains("java.lang.IllegalStateException: boom");
+    }
+
+    private PrintStream blocking(CountDownLatch release) {
+        return new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                this.write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ConsoleAppenderTest.this.bytes.write(buffer, offset, length);
+            }
+        }, true, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.log.console;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.parameterization.StringFormatException;
+import modelengine.fitframework.util.StringUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 表示 {@link LogFormat} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 LogFormat 类")
+class LogFormatTest {
+    @Test
+    @DisplayName("按照顺序将参数填入占位符，空参数格式化为空字符串")
+    void shouldFillPlaceholdersInOrder() {
+        assertThat(LogFormat.format("Start {} in {}ms.", new Object[] {"app", 12})).isEqualTo("Start app in 12ms.");
+        assertThat(LogFormat.format("{}{}", new Object[] {null, "x"})).isEqualTo("x");
+        assertThat(LogFormat.format("No placeholder.", new Object[0])).isEqualTo("No placeholder.");
+    }
+
+    @Test
+    @DisplayName("包含转义字符的格式化字符串与原有的格式化结果一致")
+    void shouldKeepResultOfEscapedFormat() {
+        Object[] args = {"GET"};
+        assertThat(LogFormat.format("Request {} //api/{v1/}.", args)).isEqualTo("Request GET /api{v1}.")
+                .isEqualTo(StringUtils.format("Request {0} //api/{v1/}.", args));
+    }
+
+    @Test
+    @DisplayName("参数数量与占位符数量不一致时，与原有的格式化一样抛出异常")
+    void shouldThrowWhenArgumentsMismatch() {
+        assertThatThrownBy(() -> LogFormat.format("Value {}.", new Object[0]))
+                .isInstanceOf(StringFormatException.class);
+    }
+}
@@ -32,10 +32,13 @@ import modelengine.fitframework.broker.support.DefaultFitableFactory;
 import modelengine.fitframework.broker.support.DefaultGenericableFactory;
 import modelengine.fitframework.broker.support.DefaultLoadBalancer;
 import modelengine.fitframework.broker.support.DefaultTargetLocator;
+import modelengine.fitframework.broker.support.HedgingPolicy;
 import modelengine.fitframework.conf.runtime.ApplicationConfig;
 import modelengine.fitframework.conf.runtime.DefaultApplication;
+import modelengine.fitframework.conf.runtime.DefaultHedging;
 import modelengine.fitframework.conf.runtime.DefaultMatata;
 import modelengine.fitframework.conf.runtime.DefaultWorker;
+import modelengine.fitframework.conf.runtime.HedgingConfig;
 import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.log.Logger;
@@ -77,6 +80,7 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
     private static final String DISPATCHER_BEAN_NAME = "dispatcher";
     private static final String MATATA_CONFIG_BEAN_NAME = "matataConfig";
     private static final String WORKER_CONFIG_BEAN_NAME = "workerConfig";
+    private static final String HEDGING_CONFIG_BEAN_NAME = "hedgingConfig";
     private static final String APPLICATION_CONFIG = "applicationConfig";
     private static final String GENERICABLE_FILTER_MANAGER_NAME = "genericableServerFilterManager";
     private static final int LEVEL_MAX = 7;
@@ -84,6 +88,7 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
 
     private MatataConfig matata;
     private WorkerConfig worker;
+    private HedgingConfig hedging;
 
     @Override
     public final Plugin parent() {
@@ -114,6 +119,9 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
         this.worker = this.config().get("worker", DefaultWorker.class);
         this.container().registry().register(this.worker, WORKER_CONFIG_BEAN_NAME);
         log.debug("Config 'worker.*' is {}.", this.worker);
+        this.hedging = this.config().get("broker.hedging", DefaultHedging.class);
+        this.container().registry().register(this.hedging, HEDGING_CONFIG_BEAN_NAME);
+        log.debug("Config 'broker.hedging.*' is {}.", this.hedging);
     }
 
     private void registerAopBeans() {
@@ -135,7 +143,10 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
         this.container().registry().register(loadBalancer, LOAD_BALANCER_BEAN_BANE);
         FitExceptionCreator exceptionCreator = new DefaultFitExceptionCreator(this.container());
         this.container().registry().register(exceptionCreator, FIT_EXCEPTION_CREATOR_BEAN_NAME);
-        FitableFactory fitableFactory = new DefaultFitableFactory(this.container(), loadBalancer, targetLocator);
+        FitableFactory fitableFactory = new DefaultFitableFactory(this.container(),
+                loadBalancer,
+                targetLocator,
+                new HedgingPolicy(this.hedging));
         this.container().registry().register(fitableFactory, FITABLE_FACTORY_BEAN_NAME);
         DefaultInvokerFactory invokerFactory = new DefaultInvokerFactory(this.container(),
                 genericableFactory,
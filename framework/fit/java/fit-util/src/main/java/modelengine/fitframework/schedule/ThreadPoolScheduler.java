@@ -7,9 +7,13 @@
 package modelengine.fitframework.schedule;
 
 import modelengine.fitframework.schedule.support.DefaultThreadPoolScheduler;
+import modelengine.fitframework.schedule.support.TimingWheel;
+import modelengine.fitframework.schedule.support.TimingWheelThreadPoolScheduler;
 
 import java.time.Instant;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 表示线程池化的调度器。
@@ -73,4 +77,55 @@ public interface ThreadPoolScheduler extends ThreadPool {
     static Builder custom() {
         return new DefaultThreadPoolScheduler.Builder();
     }
+
+    /**
+     * 创建一个基于共享时间轮的调度器。
+     * <p>通过该方法创建的调度器共享一个时间轮线程，精度为 10 毫秒，添加和取消调度的时间复杂度为 O(1)，适用于大量的定时
+     * 或超时任务。任务到期后在指定的 {@code executor} 上执行，执行耗时很短的任务时可以使用 {@code Runnable::run} 在时间轮
+     * 线程上直接执行。关闭调度器时只取消其调度的任务，不会关闭 {@code executor}。</p>
+     *
+     * @param name 表示调度器名字的 {@link String}。
+     * @param executor 表示执行任务的 {@link Executor}。
+     * @return 表示创建出来的调度器的 {@link ThreadPoolScheduler}。
+     * @throws IllegalArgumentException 当 {@code name} 为 {@code null} 或空白字符串，或 {@code executor} 为 {@code null}
+     * 时。
+     */
+    static ThreadPoolScheduler timingWheel(String name, Executor executor) {
+        return new TimingWheelThreadPoolScheduler(name, TimingWheel.shared(), executor);
+    }
+
+    /**
+     * 创建一个基于共享时间轮、在指定线程池上执行任务的调度器。
+     * <p>与 {@link #timingWheel(String, Executor)} 不同，调度器持有 {@code threadPool}，关闭调度器时同时关闭该线程池。
+     * 使用核心线程数为 0 的线程池时，没有任务执行的期间不会保留空闲线程。</p>
+     *
+     * @param name 表示调度器名字的 {@link String}。
+     * @param threadPool 表示执行任务的 {@link ThreadPoolExecutor}。
+     * @return 表示创建出来的调度器的 {@link ThreadPoolScheduler}。
+     * @throws IllegalArgumentException 当 {@code name} 为 {@code null} 或空白字符串，或 {@code threadPool} 为
+     * {@code null} 时。
+     */
+    static ThreadPoolScheduler timingWheel(String name, ThreadPoolExecutor threadPool) {
+        return new TimingWheelThreadPoolScheduler(name, TimingWheel.shared(), threadPool);
+    }
+
+    /**
+     * 创建一个基于共享时间轮、在单个按需创建的守护线程上依次执行任务的调度器。
+     * <p>执行线程在空闲 60 秒后回收，适用于执行周期较长或耗时不确定的周期性任务。关闭调度器时同时关闭执行线程池。</p>
+     *
+     * @param name 表示调度器和执行线程池名字的 {@link String}。
+     * @return 表示创建出来的调度器的 {@link ThreadPoolScheduler}。
+     * @throws IllegalArgumentException 当 {@code name} 为 {@code null} 或空白字符串时。
+     */
+    static ThreadPoolScheduler timingWheel(String name) {
+        return timingWheel(name,
+                ThreadPoolExecutor.custom()
+                        .threadPoolName(name)
+                        .corePoolSize(0)
+                        .maximumPoolSize(1)
+                        .keepAliveTime(60, TimeUnit.SECONDS)
+                        .workQueueCapacity(Integer.MAX_VALUE)
+                        .isDaemonThread(true)
+                        .build());
+    }
 }
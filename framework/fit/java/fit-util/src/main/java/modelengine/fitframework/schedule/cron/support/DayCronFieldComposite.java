@@ -21,7 +21,9 @@ import java.util.Optional;
  *
  * @author 季聿阶
  * @since 2023-01-04
+ * @deprecated {@link DefaultCronExpression} 已经不再使用该组合字段，仅为兼容 {@link NextDateTimeCalculator} 保留。
  */
+@Deprecated
 public class DayCronFieldComposite extends AbstractCronField {
     private final DayOfMonthCronField dayOfMonthField;
     private final DayOfWeekCronField dayOfWeekField;
@@ -62,6 +62,18 @@ public class DayOfMonthCronField extends AbstractCronField {
         return bitSet;
     }
 
+    /**
+     * 获取倒数日期距离当月最后一天的天数，其中 {@code L} 对应 0，{@code L-n} 对应 n。
+     *
+     * @return 表示倒数日期距离当月最后一天的天数的 {@code int[]}。
+     */
+    int[] lastDayOffsets() {
+        return this.lastDays.stream().mapToInt(lastDay -> {
+            Matcher matcher = PATTERN.matcher(lastDay);
+            return matcher.matches() && matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : 0;
+        }).toArray();
+    }
+
     private BitSet createDaysBitSetOfMonth(ZonedDateTime dateTime) {
         BitSet bitSet = cast(this.getBitSet().clone());
         int maxDaysOfMonth = TimeUtils.daysOfMonth(dateTime);
@@ -60,6 +60,32 @@ public class DayOfWeekCronField extends AbstractCronField {
         return bitSet;
     }
 
+    /**
+     * 获取需要匹配当月最后一个的星期中的天数，即 {@code xL} 中的 {@code x}。
+     *
+     * @return 表示需要匹配当月最后一个的星期中的天数的 {@code int[]}。
+     */
+    int[] lastDaysOfWeek() {
+        return this.daysOfWeek.stream()
+                .map(PATTERN::matcher)
+                .filter(matcher -> matcher.matches() && matcher.group(1) != null)
+                .mapToInt(matcher -> Integer.parseInt(matcher.group(1)))
+                .toArray();
+    }
+
+    /**
+     * 获取需要匹配当月第若干个的星期中的天数，即 {@code x#n}，每一项依次为 {@code x} 和 {@code n}。
+     *
+     * @return 表示需要匹配当月第若干个的星期中的天数的 {@code int[][]}。
+     */
+    int[][] nthDaysOfWeek() {
+        return this.daysOfWeek.stream()
+                .map(PATTERN::matcher)
+                .filter(matcher -> matcher.matches() && matcher.group(2) != null)
+                .map(matcher -> new int[] {Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3))})
+                .toArray(int[][]::new);
+    }
+
     private BitSet createDaysBitSetOfMonth(ZonedDateTime dateTime) {
         BitSet bitSet = new BitSet(64);
         int minDayOfMonth = 1;
@@ -12,12 +12,17 @@ import static modelengine.fitframework.util.ObjectUtils.cast;
 import modelengine.fitframework.schedule.cron.CronExpression;
 import modelengine.fitframework.schedule.cron.CronField;
 
+import java.time.LocalDateTime;
+import java.time.Year;
 import java.time.ZonedDateTime;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Optional;
 
 /**
  * 表示 {@link CronExpression} 的默认实现。
+ * <p>构造时将各个字段编译为位掩码，并预先计算每月第一天分别为星期一至星期日时星期字段匹配的日期，搜索下一个时间点时只在
+ * 整数上按照月、日、时、分、秒的顺序逐级查找下一个置位，不再逐级构造中间的 {@link ZonedDateTime}。编译后的实例不可变，
+ * 可以在多个调度任务之间共享。</p>
  *
  * @author 季聿阶
  * @since 2023-01-02
@@ -26,31 +31,186 @@ public class DefaultCronExpression implements CronExpression {
     /** 表示用于搜索的未来年数，一般这个值不需要修改，但是如果存在业务需要，可以全局修改。 */
     private static int maxFutureYears = 10;
 
-    private final CronField secondField;
-    private final CronField minuteField;
-    private final CronField hourField;
-    private final CronField dayField;
-    private final CronField monthField;
+    private static final int[] MONTH_OFFSETS = {0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4};
+    private static final int DAYS_OF_WEEK = 7;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final int[] lastDayOffsets;
+    private final long[] daysOfWeekByFirstDay;
+    private final int[] lastDaysOfWeek;
+    private final int[][] nthDaysOfWeek;
+    private final long months;
 
     DefaultCronExpression(CronField secondField, CronField minuteField, CronField hourField, CronField dayOfMonthField,
             CronField monthField, CronField dayOfWeekField) {
-        this.secondField = notNull(secondField, "The second of minute field cannot be null.");
-        this.minuteField = notNull(minuteField, "The minute of hour field cannot be null.");
-        this.hourField = notNull(hourField, "The hour of day field cannot be null.");
+        notNull(secondField, "The second of minute field cannot be null.");
+        notNull(minuteField, "The minute of hour field cannot be null.");
+        notNull(hourField, "The hour of day field cannot be null.");
         notNull(dayOfMonthField, "The day of month field cannot be null.");
+        notNull(monthField, "The month of year field cannot be null.");
         notNull(dayOfWeekField, "The day of week field cannot be null.");
-        this.dayField = new DayCronFieldComposite(cast(dayOfMonthField), cast(dayOfWeekField));
-        this.monthField = notNull(monthField, "The month of year field cannot be null.");
+        this.seconds = mask(secondField.getBitSet(), 0, 59);
+        this.minutes = mask(minuteField.getBitSet(), 0, 59);
+        this.hours = mask(hourField.getBitSet(), 0, 23);
+        this.daysOfMonth = mask(dayOfMonthField.getBitSet(), 1, 31);
+        this.months = mask(monthField.getBitSet(), 1, 12);
+        DayOfMonthCronField actualDayOfMonthField = cast(dayOfMonthField);
+        DayOfWeekCronField actualDayOfWeekField = cast(dayOfWeekField);
+        this.lastDayOffsets = actualDayOfMonthField.lastDayOffsets();
+        this.lastDaysOfWeek = actualDayOfWeekField.lastDaysOfWeek();
+        this.nthDaysOfWeek = actualDayOfWeekField.nthDaysOfWeek();
+        long daysOfWeek = mask(dayOfWeekField.getBitSet(), 1, DAYS_OF_WEEK);
+        this.daysOfWeekByFirstDay = new long[DAYS_OF_WEEK];
+        for (int firstDay = 1; firstDay <= DAYS_OF_WEEK; firstDay++) {
+            long days = 0L;
+            for (int day = 1; day <= 31; day++) {
+                if ((daysOfWeek & (1L << dayOfWeek(firstDay, day))) != 0) {
+                    days |= 1L << day;
+                }
+            }
+            this.daysOfWeekByFirstDay[firstDay - 1] = days;
+        }
     }
 
     @Override
     public Optional<ZonedDateTime> findNextDateTime(ZonedDateTime dateTime) {
-        NextDateTimeCalculator calculator = new NextDateTimeCalculator(Arrays.asList(this.monthField,
-                this.dayField,
-                this.hourField,
-                this.minuteField,
-                this.secondField), maxFutureYears, dateTime);
-        return calculator.findNextDateTime();
+        int year = dateTime.getYear();
+        int month = dateTime.getMonthValue();
+        int day = dateTime.getDayOfMonth();
+        int hour = dateTime.getHour();
+        int minute = dateTime.getMinute();
+        int second = dateTime.getSecond() + 1;
+        int lastYear = year + maxFutureYears;
+        while (year <= lastYear) {
+            int value = nextBit(this.months, month);
+            if (value < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if (value != month) {
+                month = value;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+            value = nextBit(this.daysOfMonth(year, month), day);
+            if (value < 0) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if (value != day) {
+                day = value;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+            value = nextBit(this.hours, hour);
+            if (value < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if (value != hour) {
+                hour = value;
+                minute = 0;
+                second = 0;
+            }
+            value = nextBit(this.minutes, minute);
+            if (value < 0) {
+                hour++;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if (value != minute) {
+                minute = value;
+                second = 0;
+            }
+            value = nextBit(this.seconds, second);
+            if (value < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            LocalDateTime next = LocalDateTime.of(year, month, day, hour, minute, value);
+            return Optional.of(ZonedDateTime.ofLocal(next, dateTime.getZone(), dateTime.getOffset()));
+        }
+        return Optional.empty();
+    }
+
+    private long daysOfMonth(int year, int month) {
+        int length = lengthOfMonth(year, month);
+        int firstDay = dayOfWeekOfFirstDay(year, month);
+        long days = this.daysOfMonth;
+        for (int offset : this.lastDayOffsets) {
+            if (offset < length) {
+                days |= 1L << (length - offset);
+            }
+        }
+        long daysOfWeek = this.daysOfWeekByFirstDay[firstDay - 1];
+        int lastDay = dayOfWeek(firstDay, length);
+        for (int dayOfWeek : this.lastDaysOfWeek) {
+            daysOfWeek |= 1L << (length - Math.floorMod(lastDay - dayOfWeek, DAYS_OF_WEEK));
+        }
+        for (int[] nthDayOfWeek : this.nthDaysOfWeek) {
+            int day = 1 + Math.floorMod(nthDayOfWeek[0] - firstDay, DAYS_OF_WEEK)
+                    + DAYS_OF_WEEK * (nthDayOfWeek[1] - 1);
+            if (day <= length) {
+                daysOfWeek |= 1L << day;
+            }
+        }
+        long validDays = (1L << (length + 1)) - 2L;
+        return days & daysOfWeek & validDays;
+    }
+
+    private static long mask(BitSet bitSet, int min, int max) {
+        long[] words = bitSet.toLongArray();
+        if (words.length == 0) {
+            return 0L;
+        }
+        return words[0] & (-1L << min) & (-1L >>> (63 - max));
+    }
+
+    private static int nextBit(long mask, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        long bits = mask & (-1L << from);
+        return bits == 0L ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int dayOfWeekOfFirstDay(int year, int month) {
+        int actualYear = month < 3 ? year - 1 : year;
+        int value = Math.floorMod(actualYear + Math.floorDiv(actualYear, 4) - Math.floorDiv(actualYear, 100)
+                + Math.floorDiv(actualYear, 400) + MONTH_OFFSETS[month - 1] + 1, DAYS_OF_WEEK);
+        return value == 0 ? DAYS_OF_WEEK : value;
+    }
+
+    private static int dayOfWeek(int dayOfWeekOfFirstDay, int dayOfMonth) {
+        return (dayOfWeekOfFirstDay + dayOfMonth - 2) % DAYS_OF_WEEK + 1;
     }
 
     /**
@@ -17,9 +17,13 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 {@link CronExpressionParser} 的默认实现。
+ * <p>解析结果按照去除多余空白后的表达式驻留，相同的表达式只编译一次并共享同一个 {@link CronExpression} 实例；驻留的表达式
+ * 数量超过上限后，新的表达式不再驻留。</p>
  *
  * @author 季聿阶
  * @since 2023-01-02
@@ -28,17 +32,34 @@ public class DefaultCronExpressionParser implements CronExpressionParser {
     /** 表示 {@link CronExpressionParser} 的单例。 */
     public static final CronExpressionParser INSTANCE = new DefaultCronExpressionParser();
 
+    private static final int MAX_INTERNED_EXPRESSIONS = 1 << 16;
+
     private final CronFieldParser secondsParser = new SecondOfMinuteCronField.Parser();
     private final CronFieldParser minutesParser = new MinuteOfHourCronField.Parser();
     private final CronFieldParser hoursParser = new HourOfDayCronField.Parser();
     private final CronFieldParser daysParser = new DayOfMonthCronField.Parser();
     private final CronFieldParser monthsParser = new MonthOfYearCronField.Parser();
     private final CronFieldParser weeksParser = new DayOfWeekCronField.Parser();
+    private final Map<String, CronExpression> expressions = new ConcurrentHashMap<>();
 
     @Override
     public CronExpression parse(String expression) {
         notBlank(expression, "The cron expression cannot be blank.");
         List<String> fieldValues = StringUtils.split(expression, ' ', ArrayList::new, StringUtils::isNotBlank);
+        String key = String.join(" ", fieldValues);
+        CronExpression interned = this.expressions.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        CronExpression parsed = this.parse(expression, fieldValues);
+        if (this.expressions.size() >= MAX_INTERNED_EXPRESSIONS) {
+            return parsed;
+        }
+        interned = this.expressions.putIfAbsent(key, parsed);
+        return interned == null ? parsed : interned;
+    }
+
+    private CronExpression parse(String expression, List<String> fieldValues) {
         Validation.equals(fieldValues.size(),
                 6,
                 "The cron expression must contain 6 parts. [expression={0}]",
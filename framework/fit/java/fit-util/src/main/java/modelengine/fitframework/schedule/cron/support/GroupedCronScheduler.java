@@ -0,0 +1,221 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.cron.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.schedule.cron.CronExpression;
+import modelengine.fitframework.schedule.cron.CronExpressionParser;
+import modelengine.fitframework.schedule.support.TimingWheel;
+import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示按照 CRON 表达式分组调度任务的调度器。
+ * <p>相同的 CRON 表达式经过 {@link CronExpressionParser} 驻留后为同一个实例，调度器为每一个表达式只在 {@link TimingWheel}
+ * 上保留一个定时任务：到期时计算一次下一个时间点并重新添加定时任务，然后将该表达式下的所有任务提交到指定的
+ * {@link Executor} 上执行。表达式下的任务全部取消后，对应的定时任务也随之取消。关闭调度器时取消所有定时任务，不会停止
+ * 时间轮，也不会关闭 {@link Executor}。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class GroupedCronScheduler {
+    private final TimingWheel wheel;
+    private final Executor executor;
+    private final ZoneId zoneId;
+    private final Map<CronExpression, Group> groups = new ConcurrentHashMap<>();
+    private volatile boolean isShutdown;
+
+    /**
+     * 使用指定的时间轮、执行器和时区初始化 {@link GroupedCronScheduler} 的新实例。
+     *
+     * @param wheel 表示驱动调度的时间轮的 {@link TimingWheel}。
+     * @param executor 表示执行任务的 {@link Executor}。
+     * @param zoneId 表示计算 CRON 表达式所使用的时区的 {@link ZoneId}。
+     * @throws IllegalArgumentException 当 {@code wheel}、{@code executor} 或 {@code zoneId} 为 {@code null} 时。
+     */
+    public GroupedCronScheduler(TimingWheel wheel, Executor executor, ZoneId zoneId) {
+        this.wheel = notNull(wheel, "The timing wheel cannot be null.");
+        this.executor = notNull(executor, "The executor cannot be null.");
+        this.zoneId = notNull(zoneId, "The zone id cannot be null.");
+    }
+
+    /**
+     * 按照指定的 CRON 表达式调度任务。
+     *
+     * @param expression 表示 CRON 表达式的 {@link String}。
+     * @param job 表示待调度的任务的 {@link Runnable}。
+     * @return 表示任务调度的登记信息的 {@link Registration}。
+     * @throws IllegalArgumentException 当 {@code expression} 不是合法的 CRON 表达式，或 {@code job} 为 {@code null} 时。
+     * @throws RejectedExecutionException 当调度器已经关闭时。
+     */
+    public Registration schedule(String expression, Runnable job) {
+        notNull(job, "The job cannot be null.");
+        CronExpression cronExpression = CronExpressionParser.create().parse(expression);
+        while (true) {
+            if (this.isShutdown) {
+                throw new RejectedExecutionException(StringUtils.format(
+                        "The cron scheduler is shutdown. [expression={0}]",
+                        expression));
+            }
+            Group group = this.groups.computeIfAbsent(cronExpression, Group::new);
+            Job registration = new Job(group, job);
+            if (group.add(registration)) {
+                return registration;
+            }
+        }
+    }
+
+    /**
+     * 获取当前调度中的 CRON 表达式的数量，即占用的定时任务的数量。
+     *
+     * @return 表示当前调度中的 CRON 表达式的数量的 {@code int}。
+     */
+    public int groups() {
+        return this.groups.size();
+    }
+
+    /**
+     * 关闭调度器，取消所有已调度的任务，并拒绝新的任务。
+     */
+    public void shutdown() {
+        this.isShutdown = true;
+        this.groups.values().forEach(Group::close);
+    }
+
+    /**
+     * 表示按照 CRON 表达式调度的任务的登记信息。
+     */
+    public interface Registration {
+        /**
+         * 取消任务的调度。
+         *
+         * @return 如果任务由此次调用取消，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        boolean cancel();
+    }
+
+    /**
+     * 表示登记到任务组中的任务。
+     */
+    private static class Job implements Registration, Runnable {
+        private final Group group;
+        private final Runnable job;
+
+        private Job(Group group, Runnable job) {
+            this.group = group;
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            this.job.run();
+        }
+
+        @Override
+        public boolean cancel() {
+            return this.group.remove(this);
+        }
+    }
+
+    /**
+     * 表示共享同一个 CRON 表达式的任务组。
+     */
+    private class Group {
+        private final CronExpression expression;
+        private final Set<Job> registrations = ConcurrentHashMap.newKeySet();
+        private final Object lock = LockUtils.newSynchronizedLock();
+        private TimingWheel.Timeout timeout;
+        private ZonedDateTime next;
+        private boolean isClosed;
+
+        private Group(CronExpression expression) {
+            this.expression = expression;
+        }
+
+        private boolean add(Job registration) {
+            synchronized (this.lock) {
+                if (this.isClosed) {
+                    return false;
+                }
+                this.registrations.add(registration);
+                if (this.timeout == null) {
+                    this.next = ZonedDateTime.now(GroupedCronScheduler.this.zoneId);
+                    this.arm();
+                }
+                return true;
+            }
+        }
+
+        private boolean remove(Job registration) {
+            synchronized (this.lock) {
+                if (!this.registrations.remove(registration)) {
+                    return false;
+                }
+                if (this.registrations.isEmpty()) {
+                    this.close();
+                }
+                return true;
+            }
+        }
+
+        private void close() {
+            synchronized (this.lock) {
+                this.isClosed = true;
+                this.registrations.clear();
+                if (this.timeout != null) {
+                    this.timeout.cancel();
+                }
+                GroupedCronScheduler.this.groups.remove(this.expression, this);
+            }
+        }
+
+        private void arm() {
+            this.next = this.expression.findNextDateTime(this.next).orElse(null);
+            if (this.next == null) {
+                this.close();
+                return;
+            }
+            long delayMillis = this.next.toInstant().toEpochMilli() - System.currentTimeMillis();
+            this.timeout = GroupedCronScheduler.this.wheel.newTimeout(this::fire,
+                    delayMillis,
+                    TimeUnit.MILLISECONDS,
+                    Runnable::run);
+        }
+
+        private void fire() {
+            synchronized (this.lock) {
+                if (this.isClosed) {
+                    return;
+                }
+                ZonedDateTime now = ZonedDateTime.now(GroupedCronScheduler.this.zoneId);
+                if (now.isAfter(this.next)) {
+                    this.next = now;
+                }
+                this.arm();
+            }
+            for (Job registration : this.registrations) {
+                try {
+                    GroupedCronScheduler.this.executor.execute(registration);
+                } catch (RuntimeException cause) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, cause);
+                }
+            }
+        }
+    }
+}
@@ -21,10 +21,14 @@ import java.util.function.Function;
 
 /**
  * 表示下一个合法时间的计算器。
+ * <p>按照月、日、时、分、秒逐级搜索下一个合法时间。</p>
  *
  * @author 季聿阶
  * @since 2023-01-04
+ * @deprecated {@link DefaultCronExpression} 已经不再使用该计算器，请直接使用
+ * {@link modelengine.fitframework.schedule.cron.CronExpression#findNextDateTime(java.time.ZonedDateTime)}。
  */
+@Deprecated
 public class NextDateTimeCalculator {
     private final List<CronField> fields;
     private final List<Function<Temporal, Boolean>> isLastFunctions =
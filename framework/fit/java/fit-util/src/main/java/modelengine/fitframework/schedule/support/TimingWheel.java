@@ -0,0 +1,302 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.thread.DefaultThreadFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 表示分层时间轮。
+ * <p>时间轮按照固定的刻度前进，共 {@value #LEVELS} 层，每层 {@value #WHEEL_SIZE} 个槽位，第 {@code n} 层的一个槽位跨越
+ * {@code 64^n} 个刻度。到期时间较远的定时任务放在较高的层，所在槽位到达时降级到较低的层，最终在第 {@code 0} 层到期。</p>
+ * <p>添加和取消定时任务的时间复杂度均为 O(1)：请求先放入无锁队列，由时间轮的工作线程在每个刻度统一处理，工作线程独占
+ * 所有槽位，因此不需要加锁。到期的定时任务投递到添加时指定的 {@link Executor} 上执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public final class TimingWheel {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 7;
+    private static final long MAXIMUM_SPAN = 1L << (WHEEL_BITS * LEVELS);
+    private static final long SHARED_TICK_MILLIS = 10L;
+
+    private static final int INIT = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final Queue<Timeout> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean stopped;
+    private long tick;
+
+    /**
+     * 使用指定的名字和刻度初始化 {@link TimingWheel} 的新实例，并启动工作线程。
+     *
+     * @param name 表示工作线程名字前缀的 {@link String}。
+     * @param tickMillis 表示刻度的毫秒数的 {@code long}。
+     * @throws IllegalArgumentException 当 {@code name} 为 {@code null} 或空白字符串，或 {@code tickMillis} 不是正数时。
+     */
+    public TimingWheel(String name, long tickMillis) {
+        greaterThan(tickMillis, 0L, "The tick of timing wheel must be positive. [tickMillis={0}]", tickMillis);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        for (Bucket[] wheel : this.wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new DefaultThreadFactory(name, true, null).newThread(this::run);
+        this.worker.start();
+    }
+
+    /**
+     * 获取进程内共享的时间轮，刻度为 {@value #SHARED_TICK_MILLIS} 毫秒。
+     *
+     * @return 表示共享时间轮的 {@link TimingWheel}。
+     */
+    public static TimingWheel shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * 添加一个定时任务。
+     *
+     * @param task 表示到期后执行的任务的 {@link Runnable}。
+     * @param delay 表示距离到期的时间的 {@code long}，不大于 {@code 0} 时在下一个刻度到期。
+     * @param unit 表示 {@code delay} 的单位的 {@link TimeUnit}。
+     * @param executor 表示执行任务的 {@link Executor}。
+     * @return 表示添加的定时任务的 {@link Timeout}。
+     * @throws IllegalArgumentException 当 {@code task}、{@code unit} 或 {@code executor} 为 {@code null} 时。
+     * @throws RejectedExecutionException 当时间轮已经停止时。
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        notNull(task, "The task cannot be null.");
+        notNull(unit, "The time unit cannot be null.");
+        notNull(executor, "The executor cannot be null.");
+        if (this.stopped) {
+            throw new RejectedExecutionException("The timing wheel is stopped.");
+        }
+        long delayNanos = Math.max(unit.toNanos(delay), 0L);
+        long delayTicks = Math.min(delayNanos / this.tickNanos, MAXIMUM_SPAN << 1);
+        long elapsed = System.nanoTime() - this.startNanos + delayNanos % this.tickNanos;
+        long deadline = (elapsed + this.tickNanos - 1) / this.tickNanos + delayTicks;
+        Timeout timeout = new Timeout(this, task, executor, deadline);
+        this.pending.incrementAndGet();
+        this.additions.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 获取尚未到期也没有被取消的定时任务的数量。
+     *
+     * @return 表示定时任务数量的 {@code long}。
+     */
+    public long pending() {
+        return this.pending.get();
+    }
+
+    /**
+     * 停止时间轮，尚未到期的定时任务不再执行。共享的时间轮不应被停止。
+     */
+    public void stop() {
+        this.stopped = true;
+        LockSupport.unpark(this.worker);
+    }
+
+    private void run() {
+        while (!this.stopped) {
+            long sleep = this.startNanos + (this.tick + 1) * this.tickNanos - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            this.advance(++this.tick);
+        }
+    }
+
+    private void advance(long current) {
+        Timeout timeout;
+        while ((timeout = this.cancellations.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = WHEEL_BITS * level;
+            if ((current & ((1L << shift) - 1)) == 0) {
+                Bucket bucket = this.wheels[level][(int) ((current >>> shift) & WHEEL_MASK)];
+                while ((timeout = bucket.poll()) != null) {
+                    this.place(timeout, current);
+                }
+            }
+        }
+        while ((timeout = this.additions.poll()) != null) {
+            if (timeout.state == INIT) {
+                this.place(timeout, current);
+            }
+        }
+        Bucket bucket = this.wheels[0][(int) (current & WHEEL_MASK)];
+        while ((timeout = bucket.poll()) != null) {
+            timeout.expire();
+        }
+    }
+
+    private void place(Timeout timeout, long current) {
+        long deadline = Math.max(timeout.deadline, current);
+        long remaining = deadline - current;
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        if (remaining >= MAXIMUM_SPAN) {
+            deadline = current + MAXIMUM_SPAN - 1;
+        }
+        this.wheels[level][(int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+    }
+
+    private void onFailure(Throwable cause) {
+        Thread.UncaughtExceptionHandler handler = this.worker.getUncaughtExceptionHandler();
+        if (handler != null) {
+            handler.uncaughtException(this.worker, cause);
+        }
+    }
+
+    /**
+     * 表示添加到时间轮中的定时任务。
+     */
+    public static final class Timeout {
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadline;
+        private volatile int state = INIT;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, Runnable task, Executor executor, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 取消当前定时任务。
+         *
+         * @return 如果取消成功，则返回 {@code true}，如果已经到期或者已经被取消，则返回 {@code false}。
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+                return false;
+            }
+            this.wheel.pending.decrementAndGet();
+            this.wheel.cancellations.add(this);
+            return true;
+        }
+
+        /**
+         * 判断当前定时任务是否已经被取消。
+         *
+         * @return 如果已经被取消，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        public boolean isCancelled() {
+            return this.state == CANCELLED;
+        }
+
+        /**
+         * 判断当前定时任务是否已经到期。
+         *
+         * @return 如果已经到期，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        public boolean isExpired() {
+            return this.state == EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            this.wheel.pending.decrementAndGet();
+            try {
+                this.executor.execute(this.task);
+            } catch (Throwable cause) {
+                this.wheel.onFailure(cause);
+            }
+        }
+    }
+
+    /**
+     * 表示时间轮的槽位，是以定时任务自身的指针相连的双向链表，只由工作线程访问。
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = this.tail;
+            timeout.next = null;
+            if (this.tail == null) {
+                this.head = timeout;
+            } else {
+                this.tail.next = timeout;
+            }
+            this.tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                this.head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                this.tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout poll() {
+            Timeout timeout = this.head;
+            if (timeout != null) {
+                this.remove(timeout);
+            }
+            return timeout;
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final TimingWheel INSTANCE = new TimingWheel("fit-timing-wheel", SHARED_TICK_MILLIS);
+    }
+}
@@ -0,0 +1,277 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.support;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPool;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 表示基于 {@link TimingWheel} 的 {@link ThreadPoolScheduler}。
+ * <p>调度器本身不持有线程：任务的每一次执行都作为一个定时任务添加到时间轮中，到期后在指定的 {@link Executor} 上执行，执行
+ * 完成后根据 {@link ExecutePolicy} 添加下一次执行。关闭调度器时取消通过其调度的所有任务，不会停止时间轮；只有调度器持有的
+ * {@link ThreadPool} 会被同时关闭。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+public class TimingWheelThreadPoolScheduler implements ThreadPoolScheduler {
+    private final String name;
+    private final TimingWheel wheel;
+    private final Executor executor;
+    private final ThreadPool ownedThreadPool;
+    private final Set<WheelTask> tasks = ConcurrentHashMap.newKeySet();
+    private final Object lock = LockUtils.newSynchronizedLock();
+    private boolean isShutdown;
+
+    /**
+     * 使用指定的名字、时间轮和执行器初始化 {@link TimingWheelThreadPoolScheduler} 的新实例。
+     *
+     * @param name 表示调度器名字的 {@link String}。
+     * @param wheel 表示驱动调度的时间轮的 {@link TimingWheel}。
+     * @param executor 表示执行任务的 {@link Executor}。
+     * @throws IllegalArgumentException 当 {@code name} 为 {@code null} 或空白字符串，或 {@code wheel}、{@code executor}
+     * 为 {@code null} 时。
+     */
+    public TimingWheelThreadPoolScheduler(String name, TimingWheel wheel, Executor executor) {
+        this(name, wheel, executor, null);
+    }
+
+    /**
+     * 使用指定的名字、时间轮和线程池初始化 {@link TimingWheelThreadPoolScheduler} 的新实例。
+     * <p>任务在指定的线程池上执行，关闭调度器时同时关闭该线程池。</p>
+     *
+     * @param name 表示调度器名字的 {@link String}。
+     * @param wheel 表示驱动调度的时间轮的 {@link TimingWheel}。
+     * @param threadPool 表示执行任务并由调度器持有的 {@link ThreadPoolExecutor}。
+     * @throws IllegalArgumentException 当 {@code name} 为 {@code null} 或空白字符串，或 {@code wheel}、
+     * {@code threadPool} 为 {@code null} 时。
+     */
+    public TimingWheelThreadPoolScheduler(String name, TimingWheel wheel, ThreadPoolExecutor threadPool) {
+        this(name, wheel, executorOf(threadPool), threadPool);
+    }
+
+    private TimingWheelThreadPoolScheduler(String name, TimingWheel wheel, Executor executor,
+            ThreadPool ownedThreadPool) {
+        this.name = notBlank(name, "The name cannot be blank.");
+        this.wheel = notNull(wheel, "The timing wheel cannot be null.");
+        this.executor = notNull(executor, "The executor cannot be null.");
+        this.ownedThreadPool = ownedThreadPool;
+    }
+
+    private static Executor executorOf(ThreadPoolExecutor threadPool) {
+        notNull(threadPool, "The thread pool cannot be null.");
+        return runnable -> threadPool.execute(Task.builder().runnable(runnable).buildDisposable());
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Task task, Instant startTime) {
+        notNull(task, "The task cannot be null.");
+        notNull(startTime, "The start time cannot be null.");
+        WheelTask wheelTask = new WheelTask(task, startTime);
+        synchronized (this.lock) {
+            if (this.isShutdown) {
+                throw new RejectedExecutionException(StringUtils.format("The scheduler is shutdown. [name={0}]",
+                        this.name));
+            }
+            this.tasks.add(wheelTask);
+        }
+        // a concurrent shutdown has already cancelled the task, in which case nothing is scheduled
+        wheelTask.schedule();
+        return wheelTask;
+    }
+
+    @Override
+    public boolean shutdown() throws InterruptedException {
+        List<WheelTask> scheduled;
+        synchronized (this.lock) {
+            this.isShutdown = true;
+            scheduled = new ArrayList<>(this.tasks);
+        }
+        scheduled.forEach(task -> task.cancel(false));
+        return this.ownedThreadPool == null || this.ownedThreadPool.shutdown();
+    }
+
+    /**
+     * 表示在时间轮上按照执行策略重复调度的任务。
+     */
+    private class WheelTask implements ScheduledFuture<Object> {
+        private final Task task;
+        private final Instant startTime;
+        private final ReschedulableExecution execution = new ReschedulableExecution();
+        private final Object lock = LockUtils.newSynchronizedLock();
+        private TimingWheel.Timeout timeout;
+        private Thread runner;
+        private boolean isInterrupted;
+        private volatile CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile boolean isCancelled;
+        private volatile boolean isFinished;
+
+        private WheelTask(Task task, Instant startTime) {
+            this.task = task;
+            this.startTime = startTime;
+        }
+
+        private void schedule() {
+            synchronized (this.lock) {
+                if (!this.isCancelled) {
+                    this.scheduleNext();
+                }
+            }
+        }
+
+        /**
+         * 按照执行策略添加下一次执行，没有下一次执行时结束任务。调用方需要持有任务的锁。
+         *
+         * @return 若添加了下一次执行，则为 {@code true}，否则为 {@code false}。
+         */
+        private boolean scheduleNext() {
+            Optional<Instant> nextExecuteTime = this.task.policy().nextExecuteTime(this.execution, this.startTime);
+            if (nextExecuteTime.isEmpty()) {
+                this.finish();
+                return false;
+            }
+            this.execution.updateScheduledTime(nextExecuteTime.get());
+            long delayMillis = nextExecuteTime.get().toEpochMilli() - System.currentTimeMillis();
+            this.timeout = TimingWheelThreadPoolScheduler.this.wheel.newTimeout(this::execute,
+                    delayMillis,
+                    TimeUnit.MILLISECONDS,
+                    TimingWheelThreadPoolScheduler.this.executor);
+            return true;
+        }
+
+        private void execute() {
+            CompletableFuture<Object> current;
+            synchronized (this.lock) {
+                if (this.isCancelled) {
+                    return;
+                }
+                current = this.result;
+                this.runner = Thread.currentThread();
+            }
+            this.execution.updateExecuteTime(Instant.now());
+            Object value = null;
+            Throwable failure = null;
+            try {
+                value = this.task.call();
+            } catch (Throwable cause) {
+                failure = cause;
+            } finally {
+                this.execution.updateCompleteTime(Instant.now());
+            }
+            synchronized (this.lock) {
+                this.runner = null;
+                if (this.isInterrupted) {
+                    // the interruption is only meant for this execution, do not leak it to the executing thread
+                    Thread.interrupted();
+                }
+                if (this.isCancelled) {
+                    return;
+                }
+                if (failure != null) {
+                    this.finish();
+                } else if (this.scheduleNext()) {
+                    this.result = new CompletableFuture<>();
+                }
+            }
+            // the state is updated before completing, so callers woken up by the result see a consistent task
+            if (failure != null) {
+                current.completeExceptionally(failure);
+            } else {
+                current.complete(value);
+            }
+        }
+
+        private void finish() {
+            this.isFinished = true;
+            TimingWheelThreadPoolScheduler.this.tasks.remove(this);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (this.lock) {
+                if (this.isCancelled || this.isFinished) {
+                    return false;
+                }
+                this.isCancelled = true;
+                if (this.timeout != null) {
+                    this.timeout.cancel();
+                }
+                if (mayInterruptIfRunning && this.runner != null) {
+                    this.isInterrupted = true;
+                    this.runner.interrupt();
+                }
+                this.result.cancel(false);
+                this.finish();
+                return true;
+            }
+        }
+        @Override
+        public boolean isCancelled() {
+            return this.isCancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return this.isCancelled || this.isFinished;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return this.result.get();
+        }
+
+        @Override
+        public Object get(long timeout, @Nonnull TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return this.result.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            return this.execution.lastScheduledTime()
+                    .map(time -> unit.convert(time.toEpochMilli() - System.currentTimeMillis(), TimeUnit.MILLISECONDS))
+                    .orElse(0L);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed another) {
+            if (another == this) {
+                return 0;
+            }
+            return Long.compare(this.getDelay(TimeUnit.MILLISECONDS), another.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.cron.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.schedule.cron.CronExpression;
+import modelengine.fitframework.schedule.cron.CronExpressionParser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 表示 {@link CronExpression} 计算下一次执行时间的耗时。
+ * <p>耗时较长，默认不执行，通过 {@code mvn test -Dfit.benchmark=true -Dtest=CronExpressionBenchmarkTest} 执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 CronExpression 计算下一次执行时间的耗时")
+@EnabledIfSystemProperty(named = "fit.benchmark", matches = "true")
+public class CronExpressionBenchmarkTest {
+    private static final String[] EXPRESSIONS = {
+            "0 * * * * *", "0 0/5 9-17 * * MON-FRI", "0 15 10 L * ?", "0 15 10 ? * 6#3", "0 30 2 1 1 ?"
+    };
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("连续计算多次下一次执行时间的平均耗时")
+    void shouldReportNextDateTimeLatency() {
+        ZonedDateTime start = ZonedDateTime.of(2026, 10, 18, 5, 32, 45, 0, ZoneId.of("Asia/Shanghai"));
+        for (int round = 0; round < 3; round++) {
+            for (String source : EXPRESSIONS) {
+                CronExpression expression = CronExpressionParser.create().parse(source);
+                ZonedDateTime current = start;
+                long begin = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    current = expression.findNextDateTime(current).orElse(start);
+                }
+                long elapsed = System.nanoTime() - begin;
+                assertThat(current).isNotNull();
+                System.out.printf("expression='%s', next=%.1fns/op%n", source, (double) elapsed / ITERATIONS);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.cron.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.schedule.cron.CronExpression;
+import modelengine.fitframework.schedule.cron.CronExpressionParser;
+import modelengine.fitframework.schedule.cron.CronField;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * 表示 {@link DefaultCronExpression} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 DefaultCronExpression 类")
+public class DefaultCronExpressionTest {
+    private static final String[] SECONDS = {"0", "*", "0/15", "5,35", "10-20"};
+    private static final String[] MINUTES = {"0", "*", "0/5", "15,45", "30-32"};
+    private static final String[] HOURS = {"0", "*", "9-17", "2", "0/6", "23"};
+    private static final String[] DAYS_OF_MONTH = {"?", "*", "1", "15", "31", "L", "L-2", "29", "1-7"};
+    private static final String[] MONTHS = {"*", "1", "2", "1/3", "6-8", "12", "FEB"};
+    private static final String[] DAYS_OF_WEEK = {"?", "*", "MON-FRI", "1", "7", "6L", "3#2", "1#4", "SAT,SUN"};
+
+    private final CronExpressionParser parser = CronExpressionParser.create();
+
+    @Test
+    @DisplayName("编译后的表达式与逐级搜索的结果一致")
+    @SuppressWarnings("deprecation")
+    void shouldFindSameDateTimeAsCalculator() {
+        Random random = new Random(20261018L);
+        ZoneId zoneId = ZoneId.of("Asia/Shanghai");
+        for (int i = 0; i < 2000; i++) {
+            String second = pick(random, SECONDS);
+            String minute = pick(random, MINUTES);
+            String hour = pick(random, HOURS);
+            String dayOfMonth = pick(random, DAYS_OF_MONTH);
+            String month = pick(random, MONTHS);
+            String dayOfWeek = pick(random, DAYS_OF_WEEK);
+            String source = String.join(" ", second, minute, hour, dayOfMonth, month, dayOfWeek);
+            ZonedDateTime start = ZonedDateTime.of(2020 + random.nextInt(8),
+                    1 + random.nextInt(12),
+                    1 + random.nextInt(28),
+                    random.nextInt(24),
+                    random.nextInt(60),
+                    random.nextInt(60),
+                    0,
+                    zoneId);
+            CronField dayOfMonthField = new DayOfMonthCronField.Parser().parse(dayOfMonth);
+            CronField dayOfWeekField = new DayOfWeekCronField.Parser().parse(dayOfWeek);
+            NextDateTimeCalculator calculator = new NextDateTimeCalculator(Arrays.asList(
+                    new MonthOfYearCronField.Parser().parse(month),
+                    new DayCronFieldComposite((DayOfMonthCronField) dayOfMonthField,
+                            (DayOfWeekCronField) dayOfWeekField),
+                    new HourOfDayCronField.Parser().parse(hour),
+                    new MinuteOfHourCronField.Parser().parse(minute),
+                    new SecondOfMinuteCronField.Parser().parse(second)), 10, start);
+            Optional<ZonedDateTime> expected = calculator.findNextDateTime();
+            assertThat(this.parser.parse(source).findNextDateTime(start)).as("%s from %s", source, start)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("当月不存在第 n 个星期几时，跳过当月")
+    void shouldSkipMonthWithoutNthDayOfWeek() {
+        ZonedDateTime start = ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        CronExpression expression = this.parser.parse("0 0 0 ? * 5#5");
+        ZonedDateTime january = ZonedDateTime.of(2026, 1, 30, 0, 0, 0, 0, start.getZone());
+        assertThat(expression.findNextDateTime(start)).contains(january);
+        assertThat(expression.findNextDateTime(january)).contains(ZonedDateTime.of(2026, 5, 29, 0, 0, 0, 0,
+                start.getZone()));
+    }
+
+    @Test
+    @DisplayName("在搜索年限内不存在满足条件的时间时，返回空")
+    void shouldReturnEmptyWhenNeverMatched() {
+        ZonedDateTime start = ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        assertThat(this.parser.parse("0 0 0 30 2 ?").findNextDateTime(start)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("夏令时跳过的本地时间顺延到跳变之后")
+    void shouldShiftForwardInDaylightSavingGap() {
+        ZoneId zoneId = ZoneId.of("America/New_York");
+        ZonedDateTime start = ZonedDateTime.of(2026, 3, 8, 1, 0, 0, 0, zoneId);
+        Optional<ZonedDateTime> next = this.parser.parse("0 30 2 * * ?").findNextDateTime(start);
+        assertThat(next).contains(ZonedDateTime.of(2026, 3, 8, 3, 30, 0, 0, zoneId));
+    }
+
+    @Test
+    @DisplayName("相同的表达式只编译一次")
+    void shouldInternSameExpression() {
+        CronExpression expression = this.parser.parse("0 0/5 9-17 * * MON-FRI");
+        assertThat(this.parser.parse("  0  0/5 9-17 * *   MON-FRI ")).isSameAs(expression);
+        assertThat(this.parser.parse("0 0/5 9-17 * * SAT")).isNotSameAs(expression);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,86 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.cron.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.schedule.support.TimingWheel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link GroupedCronScheduler} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 GroupedCronScheduler 类")
+public class GroupedCronSchedulerTest {
+    private final TimingWheel wheel = new TimingWheel("test-cron-wheel", 10L);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final GroupedCronScheduler scheduler =
+            new GroupedCronScheduler(this.wheel, this.executor, ZoneId.systemDefault());
+
+    @AfterEach
+    void teardown() {
+        this.scheduler.shutdown();
+        this.wheel.stop();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("相同表达式的任务共享一个定时任务，并在每次到期时全部执行")
+    void shouldShareTimeoutForSameExpression() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(2);
+        CountDownLatch second = new CountDownLatch(2);
+        this.scheduler.schedule("* * * * * ?", first::countDown);
+        this.scheduler.schedule(" *  * * * * ? ", second::countDown);
+        this.scheduler.schedule("0 0 0 1 1 ?", () -> {});
+        assertThat(this.scheduler.groups()).isEqualTo(2);
+        assertThat(this.wheel.pending()).isEqualTo(2);
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("表达式下的任务全部取消后，取消对应的定时任务")
+    void shouldCancelTimeoutWhenAllJobsCancelled() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        GroupedCronScheduler.Registration first = this.scheduler.schedule("* * * * * ?", count::incrementAndGet);
+        GroupedCronScheduler.Registration second = this.scheduler.schedule("* * * * * ?", count::incrementAndGet);
+        assertThat(first.cancel()).isTrue();
+        assertThat(first.cancel()).isFalse();
+        assertThat(this.scheduler.groups()).isEqualTo(1);
+        assertThat(second.cancel()).isTrue();
+        assertThat(this.scheduler.groups()).isZero();
+        assertThat(this.wheel.pending()).isZero();
+        Thread.sleep(1100L);
+        assertThat(count.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("调度器关闭后拒绝新的任务")
+    void shouldRejectWhenShutdown() {
+        this.scheduler.schedule("0 0 0 1 1 ?", () -> {});
+        this.scheduler.shutdown();
+        assertThat(this.scheduler.groups()).isZero();
+        assertThatThrownBy(() -> this.scheduler.schedule("0 0 0 1 1 ?", () -> {}))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessage("The cron scheduler is shutdown. [expression=0 0 0 1 1 ?]");
+    }
+}
@@ -0,0 +1,84 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link TimingWheel} 与 {@link ScheduledThreadPoolExecutor} 在大量未到期定时任务下添加和取消的耗时对比。
+ * <p>耗时较长，默认不执行，通过 {@code mvn test -Dfit.benchmark=true -Dtest=TimingWheelBenchmarkTest} 执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("对比 TimingWheel 与 ScheduledThreadPoolExecutor 的耗时")
+@EnabledIfSystemProperty(named = "fit.benchmark", matches = "true")
+public class TimingWheelBenchmarkTest {
+    private static final int TIMEOUTS = 1_000_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("添加和取消 100 万个 1 到 60 秒后到期的定时任务")
+    void shouldReportAddAndCancelLatency() {
+        long[] delays = ThreadLocalRandom.current().longs(TIMEOUTS, 1_000, 60_000).toArray();
+        for (int round = 0; round < ROUNDS; round++) {
+            this.wheel(delays);
+            this.executor(delays);
+        }
+    }
+
+    private void wheel(long[] delays) {
+        TimingWheel wheel = new TimingWheel("benchmark-timing-wheel", 10L);
+        List<TimingWheel.Timeout> timeouts = new ArrayList<>(delays.length);
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            timeouts.add(wheel.newTimeout(() -> {}, delay, TimeUnit.MILLISECONDS, Runnable::run));
+        }
+        long added = System.nanoTime();
+        assertThat(wheel.pending()).isEqualTo(delays.length);
+        timeouts.forEach(TimingWheel.Timeout::cancel);
+        long cancelled = System.nanoTime();
+        assertThat(wheel.pending()).isZero();
+        wheel.stop();
+        report("TimingWheel", delays.length, start, added, cancelled);
+    }
+
+    private void executor(long[] delays) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        List<ScheduledFuture<?>> futures = new ArrayList<>(delays.length);
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            futures.add(executor.schedule(() -> {}, delay, TimeUnit.MILLISECONDS));
+        }
+        long added = System.nanoTime();
+        assertThat(executor.getQueue()).hasSize(delays.length);
+        futures.forEach(future -> future.cancel(false));
+        long cancelled = System.nanoTime();
+        executor.shutdownNow();
+        report("ScheduledThreadPoolExecutor", delays.length, start, added, cancelled);
+    }
+
+    private static void report(String name, int count, long start, long added, long cancelled) {
+        System.out.printf("%s: timeouts=%d, add=%.1fns/op, cancel=%.1fns/op%n",
+                name,
+                count,
+                (double) (added - start) / count,
+                (double) (cancelled - added) / count);
+    }
+}
@@ -0,0 +1,81 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link TimingWheel} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 TimingWheel 类")
+public class TimingWheelTest {
+    private final TimingWheel wheel = new TimingWheel("test-timing-wheel", 1L);
+
+    @AfterEach
+    void teardown() {
+        this.wheel.stop();
+    }
+
+    @Test
+    @DisplayName("定时任务按照到期时间的顺序执行，跨层的定时任务降级后到期")
+    void shouldExpireInDeadlineOrder() throws InterruptedException {
+        List<Integer> expired = new CopyOnWriteArrayList<>();
+        List<Boolean> late = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(4);
+        long start = System.nanoTime();
+        for (int delay : new int[] {300, 0, 100, 30}) {
+            this.wheel.newTimeout(() -> {
+                late.add(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(delay));
+                expired.add(delay);
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS, Runnable::run);
+        }
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(expired).containsExactly(0, 30, 100, 300);
+        assertThat(late).containsOnly(true);
+        assertThat(this.wheel.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("取消的定时任务不再执行")
+    void shouldNotExpireWhenCancelled() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TimingWheel.Timeout cancelled =
+                this.wheel.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS, Runnable::run);
+        TimingWheel.Timeout expired = this.wheel.newTimeout(() -> {}, 100, TimeUnit.MILLISECONDS, Runnable::run);
+        assertThat(this.wheel.pending()).isEqualTo(2);
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(this.wheel.pending()).isEqualTo(1);
+        assertThat(latch.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(expired.isExpired()).isTrue();
+        assertThat(expired.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("时间轮停止后不能添加定时任务")
+    void shouldRejectWhenStopped() {
+        this.wheel.stop();
+        assertThatThrownBy(() -> this.wheel.newTimeout(() -> {}, 1, TimeUnit.SECONDS, Runnable::run))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,139 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.schedule.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link TimingWheelThreadPoolScheduler} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@DisplayName("测试 TimingWheelThreadPoolScheduler 类")
+public class TimingWheelThreadPoolSchedulerTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ThreadPoolScheduler scheduler = ThreadPoolScheduler.timingWheel("test-scheduler", this.executor);
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        this.scheduler.shutdown();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("一次性任务在指定的执行器上延时执行，并返回执行结果")
+    void shouldExecuteDisposableTaskOnExecutor() throws ExecutionException, InterruptedException {
+        long start = System.currentTimeMillis();
+        ScheduledFuture<?> future =
+                this.scheduler.schedule(Task.builder().callable(() -> Thread.currentThread().getName()).build(), 50L);
+        assertThat(future.get()).asString().doesNotContain("timing-wheel");
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(50L);
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.cancel(false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("固定延时的任务重复执行，取消后不再执行")
+    void shouldRepeatUntilCancelled() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = this.scheduler.schedule(Task.builder().runnable(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+        }).policy(ExecutePolicy.fixedDelay(20L)).build());
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+        int executed = count.get();
+        Thread.sleep(100L);
+        assertThat(count.get()).isLessThanOrEqualTo(executed + 1);
+        assertThat(future.isCancelled()).isTrue();
+        assertThatThrownBy(future::get).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    @DisplayName("调度器关闭后取消已调度的任务并拒绝新的任务")
+    void shouldCancelAndRejectWhenShutdown() throws InterruptedException {
+        ScheduledFuture<?> future =
+                this.scheduler.schedule(Task.builder().runnable(() -> {}).policy(ExecutePolicy.fixedRate(10L)).build());
+        this.scheduler.shutdown();
+        assertThat(future.isCancelled()).isTrue();
+        assertThatThrownBy(() -> this.scheduler.schedule(Task.builder().runnable(() -> {}).build()))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessage("The scheduler is shutdown. [name=test-scheduler]");
+    }
+
+    @Test
+    @DisplayName("一次性任务返回结果时已经处于完成状态")
+    void shouldBeDoneWhenResultReturned() throws ExecutionException, InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ScheduledFuture<?> future = this.scheduler.schedule(Task.builder().callable(() -> 1).build(), 0L);
+            assertThat(future.get()).isEqualTo(1);
+            assertThat(future.isDone()).isTrue();
+            assertThat(future.cancel(false)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("允许中断时取消任务会中断正在执行的任务")
+    void shouldInterruptRunningTaskWhenCancelled() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ScheduledFuture<?> future = this.scheduler.schedule(Task.builder().runnable(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(5000L);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        }).build());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(true)).isTrue();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("调度器关闭时同时关闭其持有的线程池")
+    void shouldShutdownOwnedThreadPool() throws InterruptedException {
+        ThreadPoolExecutor threadPool = ThreadPoolExecutor.custom()
+                .threadPoolName("test-owned")
+                .corePoolSize(0)
+                .maximumPoolSize(1)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(Integer.MAX_VALUE)
+                .isDaemonThread(true)
+                .build();
+        ThreadPoolScheduler owner = ThreadPoolScheduler.timingWheel("test-owner", threadPool);
+        CountDownLatch executed = new CountDownLatch(1);
+        owner.schedule(Task.builder().runnable(executed::countDown).build());
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+        owner.shutdown();
+        assertThatThrownBy(() -> threadPool.execute(Task.builder().runnable(() -> {}).buildDisposable()))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -10,21 +10,35 @@ import modelengine.fit.ohscript.script.errors.OhPanic;
 import modelengine.fit.ohscript.script.interpreter.ASTEnv;
 import modelengine.fit.ohscript.script.parser.AST;
 import modelengine.fit.ohscript.script.parser.ParserBuilder;
-import modelengine.fit.ohscript.util.Serializer;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * start class to run script
+ * <p>解析和语义分析后的语法树按照代码内容的摘要缓存，相同的代码不会重复解析。语法树在执行过程中不保存执行状态，执行状态保存在
+ * {@link ASTEnv} 的激活上下文中，因此同一棵语法树可以创建任意多个执行环境。</p>
  *
  * @since 1.0
  */
 public class OhScript {
+    private static final int MAX_CACHED_SCRIPTS = 256;
+
     private final ParserBuilder parserBuilder;
 
-    private AST ast;
+    private final Map<String, AST> scripts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AST> eldest) {
+            return this.size() > MAX_CACHED_SCRIPTS;
+        }
+    };
 
-    private Serializer<AST> serializer;
+    private volatile AST ast;
 
     /**
      * 构造函数，创建一个新的OhScript实例
@@ -36,28 +50,35 @@ public class OhScript {
 
     /**
      * 加载一段ohscript代码，并返回一个可以执行的环境
+     * 相同内容的代码只解析一次，之后直接使用缓存的语法树
      *
      * @param code ohscript代码
      * @return 返回一个可以执行的环境
      */
     public ASTEnv load(String code) {
-        this.serializer = null;
-        this.ast = this.parserBuilder.parseString("", code);
-        return new ASTEnv(ast);
+        String key = digest(code);
+        AST loaded;
+        synchronized (this.scripts) {
+            loaded = this.scripts.get(key);
+            if (loaded == null) {
+                loaded = this.parserBuilder.parseString("", code);
+                this.scripts.put(key, loaded);
+            }
+        }
+        this.ast = loaded;
+        return new ASTEnv(loaded);
     }
 
     /**
-     * 创建一个新的环境，用于执行脚本
+     * 为最近一次加载的代码创建一个新的环境，用于执行脚本
+     * 新的环境与之前的环境共享语法树，只拥有独立的激活上下文
      *
      * @return 返回一个新的环境
      * @throws IOException io异常
      * @throws ClassNotFoundException 类找不到异常
      */
     public ASTEnv createEnv() throws IOException, ClassNotFoundException {
-        if (this.serializer == null) {
-            this.serializer = Serializer.serialize(ast);
-        }
-        return new ASTEnv(serializer.deSerialize());
+        return new ASTEnv(this.ast);
     }
 
     /**
@@ -68,6 +89,7 @@ public class OhScript {
      */
     public void grant(String key, Class<?> clazz) {
         this.parserBuilder.addExternalClass(key, clazz);
+        this.clearScripts();
     }
 
     /**
@@ -78,6 +100,7 @@ public class OhScript {
      */
     public void grant(String key, Object instance) {
         this.parserBuilder.addExternalOh(key, instance);
+        this.clearScripts();
     }
 
     /**
@@ -128,4 +151,19 @@ public class OhScript {
         ASTEnv env = this.load(code);
         return env.createOhProxy(null, clazz);
     }
+
+    private void clearScripts() {
+        synchronized (this.scripts) {
+            this.scripts.clear();
+        }
+    }
+
+    private static String digest(String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(code.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The SHA-256 algorithm is not supported.", e);
+        }
+    }
 }
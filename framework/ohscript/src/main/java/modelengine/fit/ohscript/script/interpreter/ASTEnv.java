@@ -211,17 +211,28 @@ public class ASTEnv {
      */
     public Object eval(Object... args) throws OhPanic {
         this.ast.errors();
-        this.updateAst(args);
-        Object value = this.ast.interpret(this);
+        try {
+            this.updateAst(args);
+            return this.ast.interpret(this);
+        } finally {
+            this.clearRuntimeNodes();
+        }
+    }
+
+    /**
+     * 清理执行过程中添加到共享语法树上的运行时节点及其作用域，避免语法树随着执行次数增长。
+     */
+    private void clearRuntimeNodes() {
         while (this.runtimeNodes.size() > 0) {
             SyntaxNode node = this.runtimeNodes.remove(0);
-            SyntaxNode parent = node.parent();
-            if (parent != null) {
-                parent.removeChild(node);
+            synchronized (this.ast) {
+                SyntaxNode parent = node.parent();
+                if (parent != null) {
+                    parent.removeChild(node);
+                }
             }
             this.removeScope(node);
         }
-        return value;
     }
 
     private void removeScope(SyntaxNode node) {
@@ -422,17 +433,23 @@ public class ASTEnv {
         List<ReturnValue> argsValue = new ArrayList<>();
         TerminalNode argId = new TerminalNode(Terminal.ID);
         argId.setToken(new Token(Terminal.ID, Constants.ARGS, 1, 1, 1));
-        argId.setAst(this.ast);
-        if (this.ast.symbolTable().getSymbol(argId.lexeme(), this.root.scope()) == null) {
-            this.ast.symbolTable().getScope(this.root.scope()).addIdentifier(argId, false);
+        // the syntax tree is shared by all environments created from it, changes to it are serialized
+        synchronized (this.ast) {
+            argId.setAst(this.ast);
+            if (this.ast.symbolTable().getSymbol(argId.lexeme(), this.root.scope()) == null) {
+                this.ast.symbolTable().getScope(this.root.scope()).addIdentifier(argId, false);
+            }
         }
         this.root.put(argId, new ReturnValue(this.root, new ArrayTypeExpr(null), argsValue));
         for (int i = 0; i < args.length; i++) {
             Object arg = args[i];
-            EntityDeclareNode mockNode = this.ast.mockExternalOh("arg" + i, arg).first();
-            mockNode.setAst(this.ast);
-            this.ast.optimize(mockNode);
-            this.ast.symbolize(mockNode, true, true);
+            EntityDeclareNode mockNode;
+            synchronized (this.ast) {
+                mockNode = this.ast.mockExternalOh("arg" + i, arg).first();
+                mockNode.setAst(this.ast, this);
+                this.ast.optimize(mockNode);
+                this.ast.symbolize(mockNode, true, true);
+            }
             ReturnValue argValue = mockNode.interpret(this, this.rootContext());
             argsValue.add(argValue);
         }
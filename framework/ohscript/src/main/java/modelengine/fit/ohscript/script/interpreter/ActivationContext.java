@@ -16,6 +16,7 @@ import modelengine.fit.ohscript.util.Constants;
 import modelengine.fit.ohscript.util.Tool;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,12 +28,19 @@ import java.util.Map;
 public class ActivationContext {
     private static final String MEMBER_FLAG = ".";
 
+    private static final ReturnValue[] NO_SLOTS = new ReturnValue[0];
+
     private final long id;
 
     private final long scope;
 
     private final Map<String, ReturnValue> symbolTable = new HashMap<>();
 
+    /**
+     * 按语义分析阶段分配的槽位存储的变量值，与 {@link #symbolTable} 中同名的值相同
+     */
+    private ReturnValue[] slots = NO_SLOTS;
+
     private final ActivationContext inClosure;
 
     private final ASTEnv env;
@@ -80,16 +88,31 @@ public class ActivationContext {
         String name = node.lexeme();
         ReturnValue current = this.get(node);
         if (current == null || current == ReturnValue.UNKNOWN) {
+            SymbolEntry entry = node.symbolEntry();
+            long entryScope = entry.scope();
             ActivationContext context = this;
-            while (context.scope() != node.symbolEntry().scope() && context.inClosure != null) {
+            while (context.scope() != entryScope && context.inClosure != null) {
                 context = context.inClosure;
             }
             context.symbolTable.put(name, value);
+            if (context.scope() == entryScope) {
+                context.putSlot(node.slot(entry), value);
+            }
         } else {
             current.update(value);
         }
     }
 
+    private void putSlot(int slot, ReturnValue value) {
+        if (slot < 0) {
+            return;
+        }
+        if (slot >= this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, Math.max(slot + 1, this.slots.length << 1));
+        }
+        this.slots[slot] = value;
+    }
+
     /**
      * 将"this"值放入符号表
      *
@@ -131,10 +154,18 @@ public class ActivationContext {
         }
         // find the symbol entry of terminal node, which has been defined in symbolize phase
         SymbolEntry entry = node.symbolEntry();
-        long entryScope = entry.scope();
-        ReturnValue value = this.get(name, entryScope);
+        ActivationContext context = this.find(entry.scope());
+        if (context == null) {
+            return null;
+        }
+        // read the value by the slot assigned in semantic analysis, names are only needed for values put without slot
+        int slot = node.slot(entry);
+        ReturnValue value = slot >= 0 && slot < context.slots.length ? context.slots[slot] : null;
+        if (value == null) {
+            value = context.symbolTable.get(name);
+        }
         if (value == null) {
-            value = this.get(MEMBER_FLAG + name, entryScope);
+            value = context.symbolTable.get(MEMBER_FLAG + name);
         }
         return value;
     }
@@ -147,15 +178,19 @@ public class ActivationContext {
      * @return 符号值
      */
     public ReturnValue get(String name, long scope) {
-        if (this.scope() != scope) {
-            if (this.inClosure == null) {
+        ActivationContext context = this.find(scope);
+        return context == null ? null : context.symbolTable.get(name);
+    }
+
+    private ActivationContext find(long scope) {
+        ActivationContext context = this;
+        while (context.scope() != scope) {
+            context = context.inClosure;
+            if (context == null) {
                 return null;
-            } else {
-                return this.inClosure.get(name, scope);
             }
-        } else {
-            return this.symbolTable.get(name);
         }
+        return context;
     }
 
     /**
@@ -32,6 +32,7 @@ import modelengine.fit.ohscript.script.parser.nodes.IfNode;
 import modelengine.fit.ohscript.script.parser.nodes.ImportNode;
 import modelengine.fit.ohscript.script.parser.nodes.InitialAssignmentNode;
 import modelengine.fit.ohscript.script.parser.nodes.JavaNewNode;
+import modelengine.fit.ohscript.script.parser.nodes.LockBlockNode;
 import modelengine.fit.ohscript.script.parser.nodes.MapDeclareNode;
 import modelengine.fit.ohscript.script.parser.nodes.MatchStatementNode;
 import modelengine.fit.ohscript.script.parser.nodes.SafeBlockNode;
@@ -64,7 +65,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -273,7 +273,10 @@ public enum Interpreter {
                         String key = entry.getKey();
                         ReturnValue value = entry.getValue();
                         TerminalNode n = new TerminalNode(Terminal.ID);
-                        symbol.first().parent().addChild(n);
+                        synchronized (node.ast()) {
+                            symbol.first().parent().addChild(n);
+                        }
+                        n.setAst(node.ast(), env);
                         n.setToken(new Token(Terminal.ID, key, 0, 0, 0));
                         current.put(n, value);
                     }
@@ -306,8 +309,9 @@ public enum Interpreter {
     GENERAL {
         @Override
         public ReturnValue interpret(SyntaxNode node, ASTEnv env, ActivationContext current) throws OhPanic {
-            for (SyntaxNode child : node.children()) {
-                ReturnValue value = child.interpret(env, current);
+            int count = node.childCount();
+            for (int i = 0; i < count; i++) {
+                ReturnValue value = node.child(i).interpret(env, current);
                 if (value != ReturnValue.IGNORE) {
                     return value;
                 }
@@ -996,7 +1000,9 @@ public enum Interpreter {
         public ReturnValue interpret(SyntaxNode node, ASTEnv env, ActivationContext current) throws OhPanic {
             return this.interpretBlock(node, env, current, (n, e, c) -> {
                 ReturnValue value = ReturnValue.IGNORE;
-                for (SyntaxNode child : n.children()) {
+                int count = n.childCount();
+                for (int i = 0; i < count; i++) {
+                    SyntaxNode child = n.child(i);
                     ReturnValue tmp = child.interpret(e, c);
                     if (child.returnAble() && tmp != ReturnValue.IGNORE) {
                         value = tmp;
@@ -1010,7 +1016,7 @@ public enum Interpreter {
 
     /**
      * 锁同步代码块解释器。
-     * <p>通过 {@code ReentrantLock} 实现线程同步，保证：
+     * <p>通过代码块节点持有的 {@code ReentrantLock} 实现线程同步，保证：
      * <ul>
      *   <li>同一代码块的原子性执行</li>
      *   <li>避免竞态条件</li>
@@ -1019,16 +1025,10 @@ public enum Interpreter {
     LOCK_BLOCK {
         @Override
         public ReturnValue interpret(SyntaxNode node, ASTEnv env, ActivationContext current) {
-            staticLock.lock();
-            ReentrantLock lock = locks.get(node);
-            if (lock == null) {
-                lock = new ReentrantLock();
-                locks.put(node, lock);
-            }
-            staticLock.unlock();
+            LockBlockNode lockBlock = ObjectUtils.cast(node);
+            ReentrantLock lock = lockBlock.lock();
+            lock.lock();
             try {
-                lock.lock();
-                locks.put(node, lock);
                 return GENERAL.interpret(node, env, current);
             } catch (Exception e) {
                 return null;
@@ -1576,10 +1576,6 @@ public enum Interpreter {
         }
     };
 
-    private static Map<Object, ReentrantLock> locks = new ConcurrentHashMap();
-
-    private static ReentrantLock staticLock = new ReentrantLock();
-
     private static AtomicInteger testCounter = new AtomicInteger();
 
     /**
@@ -1705,40 +1701,6 @@ interface ThreeAddressOp {
     ReturnValue op(ReturnValue x, Terminal op, ReturnValue y);
 }
 
-/**
- * 链式操作
- *
- * @param <T> 返回值类型
- */
-interface Chain<T> {
-    /**
-     * 构建链式操作
-     *
-     * @param chain 链式操作
-     * @return 链式操作
-     */
-    static <T> Chain<T> build(Chain<T> chain) {
-        return chain;
-    }
-
-    /**
-     * 执行链式操作
-     *
-     * @return 链式操作的结果
-     */
-    T handle();
-
-    /**
-     * 添加下一个链式操作
-     *
-     * @param chain 下一个链式操作
-     * @return 链式操作
-     */
-    default Chain<T> next(Chain<T> chain) {
-        return () -> Optional.ofNullable(this.handle()).orElseGet(chain::handle);
-    }
-}
-
 /**
  * 数值型操作
  *
@@ -1749,15 +1711,18 @@ class NumericOp implements ThreeAddressOp {
     public ReturnValue op(ReturnValue x, Terminal op, ReturnValue y) {
         boolean hasStr = x.typeExpr() instanceof StringTypeExpr || y.typeExpr() instanceof StringTypeExpr;
         boolean hasDouble = x.value() instanceof Double || y.value() instanceof Double;
-        return Chain.build(() -> plus(x, op, y, hasStr, hasDouble))
-                .next(() -> minus(x, op, y, hasStr, hasDouble))
-                .next(() -> star(x, op, y, hasStr, hasDouble))
-                .next(() -> slash(x, op, y, hasStr, hasDouble))
-                .next(() -> mod(x, op, y, hasStr, hasDouble))
-                .next(() -> {
-                    throw new IllegalArgumentException();
-                })
-                .handle();
+        ReturnValue result = switch (op) {
+            case PLUS -> plus(x, op, y, hasStr, hasDouble);
+            case MINUS -> minus(x, op, y, hasStr, hasDouble);
+            case STAR -> star(x, op, y, hasStr, hasDouble);
+            case SLASH -> slash(x, op, y, hasStr, hasDouble);
+            case MOD -> mod(x, op, y, hasStr, hasDouble);
+            default -> null;
+        };
+        if (result == null) {
+            throw new IllegalArgumentException();
+        }
+        return result;
     }
 
     private ReturnValue mod(ReturnValue x, Terminal op, ReturnValue y, boolean hasStr, boolean hasDouble) {
@@ -142,7 +142,9 @@ public class ReturnValue {
      */
     public ReturnValue clone() {
         ReturnValue newValue = new ReturnValue(this.context(), this.typeExpr, this.value);
-        newValue.methods.putAll(this.myMethods());
+        if (!this.myMethods().isEmpty()) {
+            newValue.methods.putAll(this.myMethods());
+        }
         return newValue;
     }
 
@@ -187,7 +189,9 @@ public class ReturnValue {
         if (this.typeExpr() instanceof VainTypeExpr || value.typeExpr().is(this.typeExpr())) {
             this.value = value.value();
             this.context = value.context();
-            this.methods.putAll(value.methods);
+            if (!value.methods.isEmpty()) {
+                this.methods.putAll(value.methods);
+            }
             this.typeExpr = value.typeExpr;
         } else {
             RuntimeError.TYPE_MISMATCH.raise();
@@ -6,12 +6,12 @@
 
 package modelengine.fit.ohscript.script.lexer;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 词法分析器。
  * <p>将源代码转换为一系列标记（tokens），这些标记是代码的基本组成单位。</p>
+ * <p>扫描由 {@link TerminalScanner} 直接在字符数组上完成，结果与逐行使用 {@link Terminal#match(String, int)} 一致。</p>
  *
  * @author 张群辉
  * @since 2023-05-01
@@ -24,19 +24,6 @@ public class Lexer {
      * @return 生产的token列表
      */
     public List<Token> scan(String codeSnap) {
-        List<Token> tokens = new ArrayList<>();
-        String[] lines = this.buildLines(codeSnap);
-        for (int i = 0; i < lines.length; i++) {
-            this.tokenize(tokens, lines[i], i);
-        }
-        return tokens;
-    }
-
-    private String[] buildLines(String codeSnap) {
-        return codeSnap.split("\n");
-    }
-
-    private void tokenize(List<Token> tokens, String line, int lineNum) {
-        tokens.addAll(Terminal.match(line, lineNum));
+        return TerminalScanner.scan(codeSnap);
     }
 }
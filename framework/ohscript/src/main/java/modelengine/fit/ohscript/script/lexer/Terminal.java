@@ -701,15 +701,24 @@ public enum Terminal implements NodeType, Serializable {
      */
     public static List<Token> match(String line, int lineNum) {
         List<Token> tokens = new ArrayList<>();
-        Pattern pattern = Pattern.compile(Terminal.buildRegex());
-        String trimmed = line.replaceAll("\\?\\s+", "?");
-        Matcher matcher = pattern.matcher(trimmed);
+        String trimmed = Patterns.QUESTION_SPACES.matcher(line).replaceAll("?");
+        Matcher matcher = Patterns.TOKENS.matcher(trimmed);
         while (matcher.find()) {
             tokens.add(buildToken(matcher, lineNum));
         }
         return tokens;
     }
 
+    /**
+     * 创建在一行源码上匹配所有终结符的匹配器
+     *
+     * @param line 源码行
+     * @return 匹配所有终结符的匹配器
+     */
+    static Matcher matcher(CharSequence line) {
+        return Patterns.TOKENS.matcher(line);
+    }
+
     /**
      * 整个正则匹配的情况下，找到特定的终结符，构建出token
      *
@@ -717,21 +726,45 @@ public enum Terminal implements NodeType, Serializable {
      * @param lineNum 行数
      * @return 构建的token
      */
-    private static Token buildToken(Matcher matcher, int lineNum) {
+    static Token buildToken(Matcher matcher, int lineNum) {
         Terminal[] types = Terminal.values();
-        for (Terminal type : types) {
-            String name = type.tokenName();
-            String value = matcher.group(name);
-            if (value != null) {
-                if (type == STRING) {
-                    value = value.replaceAll("\\\\\"", "\"");
+        for (int i = 0; i < types.length; i++) {
+            int group = Patterns.GROUPS[i];
+            if (matcher.start(group) >= 0) {
+                String value = matcher.group(group);
+                if (types[i] == STRING) {
+                    value = value.replace("\\\"", "\"");
                 }
-                return new Token(type, value, lineNum, matcher.start(name), matcher.end(name));
+                return new Token(types[i], value, lineNum, matcher.start(group), matcher.end(group));
             }
         }
         return null;
     }
 
+    /**
+     * 预先编译的词法正则表达式
+     * <p>所有终结符的正则表达式只编译一次，并记录每个终结符的命名分组在整体表达式中的序号，
+     * 识别token时按序号取分组，不再按名字逐个查找</p>
+     */
+    private static final class Patterns {
+        private static final Pattern QUESTION_SPACES = Pattern.compile("\\?\\s+");
+
+        private static final Pattern TOKENS = Pattern.compile(Terminal.buildRegex());
+
+        private static final int[] GROUPS = groups();
+
+        private static int[] groups() {
+            Terminal[] types = Terminal.values();
+            int[] groups = new int[types.length];
+            int group = 1;
+            for (int i = 0; i < types.length; i++) {
+                groups[i] = group;
+                group += Pattern.compile(types[i].regex()).matcher("").groupCount();
+            }
+            return groups;
+        }
+    }
+
     /**
      * 获取token的正则表达式
      *
@@ -0,0 +1,501 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.ohscript.script.lexer;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 根据 {@link Terminal} 的定义构建的确定性词法扫描器。
+ * <p>固定文本的终结符（运算符、关键字等）被编译为按字符转移的状态树，其余终结符由逐字符的识别过程匹配，扫描直接在
+ * 字符数组上进行，不再为每一行创建子串，固定文本的 token 也直接复用终结符的文本。</p>
+ * <p>每个位置上按照 {@link Terminal} 的声明顺序选择第一个匹配的终结符，与整体正则表达式中分支的选择规则一致。
+ * 需要按照 Unicode 规则判断单词边界的位置（非 ASCII 字符及其后一个位置）和行结束符 {@code \r} 所在的位置，
+ * 退回到 {@link Terminal} 的正则表达式匹配。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+final class TerminalScanner {
+    private static final int NONE = -1;
+    private static final int UNDECIDED = -2;
+
+    private static final State ROOT = new State();
+
+    private static final Terminal[] PATTERNS = {
+            Terminal.COMMENT, Terminal.ARRAY, Terminal.MAP, Terminal.ENTITY_BODY_BEGIN, Terminal.LAMBDA_START,
+            Terminal.MATCH_ELSE, Terminal.ENTER, Terminal.OH, Terminal.EXTEND, Terminal.ID_COLON, Terminal.UPPER_ID,
+            Terminal.ID, Terminal.NUMBER, Terminal.STRING_COLON, Terminal.STRING, Terminal.EOL, Terminal.UNKNOWN,
+            Terminal.EPSILON, Terminal.UNIT
+    };
+
+    static {
+        List<Terminal> patterns = List.of(PATTERNS);
+        for (Terminal terminal : Terminal.values()) {
+            if (patterns.contains(terminal) || !isAscii(terminal.text())) {
+                continue;
+            }
+            String text = terminal.text();
+            if (!Pattern.compile(terminal.regex()).matcher(text).matches()) {
+                throw new IllegalStateException(StringUtils.format(
+                        "The terminal is neither a fixed text nor recognized by scanner. [terminal={0}]",
+                        terminal));
+            }
+            ROOT.add(terminal, text);
+        }
+    }
+
+    private final String code;
+    private final char[] line;
+    private final List<Token> tokens = new ArrayList<>();
+
+    private int length;
+    private int lineNum;
+    private Matcher matcher;
+
+    private TerminalScanner(String code) {
+        this.code = code;
+        this.line = new char[code.length()];
+    }
+
+    /**
+     * 扫描代码，生成 token 列表。
+     * <p>代码按照 {@code \n} 分行，行的划分与 {@link String#split(String)} 一致，即末尾的空行被忽略。</p>
+     *
+     * @param code 表示待扫描的代码的 {@link String}。
+     * @return 表示生成的 token 列表的 {@link List}{@code <}{@link Token}{@code >}。
+     */
+    static List<Token> scan(String code) {
+        TerminalScanner scanner = new TerminalScanner(code);
+        int limit = code.length();
+        if (code.indexOf('\n') >= 0) {
+            while (limit > 0 && code.charAt(limit - 1) == '\n') {
+                limit--;
+            }
+            if (limit == 0) {
+                return scanner.tokens;
+            }
+        }
+        int start = 0;
+        int lineNum = 0;
+        while (true) {
+            int end = code.indexOf('\n', start);
+            if (end < 0 || end >= limit) {
+                scanner.scanLine(start, limit, lineNum);
+                return scanner.tokens;
+            }
+            scanner.scanLine(start, end, lineNum++);
+            start = end + 1;
+        }
+    }
+
+    private void scanLine(int start, int end, int lineNum) {
+        this.code.getChars(start, end, this.line, 0);
+        this.length = trimQuestions(this.line, end - start);
+        this.lineNum = lineNum;
+        this.matcher = null;
+        int position = 0;
+        while (position <= this.length) {
+            position = this.next(position);
+        }
+    }
+
+    private int next(int position) {
+        char[] chars = this.line;
+        if (position == this.length) {
+            this.tokens.add(new Token(Terminal.EOL, StringUtils.EMPTY, this.lineNum, position, position));
+            return position + 1;
+        }
+        char current = chars[position];
+        char previous = position > 0 ? chars[position - 1] : ' ';
+        if (!isDecidable(current) || !isDecidable(previous) && previous != '\r') {
+            return this.fallback(position);
+        }
+        if ((current == ' ' || current == '\t') && previous != '=' && previous != '<' && previous != '>') {
+            return position + 1;
+        }
+        Terminal matched = null;
+        int end = NONE;
+        State state = ROOT;
+        for (int i = position; i < this.length && chars[i] < State.WIDTH; i++) {
+            state = state.next[chars[i]];
+            if (state == null) {
+                break;
+            }
+            Terminal terminal = state.terminal;
+            if (terminal != null && (matched == null || terminal.ordinal() < matched.ordinal())
+                    && (!terminal.isKeyWord() || this.isKeywordBounded(position, i + 1))) {
+                matched = terminal;
+                end = i + 1;
+            }
+        }
+        for (Terminal terminal : PATTERNS) {
+            if (matched != null && terminal.ordinal() > matched.ordinal()) {
+                break;
+            }
+            int patternEnd = this.recognize(terminal, position);
+            if (patternEnd == UNDECIDED) {
+                return this.fallback(position);
+            }
+            if (patternEnd != NONE) {
+                String lexeme = new String(chars, position, patternEnd - position);
+                if (terminal == Terminal.STRING) {
+                    lexeme = lexeme.replace("\\\"", "\"");
+                }
+                this.tokens.add(new Token(terminal, lexeme, this.lineNum, position, patternEnd));
+                return patternEnd == position ? position + 1 : patternEnd;
+            }
+        }
+        if (matched == null) {
+            return position + 1;
+        }
+        this.tokens.add(new Token(matched, matched.text(), this.lineNum, position, end));
+        return end;
+    }
+
+    private int fallback(int position) {
+        if (this.matcher == null) {
+            this.matcher = Terminal.matcher(CharBuffer.wrap(this.line, 0, this.length));
+        }
+        if (!this.matcher.find(position)) {
+            return this.length + 1;
+        }
+        this.tokens.add(Terminal.buildToken(this.matcher, this.lineNum));
+        return this.matcher.end() == this.matcher.start() ? this.matcher.end() + 1 : this.matcher.end();
+    }
+
+    private int recognize(Terminal terminal, int position) {
+        char current = this.line[position];
+        switch (terminal) {
+            case COMMENT:
+                return current == '#' ? this.comment(position) : NONE;
+            case ARRAY:
+                return current == '[' ? this.expect(this.skipSpaces(position + 1), ']') : NONE;
+            case MAP:
+                return current == '[' ? this.map(position) : NONE;
+            case ENTITY_BODY_BEGIN:
+                return current == '{' ? this.expect(this.skipSpaces(position + 1), '.') : NONE;
+            case LAMBDA_START:
+                return this.lambda(position);
+            case MATCH_ELSE:
+                return current == '|' ? this.matchElse(position) : NONE;
+            case OH:
+                return this.oh(position);
+            case EXTEND:
+                return this.startsWith(position, "::{") ? position + 3 : NONE;
+            case ID_COLON:
+                return this.idColon(position);
+            case UPPER_ID:
+                return this.isWordStart(position) && isUpper(current) ? this.skipWord(position) : NONE;
+            case ID:
+                return this.isWordStart(position) && (isLower(current) || current == '_')
+                        ? this.skipWord(position)
+                        : NONE;
+            case NUMBER:
+                return this.number(position);
+            case STRING_COLON:
+                return current == '"' ? this.stringColon(position) : NONE;
+            case STRING:
+                return current == '"' ? this.string(position) : NONE;
+            case UNKNOWN:
+                if (isWord(current)) {
+                    return this.skipWord(position);
+                }
+                return isSpace(current) ? NONE : position + 1;
+            default:
+                // 行中不包含换行符，ENTER 不会匹配；EOL 只在行尾匹配；EPSILON 和 UNIT 只匹配非 ASCII 字符。
+                return NONE;
+        }
+    }
+
+    private int comment(int position) {
+        int i = position + 1;
+        while (i < this.length && !isLineTerminator(this.line[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private int map(int position) {
+        int i = this.expect(this.skipSpaces(position + 1), ':');
+        return i == NONE ? NONE : this.expect(this.skipSpaces(i), ']');
+    }
+
+    private int matchElse(int position) {
+        int i = this.expect(this.skipSpaces(position + 1), '_');
+        if (i == NONE) {
+            return NONE;
+        }
+        i = this.expect(this.skipSpaces(i), '=');
+        return i == NONE ? NONE : this.expect(i, '>');
+    }
+
+    private int lambda(int position) {
+        if (position >= 4 && this.startsWith(position - 4, "func")) {
+            return NONE;
+        }
+        int i;
+        char current = this.line[position];
+        if (this.isWordStart(position) && isLower(current)) {
+            i = this.skipSpaces(this.skipWord(position));
+        } else if (current == '(') {
+            i = this.lambdaParameters(position);
+            if (i == NONE) {
+                return NONE;
+            }
+        } else {
+            return NONE;
+        }
+        return this.startsWith(i, "=>") ? i + 2 : NONE;
+    }
+
+    private int lambdaParameters(int position) {
+        int i = this.skipSpaces(position + 1);
+        while (i < this.length && isLower(this.line[i])) {
+            i = this.skipSpaces(this.skipWord(i));
+            if (i < this.length && this.line[i] == ',') {
+                i = this.skipSpaces(i + 1);
+            } else {
+                break;
+            }
+        }
+        i = this.expect(i, ')');
+        return i == NONE ? NONE : this.skipSpaces(i);
+    }
+
+    private int oh(int position) {
+        if (this.startsWith(position, "ext::")) {
+            return position + 5;
+        }
+        if (this.startsWith(position, "http::")) {
+            return position + 6;
+        }
+        return this.startsWith(position, "fit::") ? position + 5 : NONE;
+    }
+
+    private int idColon(int position) {
+        char current = this.line[position];
+        if (position > 0 && this.line[position - 1] == '?' || !this.isWordStart(position)
+                || !(isUpper(current) || isLower(current) || current == '_')) {
+            return NONE;
+        }
+        int i = this.expect(this.skipSpaces(this.skipWord(position)), ':');
+        return i == NONE || i < this.length && this.line[i] == ':' ? NONE : i;
+    }
+
+    private int number(int position) {
+        char current = this.line[position];
+        if (isDigit(current) && this.isWordStart(position)) {
+            return this.digits(position);
+        }
+        char previous = position > 0 ? this.line[position - 1] : ' ';
+        if (previous != '=' && previous != '<' && previous != '>') {
+            return NONE;
+        }
+        int i = this.expect(this.skipSpaces(position), '-');
+        if (i == NONE) {
+            return NONE;
+        }
+        i = this.skipSpaces(i);
+        return i < this.length && isDigit(this.line[i]) ? this.digits(i) : NONE;
+    }
+
+    /**
+     * 匹配 {@code \d+(?:\.\d+)?(?![\.])\b}。
+     * <p>数字之间不存在单词边界，因此回溯到更短的数字序列都不会成功，只需要分别尝试带小数部分和不带小数部分的完整序列。</p>
+     */
+    private int digits(int position) {
+        int integer = this.skipDigits(position);
+        if (integer + 1 < this.length && this.line[integer] == '.' && isDigit(this.line[integer + 1])) {
+            int fraction = this.numberEnd(this.skipDigits(integer + 1));
+            if (fraction != NONE) {
+                return fraction;
+            }
+        }
+        return this.numberEnd(integer);
+    }
+
+    private int numberEnd(int end) {
+        if (end == this.length) {
+            return end;
+        }
+        char next = this.line[end];
+        if (!isDecidable(next)) {
+            return UNDECIDED;
+        }
+        return next == '.' || isWord(next) ? NONE : end;
+    }
+
+    private int stringColon(int position) {
+        int i = position + 1;
+        while (i < this.length && this.line[i] != '"') {
+            i++;
+        }
+        if (i == this.length) {
+            return NONE;
+        }
+        i = this.expect(this.skipSpaces(i + 1), ':');
+        return i == NONE || i < this.length && this.line[i] == ':' ? NONE : i;
+    }
+
+    private int string(int position) {
+        int i = position + 1;
+        while (i < this.length) {
+            char current = this.line[i];
+            if (current == '"') {
+                return i + 1;
+            }
+            if (current == '\\') {
+                if (i + 1 == this.length || isLineTerminator(this.line[i + 1])) {
+                    return NONE;
+                }
+                i += 2;
+            } else {
+                i++;
+            }
+        }
+        return NONE;
+    }
+
+    private boolean isKeywordBounded(int start, int end) {
+        return (start == 0 || !isWordOrDot(this.line[start - 1])) && (end == this.length
+                || !isWordOrDot(this.line[end]));
+    }
+
+    private boolean isWordStart(int position) {
+        return position == 0 || !isWord(this.line[position - 1]);
+    }
+
+    private boolean startsWith(int position, String text) {
+        if (position + text.length() > this.length) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (this.line[position + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int expect(int position, char expected) {
+        return position != NONE && position < this.length && this.line[position] == expected ? position + 1 : NONE;
+    }
+
+    private int skipSpaces(int position) {
+        int i = position;
+        while (i < this.length && isSpace(this.line[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipWord(int position) {
+        int i = position;
+        while (i < this.length && isWord(this.line[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipDigits(int position) {
+        int i = position;
+        while (i < this.length && isDigit(this.line[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 将 {@code ?} 之后的空白字符删除，与 {@code line.replaceAll("\\?\\s+", "?")} 的结果一致。
+     */
+    private static int trimQuestions(char[] chars, int length) {
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            char current = chars[i];
+            chars[size++] = current;
+            if (current == '?') {
+                while (i + 1 < length && isSpace(chars[i + 1])) {
+                    i++;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static boolean isDecidable(char ch) {
+        return ch < State.WIDTH && ch != '\r';
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= State.WIDTH) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSpace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    private static boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+
+    private static boolean isUpper(char ch) {
+        return ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isLower(char ch) {
+        return ch >= 'a' && ch <= 'z';
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isWord(char ch) {
+        return isUpper(ch) || isLower(ch) || isDigit(ch) || ch == '_';
+    }
+
+    private static boolean isWordOrDot(char ch) {
+        return isWord(ch) || ch == '.';
+    }
+
+    /**
+     * 表示固定文本终结符的状态树中的状态。
+     */
+    private static final class State {
+        private static final int WIDTH = 128;
+
+        private final State[] next = new State[WIDTH];
+
+        /** 表示在该状态结束的固定文本终结符，多个终结符文本相同时保留声明顺序靠前的一个。 */
+        private Terminal terminal;
+
+        private void add(Terminal terminal, String text) {
+            State state = this;
+            for (int i = 0; i < text.length(); i++) {
+                char ch = text.charAt(i);
+                if (state.next[ch] == null) {
+                    state.next[ch] = new State();
+                }
+                state = state.next[ch];
+            }
+            if (state.terminal == null || terminal.ordinal() < state.terminal.ordinal()) {
+                state.terminal = terminal;
+            }
+        }
+    }
+}
@@ -53,6 +53,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -521,11 +522,15 @@ public class AST implements Serializable {
      * @return list
      */
     private List<SyntaxNode> optimizeAlpha(SyntaxNode node) {
-        List<SyntaxNode> nodes = new ArrayList<>();
+        Set<SyntaxNode> nodes = new LinkedHashSet<>();
+        this.optimizeAlpha(node, nodes);
+        return new ArrayList<>(nodes);
+    }
+
+    private void optimizeAlpha(SyntaxNode node, Set<SyntaxNode> nodes) {
         nodes.add(node);
         node.optimizeAlpha();
-        node.children().forEach(c -> nodes.addAll(this.optimizeAlpha(c)));
-        return nodes.stream().distinct().collect(Collectors.toList());
+        node.children().forEach(c -> this.optimizeAlpha(c, nodes));
     }
 
     /**
@@ -47,6 +47,8 @@ public class Grammar {
      */
     private Grammars grammars;
 
+    private int index;
+
     private Set<Terminal> follow;
 
     private boolean traced = false;
@@ -171,6 +173,24 @@ public class Grammar {
         return this.grammars;
     }
 
+    /**
+     * 设置语法在所属语法集合中的序号
+     *
+     * @param index 序号
+     */
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * 获取语法在所属语法集合中的序号，用于在预测表中定位
+     *
+     * @return 序号
+     */
+    int index() {
+        return this.index;
+    }
+
     /**
      * 设置非终结符的追踪状态
      * <p>
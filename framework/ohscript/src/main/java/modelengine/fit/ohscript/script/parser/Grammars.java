@@ -35,7 +35,11 @@ public class Grammars {
      */
     public Grammars(Map<String, Grammar> grammars) {
         this.grammars = grammars;
-        this.grammars.values().forEach(grammar -> grammar.setGrammars(this));
+        int index = 0;
+        for (Grammar grammar : this.grammars.values()) {
+            grammar.setGrammars(this);
+            grammar.setIndex(index++);
+        }
         this.start = this.grammars.values().stream().filter(g -> g.type().isStart()).findFirst().get();
         this.start.first();
         this.start.follow();
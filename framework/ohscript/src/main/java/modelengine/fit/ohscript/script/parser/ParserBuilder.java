@@ -27,11 +27,11 @@ import java.io.IOException;
  * @since 2023-05-01
  */
 public class ParserBuilder {
-    private static Grammars defaultGrammars = null;
+    private static volatile Grammars defaultGrammars = null;
 
-    private static Lexer defaultLexer = null;
+    private static volatile Lexer defaultLexer = null;
 
-    private static PredictTable defaultPredictTable = null;
+    private static volatile PredictTable defaultPredictTable = null;
 
     private final Grammars grammars;
 
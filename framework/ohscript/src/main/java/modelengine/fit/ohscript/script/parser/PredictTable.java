@@ -10,16 +10,27 @@ import modelengine.fit.ohscript.script.lexer.Terminal;
 import modelengine.fit.ohscript.script.lexer.Token;
 import modelengine.fit.ohscript.util.Tool;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 /**
  * 预测表
+ * <p>预测表编译为以语法序号和终结符序号为下标的二维数组，匹配产生式时直接按下标取值。</p>
  *
  * @since 1.0
  */
 public class PredictTable {
-    private final Map<Terminal, Map<Grammar, Production>> table = new HashMap<>();
+    private final List<Grammar> grammars;
+
+    /**
+     * 产生式表
+     * 第一维下标为语法的序号，第二维下标为终结符的序号
+     */
+    private final Production[][] table;
+
+    /**
+     * 终结符是否出现在预测表中，下标为终结符的序号
+     */
+    private final boolean[] terminals = new boolean[Terminal.values().length];
 
     /**
      * 构建预测表
@@ -27,7 +38,9 @@ public class PredictTable {
      * @param grammars 语法表
      */
     public PredictTable(Grammars grammars) {
-        grammars.grammars().forEach(grammar -> grammar.productions().forEach(production -> {
+        this.grammars = grammars.grammars();
+        this.table = new Production[this.grammars.size()][Terminal.values().length];
+        this.grammars.forEach(grammar -> grammar.productions().forEach(production -> {
             if (production.isEmpty()) {
                 grammar.follow().forEach(symbol -> addMapping(grammar, production, symbol));
             }
@@ -36,8 +49,8 @@ public class PredictTable {
     }
 
     private void addMapping(Grammar grammar, Production production, Terminal symbol) {
-        Map<Grammar, Production> firsts = table.computeIfAbsent(symbol, k -> new HashMap<>());
-        firsts.put(grammar, production);
+        this.table[grammar.index()][symbol.ordinal()] = production;
+        this.terminals[symbol.ordinal()] = true;
     }
 
     /**
@@ -50,23 +63,26 @@ public class PredictTable {
      */
     public Production match(Token token, Grammar grammar, String line) {
         Terminal terminal = token.tokenType();
-        Map<Grammar, Production> productions = table.get(terminal);
+        Production production = this.table[grammar.index()][terminal.ordinal()];
+        if (production != null) {
+            return production;
+        }
         String lineSeparator = System.lineSeparator();
-        if (productions == null) {
+        if (!this.terminals[terminal.ordinal()]) {
             Tool.grammarError(
                     "`" + terminal.text() + "` is not found in predict table" + lineSeparator + line);
         }
-        Production production = productions.get(grammar);
-        if (production == null) {
-            StringBuilder sb = new StringBuilder();
-            for (Production p : productions.values()) {
+        StringBuilder sb = new StringBuilder();
+        for (Grammar possible : this.grammars) {
+            Production p = this.table[possible.index()][terminal.ordinal()];
+            if (p != null) {
                 sb.append(p.display() + lineSeparator);
             }
-            Tool.grammarError("token: " + terminal.name() + ":" + token.lexeme()
-                    + " doesn't match any ohScript grammar definition at line: " + token.line() + ", position from "
-                    + token.start() + " to " + token.end() + lineSeparator + line
-                    + lineSeparator + " the possible productions should be matched would be:" + sb);
         }
-        return production;
+        Tool.grammarError("token: " + terminal.name() + ":" + token.lexeme()
+                + " doesn't match any ohScript grammar definition at line: " + token.line() + ", position from "
+                + token.start() + " to " + token.end() + lineSeparator + line
+                + lineSeparator + " the possible productions should be matched would be:" + sb);
+        return null;
     }
 }
@@ -8,12 +8,20 @@ package modelengine.fit.ohscript.script.parser.nodes;
 
 import modelengine.fit.ohscript.script.parser.NonTerminal;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * lock代码块节点
+ * <p>代码块的锁由节点自身持有，随语法树一起回收，不同代码块之间互不影响</p>
  *
  * @since 1.0
  */
 public class LockBlockNode extends NonTerminalNode {
+    /**
+     * 代码块的锁，语法树反序列化后重新创建
+     */
+    private transient volatile ReentrantLock lock;
+
     /**
      * 构造函数
      * 创建一个新的锁代码块节点
@@ -21,4 +29,23 @@ public class LockBlockNode extends NonTerminalNode {
     public LockBlockNode() {
         super(NonTerminal.LOCK_BLOCK);
     }
+
+    /**
+     * 获取代码块的锁
+     *
+     * @return 代码块的锁
+     */
+    public ReentrantLock lock() {
+        ReentrantLock result = this.lock;
+        if (result == null) {
+            synchronized (this) {
+                result = this.lock;
+                if (result == null) {
+                    result = new ReentrantLock();
+                    this.lock = result;
+                }
+            }
+        }
+        return result;
+    }
 }
@@ -17,8 +17,6 @@ import modelengine.fit.ohscript.util.Tool;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 非终结节点
@@ -26,7 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 1.0
  */
 public abstract class NonTerminalNode extends SyntaxNode {
-    private static final Map<String, Interpreter> interpreterMap = new ConcurrentHashMap<>();
+    private static final Interpreter[] INTERPRETERS = new Interpreter[NonTerminal.values().length];
 
     /**
      * 非终结符类型
@@ -212,31 +210,20 @@ public abstract class NonTerminalNode extends SyntaxNode {
     }
 
     /**
-     * 获取解释器实例
+     * 获取解释器实例，按照非终结符类型的序号缓存
      *
      * @return 解释器实例
      */
     private Interpreter getInterpreter() {
-        return this.getInterpreter(this.nodeType.name());
-    }
-
-    /**
-     * 通过名称获取解释器，增加了缓存
-     *
-     * @param name 解释器名称
-     * @return 解释器
-     */
-    private Interpreter getInterpreter(String name) {
-        Interpreter interpreter = interpreterMap.get(name);
+        NonTerminal type = this.nodeType;
+        Interpreter interpreter = INTERPRETERS[type.ordinal()];
         if (interpreter == null) {
-            Interpreter result;
             try {
-                result = Interpreter.valueOf(name);
+                interpreter = Interpreter.valueOf(type.name());
             } catch (IllegalArgumentException e) {
-                result = Interpreter.GENERAL;
+                interpreter = Interpreter.GENERAL;
             }
-            interpreter = result;
-            interpreterMap.put(name, interpreter);
+            INTERPRETERS[type.ordinal()] = interpreter;
         }
         return interpreter;
     }
@@ -353,16 +353,19 @@ public abstract class SyntaxNode implements Interpretable, Serializable {
         if (this.scope != 0) {
             return this.scope;
         }
-        SyntaxNode parentNode = this.parent();
-        if (parentNode == null) {
-            return 0;
+        long inherited = 0;
+        SyntaxNode parentNode = this.parent;
+        while (parentNode != null) {
+            if (parentNode.scope != 0) {
+                inherited = parentNode.scope;
+                break;
+            }
+            parentNode = parentNode.parent;
         }
-        if (ast.initialized()) {
-            this.scope = parentNode.scope();
-            return this.scope;
-        } else {
-            return parentNode.scope();
+        if (inherited != 0 && this.ast != null && this.ast.initialized()) {
+            this.scope = inherited;
         }
+        return inherited;
     }
 
     /**
@@ -371,13 +374,14 @@ public abstract class SyntaxNode implements Interpretable, Serializable {
      * @return 当前节点的父节点的作用域编号
      */
     public long parentScope() {
+        long current = this.scope();
         SyntaxNode parentNode = this.parent;
         while (parentNode != null) {
-            if (parentNode.scope() != this.scope()) {
-                return parentNode.scope();
-            } else {
-                parentNode = parentNode.parent();
+            // the scope of a node is the nearest scope number set on itself or its ancestors
+            if (parentNode.scope != 0 && parentNode.scope != current) {
+                return parentNode.scope;
             }
+            parentNode = parentNode.parent;
         }
         return 0;
     }
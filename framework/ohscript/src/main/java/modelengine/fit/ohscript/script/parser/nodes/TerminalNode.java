@@ -15,6 +15,7 @@ import modelengine.fit.ohscript.script.interpreter.ReturnValue;
 import modelengine.fit.ohscript.script.lexer.Terminal;
 import modelengine.fit.ohscript.script.lexer.Token;
 import modelengine.fit.ohscript.script.parser.NonTerminal;
+import modelengine.fit.ohscript.script.semanticanalyzer.SymbolTable;
 import modelengine.fit.ohscript.script.semanticanalyzer.symbolentries.IdentifierEntry;
 import modelengine.fit.ohscript.script.semanticanalyzer.symbolentries.SymbolEntry;
 import modelengine.fit.ohscript.script.semanticanalyzer.symbolentries.UnknownSymbolEntry;
@@ -25,9 +26,7 @@ import modelengine.fit.ohscript.util.Constants;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.Serializable;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 语法树中的终结节点
@@ -37,7 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 2023-05-01
  */
 public class TerminalNode extends SyntaxNode implements Serializable {
-    private static final Map<String, Interpreter> interpreterMap = new ConcurrentHashMap<>();
+    private static final Interpreter[] INTERPRETERS = new Interpreter[Terminal.values().length];
 
     private static final long serialVersionUID = 2942191759739959915L;
 
@@ -58,6 +57,13 @@ public class TerminalNode extends SyntaxNode implements Serializable {
      */
     private Token token;
 
+    /**
+     * 缓存的符号解析结果，解析时经过的作用域发生变化后失效
+     */
+    private transient volatile SymbolTable.Resolution resolution;
+
+    private transient volatile Slot slot;
+
     /**
      * 构造函数
      *
@@ -104,6 +110,7 @@ public class TerminalNode extends SyntaxNode implements Serializable {
      */
     public TerminalNode setToken(Token token) {
         this.token = token;
+        this.resolution = null;
         this.location = new Location(token.line(), token.line(), token.start(), token.end());
         return this;
     }
@@ -226,9 +233,23 @@ public class TerminalNode extends SyntaxNode implements Serializable {
             return new UnknownSymbolEntry(this);
         }
 
-        SymbolEntry symbolEntry = this.ast().symbolTable().getSymbol(this.lexeme(), this.scope());
+        SymbolTable table = this.ast().symbolTable();
+        long scope = this.scope();
+        SymbolTable.Resolution cached = this.resolution;
+        if (cached != null && cached.isValid(table, scope)) {
+            return cached.entry();
+        }
+        SymbolEntry symbolEntry;
+        if (this.ast().initialized() && !this.lexeme().startsWith(MEMBER_FLAG)) {
+            // only the plain scope chain lookup is cached, member lookups depend on the inferred type of the base
+            SymbolTable.Resolution resolution = table.resolve(this.lexeme(), scope);
+            this.resolution = resolution;
+            symbolEntry = resolution == null ? null : resolution.entry();
+        } else {
+            symbolEntry = table.getSymbol(this.lexeme(), scope);
+        }
         if (symbolEntry == null) {
-            symbolEntry = this.ast().symbolTable().getSymbol(MEMBER_FLAG + this.lexeme(), this.scope());
+            symbolEntry = table.getSymbol(MEMBER_FLAG + this.lexeme(), scope);
             if (symbolEntry == null) {
                 this.panic(SyntaxError.VARIABLE_NOT_DEFINED);
                 return new UnknownSymbolEntry(this);
@@ -238,6 +259,25 @@ public class TerminalNode extends SyntaxNode implements Serializable {
         return symbolEntry;
     }
 
+    /**
+     * 获取变量在声明作用域执行上下文中的槽位
+     *
+     * @param entry 变量的符号表项，由 {@link #symbolEntry()} 获得
+     * @return 槽位下标，无法确定槽位时返回 -1
+     */
+    public int slot(SymbolEntry entry) {
+        Slot cached = this.slot;
+        if (cached != null && cached.entry == entry) {
+            return cached.index;
+        }
+        if (entry instanceof UnknownSymbolEntry) {
+            return -1;
+        }
+        int index = this.ast().symbolTable().slot(this.lexeme(), entry.scope());
+        this.slot = new Slot(entry, index);
+        return index;
+    }
+
     /**
      * 获取this关键字对应的符号表项
      *
@@ -294,7 +334,7 @@ public class TerminalNode extends SyntaxNode implements Serializable {
     @Override
     public ReturnValue interpret(ASTEnv env, ActivationContext current) throws OhPanic {
         try {
-            return this.getInterpreter(this.nodeType.name()).interpret(this, env, current);
+            return this.getInterpreter(this.nodeType).interpret(this, env, current);
         } catch (OhPanic p) {
             throw p;
         } catch (Exception e) {
@@ -303,23 +343,34 @@ public class TerminalNode extends SyntaxNode implements Serializable {
     }
 
     /**
-     * 通过名称获取解释器，增加了缓存
+     * 通过终结符类型获取解释器，按照类型的序号缓存
      *
-     * @param name 解释器名称
+     * @param type 终结符类型
      * @return 解释器
      */
-    private Interpreter getInterpreter(String name) {
-        Interpreter interpreter = interpreterMap.get(name);
+    private Interpreter getInterpreter(Terminal type) {
+        Interpreter interpreter = INTERPRETERS[type.ordinal()];
         if (interpreter == null) {
-            Interpreter result;
             try {
-                result = Interpreter.valueOf(name);
+                interpreter = Interpreter.valueOf(type.name());
             } catch (IllegalArgumentException e) {
-                result = Interpreter.ERROR_NOT_FOUND_IGNORE;
+                interpreter = Interpreter.ERROR_NOT_FOUND_IGNORE;
             }
-            interpreter = result;
-            interpreterMap.put(name, interpreter);
+            INTERPRETERS[type.ordinal()] = interpreter;
         }
         return interpreter;
     }
+
+    /**
+     * 变量的符号表项及其槽位
+     */
+    private static final class Slot {
+        private final SymbolEntry entry;
+        private final int index;
+
+        private Slot(SymbolEntry entry, int index) {
+            this.entry = entry;
+            this.index = index;
+        }
+    }
 }
@@ -1097,6 +1097,19 @@ public enum SemanticAnalyzer implements SemanticAble {
         }
     };
 
+    /**
+     * 以名称为键的语义分析器，避免通过 valueOf 的异常判断语法节点是否有对应的语义分析器
+     */
+    private static final Map<String, SemanticAnalyzer> ANALYZERS = analyzers();
+
+    private static Map<String, SemanticAnalyzer> analyzers() {
+        Map<String, SemanticAnalyzer> analyzers = new HashMap<>();
+        for (SemanticAnalyzer analyzer : SemanticAnalyzer.values()) {
+            analyzers.put(analyzer.name(), analyzer);
+        }
+        return analyzers;
+    }
+
     /**
      * 尝试对给定的语法节点进行类型推断。如果节点的类型已经被忽略，那么将返回一个IgnoreTypeExpr。
      * 如果节点的类型是AbstractTypeExpr，那么将清除其所有的投影。
@@ -1114,7 +1127,11 @@ public enum SemanticAnalyzer implements SemanticAble {
             if (expr instanceof AbstractTypeExpr) {
                 ((AbstractTypeExpr) expr).clearProjection();
             }
-            return valueOf(node.name()).typeInfer(node);
+            SemanticAnalyzer analyzer = ANALYZERS.get(node.name());
+            if (analyzer == null) {
+                return TypeExprFactory.createUnknown();
+            }
+            return analyzer.typeInfer(node);
         } catch (Exception ex) {
             return TypeExprFactory.createUnknown();
         }
@@ -1128,8 +1145,10 @@ public enum SemanticAnalyzer implements SemanticAble {
      */
     public static void trySymbolize(SyntaxNode node) {
         try {
-            SemanticAnalyzer analyzer = valueOf(node.nodeType().name());
-            analyzer.symbolize(node);
+            SemanticAnalyzer analyzer = ANALYZERS.get(node.nodeType().name());
+            if (analyzer != null) {
+                analyzer.symbolize(node);
+            }
         } catch (IllegalArgumentException ex) {
             // ignore
         }
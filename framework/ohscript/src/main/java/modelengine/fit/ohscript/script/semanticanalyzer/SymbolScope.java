@@ -29,6 +29,7 @@ import modelengine.fitframework.util.ObjectUtils;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 符号范围
@@ -46,13 +47,25 @@ public class SymbolScope implements Serializable {
     /**
      * 存储符号表的映射，键为符号名称，值为符号入口
      */
-    private final Map<String, SymbolEntry> symbols = new HashMap<>();
+    private final Map<String, SymbolEntry> symbols = new ConcurrentHashMap<>();
+
+    /**
+     * 存储符号在执行上下文中的槽位，键为符号名称，值为槽位下标
+     * 在语义分析阶段声明符号时分配，执行时按槽位下标读取变量，不再按名称查找
+     */
+    private final Map<String, Integer> slots = new HashMap<>();
 
     /**
      * 父符号范围的标识符
      */
     private long parentId;
 
+    /**
+     * 符号范围的修改版本号
+     * 本范围内的符号或父范围发生变化时递增，用于判断经过本范围的缓存符号解析结果是否仍然有效
+     */
+    private transient volatile long version;
+
     /**
      * 构造函数
      *
@@ -90,7 +103,7 @@ public class SymbolScope implements Serializable {
             return null;
         }
         entry = new IdentifierEntry(node, this.id(), mutable, host);
-        this.symbols.put(node.lexeme(), entry);
+        this.putSymbol(node.lexeme(), entry);
         return entry;
     }
 
@@ -128,7 +141,48 @@ public class SymbolScope implements Serializable {
      * @param parentId 父符号范围ID
      */
     public void setParent(long parentId) {
+        if (this.parentId == parentId) {
+            return;
+        }
         this.parentId = parentId;
+        this.modified();
+    }
+
+    /**
+     * 获取符号范围的修改版本号
+     *
+     * @return 修改版本号
+     */
+    public long version() {
+        return this.version;
+    }
+
+    /**
+     * 标记符号范围已经发生变化
+     */
+    synchronized void modified() {
+        this.version++;
+    }
+
+    /**
+     * 获取符号在本范围执行上下文中的槽位，符号还没有槽位时为其分配一个新的槽位
+     *
+     * @param lexeme 符号名
+     * @return 槽位下标
+     */
+    public synchronized int slot(String lexeme) {
+        Integer slot = this.slots.get(lexeme);
+        if (slot == null) {
+            slot = this.slots.size();
+            this.slots.put(lexeme, slot);
+        }
+        return slot;
+    }
+
+    private void putSymbol(String lexeme, SymbolEntry entry) {
+        this.symbols.put(lexeme, entry);
+        this.slot(lexeme);
+        this.modified();
     }
 
     /**
@@ -147,7 +201,7 @@ public class SymbolScope implements Serializable {
         GenericTypeExpr returnType = TypeExprFactory.createGeneric(node);
         FunctionEntry entry = new FunctionEntry(node.functionName(), this.id(),
                 TypeExprFactory.createFunction(node, argumentType, returnType));
-        this.symbols.put(node.functionName().lexeme(), entry);
+        this.putSymbol(node.functionName().lexeme(), entry);
         return entry;
     }
 
@@ -167,7 +221,7 @@ public class SymbolScope implements Serializable {
             return new UnknownSymbolEntry(node);
         }
         entry = new ArgumentEntry(node, this.id());
-        this.symbols.put(node.lexeme(), entry);
+        this.putSymbol(node.lexeme(), entry);
         return entry;
     }
 
@@ -184,7 +238,7 @@ public class SymbolScope implements Serializable {
             return new UnknownSymbolEntry(node.declaredName());
         }
         entry = new EntityEntry(node.declaredName(), this.id(), TypeExprFactory.createEntity(node, new HashMap<>()));
-        this.symbols.put(node.declaredName().lexeme(), entry);
+        this.putSymbol(node.declaredName().lexeme(), entry);
         return entry;
     }
 
@@ -202,7 +256,7 @@ public class SymbolScope implements Serializable {
         }
         entry = new ExtensionEntry(node.declaredName(), this.id(),
                 TypeExprFactory.createExtension(node, new HashMap<>()));
-        this.symbols.put(node.declaredName().lexeme(), entry);
+        this.putSymbol(node.declaredName().lexeme(), entry);
         return entry;
     }
 
@@ -214,7 +268,7 @@ public class SymbolScope implements Serializable {
      */
     public SymbolEntry addArray(SyntaxNode node) {
         ArrayEntry entry = new ArrayEntry(node.declaredName(), this.id());
-        this.symbols.put(node.declaredName().lexeme(), entry);
+        this.putSymbol(node.declaredName().lexeme(), entry);
         return entry;
     }
 
@@ -226,7 +280,7 @@ public class SymbolScope implements Serializable {
      */
     public SymbolEntry addMap(SyntaxNode node) {
         MapEntry entry = new MapEntry(node.declaredName(), this.id());
-        this.symbols.put(node.declaredName().lexeme(), entry);
+        this.putSymbol(node.declaredName().lexeme(), entry);
         return entry;
     }
 }
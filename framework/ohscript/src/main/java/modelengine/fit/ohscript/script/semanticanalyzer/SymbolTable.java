@@ -12,8 +12,10 @@ import modelengine.fit.ohscript.util.Constants;
 import modelengine.fitframework.log.Logger;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 符号表
@@ -30,7 +32,7 @@ public class SymbolTable implements Serializable {
      * key: 作用域ID
      * value: 符号作用域对象
      */
-    private final Map<Long, SymbolScope> scopes = new HashMap<>();
+    private final Map<Long, SymbolScope> scopes = new ConcurrentHashMap<>();
 
     /**
      * 添加一个新的符号作用域
@@ -50,7 +52,12 @@ public class SymbolTable implements Serializable {
      * @return 被清理的scope
      */
     public SymbolScope removeScope(long scopeId) {
-        return scopes.remove(scopeId);
+        SymbolScope removed = scopes.remove(scopeId);
+        if (removed != null) {
+            // 经过被移除作用域的缓存解析结果不再有效
+            removed.modified();
+        }
+        return removed;
     }
 
     /**
@@ -63,6 +70,15 @@ public class SymbolTable implements Serializable {
         return scopes.computeIfAbsent(scope.id(), k -> scope);
     }
 
+    /**
+     * 获取符号作用域的数量
+     *
+     * @return 符号作用域的数量
+     */
+    public int scopeCount() {
+        return scopes.size();
+    }
+
     /**
      * 获取指定ID的符号作用域
      *
@@ -107,6 +123,49 @@ public class SymbolTable implements Serializable {
         return tryLookUpInParent(lexeme, scopeId, symbol, scope);
     }
 
+    /**
+     * 沿作用域链解析不以 {@link Constants#DOT} 开头的词法标识符，并记录经过的作用域及其版本号
+     * 经过的作用域都未发生变化时，解析结果保持有效，可以被缓存复用
+     *
+     * @param lexeme 词法标识符
+     * @param scopeId 作用域ID
+     * @return 解析结果，未找到符号时返回 null
+     */
+    public Resolution resolve(String lexeme, long scopeId) {
+        List<SymbolScope> visited = new ArrayList<>();
+        List<Long> versions = new ArrayList<>();
+        long current = scopeId;
+        while (true) {
+            SymbolScope scope = this.getScope(current);
+            if (scope == null) {
+                return null;
+            }
+            // 先读取版本号再查找符号，查找期间发生的变化会使结果失效
+            visited.add(scope);
+            versions.add(scope.version());
+            SymbolEntry symbol = scope.getSymbol(lexeme);
+            if (symbol != null) {
+                return new Resolution(this, scopeId, symbol, visited, versions);
+            }
+            if (current < 0) {
+                return null;
+            }
+            current = scope.getParent();
+        }
+    }
+
+    /**
+     * 获取符号在指定作用域执行上下文中的槽位
+     *
+     * @param lexeme 词法标识符
+     * @param scopeId 作用域ID
+     * @return 槽位下标，作用域不存在时返回 -1
+     */
+    public int slot(String lexeme, long scopeId) {
+        SymbolScope scope = this.getScope(scopeId);
+        return scope == null ? -1 : scope.slot(lexeme);
+    }
+
     private SymbolEntry tryLookUpInParent(String lexeme, long scopeId, SymbolEntry symbol, SymbolScope scope) {
         // if symbol is not found, try to look up it in parent scope
         if (symbol != null || scopeId < 0) {
@@ -114,4 +173,52 @@ public class SymbolTable implements Serializable {
         }
         return this.getSymbol(lexeme, scope.getParent());
     }
+
+    /**
+     * 符号解析结果，记录解析时经过的作用域及其版本号
+     */
+    public static final class Resolution {
+        private final SymbolTable table;
+        private final long scopeId;
+        private final SymbolEntry entry;
+        private final SymbolScope[] scopes;
+        private final long[] versions;
+
+        private Resolution(SymbolTable table, long scopeId, SymbolEntry entry, List<SymbolScope> scopes,
+                List<Long> versions) {
+            this.table = table;
+            this.scopeId = scopeId;
+            this.entry = entry;
+            this.scopes = scopes.toArray(new SymbolScope[0]);
+            this.versions = versions.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        /**
+         * 获取解析得到的符号条目
+         *
+         * @return 符号条目
+         */
+        public SymbolEntry entry() {
+            return this.entry;
+        }
+
+        /**
+         * 判断解析结果对于指定符号表和作用域是否仍然有效
+         *
+         * @param table 符号表
+         * @param scopeId 作用域ID
+         * @return 经过的作用域都未发生变化时返回 true，否则返回 false
+         */
+        public boolean isValid(SymbolTable table, long scopeId) {
+            if (this.table != table || this.scopeId != scopeId) {
+                return false;
+            }
+            for (int i = 0; i < this.scopes.length; i++) {
+                if (this.scopes[i].version() != this.versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
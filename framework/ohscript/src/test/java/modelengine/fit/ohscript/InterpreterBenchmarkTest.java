@@ -0,0 +1,138 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.ohscript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.ohscript.script.engine.OhScript;
+import modelengine.fit.ohscript.script.errors.OhPanic;
+import modelengine.fit.ohscript.script.interpreter.ASTEnv;
+import modelengine.fit.ohscript.script.parser.AST;
+import modelengine.fit.ohscript.script.parser.ParserBuilder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 解释器执行性能的基准测试。
+ * <p>覆盖算术循环、闭包调用、实体访问、重复执行同一脚本以及多线程执行 lock 代码块，仅在系统属性 {@code fit.benchmark} 为 {@code true} 时执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@EnabledIfSystemProperty(named = "fit.benchmark", matches = "true")
+@DisplayName("解释器执行性能基准测试")
+class InterpreterBenchmarkTest {
+    private static final int WARMUP = 20;
+    private static final int ROUNDS = 200;
+
+    private final ParserBuilder parserBuilder = new ParserBuilder();
+
+    @Test
+    @DisplayName("算术循环")
+    void benchmarkArithmeticLoop() throws OhPanic {
+        this.run("arithmetic loop",
+                "var i=0, s=0; while(i<2000){s = s + i*3 - 1; i++;} s",
+                5995000);
+    }
+
+    @Test
+    @DisplayName("闭包调用")
+    void benchmarkClosureCall() throws OhPanic {
+        this.run("closure call",
+                "func adder(x){(y)=>x+y}; let add = adder(3); var i=0, s=0; while(i<500){s = add(s); i++;} s",
+                1500);
+    }
+
+    @Test
+    @DisplayName("实体访问")
+    void benchmarkEntityAccess() throws OhPanic {
+        this.run("entity access",
+                "let p = {x:1, y:2}; var i=0, s=0; while(i<1000){s = s + p.x + p.y; i++;} s",
+                3000);
+    }
+
+    @Test
+    @DisplayName("重复执行同一脚本")
+    void benchmarkRepeatedScript() throws Exception {
+        OhScript script = new OhScript();
+        String code = "let p = {x:1, y:2}; p.x + p.y";
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(script.execute(code)).isEqualTo(3);
+            assertThat(script.createEnv().execute()).isEqualTo(3);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            script.execute(code);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("repeated execute: %.3f ms/run%n", elapsed / 1e6 / ROUNDS);
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            script.createEnv().execute();
+        }
+        elapsed = System.nanoTime() - start;
+        System.out.printf("create env: %.3f ms/run%n", elapsed / 1e6 / ROUNDS);
+    }
+
+    @Test
+    @DisplayName("多线程执行 lock 代码块")
+    void benchmarkConcurrentLockBlocks() throws Exception {
+        int threads = 8;
+        String code = "var i=0, s=0; while(i<200){lock{s = s + 1}; i++;} s";
+        List<AST> asts = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            asts.add(this.parserBuilder.parseString("", code));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            this.runConcurrently(executor, asts, WARMUP);
+            long start = System.nanoTime();
+            this.runConcurrently(executor, asts, ROUNDS);
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("concurrent lock blocks: %.0f runs/s%n", threads * ROUNDS / (elapsed / 1e9));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runConcurrently(ExecutorService executor, List<AST> asts, int rounds) throws Exception {
+        List<Future<Object>> results = new ArrayList<>();
+        for (AST ast : asts) {
+            results.add(executor.submit(() -> {
+                Object result = null;
+                for (int i = 0; i < rounds; i++) {
+                    result = new ASTEnv(ast).execute();
+                }
+                return result;
+            }));
+        }
+        for (Future<Object> result : results) {
+            assertThat(result.get()).isEqualTo(200);
+        }
+    }
+
+    private void run(String name, String code, Object expected) throws OhPanic {
+        AST ast = this.parserBuilder.parseString("", code);
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(new ASTEnv(ast).execute()).isEqualTo(expected);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            new ASTEnv(ast).execute();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s: %.3f ms/run%n", name, elapsed / 1e6 / ROUNDS);
+    }
+}
@@ -7,7 +7,9 @@
 package modelengine.fit.ohscript;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -29,6 +31,8 @@ import modelengine.fit.ohscript.script.parser.ASF;
 import modelengine.fit.ohscript.script.parser.AST;
 import modelengine.fit.ohscript.script.parser.GrammarBuilder;
 import modelengine.fit.ohscript.script.parser.ParserBuilder;
+import modelengine.fit.ohscript.script.parser.nodes.ImportNode;
+import modelengine.fit.ohscript.script.parser.nodes.SyntaxNode;
 import modelengine.fit.ohscript.util.EmptyValue;
 import modelengine.fit.ohscript.util.TestResource;
 import modelengine.fitframework.util.ObjectUtils;
@@ -39,11 +43,16 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 解释器测试
@@ -787,6 +796,105 @@ class InterpreterTest {
         assertEquals("will", env.execute());
     }
 
+    @Test
+    void test_load_cached_script() throws IOException, ClassNotFoundException, OhPanic {
+        String code = "var a=1; a++; a";
+        ASTEnv first = this.script.load(code);
+        ASTEnv second = this.script.load(code);
+        assertSame(first.ast(), second.ast());
+        assertEquals(2, first.execute());
+        assertEquals(2, second.execute());
+        assertEquals(2, this.script.createEnv().execute());
+
+        this.script.grant("context", new HashMap<>());
+        assertNotSame(first.ast(), this.script.load(code).ast());
+    }
+
+    @Test
+    void test_keep_scopes_of_shared_script_when_executed_repeatedly() throws Exception {
+        ASTEnv env = this.script.load("args[0].getNumValue()+1");
+        ExternalCall arg = new ExternalCall(1);
+        arg.setNumValue(1);
+        assertEquals(2, env.execute(arg));
+        int scopes = env.ast().symbolTable().scopeCount();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(2, this.script.createEnv().execute(arg));
+        }
+        assertEquals(scopes, env.ast().symbolTable().scopeCount());
+    }
+
+    @Test
+    void test_keep_import_node_of_shared_script_when_executed_repeatedly() throws OhPanic {
+        this.parserBuilder.begin();
+        AST main = this.parserBuilder.parseString("m1", "import * from m2; f1()");
+        this.parserBuilder.parseString("m2", "let a=10; func f1(){a+1}; export a,f1;");
+        ASF asf = this.parserBuilder.done();
+        ImportNode importNode = main.imports()
+                .stream()
+                .filter(node -> "m2".equals(node.source().lexeme()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        SyntaxNode imported = importNode.symbols().get(0).first().parent();
+        int children = imported.childCount();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(11, new ASFEnv(asf).execute("m1"));
+        }
+        assertEquals(children, imported.childCount());
+    }
+
+    @Test
+    void test_execute_shared_script_concurrently() throws Exception {
+        this.script.load("args[0].getNumValue()+1");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                ExternalCall arg = new ExternalCall(1);
+                arg.setNumValue(i);
+                results.add(executor.submit(() -> this.script.createEnv().execute(arg)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i + 1, results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_execute_lock_blocks_concurrently() throws Exception {
+        String code = "let a=[1,2,3,4,5,6,7,8,9,10]; var c=0; a.parallel(i=>{lock{c+=i}}); c";
+        List<AST> asts = List.of(this.parserBuilder.parseString("", code), this.parserBuilder.parseString("", code));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                AST ast = asts.get(i % asts.size());
+                results.add(executor.submit(() -> new ASTEnv(ast).execute()));
+            }
+            for (Future<Object> result : results) {
+                assertEquals(55, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_release_ast_after_lock_block_executed() throws OhPanic, InterruptedException {
+        AST ast = new ParserBuilder().parseString("", "var c=0; lock{c+=1}; c");
+        assertEquals(1, new ASTEnv(ast).execute());
+        WeakReference<AST> reference = new WeakReference<>(ast);
+        ast = null;
+        // 当前线程只保留最后一个执行环境，执行另一个脚本后前一个语法树不再被引用
+        assertEquals(2, new ASTEnv(new ParserBuilder().parseString("", "1+1")).execute());
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
     @Test
     void test_load_file() throws IOException, OhPanic {
         this.parserBuilder.begin();
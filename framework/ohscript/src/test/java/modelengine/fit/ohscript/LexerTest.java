@@ -15,7 +15,9 @@ import modelengine.fit.ohscript.script.lexer.Token;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * 文本解析测试
@@ -188,4 +190,44 @@ class LexerTest {
         assertEquals(1, token.start());
         assertEquals(10, token.end());
     }
+
+    @Test
+    void test_scan_same_tokens_as_terminal_patterns() {
+        String[] pieces = {
+                "func", "f", "(", ")", "a", "Bc", "_", "x1", "=>", "=", "-", "--", " ", "  ", "\t", "\r", "\n", "?",
+                ":", "::", "::{", "{", ".", "..", "[", "]", "\"", "\\", "#", "1", "25", "2.5", "é", "中", "ε", "|",
+                ">", "<", "each", "if", "export", "_map_", "_tuple", "ext::", "fit::", ",", ";", "$", "+", "*", "/",
+                "&", "%", "!", "~", "\u2028", "\u0085", "@"
+        };
+        List<String> codes = new ArrayList<>(List.of("", "\n", "a\n\n", "\n\nb", "a\r\nb\r\n",
+                "let x = -3.66;", "let f = (a, b) => a + b;", "x => x", "match v { |1 => 2 |_ => 3 }",
+                "let m = [ : ]; let a = [ ];", "{ .a = 1 }", "c ? a : b", "let p = {\"k\": \"v\\\"w\"};",
+                "# 注释", "let s = \"中文\";", "a>= -1 && b <- 2", "1.2.3 4.5e 6.7"));
+        Random random = new Random(20261019L);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int size = 1 + random.nextInt(12);
+            for (int j = 0; j < size; j++) {
+                builder.append(pieces[random.nextInt(pieces.length)]);
+            }
+            codes.add(builder.toString());
+        }
+        for (String code : codes) {
+            List<Token> expected = new ArrayList<>();
+            String[] lines = code.split("\n");
+            for (int i = 0; i < lines.length; i++) {
+                expected.addAll(Terminal.match(lines[i], i));
+            }
+            assertEquals(describe(expected), describe(lexer.scan(code)), code);
+        }
+    }
+
+    private static String describe(List<Token> tokens) {
+        StringBuilder builder = new StringBuilder();
+        for (Token token : tokens) {
+            builder.append(token.tokenType()).append(' ').append(token.lexeme()).append(' ').append(token.line())
+                    .append(':').append(token.start()).append('-').append(token.end()).append('\n');
+        }
+        return builder.toString();
+    }
 }
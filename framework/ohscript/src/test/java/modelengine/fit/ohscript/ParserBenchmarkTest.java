@@ -0,0 +1,85 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.ohscript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.ohscript.script.lexer.Lexer;
+import modelengine.fit.ohscript.script.parser.AST;
+import modelengine.fit.ohscript.script.parser.ParserBuilder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 词法分析和语法分析吞吐量的基准测试。
+ * <p>使用生成的大脚本测试，仅在系统属性 {@code fit.benchmark} 为 {@code true} 时执行。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-18
+ */
+@EnabledIfSystemProperty(named = "fit.benchmark", matches = "true")
+@DisplayName("词法分析和语法分析吞吐量基准测试")
+class ParserBenchmarkTest {
+    private static final int FUNCTIONS = 200;
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 10;
+
+    @Test
+    @DisplayName("词法分析")
+    void benchmarkLexer() {
+        String code = generate();
+        Lexer lexer = new Lexer();
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(lexer.scan(code)).isNotEmpty();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            lexer.scan(code);
+        }
+        report("lexer", code, System.nanoTime() - start);
+    }
+
+    @Test
+    @DisplayName("语法分析")
+    void benchmarkParser() {
+        String code = generate();
+        ParserBuilder parserBuilder = new ParserBuilder();
+        for (int i = 0; i < WARMUP; i++) {
+            AST ast = parserBuilder.parseString("", code);
+            assertThat(ast.start()).isNotNull();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            parserBuilder.parseString("", code);
+        }
+        report("parser", code, System.nanoTime() - start);
+    }
+
+    private static void report(String name, String code, long elapsed) {
+        double millis = elapsed / 1e6 / ROUNDS;
+        System.out.printf("%s: %.3f ms/run, %.0f lines/s%n",
+                name,
+                millis,
+                code.split("\n").length / millis * 1000);
+    }
+
+    private static String generate() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < FUNCTIONS; i++) {
+            builder.append("func f").append(i).append("(x, y){\n")
+                    .append("    let p = {a:x, b:y, name:\"item").append(i).append("\"};\n")
+                    .append("    var s = 0;\n")
+                    .append("    while(s < 10){s = s + p.a * 2 - y; s++;}\n")
+                    .append("    if(s >= 10){s} else {p.b}\n")
+                    .append("};\n");
+        }
+        builder.append("f0(1, 2)\n");
+        return builder.toString();
+    }
+}
@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import modelengine.fit.ohscript.script.errors.SyntaxError;
 import modelengine.fit.ohscript.script.lexer.Lexer;
+import modelengine.fit.ohscript.script.lexer.Terminal;
+import modelengine.fit.ohscript.script.lexer.Token;
 import modelengine.fit.ohscript.script.parser.AST;
 import modelengine.fit.ohscript.script.parser.GrammarBuilder;
 import modelengine.fit.ohscript.script.parser.NonTerminal;
@@ -32,6 +34,8 @@ import modelengine.fit.ohscript.script.parser.nodes.InitialAssignmentNode;
 import modelengine.fit.ohscript.script.parser.nodes.ReturnNode;
 import modelengine.fit.ohscript.script.parser.nodes.SyntaxNode;
 import modelengine.fit.ohscript.script.parser.nodes.TerminalNode;
+import modelengine.fit.ohscript.script.semanticanalyzer.SymbolScope;
+import modelengine.fit.ohscript.script.semanticanalyzer.SymbolTable;
 import modelengine.fit.ohscript.script.semanticanalyzer.Type;
 import modelengine.fit.ohscript.script.semanticanalyzer.symbolentries.EntityEntry;
 import modelengine.fit.ohscript.script.semanticanalyzer.symbolentries.IdentifierEntry;
@@ -597,4 +601,49 @@ class SemanticAnalysisTest {
         SyntaxNode me2 = first.functionName(); // this
         assertEquals(getAge, me2.typeExpr());
     }
+
+    @Test
+    void test_keep_symbol_resolution_when_unrelated_scopes_changed() {
+        SymbolTable table = new SymbolTable();
+        SymbolScope outer = table.addScope(1, -1);
+        SymbolScope inner = table.addScope(2, 1);
+        SymbolEntry entry = outer.addIdentifier(identifier("a"), false);
+        SymbolTable.Resolution resolution = table.resolve("a", 2);
+        assertSame(entry, resolution.entry());
+
+        SymbolTable other = new SymbolTable();
+        other.addScope(3, -1).addIdentifier(identifier("a"), false);
+        other.removeScope(3);
+        table.addScope(4, 1).addIdentifier(identifier("b"), false);
+        inner.setParent(1);
+        assertTrue(resolution.isValid(table, 2));
+        assertFalse(resolution.isValid(other, 2));
+
+        inner.addIdentifier(identifier("a"), false);
+        assertFalse(resolution.isValid(table, 2));
+        assertSame(inner.getSymbol("a"), table.resolve("a", 2).entry());
+
+        SymbolTable.Resolution removed = table.resolve("a", 4);
+        table.removeScope(1);
+        assertFalse(removed.isValid(table, 4));
+    }
+
+    @Test
+    void test_assign_slots_when_symbols_declared() {
+        SymbolTable table = new SymbolTable();
+        SymbolScope outer = table.addScope(1, -1);
+        SymbolScope inner = table.addScope(2, 1);
+        outer.addIdentifier(identifier("a"), false);
+        outer.addIdentifier(identifier("b"), false);
+        inner.addIdentifier(identifier("a"), false);
+        assertEquals(0, table.slot("a", 1));
+        assertEquals(1, table.slot("b", 1));
+        assertEquals(0, table.slot("a", 2));
+        assertEquals(1, outer.slot("b"));
+        assertEquals(-1, table.slot("a", 3));
+    }
+
+    private static TerminalNode identifier(String lexeme) {
+        return new TerminalNode(Terminal.ID).setToken(new Token(Terminal.ID, lexeme, 0, 0, 0));
+    }
 }